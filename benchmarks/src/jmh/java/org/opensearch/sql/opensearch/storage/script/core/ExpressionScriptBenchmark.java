@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.core;
+
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Benchmark of expression script evaluation on each document, measured in documents per second.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionScriptBenchmark {
+
+  private final Expression expression = DSL.and(
+      DSL.greater(DSL.abs(ref("age", INTEGER)), literal(30)),
+      DSL.equal(ref("name", STRING), literal("John")));
+
+  private final Map<String, ScriptDocValues<?>> doc = Map.of(
+      "age", new FakeScriptDocValues<>(35L),
+      "name", new FakeScriptDocValues<>("John"));
+
+  private ExpressionScript script;
+
+  @Setup
+  public void setUp() {
+    // Resolved once by leaf factory and shared by script instance of each leaf
+    script = new ExpressionScript(new ExpressionScript(expression));
+  }
+
+  @Benchmark
+  public ExprValue testExecute() {
+    return script.execute(() -> doc, Expression::valueOf);
+  }
+
+  private static class FakeScriptDocValues<T> extends ScriptDocValues<T> {
+    private final List<T> values;
+
+    FakeScriptDocValues(T value) {
+      this.values = List.of(value);
+    }
+
+    @Override
+    public void setNextDocId(int docId) {
+    }
+
+    @Override
+    public T get(int index) {
+      return values.get(index);
+    }
+
+    @Override
+    public int size() {
+      return values.size();
+    }
+  }
+}
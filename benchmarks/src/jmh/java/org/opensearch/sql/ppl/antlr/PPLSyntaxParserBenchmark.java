@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.ppl.antlr;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.common.antlr.ParseTreeCache;
+
+/**
+ * Benchmark of PPL query parsing latency by number of commands in the query, with or without
+ * parse tree cache.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class PPLSyntaxParserBenchmark {
+
+  @Param(value = { "1", "10", "100" })
+  private int querySize;
+
+  @Param(value = { "false", "true" })
+  private boolean cached;
+
+  private PPLSyntaxParser parser;
+
+  private String query;
+
+  @Setup
+  public void setUp() {
+    parser = new PPLSyntaxParser(
+        new ParseTreeCache(cached ? ParseTreeCache.DEFAULT_MAX_SIZE : 0));
+    query = "source=t a=1 "
+        + IntStream.range(0, querySize)
+            .mapToObj(i -> String.format(
+                "| where f%d > %d and g%d = 'x%d' | eval h%d = abs(f%d) + 1", i, i, i, i, i, i))
+            .collect(Collectors.joining(" "))
+        + " | stats avg(a) by b | sort - b | head 10";
+  }
+
+  @Benchmark
+  public ParseTree testParse() {
+    return parser.parse(query);
+  }
+}
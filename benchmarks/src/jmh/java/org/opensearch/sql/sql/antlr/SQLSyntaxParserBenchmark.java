@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.sql.antlr;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.common.antlr.ParseTreeCache;
+
+/**
+ * Benchmark of SQL query parsing latency by number of predicates in the query, with or without
+ * parse tree cache.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class SQLSyntaxParserBenchmark {
+
+  @Param(value = { "1", "10", "100" })
+  private int querySize;
+
+  @Param(value = { "false", "true" })
+  private boolean cached;
+
+  private SQLSyntaxParser parser;
+
+  private String query;
+
+  @Setup
+  public void setUp() {
+    parser = new SQLSyntaxParser(
+        new ParseTreeCache(cached ? ParseTreeCache.DEFAULT_MAX_SIZE : 0));
+    query = "SELECT a, ABS(b) + 1 AS c, COUNT(*) FROM t WHERE "
+        + IntStream.range(0, querySize)
+            .mapToObj(i -> String.format("(f%d > %d AND g%d LIKE 'x%d%%')", i, i, i, i))
+            .collect(Collectors.joining(" OR "))
+        + " GROUP BY a, c ORDER BY a DESC LIMIT 10";
+  }
+
+  @Benchmark
+  public ParseTree testParse() {
+    return parser.parse(query);
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.common.antlr;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+/**
+ * LRU cache of parse trees by query shape, which is the sequence of token types visible to the
+ * parser. Because the grammars have no semantic predicate, the parse tree of queries of the same
+ * shape only differ in the tokens at the leaves, e.g. literals and identifiers. So a query of
+ * cached shape is not parsed again, instead the cached parse tree is copied with its tokens
+ * replaced by the ones of the query.
+ *
+ * <p>Parse tree is cached only if parsed successfully. The parse tree cached is never changed
+ * and thus safe to be copied concurrently.</p>
+ */
+public class ParseTreeCache {
+
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  /**
+   * Constructor of the rule context class to create the copy of rule context.
+   */
+  private static final ClassValue<Constructor<?>> CONTEXT_CONSTRUCTORS =
+      new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+          return contextConstructor(type);
+        }
+      };
+
+  private final Cache<String, Entry> cache;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  public ParseTreeCache(int maxSize) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Get the parse tree of the tokens from cache if the same shape parsed before, otherwise parse
+   * the tokens and cache the parse tree.
+   *
+   * @param tokens token stream of the query
+   * @param parser parser which parses the token stream
+   * @return parse tree of the query
+   */
+  public ParseTree parse(CommonTokenStream tokens, Supplier<ParseTree> parser) {
+    tokens.fill();
+    List<Token> visibleTokens = new ArrayList<>();
+    StringBuilder shape = new StringBuilder();
+    for (Token token : tokens.getTokens()) {
+      if (token.getChannel() == Token.DEFAULT_CHANNEL) {
+        visibleTokens.add(token);
+        shape.append(token.getType()).append(',');
+      }
+    }
+
+    String key = shape.toString();
+    Entry entry = cache.getIfPresent(key);
+    if (entry != null) {
+      hitCount.incrementAndGet();
+      return entry.copy(visibleTokens);
+    }
+
+    missCount.incrementAndGet();
+    ParseTree tree = parser.get();
+    cache.put(key, new Entry(tree, visibleTokens));
+    return tree;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Find constructor of generated rule context class, which is either (parent, invokingState)
+   * for rule or (ctx) of rule context to copy from for labeled alternative.
+   */
+  private static Constructor<?> contextConstructor(Class<?> type) {
+    try {
+      return type.getConstructor(ParserRuleContext.class, int.class);
+    } catch (NoSuchMethodException e) {
+      try {
+        return type.getConstructor(type.getSuperclass());
+      } catch (NoSuchMethodException ex) {
+        throw new IllegalStateException(
+            String.format("No constructor found to copy rule context %s", type.getName()), ex);
+      }
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final ParseTree tree;
+
+    /**
+     * Visible tokens of the query parsed.
+     */
+    private final List<Token> tokens;
+
+    /**
+     * Copy the parse tree with each token replaced by the one at the same position.
+     */
+    ParseTree copy(List<Token> newTokens) {
+      Map<Token, Token> tokenMap = new IdentityHashMap<>();
+      for (int i = 0; i < tokens.size(); i++) {
+        tokenMap.put(tokens.get(i), newTokens.get(i));
+      }
+      return copy(tree, null, tokenMap, new IdentityHashMap<>());
+    }
+
+    private ParseTree copy(ParseTree node, ParserRuleContext parent,
+                           Map<Token, Token> tokenMap, Map<ParseTree, ParseTree> nodeMap) {
+      if (node instanceof TerminalNode) {
+        Token token = tokenMap.get(((TerminalNode) node).getSymbol());
+        TerminalNodeImpl terminal =
+            (node instanceof ErrorNode) ? new ErrorNodeImpl(token) : new TerminalNodeImpl(token);
+        terminal.parent = parent;
+        nodeMap.put(node, terminal);
+        return terminal;
+      }
+
+      ParserRuleContext ctx = (ParserRuleContext) node;
+      ParserRuleContext copy = newContext(ctx);
+      copy.children = null;
+      copy.parent = parent;
+      copy.invokingState = ctx.invokingState;
+      copy.start = tokenMap.get(ctx.start);
+      copy.stop = tokenMap.get(ctx.stop);
+      copy.exception = ctx.exception;
+      nodeMap.put(ctx, copy);
+      for (int i = 0; i < ctx.getChildCount(); i++) {
+        ParseTree child = copy(ctx.getChild(i), copy, tokenMap, nodeMap);
+        if (child instanceof ErrorNode) {
+          copy.addErrorNode((ErrorNode) child);
+        } else if (child instanceof TerminalNode) {
+          copy.addChild((TerminalNode) child);
+        } else {
+          copy.addChild((ParserRuleContext) child);
+        }
+      }
+      copyLabels(ctx, copy, tokenMap, nodeMap);
+      return copy;
+    }
+
+    private ParserRuleContext newContext(ParserRuleContext ctx) {
+      Constructor<?> constructor = CONTEXT_CONSTRUCTORS.get(ctx.getClass());
+      try {
+        return (ParserRuleContext) ((constructor.getParameterCount() == 2)
+            ? constructor.newInstance(null, -1) : constructor.newInstance(ctx));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(
+            String.format("Failed to copy rule context %s", ctx.getClass().getName()), e);
+      }
+    }
+
+    /**
+     * Copy the labels generated as public fields of rule context, such as token, rule context
+     * or list of them, which all point to the children already copied.
+     */
+    @SuppressWarnings("unchecked")
+    private void copyLabels(ParserRuleContext ctx, ParserRuleContext copy,
+                            Map<Token, Token> tokenMap, Map<ParseTree, ParseTree> nodeMap) {
+      for (Class<?> type = ctx.getClass(); type != ParserRuleContext.class;
+           type = type.getSuperclass()) {
+        for (Field field : type.getDeclaredFields()) {
+          int modifiers = field.getModifiers();
+          if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)) {
+            continue;
+          }
+          try {
+            Object value = field.get(ctx);
+            if (value instanceof List) {
+              List<Object> values = new ArrayList<>();
+              for (Object element : (List<Object>) value) {
+                values.add(copyLabel(element, tokenMap, nodeMap));
+              }
+              value = values;
+            } else {
+              value = copyLabel(value, tokenMap, nodeMap);
+            }
+            field.set(copy, value);
+          } catch (IllegalAccessException e) {
+            throw new IllegalStateException(
+                String.format("Failed to copy label %s of rule context", field.getName()), e);
+          }
+        }
+      }
+    }
+
+    private Object copyLabel(Object value, Map<Token, Token> tokenMap,
+                             Map<ParseTree, ParseTree> nodeMap) {
+      if (value instanceof Token) {
+        return tokenMap.get(value);
+      } else if (value instanceof ParseTree) {
+        return nodeMap.get(value);
+      }
+      return value;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.common.antlr;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Two-stage parsing which parses in the faster SLL prediction mode first, and parses again in
+ * full LL mode only if SLL fails. SLL fails either on real syntax error or on the rare input that
+ * needs full context to predict, so a valid query is always parsed and syntax error is reported
+ * by the LL stage as before.
+ */
+@UtilityClass
+public class TwoStageParser {
+
+  /**
+   * Parse the token stream of the parser by the rule given.
+   *
+   * @param parser parser with error listener to report syntax error of the LL stage
+   * @param rule   start rule of the grammar
+   * @return parse tree
+   */
+  public static <P extends Parser> ParseTree parse(P parser, Function<P, ParseTree> rule) {
+    List<ANTLRErrorListener> errorListeners = new ArrayList<>(parser.getErrorListeners());
+    parser.removeErrorListeners();
+    parser.setErrorHandler(new BailErrorStrategy());
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    try {
+      return rule.apply(parser);
+    } catch (ParseCancellationException e) {
+      parser.reset();
+      errorListeners.forEach(parser::addErrorListener);
+      parser.setErrorHandler(new DefaultErrorStrategy());
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      return rule.apply(parser);
+    }
+  }
+}
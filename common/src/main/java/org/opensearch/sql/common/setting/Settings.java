@@ -39,6 +39,10 @@ public abstract class Settings {
      */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_POINT_IN_TIME_ENABLED("plugins.query.point_in_time.enabled"),
+    QUERY_SCAN_SLICES("plugins.query.scan.slices"),
+    QUERY_AGGREGATION_PAGE_SIZE("plugins.query.aggregation.page_size"),
+    QUERY_TIMEOUT("plugins.query.timeout"),
     METRICS_ROLLING_WINDOW("plugins.query.metrics.rolling_window"),
     METRICS_ROLLING_INTERVAL("plugins.query.metrics.rolling_interval");
 
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import org.opensearch.sql.analysis.symbol.Namespace;
@@ -25,6 +26,7 @@ import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.expression.AggregateFunction;
 import org.opensearch.sql.ast.expression.AllFields;
 import org.opensearch.sql.ast.expression.And;
+import org.opensearch.sql.ast.expression.Argument;
 import org.opensearch.sql.ast.expression.Between;
 import org.opensearch.sql.ast.expression.Case;
 import org.opensearch.sql.ast.expression.Cast;
@@ -50,12 +52,14 @@ import org.opensearch.sql.ast.expression.When;
 import org.opensearch.sql.ast.expression.WindowFunction;
 import org.opensearch.sql.ast.expression.Xor;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.HighlightExpression;
 import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.NamedArgumentExpression;
@@ -78,6 +82,14 @@ import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
  * Expression}.
  */
 public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, AnalysisContext> {
+  /**
+   * Functions never folded even if all arguments are literal.
+   */
+  private static final Set<FunctionName> NON_FOLDABLE_FUNCTIONS = ImmutableSet.of(
+      BuiltinFunctionName.RAND.getName(),
+      BuiltinFunctionName.SYSDATE.getName(),
+      BuiltinFunctionName.NESTED.getName());
+
   @Getter
   private final BuiltinFunctionRepository repository;
 
@@ -188,8 +200,34 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
         node.getFuncArgs().stream()
             .map(unresolvedExpression -> analyze(unresolvedExpression, context))
             .collect(Collectors.toList());
-    return (Expression) repository.compile(context.getFunctionProperties(),
-        functionName, arguments);
+    return foldConstant((Expression) repository.compile(context.getFunctionProperties(),
+        functionName, arguments));
+  }
+
+  /**
+   * Evaluate the function of literal arguments only once at analysis, so that it is not evaluated
+   * for each row and the enclosing function can be specialized by the literal folded. Function
+   * which is non-deterministic, fails or returns value of type different from its own, e.g. NULL,
+   * is left as it is to keep the result and error of query the same.
+   */
+  private Expression foldConstant(Expression expression) {
+    if (!(expression instanceof FunctionExpression)) {
+      return expression;
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    if (function.getArguments().isEmpty()
+        || NON_FOLDABLE_FUNCTIONS.contains(function.getFunctionName())
+        || !function.getArguments().stream().allMatch(arg -> arg instanceof LiteralExpression)) {
+      return expression;
+    }
+
+    try {
+      ExprValue value = function.valueOf();
+      return value.type().equals(function.type()) ? DSL.literal(value) : expression;
+    } catch (RuntimeException e) {
+      return expression;
+    }
   }
 
   @SuppressWarnings("unchecked")
@@ -386,6 +424,11 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
         node.getUnit());
   }
 
+  @Override
+  public Expression visitArgument(Argument node, AnalysisContext context) {
+    return new NamedArgumentExpression(node.getArgName(), node.getValue().accept(this, context));
+  }
+
   @Override
   public Expression visitUnresolvedArgument(UnresolvedArgument node, AnalysisContext context) {
     return new NamedArgumentExpression(node.getArgName(), node.getValue().accept(this, context));
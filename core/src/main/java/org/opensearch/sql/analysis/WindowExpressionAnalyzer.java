@@ -6,12 +6,22 @@
 
 package org.opensearch.sql.analysis;
 
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.BoundType.UNBOUNDED_FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.BoundType.UNBOUNDED_PRECEDING;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType.RANGE;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -19,8 +29,12 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.expression.Alias;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.BoundType;
 import org.opensearch.sql.ast.expression.WindowFunction;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
@@ -30,10 +44,13 @@ import org.opensearch.sql.planner.logical.LogicalWindow;
 
 /**
  * Window expression analyzer that analyzes window function expression in expression list
- * in project operator.
+ * in project operator. Window functions with the same window definition are evaluated by one
+ * window operator, and the sort operator is only generated if the rows are not sorted yet as
+ * required by the window definition.
  */
 @RequiredArgsConstructor
-public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext> {
+public class WindowExpressionAnalyzer
+    extends AbstractNodeVisitor<Pair<NamedExpression, WindowDefinition>, AnalysisContext> {
 
   /**
    * Expression analyzer.
@@ -53,12 +70,46 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
    * @return              window operator or original child if not windowed
    */
   public LogicalPlan analyze(UnresolvedExpression projectItem, AnalysisContext context) {
-    LogicalPlan window = projectItem.accept(this, context);
-    return (window == null) ? child : window;
+    return analyze(Collections.singletonList(projectItem), context);
+  }
+
+  /**
+   * Analyze the given project list and return window operators (with child node inside)
+   * for all window functions in it. Window operators whose sort items are a prefix of
+   * another's are placed after it so that the rows sorted are reused without sort again.
+   * @param projectList   project list
+   * @param context       analysis context
+   * @return              window operators or original child if none windowed
+   */
+  public LogicalPlan analyze(List<UnresolvedExpression> projectList, AnalysisContext context) {
+    Map<WindowDefinition, List<NamedExpression>> windows = new LinkedHashMap<>();
+    for (UnresolvedExpression projectItem : projectList) {
+      Pair<NamedExpression, WindowDefinition> window = projectItem.accept(this, context);
+      if (window != null) {
+        List<NamedExpression> functions =
+            windows.computeIfAbsent(window.getRight(), definition -> new ArrayList<>());
+        if (!functions.contains(window.getLeft())) {
+          functions.add(window.getLeft());
+        }
+      }
+    }
+
+    LogicalPlan plan = child;
+    List<Pair<SortOption, Expression>> sorted = Collections.emptyList();
+    for (WindowDefinition definition : orderBySortItems(windows.keySet())) {
+      List<Pair<SortOption, Expression>> allSortItems = definition.getAllSortItems();
+      if (!isPrefix(allSortItems, sorted)) {
+        plan = new LogicalSort(plan, allSortItems);
+        sorted = allSortItems;
+      }
+      plan = new LogicalWindow(plan, windows.get(definition), definition);
+    }
+    return plan;
   }
 
   @Override
-  public LogicalPlan visitAlias(Alias node, AnalysisContext context) {
+  public Pair<NamedExpression, WindowDefinition> visitAlias(Alias node,
+                                                            AnalysisContext context) {
     if (!(node.getDelegated() instanceof WindowFunction)) {
       return null;
     }
@@ -68,18 +119,42 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
     List<Expression> partitionByList = analyzePartitionList(unresolved, context);
     List<Pair<SortOption, Expression>> sortList = analyzeSortList(unresolved, context);
 
-    WindowDefinition windowDefinition = new WindowDefinition(partitionByList, sortList);
+    WindowFrameSpec frame = analyzeFrame(unresolved.getFrame(), sortList);
+
+    WindowDefinition windowDefinition = new WindowDefinition(partitionByList, sortList, frame);
     NamedExpression namedWindowFunction =
         new NamedExpression(node.getName(), windowFunction, node.getAlias());
-    List<Pair<SortOption, Expression>> allSortItems = windowDefinition.getAllSortItems();
+    return Pair.of(namedWindowFunction, windowDefinition);
+  }
 
-    if (allSortItems.isEmpty()) {
-      return new LogicalWindow(child, namedWindowFunction, windowDefinition);
+  /**
+   * Order window definitions so that each one is followed by those whose sort items are its
+   * prefix. Window definitions are chained from the one with the most sort items first, and
+   * the order of project list is kept otherwise.
+   */
+  private List<WindowDefinition> orderBySortItems(Collection<WindowDefinition> definitions) {
+    List<WindowDefinition> remaining = new ArrayList<>(definitions);
+    remaining.sort(Comparator.comparingInt(
+        (WindowDefinition definition) -> definition.getAllSortItems().size()).reversed());
+
+    List<WindowDefinition> ordered = new ArrayList<>();
+    while (!remaining.isEmpty()) {
+      List<Pair<SortOption, Expression>> head = remaining.get(0).getAllSortItems();
+      for (Iterator<WindowDefinition> it = remaining.iterator(); it.hasNext(); ) {
+        WindowDefinition definition = it.next();
+        if (isPrefix(definition.getAllSortItems(), head)) {
+          ordered.add(definition);
+          it.remove();
+        }
+      }
     }
-    return new LogicalWindow(
-        new LogicalSort(child, allSortItems),
-        namedWindowFunction,
-        windowDefinition);
+    return ordered;
+  }
+
+  private boolean isPrefix(List<Pair<SortOption, Expression>> sortItems,
+                           List<Pair<SortOption, Expression>> sorted) {
+    return sortItems.size() <= sorted.size()
+        && sortItems.equals(sorted.subList(0, sortItems.size()));
   }
 
   private List<Expression> analyzePartitionList(WindowFunction node, AnalysisContext context) {
@@ -99,6 +174,36 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
                .collect(Collectors.toList());
   }
 
+  /**
+   * Frame start must not be after frame end. Besides, the difference from current row in RANGE
+   * frame with offset is calculated on the only sort key which must be number.
+   */
+  private WindowFrameSpec analyzeFrame(WindowFrameSpec frame,
+                                       List<Pair<SortOption, Expression>> sortList) {
+    if (frame == null) {
+      return null;
+    }
+
+    BoundType startType = frame.getStart().getType();
+    BoundType endType = frame.getEnd().getType();
+    if (startType == UNBOUNDED_FOLLOWING || endType == UNBOUNDED_PRECEDING
+        || startType.compareTo(endType) > 0) {
+      throw new SemanticCheckException(String.format("Invalid window frame: %s", frame));
+    }
+
+    if (frame.getType() == RANGE && (hasOffset(startType) || hasOffset(endType))
+        && (sortList.size() != 1
+            || !ExprCoreType.numberTypes().contains(sortList.get(0).getRight().type()))) {
+      throw new SemanticCheckException(String.format(
+          "RANGE frame with offset requires exactly one sort key of number type: %s", frame));
+    }
+    return frame;
+  }
+
+  private boolean hasOffset(BoundType type) {
+    return type == BoundType.PRECEDING || type == BoundType.FOLLOWING;
+  }
+
   /**
    * Frontend creates sort option from query directly which means sort or null order may be null.
    * The final and default value for each is determined here during expression analysis.
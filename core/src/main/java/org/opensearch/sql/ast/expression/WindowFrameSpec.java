@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.ast.expression;
+
+import lombok.Data;
+
+/**
+ * Frame clause in window definition which specifies the rows relative to current row in the
+ * partition that window function is calculated over, i.e. {ROWS|RANGE} BETWEEN start AND end.
+ * The frame is in number of rows for ROWS, and in difference of sort key value for RANGE.
+ */
+@Data
+public class WindowFrameSpec {
+
+  private final FrameType type;
+  private final FrameBound start;
+  private final FrameBound end;
+
+  @Override
+  public String toString() {
+    return String.format("%s BETWEEN %s AND %s", type, start, end);
+  }
+
+  public enum FrameType {
+    ROWS,
+    RANGE
+  }
+
+  /**
+   * Frame bound with offset which is only meaningful to PRECEDING and FOLLOWING.
+   */
+  @Data
+  public static class FrameBound {
+    public static final FrameBound UNBOUNDED_PRECEDING =
+        new FrameBound(BoundType.UNBOUNDED_PRECEDING, 0L);
+    public static final FrameBound CURRENT_ROW = new FrameBound(BoundType.CURRENT_ROW, 0L);
+    public static final FrameBound UNBOUNDED_FOLLOWING =
+        new FrameBound(BoundType.UNBOUNDED_FOLLOWING, 0L);
+
+    private final BoundType type;
+    private final long offset;
+
+    public static FrameBound preceding(long offset) {
+      return new FrameBound(BoundType.PRECEDING, offset);
+    }
+
+    public static FrameBound following(long offset) {
+      return new FrameBound(BoundType.FOLLOWING, offset);
+    }
+
+    @Override
+    public String toString() {
+      switch (type) {
+        case PRECEDING:
+          return offset + " PRECEDING";
+        case FOLLOWING:
+          return offset + " FOLLOWING";
+        default:
+          return type.name().replace('_', ' ');
+      }
+    }
+  }
+
+  /**
+   * Bound type in the order of position relative to current row.
+   */
+  public enum BoundType {
+    UNBOUNDED_PRECEDING,
+    PRECEDING,
+    CURRENT_ROW,
+    FOLLOWING,
+    UNBOUNDED_FOLLOWING
+  }
+}
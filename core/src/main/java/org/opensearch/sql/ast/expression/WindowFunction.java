@@ -28,6 +28,13 @@ public class WindowFunction extends UnresolvedExpression {
   private final UnresolvedExpression function;
   private List<UnresolvedExpression> partitionByList;
   private List<Pair<SortOption, UnresolvedExpression>> sortList;
+  private WindowFrameSpec frame;
+
+  public WindowFunction(UnresolvedExpression function,
+                        List<UnresolvedExpression> partitionByList,
+                        List<Pair<SortOption, UnresolvedExpression>> sortList) {
+    this(function, partitionByList, sortList, null);
+  }
 
   @Override
   public List<? extends Node> getChild() {
@@ -6,31 +6,110 @@
 
 package org.opensearch.sql.data.model;
 
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 import org.opensearch.sql.storage.bindingtuple.LazyBindingTuple;
 
 /**
- * Expression Tuple Value.
+ * Expression Tuple Value. The tuple is backed by either a {@link LinkedHashMap} or a row which is
+ * an array of values with {@link RowSchema} shared by all rows produced by the same operator.
  */
-@RequiredArgsConstructor
 public class ExprTupleValue extends AbstractExprValue {
 
-  private final LinkedHashMap<String, ExprValue> valueMap;
+  private final Map<String, ExprValue> valueMap;
+
+  /**
+   * Row schema if row backed, otherwise null.
+   */
+  private final RowSchema rowSchema;
+
+  /**
+   * Row values in slot order if row backed, otherwise null.
+   */
+  private final ExprValue[] rowValues;
+
+  /**
+   * Create map backed tuple value.
+   */
+  public ExprTupleValue(LinkedHashMap<String, ExprValue> valueMap) {
+    this.valueMap = valueMap;
+    this.rowSchema = null;
+    this.rowValues = null;
+  }
+
+  private ExprTupleValue(RowSchema rowSchema, ExprValue[] rowValues) {
+    this.valueMap = new RowMap(rowSchema, rowValues);
+    this.rowSchema = rowSchema;
+    this.rowValues = rowValues;
+  }
 
   public static ExprTupleValue fromExprValueMap(Map<String, ExprValue> map) {
     LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>(map);
     return new ExprTupleValue(linkedHashMap);
   }
 
+  /**
+   * Create row backed tuple value. The value array is owned by the tuple after this call and
+   * must not be modified any more.
+   *
+   * @param rowSchema row schema
+   * @param rowValues values in slot order of the schema
+   * @return tuple value
+   */
+  public static ExprTupleValue fromRow(RowSchema rowSchema, ExprValue[] rowValues) {
+    if (rowSchema.size() != rowValues.length) {
+      throw new IllegalArgumentException(String.format(
+          "Row of %d values doesn't match schema %s", rowValues.length, rowSchema));
+    }
+    return new ExprTupleValue(rowSchema, rowValues);
+  }
+
+  /**
+   * Get row schema of the tuple.
+   *
+   * @return row schema or null if the tuple is not row backed
+   */
+  public RowSchema getRowSchema() {
+    return rowSchema;
+  }
+
+  /**
+   * Get row schema of the value.
+   *
+   * @return row schema or null if the value is not row backed tuple
+   */
+  public static RowSchema rowSchemaOf(ExprValue value) {
+    return (value instanceof ExprTupleValue) ? ((ExprTupleValue) value).rowSchema : null;
+  }
+
+  /**
+   * Get value in the slot of row backed tuple.
+   */
+  public ExprValue rowValue(int slot) {
+    return rowValues[slot];
+  }
+
+  /**
+   * Copy values of row backed tuple into a new array in slot order, which is truncated or padded
+   * with null to the length given.
+   */
+  public ExprValue[] copyRowValues(int length) {
+    return Arrays.copyOf(rowValues, length);
+  }
+
   @Override
   public Object value() {
     LinkedHashMap<String, Object> resultMap = new LinkedHashMap<>();
@@ -103,4 +182,72 @@ public class ExprTupleValue extends AbstractExprValue {
   public int hashCode() {
     return Objects.hashCode(valueMap);
   }
+
+  /**
+   * Read-only map view of row backed tuple which looks up column by slot in row schema.
+   */
+  private static class RowMap extends AbstractMap<String, ExprValue> implements Serializable {
+    private final RowSchema rowSchema;
+    private final ExprValue[] rowValues;
+
+    RowMap(RowSchema rowSchema, ExprValue[] rowValues) {
+      this.rowSchema = rowSchema;
+      this.rowValues = rowValues;
+    }
+
+    @Override
+    public ExprValue get(Object key) {
+      int slot = (key instanceof String) ? rowSchema.slot((String) key) : -1;
+      return (slot < 0) ? null : rowValues[slot];
+    }
+
+    @Override
+    public ExprValue getOrDefault(Object key, ExprValue defaultValue) {
+      ExprValue value = get(key);
+      return (value == null) ? defaultValue : value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return (key instanceof String) && rowSchema.slot((String) key) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return rowValues.length;
+    }
+
+    @Override
+    public Set<Entry<String, ExprValue>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, ExprValue>> iterator() {
+          return new Iterator<>() {
+            private int slot = 0;
+
+            @Override
+            public boolean hasNext() {
+              return slot < rowValues.length;
+            }
+
+            @Override
+            public Entry<String, ExprValue> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              Entry<String, ExprValue> entry = new SimpleImmutableEntry<>(
+                  rowSchema.getNames().get(slot), rowValues[slot]);
+              slot++;
+              return entry;
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return rowValues.length;
+        }
+      };
+    }
+  }
 }
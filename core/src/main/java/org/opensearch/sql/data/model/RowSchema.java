@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.data.model;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Schema of row backed {@link ExprTupleValue} which maps each column name to the slot of its
+ * value in the row. The schema is computed once by operator and shared by all rows it produces,
+ * so that a column can be accessed by slot instead of hash lookup.
+ */
+@EqualsAndHashCode(of = "names")
+@ToString(of = "names")
+public class RowSchema implements Serializable {
+
+  /**
+   * Column names in slot order.
+   */
+  @Getter
+  private final List<String> names;
+
+  private final Map<String, Integer> slots;
+
+  private RowSchema(List<String> names, Map<String, Integer> slots) {
+    this.names = names;
+    this.slots = slots;
+  }
+
+  /**
+   * Create schema of the column names given.
+   *
+   * @param names column names
+   * @return schema or empty if any column name is duplicate
+   */
+  public static Optional<RowSchema> of(List<String> names) {
+    Map<String, Integer> slots = new HashMap<>();
+    for (int i = 0; i < names.size(); i++) {
+      if (slots.putIfAbsent(names.get(i), i) != null) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(new RowSchema(ImmutableList.copyOf(names), ImmutableMap.copyOf(slots)));
+  }
+
+  /**
+   * Get slot of the column.
+   *
+   * @param name column name
+   * @return slot or -1 if no such column
+   */
+  public int slot(String name) {
+    Integer slot = slots.get(name);
+    return (slot == null) ? -1 : slot;
+  }
+
+  public int size() {
+    return names.size();
+  }
+
+  /**
+   * Extend the schema by the column names given. Existing columns keep their slots and new
+   * columns are appended in order.
+   *
+   * @param newNames column names to add
+   * @return extended schema
+   */
+  public RowSchema extend(List<String> newNames) {
+    ImmutableList.Builder<String> namesBuilder = ImmutableList.<String>builder().addAll(names);
+    Map<String, Integer> newSlots = new HashMap<>(slots);
+    for (String name : newNames) {
+      if (newSlots.putIfAbsent(name, newSlots.size()) == null) {
+        namesBuilder.add(name);
+      }
+    }
+    return new RowSchema(namesBuilder.build(), ImmutableMap.copyOf(newSlots));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Rough estimation of the heap retained by an {@link ExprValue}. The estimation is only used by
+ * blocking operators to decide when buffered rows should be spilled to disk, so it favours speed
+ * over accuracy.
+ */
+@UtilityClass
+public class ExprValueSizeEstimator {
+
+  /**
+   * Object header plus a boxed primitive or reference field.
+   */
+  private static final long VALUE_OVERHEAD = 24L;
+
+  /**
+   * Map entry and key String overhead in tuple value.
+   */
+  private static final long ENTRY_OVERHEAD = 64L;
+
+  /**
+   * Estimate the size in bytes of the given value.
+   *
+   * @param value expression value
+   * @return estimated size in bytes
+   */
+  public static long estimate(ExprValue value) {
+    if (value instanceof ExprTupleValue) {
+      long size = VALUE_OVERHEAD;
+      for (Map.Entry<String, ExprValue> entry : value.tupleValue().entrySet()) {
+        size += ENTRY_OVERHEAD + 2L * entry.getKey().length() + estimate(entry.getValue());
+      }
+      return size;
+    } else if (value instanceof ExprCollectionValue) {
+      long size = VALUE_OVERHEAD;
+      for (ExprValue element : value.collectionValue()) {
+        size += 8L + estimate(element);
+      }
+      return size;
+    } else if (value instanceof ExprStringValue) {
+      return VALUE_OVERHEAD + 40L + 2L * value.stringValue().length();
+    }
+    return VALUE_OVERHEAD;
+  }
+}
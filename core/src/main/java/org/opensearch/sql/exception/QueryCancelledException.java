@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.exception;
+
+/**
+ * Query Cancelled Exception thrown if query is cancelled by user or timed out.
+ */
+public class QueryCancelledException extends QueryEngineException {
+  public QueryCancelledException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import org.opensearch.sql.exception.QueryCancelledException;
+
+/**
+ * Cancellation token shared by the query plan submitted and the execution of it. The query is
+ * cancelled at most once, either by user or on timeout, and the callbacks registered are called to
+ * abort any blocking work of the execution, e.g. waiting for search response.
+ */
+public class CancellationToken {
+
+  /**
+   * Reason of cancellation which is null until cancelled.
+   */
+  @Getter
+  private volatile String reason;
+
+  /**
+   * Callbacks to run on cancellation.
+   */
+  private final List<Runnable> callbacks = new ArrayList<>();
+
+  /**
+   * Cancel the query and run callbacks registered. Nothing happens if cancelled already.
+   *
+   * @param reason reason of cancellation
+   */
+  public synchronized void cancel(String reason) {
+    if (isCancelled()) {
+      return;
+    }
+    this.reason = reason;
+    callbacks.forEach(Runnable::run);
+    callbacks.clear();
+  }
+
+  public boolean isCancelled() {
+    return reason != null;
+  }
+
+  /**
+   * Throw {@link QueryCancelledException} if cancelled.
+   */
+  public void throwIfCancelled() {
+    if (isCancelled()) {
+      throw new QueryCancelledException(reason);
+    }
+  }
+
+  /**
+   * Register callback to run on cancellation, or run it immediately if cancelled already.
+   * Callback is run while holding the lock of this token, so it should be short and non-blocking.
+   *
+   * @param callback callback
+   */
+  public synchronized void addCallback(Runnable callback) {
+    if (isCancelled()) {
+      callback.run();
+    } else {
+      callbacks.add(callback);
+    }
+  }
+
+  /**
+   * Remove callback registered. The callback is guaranteed not to run once this returns.
+   *
+   * @param callback callback
+   */
+  public synchronized void removeCallback(Runnable callback) {
+    callbacks.remove(callback);
+  }
+}
@@ -16,15 +16,37 @@ public class ExecutionContext {
   @Getter
   private final Optional<Split> split;
 
-  public ExecutionContext(Split split) {
-    this.split = Optional.of(split);
+  /**
+   * Cancellation token of the query being executed.
+   */
+  @Getter
+  private final CancellationToken cancellationToken;
+
+  /**
+   * Profile of the query being executed.
+   */
+  @Getter
+  private final QueryProfile profile;
+
+  public ExecutionContext(Optional<Split> split, CancellationToken cancellationToken) {
+    this(split, cancellationToken, new QueryProfile());
   }
 
-  private ExecutionContext(Optional<Split> split) {
+  /**
+   * Constructor of ExecutionContext.
+   *
+   * @param split             split to execute
+   * @param cancellationToken cancellation token of the query
+   * @param profile           profile of the query
+   */
+  public ExecutionContext(Optional<Split> split, CancellationToken cancellationToken,
+                          QueryProfile profile) {
     this.split = split;
+    this.cancellationToken = cancellationToken;
+    this.profile = profile;
   }
 
   public static ExecutionContext emptyExecutionContext() {
-    return new ExecutionContext(Optional.empty());
+    return new ExecutionContext(Optional.empty(), new CancellationToken(), new QueryProfile());
   }
 }
@@ -8,8 +8,8 @@ package org.opensearch.sql.executor;
 
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
@@ -46,6 +46,21 @@ public interface ExecutionEngine {
    */
   void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener);
 
+  /**
+   * Explain physical plan with {@link ExecutionContext} and call back response listener. If
+   * profiling of the context is enabled, the plan is executed and the explain response includes
+   * runtime statistics of each operator, which is known as explain analyze. By default, the
+   * plan is explained without execution.
+   *
+   * @param plan     physical plan to explain
+   * @param context  execution context
+   * @param listener response listener
+   */
+  default void explain(PhysicalPlan plan, ExecutionContext context,
+                       ResponseListener<ExplainResponse> listener) {
+    explain(plan, listener);
+  }
+
   /**
    * Data class that encapsulates ExprValue.
    */
@@ -53,6 +68,12 @@ public interface ExecutionEngine {
   class QueryResponse {
     private final Schema schema;
     private final List<ExprValue> results;
+
+    /**
+     * Profile of the query, which is returned in response only if enabled.
+     */
+    @EqualsAndHashCode.Exclude
+    private QueryProfile profile;
   }
 
   @Data
@@ -76,13 +97,27 @@ public interface ExecutionEngine {
     private final ExplainResponseNode root;
   }
 
-  @AllArgsConstructor
   @Data
   @RequiredArgsConstructor
   class ExplainResponseNode {
     private final String name;
     private Map<String, Object> description;
     private List<ExplainResponseNode> children;
+
+    /**
+     * Runtime statistics of the operator collected by explain analyze, or null if not analyzed.
+     */
+    private Map<String, Object> analyze;
+
+    /**
+     * Constructor of explain node with description and children.
+     */
+    public ExplainResponseNode(String name, Map<String, Object> description,
+                               List<ExplainResponseNode> children) {
+      this.name = name;
+      this.description = description;
+      this.children = children;
+    }
   }
 
 }
@@ -8,6 +8,7 @@ package org.opensearch.sql.executor;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -17,11 +18,14 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.QueryProfile.OperatorProfile;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -36,7 +40,9 @@ import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /**
- * Visitor that explains a physical plan to JSON format.
+ * Visitor that explains a physical plan to JSON format. If the plan has been executed with
+ * profiling, runtime statistics of each operator can be explained along with it by passing the
+ * operator profile down as visitor context, which is known as explain analyze.
  */
 public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object>
                      implements Function<PhysicalPlan, ExplainResponse> {
@@ -46,6 +52,17 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
     return new ExplainResponse(plan.accept(this, null));
   }
 
+  /**
+   * Explain the physical plan executed with runtime statistics in the profile of its operators.
+   *
+   * @param plan    physical plan executed
+   * @param profile profile of the root operator, or null if not profiled
+   * @return explain response
+   */
+  public ExplainResponse apply(PhysicalPlan plan, OperatorProfile profile) {
+    return new ExplainResponse(plan.accept(this, profile));
+  }
+
   @Override
   public ExplainResponseNode visitProject(ProjectOperator node, Object context) {
     return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
@@ -60,8 +77,11 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
 
   @Override
   public ExplainResponseNode visitSort(SortOperator node, Object context) {
-    return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
-        "sortList", describeSortList(node.getSortList()))));
+    return explain(node, context, explainNode -> {
+      explainNode.setDescription(ImmutableMap.of(
+          "sortList", describeSortList(node.getSortList())));
+      addAnalyze(explainNode, "memory_bytes", node.getPeakMemory());
+    });
   }
 
   @Override
@@ -72,18 +92,40 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
 
   @Override
   public ExplainResponseNode visitAggregation(AggregationOperator node, Object context) {
-    return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
-        "aggregators", node.getAggregatorList().toString(),
-        "groupBy", node.getGroupByExprList().toString())));
+    return explain(node, context, explainNode -> {
+      explainNode.setDescription(ImmutableMap.of(
+          "aggregators", node.getAggregatorList().toString(),
+          "groupBy", node.getGroupByExprList().toString()));
+      addAnalyze(explainNode, "memory_bytes", node.getPeakMemory());
+    });
+  }
+
+  @Override
+  public ExplainResponseNode visitHashJoin(HashJoinOperator node, Object context) {
+    return explain(node, context, explainNode -> {
+      explainNode.setDescription(ImmutableMap.of(
+          "joinType", node.getJoinType().toString(),
+          "leftKeys", node.getLeftKeys().toString(),
+          "rightKeys", node.getRightKeys().toString()));
+      addAnalyze(explainNode, "memory_bytes", node.getPeakMemory());
+    });
   }
 
   @Override
   public ExplainResponseNode visitWindow(WindowOperator node, Object context) {
+    WindowDefinition windowDefinition = node.getWindowDefinition();
+    Map<String, Object> definition = new LinkedHashMap<>();
+    definition.put("partitionBy", windowDefinition.getPartitionByList().toString());
+    definition.put("sortList", describeSortList(windowDefinition.getSortList()));
+    if (windowDefinition.getFrame() != null) {
+      definition.put("frame", windowDefinition.getFrame().toString());
+    }
+
     return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
-        "function", node.getWindowFunction().toString(),
-        "definition", ImmutableMap.of(
-            "partitionBy", node.getWindowDefinition().getPartitionByList().toString(),
-            "sortList", describeSortList(node.getWindowDefinition().getSortList())))));
+        "function", node.getWindowFunctions().stream()
+            .map(Object::toString)
+            .collect(Collectors.joining(", ")),
+        "definition", definition)));
   }
 
   @Override
@@ -154,15 +196,54 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
     ExplainResponseNode explainNode = new ExplainResponseNode(getOperatorName(node));
 
     List<ExplainResponseNode> children = new ArrayList<>();
-    for (PhysicalPlan child : node.getChild()) {
-      children.add(child.accept(this, context));
+    List<PhysicalPlan> childPlans = node.getChild();
+    for (int i = 0; i < childPlans.size(); i++) {
+      children.add(childPlans.get(i).accept(this, childContext(context, i)));
     }
     explainNode.setChildren(children);
+    if (context instanceof OperatorProfile) {
+      explainNode.setAnalyze(analyze((OperatorProfile) context));
+    }
 
     doExplain.accept(explainNode);
     return explainNode;
   }
 
+  /**
+   * Add runtime statistic specific to the operator if analyzed.
+   *
+   * @param explainNode explain node of the operator
+   * @param name        statistic name
+   * @param value       statistic value
+   */
+  protected void addAnalyze(ExplainResponseNode explainNode, String name, Object value) {
+    if (explainNode.getAnalyze() != null) {
+      explainNode.getAnalyze().put(name, value);
+    }
+  }
+
+  /**
+   * Profile of child operator is collected in the same order as the children of operator.
+   */
+  private Object childContext(Object context, int index) {
+    if (!(context instanceof OperatorProfile)) {
+      return context;
+    }
+    List<OperatorProfile> children = ((OperatorProfile) context).getChildren();
+    return (index < children.size()) ? children.get(index) : null;
+  }
+
+  private Map<String, Object> analyze(OperatorProfile operator) {
+    Map<String, Object> analyze = new LinkedHashMap<>();
+    if (!operator.getChildren().isEmpty()) {
+      analyze.put("rows_in",
+          operator.getChildren().stream().mapToLong(OperatorProfile::getRows).sum());
+    }
+    analyze.put("rows_out", operator.getRows());
+    analyze.put("time_ms", QueryProfile.toMillis(operator.getNanos()));
+    return analyze;
+  }
+
   private String getOperatorName(PhysicalPlan node) {
     return node.getClass().getSimpleName();
   }
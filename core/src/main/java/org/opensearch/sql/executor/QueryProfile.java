@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.opensearch.sql.monitor.QueryMetrics;
+import org.opensearch.sql.monitor.QueryStage;
+
+/**
+ * Profile of a single query shared by the query plan submitted and the execution of it, like
+ * {@link CancellationToken}. Latency of each stage is always recorded into {@link QueryMetrics}
+ * of this node, and also kept for the query itself if profiling is enabled. Row and time counters
+ * of each physical operator are collected only if profiling is enabled.
+ */
+public class QueryProfile {
+
+  /**
+   * Whether profile of the query is collected and returned in response.
+   */
+  @Getter
+  @Setter
+  private volatile boolean enabled;
+
+  private final QueryMetrics metrics;
+
+  /**
+   * Total latency in nanoseconds of each stage by ordinal.
+   */
+  private final AtomicLongArray stageNanos = new AtomicLongArray(QueryStage.values().length);
+
+  /**
+   * Profile of the root operators of physical plan.
+   */
+  @Getter
+  private final List<OperatorProfile> operators = new CopyOnWriteArrayList<>();
+
+  public QueryProfile() {
+    this(QueryMetrics.getInstance());
+  }
+
+  QueryProfile(QueryMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Record latency of the query stage.
+   *
+   * @param stage query stage
+   * @param nanos latency in nanoseconds
+   */
+  public void record(QueryStage stage, long nanos) {
+    metrics.record(stage, nanos);
+    stageNanos.addAndGet(stage.ordinal(), nanos);
+  }
+
+  /**
+   * Run the action and record its latency as the query stage, whether it succeeds or not.
+   *
+   * @param stage  query stage
+   * @param action action to run
+   * @return result of the action
+   */
+  public <T> T time(QueryStage stage, Supplier<T> action) {
+    long start = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      record(stage, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Add profile of a root operator of physical plan.
+   *
+   * @param name operator name
+   * @return operator profile
+   */
+  public OperatorProfile addOperator(String name) {
+    OperatorProfile operator = new OperatorProfile(name);
+    operators.add(operator);
+    return operator;
+  }
+
+  /**
+   * Convert to map with latency in milliseconds of the stages recorded and profile of operators.
+   *
+   * @return profile map
+   */
+  public Map<String, Object> toMap() {
+    Map<String, Object> stages = new LinkedHashMap<>();
+    for (QueryStage stage : QueryStage.values()) {
+      long nanos = stageNanos.get(stage.ordinal());
+      if (nanos > 0) {
+        stages.put(stage.getName() + "_ms", toMillis(nanos));
+      }
+    }
+
+    Map<String, Object> profile = new LinkedHashMap<>();
+    profile.put("stages", stages);
+    profile.put("operators", toMaps(operators));
+    return profile;
+  }
+
+  private static List<Map<String, Object>> toMaps(List<OperatorProfile> operators) {
+    return operators.stream().map(OperatorProfile::toMap).collect(Collectors.toList());
+  }
+
+  /**
+   * Convert nanoseconds to milliseconds with microsecond precision.
+   *
+   * @param nanos time in nanoseconds
+   * @return time in milliseconds
+   */
+  public static double toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0;
+  }
+
+  /**
+   * Row and time counters of a physical operator. The counters are updated only by the thread
+   * running the physical plan.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static class OperatorProfile {
+    private final String name;
+
+    /**
+     * Number of rows produced.
+     */
+    private long rows;
+
+    /**
+     * Time in nanoseconds spent in the operator, including its children.
+     */
+    private long nanos;
+
+    private final List<OperatorProfile> children = new ArrayList<>();
+
+    /**
+     * Add profile of child operator.
+     *
+     * @param name operator name
+     * @return operator profile
+     */
+    public OperatorProfile addChild(String name) {
+      OperatorProfile child = new OperatorProfile(name);
+      children.add(child);
+      return child;
+    }
+
+    /**
+     * Add rows produced and time spent by a call to the operator.
+     *
+     * @param rows  number of rows
+     * @param nanos time in nanoseconds
+     */
+    public void add(long rows, long nanos) {
+      this.rows += rows;
+      this.nanos += nanos;
+    }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("name", name);
+      map.put("rows", rows);
+      map.put("time_ms", toMillis(nanos));
+      if (!children.isEmpty()) {
+        map.put("children", toMaps(children));
+      }
+      return map;
+    }
+  }
+}
@@ -13,6 +13,7 @@ import org.opensearch.sql.analysis.AnalysisContext;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.monitor.QueryStage;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -39,8 +40,24 @@ public class QueryService {
    */
   public void execute(UnresolvedPlan plan,
                       ResponseListener<ExecutionEngine.QueryResponse> listener) {
+    execute(plan, PlanContext.emptyPlanContext(), listener);
+  }
+
+  /**
+   * Execute the {@link UnresolvedPlan} with {@link PlanContext}, using {@link ResponseListener} to
+   * get response.
+   *
+   * @param plan  {@link UnresolvedPlan}
+   * @param planContext {@link PlanContext}
+   * @param listener {@link ResponseListener}
+   */
+  public void execute(UnresolvedPlan plan,
+                      PlanContext planContext,
+                      ResponseListener<ExecutionEngine.QueryResponse> listener) {
     try {
-      executePlan(analyze(plan), PlanContext.emptyPlanContext(), listener);
+      LogicalPlan logicalPlan =
+          planContext.getProfile().time(QueryStage.ANALYZE, () -> analyze(plan));
+      executePlan(logicalPlan, planContext, listener);
     } catch (Exception e) {
       listener.onFailure(e);
     }
@@ -59,12 +76,12 @@ public class QueryService {
                           PlanContext planContext,
                           ResponseListener<ExecutionEngine.QueryResponse> listener) {
     try {
-      planContext
-          .getSplit()
-          .ifPresentOrElse(
-              split -> executionEngine.execute(plan(plan), new ExecutionContext(split), listener),
-              () -> executionEngine.execute(
-                      plan(plan), ExecutionContext.emptyExecutionContext(), listener));
+      QueryProfile profile = planContext.getProfile();
+      executionEngine.execute(
+          profile.time(QueryStage.PLAN, () -> plan(plan)),
+          new ExecutionContext(
+              planContext.getSplit(), planContext.getCancellationToken(), profile),
+          listener);
     } catch (Exception e) {
       listener.onFailure(e);
     }
@@ -86,6 +103,31 @@ public class QueryService {
     }
   }
 
+  /**
+   * Explain the query in {@link UnresolvedPlan} with {@link PlanContext}, using
+   * {@link ResponseListener} to get and format explain response. The query is executed to collect
+   * runtime statistics if profiling is enabled in the context.
+   *
+   * @param plan {@link UnresolvedPlan}
+   * @param planContext {@link PlanContext}
+   * @param listener {@link ResponseListener} for explain response
+   */
+  public void explain(UnresolvedPlan plan,
+                      PlanContext planContext,
+                      ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    try {
+      QueryProfile profile = planContext.getProfile();
+      LogicalPlan logicalPlan = profile.time(QueryStage.ANALYZE, () -> analyze(plan));
+      executionEngine.explain(
+          profile.time(QueryStage.PLAN, () -> plan(logicalPlan)),
+          new ExecutionContext(
+              planContext.getSplit(), planContext.getCancellationToken(), profile),
+          listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
   /**
    * Analyze {@link UnresolvedPlan}.
    */
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.List;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+
+/**
+ * Query response listener which consumes query result incrementally. An execution engine which
+ * supports streaming pushes schema first, then result rows batch by batch as they are produced,
+ * and completion at the end, so that the full result is never buffered in memory. Otherwise the
+ * whole {@link QueryResponse} is delivered as a single batch by {@link #onResponse}.
+ */
+public interface ResponseSink extends ResponseListener<QueryResponse> {
+
+  /**
+   * Default maximum number of rows in a batch.
+   */
+  int DEFAULT_BATCH_SIZE = 1000;
+
+  /**
+   * Called once before any batch.
+   *
+   * @param schema schema of query result
+   */
+  void onSchema(Schema schema);
+
+  /**
+   * Called for each batch of result rows. The batch list may be reused by the caller
+   * after return, so the sink must not keep a reference to it.
+   *
+   * @param batch result rows
+   */
+  void onBatch(List<ExprValue> batch);
+
+  /**
+   * Called once after the last batch.
+   */
+  void onComplete();
+
+  /**
+   * Called once after the last batch and before completion with the profile of query. The sink
+   * may include it in response if {@link QueryProfile#isEnabled()}. Ignored by default.
+   *
+   * @param profile query profile
+   */
+  default void onProfile(QueryProfile profile) {
+  }
+
+  /**
+   * Maximum number of rows in a batch.
+   */
+  default int batchSize() {
+    return DEFAULT_BATCH_SIZE;
+  }
+
+  @Override
+  default void onResponse(QueryResponse response) {
+    onSchema(response.getSchema());
+    onBatch(response.getResults());
+    onComplete();
+  }
+}
@@ -12,8 +12,10 @@ package org.opensearch.sql.executor.execution;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.executor.CancellationToken;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.QueryProfile;
 
 /**
  * AbstractPlan represent the execution entity of the Statement.
@@ -27,6 +29,18 @@ public abstract class AbstractPlan {
   @Getter
   private final QueryId queryId;
 
+  /**
+   * Cancellation token of query execution.
+   */
+  @Getter
+  private final CancellationToken cancellationToken = new CancellationToken();
+
+  /**
+   * Profile of query execution.
+   */
+  @Getter
+  private final QueryProfile profile = new QueryProfile();
+
   /**
    * Start query execution.
    */
@@ -38,4 +52,13 @@ public abstract class AbstractPlan {
    * @param listener query explain response listener.
    */
   public abstract void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener);
+
+  /**
+   * Cancel query execution. Nothing happens if it is done already.
+   *
+   * @param reason reason of cancellation.
+   */
+  public void cancel(String reason) {
+    cancellationToken.cancel(reason);
+  }
 }
@@ -11,6 +11,7 @@ package org.opensearch.sql.executor.execution;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.QueryProfile;
 
 /**
  * Explain plan.
@@ -37,6 +38,15 @@ public class ExplainPlan extends AbstractPlan {
     plan.explain(explainListener);
   }
 
+  /**
+   * Profile of the plan explained, so that the query explained is profiled if enabled, which is
+   * known as explain analyze.
+   */
+  @Override
+  public QueryProfile getProfile() {
+    return plan.getProfile();
+  }
+
   @Override
   public void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
     throw new UnsupportedOperationException("explain query can not been explained.");
@@ -13,6 +13,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.planner.PlanContext;
 
 /**
  * Query plan. Which includes.
@@ -47,11 +48,11 @@ public class QueryPlan extends AbstractPlan {
 
   @Override
   public void execute() {
-    queryService.execute(plan, listener);
+    queryService.execute(plan, new PlanContext(getCancellationToken(), getProfile()), listener);
   }
 
   @Override
   public void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
-    queryService.explain(plan, listener);
+    queryService.explain(plan, new PlanContext(getCancellationToken(), getProfile()), listener);
   }
 }
@@ -719,6 +719,14 @@ public class DSL {
     return aggregate(BuiltinFunctionName.STDDEV_POP, expressions);
   }
 
+  public static Aggregator distinctCountApprox(Expression... expressions) {
+    return aggregate(BuiltinFunctionName.DISTINCT_COUNT_APPROX, expressions);
+  }
+
+  public static Aggregator percentileApprox(Expression... expressions) {
+    return aggregate(BuiltinFunctionName.PERCENTILE_APPROX, expressions);
+  }
+
   public static Aggregator take(Expression... expressions) {
     return aggregate(BuiltinFunctionName.TAKE, expressions);
   }
@@ -13,14 +13,15 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprMissingValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
 
 @EqualsAndHashCode
-@RequiredArgsConstructor
 public class ReferenceExpression implements Expression {
   @Getter
   private final String attr;
@@ -30,16 +31,44 @@ public class ReferenceExpression implements Expression {
 
   private final ExprType type;
 
+  /**
+   * Whole path names joined from each path to the last one, computed once instead of on each
+   * resolution.
+   */
+  @EqualsAndHashCode.Exclude
+  private final String[] wholePaths;
+
+  /**
+   * Slot of the whole path in the row schema seen last time. The binding is immutable and
+   * replaced as a whole, so it is safe to read without lock.
+   */
+  @EqualsAndHashCode.Exclude
+  private transient SlotBinding slotBinding;
+
+  /**
+   * Constructor of ReferenceExpression.
+   * @param attr the field name.
+   * @param paths the paths.
+   * @param type type.
+   */
+  public ReferenceExpression(String attr, List<String> paths, ExprType type) {
+    this.attr = attr;
+    this.paths = paths;
+    this.type = type;
+    this.wholePaths = new String[paths.size()];
+    for (int i = 0; i < paths.size(); i++) {
+      wholePaths[i] = String.join(PATH_SEP, paths.subList(i, paths.size()));
+    }
+  }
+
   /**
    * Constructor of ReferenceExpression.
    * @param ref the field name. e.g. addr.state/addr.
    * @param type type.
    */
   public ReferenceExpression(String ref, ExprType type) {
-    this.attr = ref;
     // Todo. the define of paths need to be redefined after adding multiple index/variable support.
-    this.paths = Arrays.asList(ref.split("\\."));
-    this.type = type;
+    this(ref, Arrays.asList(ref.split("\\.")), type);
   }
 
   @Override
@@ -97,20 +126,41 @@ public class ReferenceExpression implements Expression {
    * @return {@link ExprTupleValue}.
    */
   public ExprValue resolve(ExprTupleValue value) {
-    return resolve(value, paths);
+    RowSchema rowSchema = value.getRowSchema();
+    if (rowSchema == null) {
+      return resolve(value, 0);
+    }
+
+    SlotBinding binding = slotBinding;
+    if (binding == null || binding.rowSchema != rowSchema) {
+      binding = new SlotBinding(rowSchema, rowSchema.slot(wholePaths[0]));
+      slotBinding = binding;
+    }
+    ExprValue wholePathValue =
+        (binding.slot < 0) ? ExprMissingValue.of() : value.rowValue(binding.slot);
+    if (!wholePathValue.isMissing() || paths.size() == 1) {
+      return wholePathValue;
+    }
+    return resolve(value.keyValue(paths.get(0)), 1);
   }
 
-  private ExprValue resolve(ExprValue value, List<String> paths) {
-    ExprValue wholePathValue = value.keyValue(String.join(PATH_SEP, paths));
+  private ExprValue resolve(ExprValue value, int start) {
+    ExprValue wholePathValue = value.keyValue(wholePaths[start]);
     // For array types only first index currently supported.
     if (value.type().equals(ExprCoreType.ARRAY)) {
-      wholePathValue = value.collectionValue().get(0).keyValue(paths.get(0));
+      wholePathValue = value.collectionValue().get(0).keyValue(paths.get(start));
     }
 
-    if (!wholePathValue.isMissing() || paths.size() == 1) {
+    if (!wholePathValue.isMissing() || start == paths.size() - 1) {
       return wholePathValue;
     } else {
-      return resolve(value.keyValue(paths.get(0)), paths.subList(1, paths.size()));
+      return resolve(value.keyValue(paths.get(start)), start + 1);
     }
   }
+
+  @RequiredArgsConstructor
+  private static class SlotBinding {
+    private final RowSchema rowSchema;
+    private final int slot;
+  }
 }
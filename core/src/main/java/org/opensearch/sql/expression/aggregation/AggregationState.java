@@ -13,8 +13,23 @@ import org.opensearch.sql.storage.bindingtuple.BindingTuple;
  * Maintain the state when {@link Aggregator} iterate on the {@link BindingTuple}.
  */
 public interface AggregationState {
+  /**
+   * Estimated size in bytes of a state whose size is small and fixed, e.g. a counter.
+   */
+  long DEFAULT_ESTIMATED_SIZE = 32L;
+
   /**
    * Get {@link ExprValue} result.
    */
   ExprValue result();
+
+  /**
+   * Get estimated size of the state in bytes, which is supposed to be overridden by state taking
+   * memory that depends on the arguments of aggregator, e.g. sketch, and is bounded by them.
+   *
+   * @return estimated size in bytes
+   */
+  default long estimatedSize() {
+    return DEFAULT_ESTIMATED_SIZE;
+  }
 }
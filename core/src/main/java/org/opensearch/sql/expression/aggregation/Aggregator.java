@@ -79,6 +79,53 @@ public abstract class Aggregator<S extends AggregationState>
     return iterate(value, state);
   }
 
+  /**
+   * Check if the value iterated can be removed from the state created by
+   * {@link #createRemovable()}. Values are always removed in the same order as iterated, which
+   * allows aggregate window function to slide a bounded frame incrementally instead of
+   * aggregating all rows in the frame again for each row.
+   *
+   * @return true if {@link #remove(BindingTuple, AggregationState)} supported
+   */
+  public boolean isRemovable() {
+    return false;
+  }
+
+  /**
+   * Create an {@link AggregationState} that supports removing value. This is the same state
+   * created by {@link #create()} unless the state needs extra bookkeeping to be invertible.
+   */
+  public S createRemovable() {
+    return create();
+  }
+
+  /**
+   * Remove {@link ExprValue} iterated before from the state.
+   * @param value {@link ExprValue}
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  protected S remove(ExprValue value, S state) {
+    throw new UnsupportedOperationException(
+        String.format("can't remove value from aggregator: %s", functionName));
+  }
+
+  /**
+   * Remove the {@link BindingTuple} iterated before from the state. The tuple is filtered in
+   * the same way as {@link #iterate(BindingTuple, AggregationState)}.
+   *
+   * @param tuple {@link BindingTuple}
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  public S remove(BindingTuple tuple, S state) {
+    ExprValue value = getArguments().get(0).valueOf(tuple);
+    if (value.isNull() || value.isMissing() || !conditionValue(tuple)) {
+      return state;
+    }
+    return remove(value, state);
+  }
+
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
     throw new ExpressionEvaluationException(
@@ -27,6 +27,8 @@ import java.util.Collections;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
@@ -41,6 +43,8 @@ import org.opensearch.sql.expression.function.FunctionSignature;
  * max, Accepts two numbers and produces a number.
  * min, Accepts two numbers and produces a number.
  * count, Accepts two numbers and produces a number.
+ * distinct_count_approx, Accepts a value of any type and optional precision threshold
+ * and produces a long.
  */
 @UtilityClass
 public class AggregatorFunction {
@@ -60,6 +64,8 @@ public class AggregatorFunction {
     repository.register(stddevSamp());
     repository.register(stddevPop());
     repository.register(take());
+    repository.register(distinctCountApprox());
+    repository.register(percentileApprox());
   }
 
   private static DefaultFunctionResolver avg() {
@@ -214,4 +220,41 @@ public class AggregatorFunction {
     return functionResolver;
   }
 
+  private static DefaultFunctionResolver distinctCountApprox() {
+    FunctionName functionName = BuiltinFunctionName.DISTINCT_COUNT_APPROX.getName();
+    FunctionBuilder functionBuilder =
+        (functionProperties, arguments) -> new DistinctCountApproxAggregator(arguments, LONG);
+    ImmutableMap.Builder<FunctionSignature, FunctionBuilder> builder = ImmutableMap.builder();
+    for (ExprCoreType type : ExprCoreType.coreTypes()) {
+      builder.put(new FunctionSignature(functionName, ImmutableList.of(type)), functionBuilder);
+      builder.put(new FunctionSignature(functionName, ImmutableList.of(type, INTEGER)),
+          functionBuilder);
+    }
+    return new DefaultFunctionResolver(functionName, builder.build());
+  }
+
+  private static DefaultFunctionResolver percentileApprox() {
+    FunctionName functionName = BuiltinFunctionName.PERCENTILE_APPROX.getName();
+    FunctionBuilder functionBuilder = (functionProperties, arguments) -> {
+      // Validate in analysis in case no state is created for empty input or it's pushed down
+      PercentileApproxAggregator aggregator = new PercentileApproxAggregator(arguments, DOUBLE);
+      double percent = aggregator.getPercent();
+      if (!(percent >= 0 && percent <= 100)) {
+        throw new SemanticCheckException("percent must be between 0 and 100");
+      }
+      if (!(aggregator.getCompression() > 0)) {
+        throw new SemanticCheckException("compression must be greater than 0");
+      }
+      return aggregator;
+    };
+    ImmutableMap.Builder<FunctionSignature, FunctionBuilder> builder = ImmutableMap.builder();
+    for (ExprType type : ExprCoreType.numberTypes()) {
+      builder.put(new FunctionSignature(functionName, ImmutableList.of(type, DOUBLE)),
+          functionBuilder);
+      builder.put(new FunctionSignature(functionName, ImmutableList.of(type, DOUBLE, DOUBLE)),
+          functionBuilder);
+    }
+    return new DefaultFunctionResolver(functionName, builder.build());
+  }
+
 }
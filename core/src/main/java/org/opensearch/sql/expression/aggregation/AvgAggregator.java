@@ -16,13 +16,11 @@ import java.util.Locale;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
 import org.opensearch.sql.data.model.ExprDoubleValue;
-import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
-import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 
@@ -67,125 +65,140 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
     return state.iterate(value);
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  protected AvgState remove(ExprValue value, AvgState state) {
+    return state.remove(value);
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "avg(%s)", format(getArguments()));
   }
 
   /**
-   * Average State.
+   * Average State. Count is accumulated in primitive and total by {@link CompensatedSum}, so
+   * that NaN, infinite or large values removed don't affect the average of the values remaining.
    */
   protected abstract static class AvgState implements AggregationState {
-    protected ExprValue count;
-    protected ExprValue total;
+    protected long count;
+    protected final CompensatedSum total;
 
     AvgState() {
-      this.count = new ExprIntegerValue(0);
-      this.total = new ExprDoubleValue(0D);
+      this.count = 0L;
+      this.total = new CompensatedSum();
     }
 
     @Override
     public abstract ExprValue result();
 
     protected AvgState iterate(ExprValue value) {
-      count = DSL.add(DSL.literal(count), DSL.literal(1)).valueOf();
+      total.add(toNumber(value));
+      count++;
+      return this;
+    }
+
+    protected AvgState remove(ExprValue value) {
+      total.remove(toNumber(value));
+      count--;
       return this;
     }
+
+    /**
+     * Number of the value accumulated in total.
+     */
+    protected abstract double toNumber(ExprValue value);
+
+    /**
+     * Average in milliseconds for date and time types.
+     */
+    protected long averageMillis() {
+      return (long) (total.value() / count);
+    }
   }
 
   protected static class DoubleAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
-      return DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf();
+      return new ExprDoubleValue(total.value() / count);
     }
 
     @Override
-    protected AvgState iterate(ExprValue value) {
-      total = DSL.add(DSL.literal(total), DSL.literal(value)).valueOf();
-      return super.iterate(value);
+    protected double toNumber(ExprValue value) {
+      return value.doubleValue();
     }
   }
 
   protected static class DateAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
 
       return new ExprDateValue(
-          new ExprTimestampValue(Instant.ofEpochMilli(
-              DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf().longValue()))
-                  .dateValue());
+          new ExprTimestampValue(Instant.ofEpochMilli(averageMillis())).dateValue());
     }
 
     @Override
-    protected AvgState iterate(ExprValue value) {
-      total = DSL.add(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli()))
-          .valueOf();
-      return super.iterate(value);
+    protected double toNumber(ExprValue value) {
+      return value.timestampValue().toEpochMilli();
     }
   }
 
   protected static class DateTimeAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
 
       return new ExprDatetimeValue(
-          new ExprTimestampValue(Instant.ofEpochMilli(
-              DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf().longValue()))
-                  .datetimeValue());
+          new ExprTimestampValue(Instant.ofEpochMilli(averageMillis())).datetimeValue());
     }
 
     @Override
-    protected AvgState iterate(ExprValue value) {
-      total = DSL.add(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli()))
-          .valueOf();
-      return super.iterate(value);
+    protected double toNumber(ExprValue value) {
+      return value.timestampValue().toEpochMilli();
     }
   }
 
   protected static class TimestampAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
 
-      return new ExprTimestampValue(Instant.ofEpochMilli(
-          DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf().longValue()));
+      return new ExprTimestampValue(Instant.ofEpochMilli(averageMillis()));
     }
 
     @Override
-    protected AvgState iterate(ExprValue value) {
-      total = DSL.add(DSL.literal(total), DSL.literal(value.timestampValue().toEpochMilli()))
-          .valueOf();
-      return super.iterate(value);
+    protected double toNumber(ExprValue value) {
+      return value.timestampValue().toEpochMilli();
     }
   }
 
   protected static class TimeAvgState extends AvgState {
     @Override
     public ExprValue result() {
-      if (0 == count.integerValue()) {
+      if (0 == count) {
         return ExprNullValue.of();
       }
 
-      return new ExprTimeValue(LocalTime.MIN.plus(
-          DSL.divide(DSL.literal(total), DSL.literal(count)).valueOf().longValue(), MILLIS));
+      return new ExprTimeValue(LocalTime.MIN.plus(averageMillis(), MILLIS));
     }
 
     @Override
-    protected AvgState iterate(ExprValue value) {
-      total = DSL.add(DSL.literal(total),
-          DSL.literal(MILLIS.between(LocalTime.MIN, value.timeValue()))).valueOf();
-      return super.iterate(value);
+    protected double toNumber(ExprValue value) {
+      return MILLIS.between(LocalTime.MIN, value.timeValue());
     }
   }
 }
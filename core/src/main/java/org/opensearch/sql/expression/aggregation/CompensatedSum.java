@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+/**
+ * Floating point sum that supports removing value added before, e.g. the values in a sliding
+ * window frame. Finite values are summed with Neumaier compensation so that the low order bits
+ * lost when a large value is added are recovered once it is removed. NaN and infinite values are
+ * counted separately instead, because they can't be subtracted from the sum once added. The sum
+ * is still not invertible if the finite values overflow.
+ */
+class CompensatedSum {
+
+  private double sum = 0D;
+
+  /**
+   * Low order bits lost in the sum so far.
+   */
+  private double compensation = 0D;
+
+  private long nanCount = 0L;
+
+  private long positiveInfinityCount = 0L;
+
+  private long negativeInfinityCount = 0L;
+
+  /**
+   * Add value to the sum.
+   * @param value value
+   */
+  void add(double value) {
+    if (Double.isFinite(value)) {
+      accumulate(value);
+    } else {
+      countNonFinite(value, 1);
+    }
+  }
+
+  /**
+   * Remove value added before from the sum.
+   * @param value value
+   */
+  void remove(double value) {
+    if (Double.isFinite(value)) {
+      accumulate(-value);
+    } else {
+      countNonFinite(value, -1);
+    }
+  }
+
+  /**
+   * Sum of the values remaining, which is NaN or infinite as summing them again if any of them is.
+   */
+  double value() {
+    if (nanCount > 0 || (positiveInfinityCount > 0 && negativeInfinityCount > 0)) {
+      return Double.NaN;
+    } else if (positiveInfinityCount > 0) {
+      return Double.POSITIVE_INFINITY;
+    } else if (negativeInfinityCount > 0) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    return sum + compensation;
+  }
+
+  private void accumulate(double value) {
+    double total = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      compensation += (sum - total) + value;
+    } else {
+      compensation += (value - total) + sum;
+    }
+    sum = total;
+  }
+
+  private void countNonFinite(double value, int delta) {
+    if (Double.isNaN(value)) {
+      nanCount += delta;
+    } else if (value > 0) {
+      positiveInfinityCount += delta;
+    } else {
+      negativeInfinityCount += delta;
+    }
+  }
+}
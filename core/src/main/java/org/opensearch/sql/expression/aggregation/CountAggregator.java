@@ -36,6 +36,20 @@ public class CountAggregator extends Aggregator<CountState> {
     return state;
   }
 
+  /**
+   * Count distinct is not removable because the distinct values seen are kept in a set.
+   */
+  @Override
+  public boolean isRemovable() {
+    return !distinct;
+  }
+
+  @Override
+  protected CountState remove(ExprValue value, CountState state) {
+    state.count--;
+    return state;
+  }
+
   @Override
   public String toString() {
     return distinct
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.opensearch.sql.utils.ExpressionUtils.format;
+
+import java.util.List;
+import java.util.Locale;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.aggregation.DistinctCountApproxAggregator.DistinctCountApproxState;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+/**
+ * The distinct_count_approx aggregator counts distinct values approximately by HyperLogLog++
+ * sketch, which is consistent with cardinality aggregation when pushed down. Unlike count
+ * distinct, the memory used by each group is bounded by the optional precision threshold
+ * argument (3000 by default). If the field value is NULL or MISSING, then it is skipped.
+ */
+public class DistinctCountApproxAggregator extends Aggregator<DistinctCountApproxState> {
+
+  /**
+   * Default precision threshold, same as cardinality aggregation.
+   */
+  public static final int DEFAULT_PRECISION_THRESHOLD = 3000;
+
+  public DistinctCountApproxAggregator(List<Expression> arguments, ExprCoreType returnType) {
+    super(BuiltinFunctionName.DISTINCT_COUNT_APPROX.getName(), arguments, returnType);
+  }
+
+  @Override
+  public DistinctCountApproxState create() {
+    return new DistinctCountApproxState(new HyperLogLogPlusPlus(getPrecisionThreshold()));
+  }
+
+  @Override
+  protected DistinctCountApproxState iterate(ExprValue value, DistinctCountApproxState state) {
+    state.sketch.add(value);
+    return state;
+  }
+
+  /**
+   * Get precision threshold from the second argument if present.
+   * @return precision threshold
+   */
+  public int getPrecisionThreshold() {
+    return (getArguments().size() > 1)
+        ? getArguments().get(1).valueOf().integerValue()
+        : DEFAULT_PRECISION_THRESHOLD;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "distinct_count_approx(%s)", format(getArguments()));
+  }
+
+  /**
+   * Distinct count approx state that can merge another partial state of the same aggregator.
+   */
+  protected static class DistinctCountApproxState implements AggregationState {
+    private final HyperLogLogPlusPlus sketch;
+
+    DistinctCountApproxState(HyperLogLogPlusPlus sketch) {
+      this.sketch = sketch;
+    }
+
+    public void merge(DistinctCountApproxState other) {
+      sketch.merge(other.sketch);
+    }
+
+    @Override
+    public ExprValue result() {
+      return ExprValueUtils.longValue(sketch.cardinality());
+    }
+
+    @Override
+    public long estimatedSize() {
+      return sketch.sizeInBytes();
+    }
+  }
+}
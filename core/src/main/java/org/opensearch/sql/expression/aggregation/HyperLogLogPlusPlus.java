@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * HyperLogLog++ sketch for approximate distinct count in the same way as cardinality aggregation
+ * in OpenSearch. The precision is derived from precision threshold, below which counts are
+ * expected to be close to accurate. Hashes of the values are kept as is in a hash table which takes
+ * the same memory as the registers, and converted to HyperLogLog registers once the table is
+ * full. So the memory used is fixed by the precision no matter how many distinct values.
+ * Note that the empirical bias correction of HyperLogLog++ is not applied. Instead, linear
+ * counting on the registers is used as long as the raw estimate is in the biased range.
+ */
+class HyperLogLogPlusPlus {
+
+  static final int MIN_PRECISION = 4;
+
+  static final int MAX_PRECISION = 18;
+
+  /**
+   * Precision threshold beyond is treated as the max, same as cardinality aggregation.
+   */
+  static final long MAX_PRECISION_THRESHOLD = 40000;
+
+  private static final double MAX_HASH_TABLE_LOAD_FACTOR = 0.75;
+
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  @Getter
+  private final int precision;
+
+  /**
+   * Hashes kept before converting to registers, which is null once converted.
+   */
+  private LongHashSet hashes;
+
+  private byte[] registers;
+
+  /**
+   * Create HyperLogLog++ sketch.
+   * @param precisionThreshold  precision threshold
+   */
+  HyperLogLogPlusPlus(long precisionThreshold) {
+    if (precisionThreshold < 0) {
+      throw new IllegalArgumentException(
+          "precision threshold must be greater than or equal to 0");
+    }
+    this.precision = precisionFromThreshold(Math.min(precisionThreshold, MAX_PRECISION_THRESHOLD));
+    this.hashes = new LongHashSet((1 << precision) / Long.BYTES);
+  }
+
+  /**
+   * Precision that makes the registers take the same memory as the hash table of 32-bit hashes
+   * that holds the number of values given, which is how cardinality aggregation does.
+   */
+  static int precisionFromThreshold(long count) {
+    long hashTableEntries = (long) Math.ceil(count / MAX_HASH_TABLE_LOAD_FACTOR);
+    int precision = Long.SIZE - Long.numberOfLeadingZeros(hashTableEntries * Integer.BYTES);
+    return Math.min(MAX_PRECISION, Math.max(MIN_PRECISION, precision));
+  }
+
+  /**
+   * Add value to the sketch.
+   * @param value value
+   */
+  void add(ExprValue value) {
+    addHash(HASH_FUNCTION.hashString(value.toString(), StandardCharsets.UTF_8).asLong());
+  }
+
+  /**
+   * Merge another sketch of the same precision into this one.
+   * @param other sketch to merge
+   */
+  void merge(HyperLogLogPlusPlus other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException(String.format(
+          "can't merge sketch of precision %d into %d", other.precision, precision));
+    }
+
+    if (other.registers == null) {
+      other.hashes.forEach(this::addHash);
+      return;
+    }
+
+    if (registers == null) {
+      convertToRegisters();
+    }
+    for (int i = 0; i < registers.length; i++) {
+      registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+    }
+  }
+
+  /**
+   * Size of the sketch in bytes, which is the same before and after converting to registers.
+   */
+  long sizeInBytes() {
+    return (registers == null) ? hashes.sizeInBytes() : registers.length;
+  }
+
+  /**
+   * Estimate the number of distinct values added.
+   * @return approximate distinct count
+   */
+  long cardinality() {
+    if (registers == null) {
+      return hashes.size();
+    }
+
+    int m = registers.length;
+    double sum = 0.0;
+    int zeros = 0;
+    for (byte register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+
+    // Raw estimate is biased for small cardinality, in which case linear counting is used
+    double estimate = alpha(m) * m * m / sum;
+    if (zeros > 0 && estimate <= 5 * m) {
+      return Math.round(m * Math.log((double) m / zeros));
+    }
+    return Math.round(estimate);
+  }
+
+  private void addHash(long hash) {
+    if (registers != null) {
+      updateRegister(hash);
+      return;
+    }
+
+    hashes.add(hash);
+    if (hashes.size() == hashes.maxSize()) {
+      convertToRegisters();
+    }
+  }
+
+  private void convertToRegisters() {
+    registers = new byte[1 << precision];
+    hashes.forEach(this::updateRegister);
+    hashes = null;
+  }
+
+  /**
+   * The first bits of hash select the register, and the register keeps the max position of
+   * the leftmost 1-bit in the rest bits.
+   */
+  private void updateRegister(long hash) {
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision)
+        | (1L << (precision - 1))) + 1);
+    registers[index] = (byte) Math.max(registers[index], rank);
+  }
+
+  private static double alpha(int m) {
+    switch (m) {
+      case 16:
+        return 0.673;
+      case 32:
+        return 0.697;
+      case 64:
+        return 0.709;
+      default:
+        return 0.7213 / (1.0 + 1.079 / m);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Set of long values in an open addressing hash table with linear probing, so that values are
+ * kept unboxed in a single array allocated once. The table is never resized, instead the number
+ * of values is limited by the max load factor, which also guarantees an empty slot to end probing.
+ */
+class LongHashSet {
+
+  private static final double MAX_LOAD_FACTOR = 0.75;
+
+  /**
+   * Multiplier of Fibonacci hashing, which spreads the values over the slots.
+   */
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+  /**
+   * Empty slot. Value 0 itself is not kept in the table but by a flag.
+   */
+  private static final long EMPTY = 0L;
+
+  private final long[] table;
+
+  private final int shift;
+
+  private final int maxSize;
+
+  private boolean containsEmpty = false;
+
+  private int size = 0;
+
+  /**
+   * Create set backed by table of the given capacity.
+   * @param capacity  number of slots, which must be a power of 2 and at least 2
+   */
+  LongHashSet(int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("capacity must be a power of 2 and at least 2");
+    }
+    this.table = new long[capacity];
+    this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    this.maxSize = (int) (capacity * MAX_LOAD_FACTOR);
+  }
+
+  /**
+   * Add value to the set.
+   * @param value value
+   * @return true if added, or false if present already
+   * @throws IllegalStateException if the set is full
+   */
+  boolean add(long value) {
+    if (value == EMPTY) {
+      if (containsEmpty) {
+        return false;
+      }
+      checkNotFull();
+      containsEmpty = true;
+      size++;
+      return true;
+    }
+
+    int mask = table.length - 1;
+    int slot = (int) ((value * GOLDEN_RATIO) >>> shift);
+    while (table[slot] != EMPTY) {
+      if (table[slot] == value) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    checkNotFull();
+    table[slot] = value;
+    size++;
+    return true;
+  }
+
+  /**
+   * Number of values in the set.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Max number of values the set can hold.
+   */
+  int maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Size of the table in bytes, which is fixed no matter how many values added.
+   */
+  long sizeInBytes() {
+    return (long) table.length * Long.BYTES;
+  }
+
+  /**
+   * Perform the action for each value in the set in no particular order.
+   * @param action action
+   */
+  void forEach(LongConsumer action) {
+    if (containsEmpty) {
+      action.accept(EMPTY);
+    }
+    for (long value : table) {
+      if (value != EMPTY) {
+        action.accept(value);
+      }
+    }
+  }
+
+  private void checkNotFull() {
+    if (size >= maxSize) {
+      throw new IllegalStateException("hash set is full with " + size + " values");
+    }
+  }
+}
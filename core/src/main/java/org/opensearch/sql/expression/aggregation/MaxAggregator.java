@@ -9,6 +9,7 @@ package org.opensearch.sql.expression.aggregation;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
+import java.util.Comparator;
 import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -32,6 +33,22 @@ public class MaxAggregator extends Aggregator<MaxAggregator.MaxState> {
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  public MaxState createRemovable() {
+    return new SlidingMaxState();
+  }
+
+  @Override
+  protected MaxState remove(ExprValue value, MaxState state) {
+    ((SlidingMaxState) state).remove();
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format("max(%s)", format(getArguments()));
@@ -55,4 +72,26 @@ public class MaxAggregator extends Aggregator<MaxAggregator.MaxState> {
       return maxResult;
     }
   }
+
+  /**
+   * Max state of values removed in the same order as iterated, which keeps the candidates
+   * in a monotonic deque instead of the max value only.
+   */
+  protected static class SlidingMaxState extends MaxState {
+    private final MonotonicDeque candidates = new MonotonicDeque(Comparator.reverseOrder());
+
+    @Override
+    public void max(ExprValue value) {
+      candidates.add(value);
+    }
+
+    void remove() {
+      candidates.remove();
+    }
+
+    @Override
+    public ExprValue result() {
+      return candidates.first();
+    }
+  }
 }
@@ -9,6 +9,7 @@ package org.opensearch.sql.expression.aggregation;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
 
+import java.util.Comparator;
 import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
@@ -37,6 +38,22 @@ public class MinAggregator extends Aggregator<MinAggregator.MinState> {
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  public MinState createRemovable() {
+    return new SlidingMinState();
+  }
+
+  @Override
+  protected MinState remove(ExprValue value, MinState state) {
+    ((SlidingMinState) state).remove();
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format("min(%s)", format(getArguments()));
@@ -60,4 +77,26 @@ public class MinAggregator extends Aggregator<MinAggregator.MinState> {
       return minResult;
     }
   }
+
+  /**
+   * Min state of values removed in the same order as iterated, which keeps the candidates
+   * in a monotonic deque instead of the min value only.
+   */
+  protected static class SlidingMinState extends MinState {
+    private final MonotonicDeque candidates = new MonotonicDeque(Comparator.naturalOrder());
+
+    @Override
+    public void min(ExprValue value) {
+      candidates.add(value);
+    }
+
+    void remove() {
+      candidates.remove();
+    }
+
+    @Override
+    public ExprValue result() {
+      return candidates.first();
+    }
+  }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Deque of values in monotonic order for min or max over values removed in the same order as
+ * added, e.g. the values in a sliding window frame. A value is dropped as soon as a later value
+ * is as good as it, because it can never be the extreme before the later one is removed. So the
+ * head is always the extreme of the values remaining, and both add and remove are amortized O(1).
+ */
+@RequiredArgsConstructor
+class MonotonicDeque {
+
+  /**
+   * Comparator by which the better value comes first.
+   */
+  private final Comparator<ExprValue> comparator;
+
+  /**
+   * Candidate values with the sequence number when added.
+   */
+  private final Deque<Pair<Long, ExprValue>> candidates = new ArrayDeque<>();
+
+  private long added = 0L;
+
+  private long removed = 0L;
+
+  void add(ExprValue value) {
+    while (!candidates.isEmpty()
+        && comparator.compare(value, candidates.peekLast().getRight()) <= 0) {
+      candidates.pollLast();
+    }
+    candidates.addLast(Pair.of(added++, value));
+  }
+
+  /**
+   * Remove the earliest value added. The last value added is always a candidate,
+   * so the deque is not empty as long as any value not removed yet.
+   */
+  void remove() {
+    if (candidates.peekFirst().getLeft() == removed) {
+      candidates.pollFirst();
+    }
+    removed++;
+  }
+
+  ExprValue first() {
+    return candidates.isEmpty() ? LITERAL_NULL : candidates.peekFirst().getRight();
+  }
+}
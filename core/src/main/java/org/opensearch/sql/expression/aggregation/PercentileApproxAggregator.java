@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.opensearch.sql.utils.ExpressionUtils.format;
+
+import java.util.List;
+import java.util.Locale;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.aggregation.PercentileApproxAggregator.PercentileApproxState;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+/**
+ * The percentile_approx aggregator estimates the value at the percent (between 0 and 100) given
+ * by t-digest, which is consistent with percentiles aggregation when pushed down. The memory used
+ * by each group is bounded by the optional compression argument (100 by default). If the field
+ * value is NULL or MISSING, then it is skipped. The result is NULL if no value is aggregated.
+ */
+public class PercentileApproxAggregator extends Aggregator<PercentileApproxState> {
+
+  public PercentileApproxAggregator(List<Expression> arguments, ExprCoreType returnType) {
+    super(BuiltinFunctionName.PERCENTILE_APPROX.getName(), arguments, returnType);
+  }
+
+  @Override
+  public PercentileApproxState create() {
+    return new PercentileApproxState(getPercent(), new TDigest(getCompression()));
+  }
+
+  @Override
+  protected PercentileApproxState iterate(ExprValue value, PercentileApproxState state) {
+    state.digest.add(value.doubleValue());
+    return state;
+  }
+
+  /**
+   * Get percent from the second argument.
+   * @return percent
+   */
+  public double getPercent() {
+    return getArguments().get(1).valueOf().doubleValue();
+  }
+
+  /**
+   * Get compression from the third argument if present.
+   * @return compression
+   */
+  public double getCompression() {
+    return (getArguments().size() > 2)
+        ? getArguments().get(2).valueOf().doubleValue()
+        : TDigest.DEFAULT_COMPRESSION;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "percentile_approx(%s)", format(getArguments()));
+  }
+
+  /**
+   * Percentile approx state that can merge another partial state of the same aggregator.
+   */
+  protected static class PercentileApproxState implements AggregationState {
+    private final double percent;
+    private final TDigest digest;
+
+    PercentileApproxState(double percent, TDigest digest) {
+      this.percent = percent;
+      this.digest = digest;
+    }
+
+    public void merge(PercentileApproxState other) {
+      digest.merge(other.digest);
+    }
+
+    @Override
+    public ExprValue result() {
+      double value = digest.quantile(percent / 100);
+      return Double.isNaN(value) ? ExprValueUtils.nullValue() : ExprValueUtils.doubleValue(value);
+    }
+
+    @Override
+    public long estimatedSize() {
+      return digest.maxSizeInBytes();
+    }
+  }
+}
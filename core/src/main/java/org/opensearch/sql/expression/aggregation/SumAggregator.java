@@ -8,10 +8,6 @@ package org.opensearch.sql.expression.aggregation;
 
 import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
-import static org.opensearch.sql.data.model.ExprValueUtils.getDoubleValue;
-import static org.opensearch.sql.data.model.ExprValueUtils.getFloatValue;
-import static org.opensearch.sql.data.model.ExprValueUtils.getIntegerValue;
-import static org.opensearch.sql.data.model.ExprValueUtils.getLongValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
 import static org.opensearch.sql.utils.ExpressionUtils.format;
@@ -20,7 +16,6 @@ import java.util.List;
 import java.util.Locale;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
@@ -44,47 +39,79 @@ public class SumAggregator extends Aggregator<SumState> {
 
   @Override
   protected SumState iterate(ExprValue value, SumState state) {
-    state.isEmptyCollection = false;
     state.add(value);
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return true;
+  }
+
+  @Override
+  protected SumState remove(ExprValue value, SumState state) {
+    state.remove(value);
+    return state;
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "sum(%s)", format(getArguments()));
   }
 
   /**
-   * Sum State.
+   * Sum State. The sum is accumulated in primitive instead of creating {@link ExprValue}
+   * for each value. Integer sum keeps the overflow of its type, whereas float and double values
+   * are summed by {@link CompensatedSum} in double and float sum is narrowed in the end.
    */
   protected static class SumState implements AggregationState {
 
     private final ExprCoreType type;
-    private ExprValue sumResult;
-    private boolean isEmptyCollection;
+    private long longSum;
+    private final CompensatedSum doubleSum;
+    private long count;
 
     SumState(ExprCoreType type) {
       this.type = type;
-      sumResult = ExprValueUtils.integerValue(0);
-      isEmptyCollection = true;
+      longSum = 0L;
+      doubleSum = new CompensatedSum();
+      count = 0L;
     }
 
     /**
-     * Add value to current sumResult.
+     * Add value to current sum.
      */
     public void add(ExprValue value) {
+      accumulate(value, 1);
+      count++;
+    }
+
+    /**
+     * Remove value added before from current sum. Integer and long sum wraps around in the same
+     * way as adding so the result is exact. Floating point sum recovers the precision lost by
+     * the value removed and keeps track of NaN and infinite values, so the result is as accurate
+     * as adding the remaining values again unless the sum overflows.
+     */
+    public void remove(ExprValue value) {
+      accumulate(value, -1);
+      count--;
+    }
+
+    private void accumulate(ExprValue value, int sign) {
       switch (type) {
         case INTEGER:
-          sumResult = integerValue(getIntegerValue(sumResult) + getIntegerValue(value));
+          longSum = (int) longSum + sign * value.integerValue();
           break;
         case LONG:
-          sumResult = longValue(getLongValue(sumResult) + getLongValue(value));
+          longSum += sign * value.longValue();
           break;
         case FLOAT:
-          sumResult = floatValue(getFloatValue(sumResult) + getFloatValue(value));
-          break;
         case DOUBLE:
-          sumResult = doubleValue(getDoubleValue(sumResult) + getDoubleValue(value));
+          if (sign > 0) {
+            doubleSum.add(value.doubleValue());
+          } else {
+            doubleSum.remove(value.doubleValue());
+          }
           break;
         default:
           throw new ExpressionEvaluationException(
@@ -94,7 +121,17 @@ public class SumAggregator extends Aggregator<SumState> {
 
     @Override
     public ExprValue result() {
-      return isEmptyCollection ? ExprNullValue.of() : sumResult;
+      if (count == 0) {
+        return ExprNullValue.of();
+      } else if (type == ExprCoreType.INTEGER) {
+        return integerValue((int) longSum);
+      } else if (type == ExprCoreType.LONG) {
+        return longValue(longSum);
+      } else if (type == ExprCoreType.FLOAT) {
+        return floatValue((float) doubleSum.value());
+      } else {
+        return doubleValue(doubleSum.value());
+      }
     }
   }
 }
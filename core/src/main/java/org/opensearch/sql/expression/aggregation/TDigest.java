@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Merging t-digest for approximate percentile in the same way as percentiles aggregation
+ * in OpenSearch. Values added are buffered and merged into centroids in batch. Adjacent centroids
+ * are merged as long as the merged one doesn't span more than 1 in the arcsine scale function,
+ * which keeps centroids near both tails small and the percentiles there accurate. So the number
+ * of centroids is bounded by the compression no matter how many values.
+ */
+class TDigest {
+
+  /**
+   * Default compression, same as percentiles aggregation.
+   */
+  static final double DEFAULT_COMPRESSION = 100.0;
+
+  /**
+   * Estimated size of a centroid in bytes, including the reference to it in list.
+   */
+  private static final long CENTROID_SIZE = 40L;
+
+  @Getter
+  private final double compression;
+
+  /**
+   * Centroids merged which are sorted by mean.
+   */
+  private List<Centroid> centroids = new ArrayList<>();
+
+  /**
+   * Centroids (single values mostly) added but not merged yet.
+   */
+  private final List<Centroid> buffer = new ArrayList<>();
+
+  private final int bufferLimit;
+
+  @Getter
+  private double totalWeight;
+
+  private double min = Double.POSITIVE_INFINITY;
+
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Create t-digest.
+   * @param compression  compression that bounds the number of centroids
+   */
+  TDigest(double compression) {
+    if (!(compression > 0)) {
+      throw new IllegalArgumentException("compression must be greater than 0");
+    }
+    this.compression = compression;
+    this.bufferLimit = (int) Math.ceil(compression) * 5;
+  }
+
+  /**
+   * Add value to the digest.
+   * @param value value
+   */
+  void add(double value) {
+    add(value, 1.0);
+  }
+
+  /**
+   * Merge another digest into this one. The compression of this digest is used for the result.
+   * @param other digest to merge
+   */
+  void merge(TDigest other) {
+    other.centroids.forEach(c -> add(c.mean, c.weight));
+    other.buffer.forEach(c -> add(c.mean, c.weight));
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+  }
+
+  /**
+   * Estimate the value at the quantile by interpolation between centroids, where each centroid
+   * is considered to be centered at the middle of its weight. The exact min and max are used
+   * beyond the first and last centroid.
+   * @param q quantile between 0 and 1
+   * @return approximate value at the quantile, or NaN if no value added
+   */
+  double quantile(double q) {
+    if (q < 0 || q > 1) {
+      throw new IllegalArgumentException("quantile must be between 0 and 1");
+    }
+    compress();
+    if (centroids.isEmpty()) {
+      return Double.NaN;
+    }
+
+    double index = q * totalWeight;
+    Centroid first = centroids.get(0);
+    if (index <= first.weight / 2) {
+      return interpolate(index, 0, min, first.weight / 2, first.mean);
+    }
+
+    double weightSoFar = first.weight / 2;
+    for (int i = 1; i < centroids.size(); i++) {
+      Centroid left = centroids.get(i - 1);
+      Centroid right = centroids.get(i);
+      double next = weightSoFar + (left.weight + right.weight) / 2;
+      if (index <= next) {
+        return interpolate(index, weightSoFar, left.mean, next, right.mean);
+      }
+      weightSoFar = next;
+    }
+
+    Centroid last = centroids.get(centroids.size() - 1);
+    return interpolate(index, weightSoFar, last.mean, totalWeight, max);
+  }
+
+  /**
+   * Number of centroids after merging all values buffered.
+   */
+  int centroidCount() {
+    compress();
+    return centroids.size();
+  }
+
+  /**
+   * Max size of the digest in bytes, which is reached once the buffer is full in addition to the
+   * centroids merged that are bounded by the compression.
+   */
+  long maxSizeInBytes() {
+    return (bufferLimit + (long) Math.ceil(compression)) * CENTROID_SIZE;
+  }
+
+  private void add(double mean, double weight) {
+    buffer.add(new Centroid(mean, weight));
+    totalWeight += weight;
+    min = Math.min(min, mean);
+    max = Math.max(max, mean);
+    if (buffer.size() >= bufferLimit) {
+      compress();
+    }
+  }
+
+  /**
+   * Merge centroids buffered into centroids in one pass over all of them sorted by mean.
+   */
+  private void compress() {
+    if (buffer.isEmpty()) {
+      return;
+    }
+
+    List<Centroid> sorted = new ArrayList<>(centroids);
+    sorted.addAll(buffer);
+    sorted.sort(Comparator.comparingDouble(c -> c.mean));
+    buffer.clear();
+
+    List<Centroid> merged = new ArrayList<>();
+    Centroid current = sorted.get(0);
+    double weightSoFar = 0.0;
+    double limit = quantileLimit(0.0);
+    for (int i = 1; i < sorted.size(); i++) {
+      Centroid next = sorted.get(i);
+      if ((weightSoFar + current.weight + next.weight) / totalWeight <= limit) {
+        current = current.merge(next);
+      } else {
+        merged.add(current);
+        weightSoFar += current.weight;
+        limit = quantileLimit(weightSoFar / totalWeight);
+        current = next;
+      }
+    }
+    merged.add(current);
+    centroids = merged;
+  }
+
+  /**
+   * Max quantile a centroid starting from the quantile given can reach, which is 1 further in
+   * the scale function k(q) = compression / (2 * PI) * asin(2q - 1).
+   */
+  private double quantileLimit(double q) {
+    double k = compression / (2 * Math.PI) * Math.asin(2 * q - 1) + 1;
+    if (k >= compression / 4) {
+      return 1.0;
+    }
+    return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+  }
+
+  private static double interpolate(double x, double x0, double y0, double x1, double y1) {
+    return y0 + (x - x0) / (x1 - x0) * (y1 - y0);
+  }
+
+  private static class Centroid {
+    private final double mean;
+    private final double weight;
+
+    Centroid(double mean, double weight) {
+      this.mean = mean;
+      this.weight = weight;
+    }
+
+    Centroid merge(Centroid other) {
+      double total = weight + other.weight;
+      return new Centroid(mean + (other.mean - mean) * other.weight / total, total);
+    }
+  }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.sql.expression.datetime;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.Serializable;
 import java.text.ParsePosition;
 import java.time.Clock;
 import java.time.DateTimeException;
@@ -21,11 +22,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.expression.function.SerializableFunction;
 
 /**
  * This class converts a SQL style DATE_FORMAT format specifier and converts it to a
@@ -44,7 +48,7 @@ class DateTimeFormatterUtil {
 
   // The following have special cases that need handling outside of the format options provided
   // by the DateTimeFormatter class.
-  interface DateTimeFormatHandler {
+  interface DateTimeFormatHandler extends Serializable {
     String getFormat(LocalDateTime date);
   }
 
@@ -200,27 +204,42 @@ class DateTimeFormatterUtil {
   static ExprValue getFormattedString(ExprValue formatExpr,
                                       Map<String, DateTimeFormatHandler> handler,
                                       LocalDateTime datetime) {
-    StringBuffer cleanFormat = getCleanFormat(formatExpr);
+    return new DateTimeFormat(getCleanFormat(formatExpr).toString(), handler).format(datetime);
+  }
 
-    final Matcher matcher = pattern.matcher(cleanFormat.toString());
-    final StringBuffer format = new StringBuffer();
-    try {
-      while (matcher.find()) {
-        matcher.appendReplacement(format,
-            handler.getOrDefault(matcher.group(), (d) ->
-                    String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, "")))
-                .getFormat(datetime));
-      }
-    } catch (Exception e) {
-      return ExprNullValue.of();
-    }
-    matcher.appendTail(format);
+  /**
+   * Prepare the format String once to format many DATE/DATETIME/TIMESTAMP values.
+   * @param formatExpr the format ExprValue of String type.
+   * @return function which formats the date ExprValue and returns a String.
+   */
+  static SerializableFunction<ExprValue, ExprValue> getDateFormatter(ExprValue formatExpr) {
+    DateTimeFormat format = new DateTimeFormat(getCleanFormat(formatExpr).toString(),
+        DATE_HANDLERS);
+    return dateExpr -> format.format(dateExpr.datetimeValue());
+  }
 
-    // English Locale matches SQL requirements.
-    // 'AM'/'PM' instead of 'a.m.'/'p.m.'
-    // 'Sat' instead of 'Sat.' etc
-    return new ExprStringValue(datetime.format(
-        DateTimeFormatter.ofPattern(format.toString(), Locale.ENGLISH)));
+  /**
+   * Prepare the format String once to format many TIME values at the date of today.
+   * @param formatExpr the format ExprValue of String type.
+   * @param current clock to get the date of today.
+   * @return function which formats the time ExprValue and returns a String.
+   */
+  static SerializableFunction<ExprValue, ExprValue> getDateOfTodayFormatter(ExprValue formatExpr,
+                                                                             Clock current) {
+    DateTimeFormat format = new DateTimeFormat(getCleanFormat(formatExpr).toString(),
+        DATE_HANDLERS);
+    return time -> format.format(LocalDateTime.of(LocalDate.now(current), time.timeValue()));
+  }
+
+  /**
+   * Prepare the format String once to format many values by the time_format function.
+   * @param formatExpr the format ExprValue of String type.
+   * @return function which formats the time ExprValue and returns a String.
+   */
+  static SerializableFunction<ExprValue, ExprValue> getTimeFormatter(ExprValue formatExpr) {
+    DateTimeFormat format = new DateTimeFormat(getCleanFormat(formatExpr).toString(),
+        TIME_HANDLERS);
+    return timeExpr -> format.format(LocalDateTime.of(LocalDate.now(), timeExpr.timeValue()));
   }
 
   /**
@@ -269,7 +288,26 @@ class DateTimeFormatterUtil {
   static ExprValue parseStringWithDateOrTime(FunctionProperties fp,
                                              ExprValue datetimeStringExpr,
                                              ExprValue formatExpr) {
+    return parseStringWithFormatter(fp, datetimeStringExpr,
+        new StrToDateFormat(getStrToDatePattern(formatExpr)).formatter());
+  }
 
+  /**
+   * Prepare the format String once to parse many strings by the str_to_date function.
+   * @param fp function properties to get the date of today for string of time only.
+   * @param formatExpr the format ExprValue of String type.
+   * @return function which parses the string ExprValue and returns a DATETIME.
+   */
+  static SerializableFunction<ExprValue, ExprValue> getStrToDateParser(FunctionProperties fp,
+                                                                        ExprValue formatExpr) {
+    StrToDateFormat format = new StrToDateFormat(getStrToDatePattern(formatExpr));
+    // Fail on invalid pattern now rather than on the first string parsed
+    format.formatter();
+    return datetimeStringExpr -> parseStringWithFormatter(fp, datetimeStringExpr,
+        format.formatter());
+  }
+
+  private static String getStrToDatePattern(ExprValue formatExpr) {
     //Replace patterns with % for Java DateTimeFormatter
     StringBuffer cleanFormat = getCleanFormat(formatExpr);
     final Matcher matcher = pattern.matcher(cleanFormat.toString());
@@ -281,14 +319,17 @@ class DateTimeFormatterUtil {
               String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, ""))));
     }
     matcher.appendTail(format);
+    return format.toString();
+  }
 
+  private static ExprValue parseStringWithFormatter(FunctionProperties fp,
+                                                    ExprValue datetimeStringExpr,
+                                                    DateTimeFormatter formatter) {
     TemporalAccessor taWithMissingFields;
     //Return NULL for invalid parse in string to align with MySQL
     try {
       //Get Temporal Accessor to initially parse string without default values
-      taWithMissingFields = new DateTimeFormatterBuilder()
-          .appendPattern(format.toString())
-          .toFormatter().withResolverStyle(ResolverStyle.STRICT)
+      taWithMissingFields = formatter
           .parseUnresolved(datetimeStringExpr.stringValue(), new ParsePosition(0));
       if (taWithMissingFields == null) {
         throw new DateTimeException("Input string could not be parsed properly.");
@@ -344,4 +385,65 @@ class DateTimeFormatterUtil {
     }
     return SUFFIX_CONVERTER.getOrDefault(val % 10, SUFFIX_SPECIAL_TH);
   }
+
+  /**
+   * DATE_FORMAT format specifier cleaned to format many datetime values. The Java format pattern
+   * translated to may depend on the datetime value, e.g. day of month with English suffix, so the
+   * Java formatter of the last pattern is kept and only created again if the pattern changes.
+   */
+  @RequiredArgsConstructor
+  static class DateTimeFormat implements Serializable {
+    private final String cleanFormat;
+
+    private final Map<String, DateTimeFormatHandler> handler;
+
+    private transient volatile Pair<String, DateTimeFormatter> lastFormatter;
+
+    ExprValue format(LocalDateTime datetime) {
+      final Matcher matcher = pattern.matcher(cleanFormat);
+      final StringBuffer format = new StringBuffer();
+      try {
+        while (matcher.find()) {
+          matcher.appendReplacement(format,
+              handler.getOrDefault(matcher.group(), (d) ->
+                      String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, "")))
+                  .getFormat(datetime));
+        }
+      } catch (Exception e) {
+        return ExprNullValue.of();
+      }
+      matcher.appendTail(format);
+
+      String javaFormat = format.toString();
+      Pair<String, DateTimeFormatter> formatter = lastFormatter;
+      if (formatter == null || !formatter.getKey().equals(javaFormat)) {
+        // English Locale matches SQL requirements.
+        // 'AM'/'PM' instead of 'a.m.'/'p.m.'
+        // 'Sat' instead of 'Sat.' etc
+        formatter = Pair.of(javaFormat, DateTimeFormatter.ofPattern(javaFormat, Locale.ENGLISH));
+        lastFormatter = formatter;
+      }
+      return new ExprStringValue(datetime.format(formatter.getValue()));
+    }
+  }
+
+  /**
+   * STR_TO_DATE format specifier translated to Java pattern. The Java formatter is not
+   * serializable and thus created again after deserialized.
+   */
+  @RequiredArgsConstructor
+  static class StrToDateFormat implements Serializable {
+    private final String javaPattern;
+
+    private transient DateTimeFormatter formatter;
+
+    DateTimeFormatter formatter() {
+      if (formatter == null) {
+        formatter = new DateTimeFormatterBuilder()
+            .appendPattern(javaPattern)
+            .toFormatter().withResolverStyle(ResolverStyle.STRICT);
+      }
+      return formatter;
+    }
+  }
 }
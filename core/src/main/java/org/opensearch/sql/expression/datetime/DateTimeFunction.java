@@ -27,7 +27,9 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.expression.function.FunctionDSL.define;
 import static org.opensearch.sql.expression.function.FunctionDSL.impl;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithLiteral;
 import static org.opensearch.sql.expression.function.FunctionDSL.implWithProperties;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithPropertiesAndLiteral;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandling;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandlingWithProperties;
 import static org.opensearch.sql.utils.DateTimeFormatters.DATE_FORMATTER_LONG_YEAR;
@@ -832,9 +834,11 @@ public class DateTimeFunction {
    */
   private DefaultFunctionResolver str_to_date() {
     return define(BuiltinFunctionName.STR_TO_DATE.getName(),
-        implWithProperties(
+        implWithPropertiesAndLiteral(
             nullMissingHandlingWithProperties((functionProperties, arg, format)
                 -> DateTimeFunction.exprStrToDate(functionProperties, arg, format)),
+            (functionProperties, format) -> nullMissingHandling(
+                DateTimeFormatterUtil.getStrToDateParser(functionProperties, format)),
             DATETIME, STRING, STRING));
   }
 
@@ -1095,23 +1099,30 @@ public class DateTimeFunction {
    */
   private DefaultFunctionResolver date_format() {
     return define(BuiltinFunctionName.DATE_FORMAT.getName(),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
-            STRING, STRING, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
-            STRING, DATE, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
-            STRING, DATETIME, STRING),
-        implWithProperties(
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
+            DateTimeFunction::dateFormatter, STRING, STRING, STRING),
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
+            DateTimeFunction::dateFormatter, STRING, DATE, STRING),
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
+            DateTimeFunction::dateFormatter, STRING, DATETIME, STRING),
+        implWithPropertiesAndLiteral(
             nullMissingHandlingWithProperties(
                 (functionProperties, time, formatString)
                     -> DateTimeFormatterUtil.getFormattedDateOfToday(
                         formatString, time, functionProperties.getQueryStartClock())),
+            (functionProperties, formatString) -> nullMissingHandling(
+                DateTimeFormatterUtil.getDateOfTodayFormatter(
+                    formatString, functionProperties.getQueryStartClock())),
             STRING, TIME, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
-            STRING, TIMESTAMP, STRING)
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedDate),
+            DateTimeFunction::dateFormatter, STRING, TIMESTAMP, STRING)
     );
   }
 
+  private SerializableFunction<ExprValue, ExprValue> dateFormatter(ExprValue formatString) {
+    return nullMissingHandling(DateTimeFormatterUtil.getDateFormatter(formatString));
+  }
+
 
   private ExprValue dayOfMonthToday(Clock clock) {
     return new ExprIntegerValue(LocalDateTime.now(clock).getDayOfMonth());
@@ -1177,19 +1188,23 @@ public class DateTimeFunction {
    */
   private DefaultFunctionResolver time_format() {
     return define(BuiltinFunctionName.TIME_FORMAT.getName(),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
-            STRING, STRING, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
-            STRING, DATE, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
-            STRING, DATETIME, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
-            STRING, TIME, STRING),
-        impl(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
-            STRING, TIMESTAMP, STRING)
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunction::timeFormatter, STRING, STRING, STRING),
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunction::timeFormatter, STRING, DATE, STRING),
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunction::timeFormatter, STRING, DATETIME, STRING),
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunction::timeFormatter, STRING, TIME, STRING),
+        implWithLiteral(nullMissingHandling(DateTimeFormatterUtil::getFormattedTime),
+            DateTimeFunction::timeFormatter, STRING, TIMESTAMP, STRING)
     );
   }
 
+  private SerializableFunction<ExprValue, ExprValue> timeFormatter(ExprValue formatString) {
+    return nullMissingHandling(DateTimeFormatterUtil.getTimeFormatter(formatString));
+  }
+
   /**
    * ADDDATE function implementation for ExprValue.
    *
@@ -18,6 +18,7 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver.DefaultFunctionResolverBuilder;
 
@@ -237,6 +238,108 @@ public class FunctionDSL {
     };
   }
 
+  /**
+   * Implementation of a binary function which is specialized if the second argument is a literal,
+   * e.g. pattern or format. The specializer is called once when the function is built to
+   * pre-compile the literal into a unary function of the first argument, which is then applied
+   * to each value instead of the general binary function. The general function is used if the
+   * second argument is not a literal, is NULL or MISSING, or fails to be pre-compiled.
+   *
+   * @param function    {@link ExprValue} based binary function.
+   * @param specializer function which pre-compiles the literal value of second argument into
+   *                    the unary function of first argument.
+   * @param returnType  return type.
+   * @param args1Type   first argument type.
+   * @param args2Type   second argument type.
+   * @return Binary Function Implementation.
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      implWithLiteral(
+      SerializableBiFunction<ExprValue, ExprValue, ExprValue> function,
+      SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>> specializer,
+      ExprType returnType,
+      ExprType args1Type,
+      ExprType args2Type) {
+    return implWithPropertiesAndLiteral((fp, arg1, arg2) -> function.apply(arg1, arg2),
+        (fp, arg2) -> specializer.apply(arg2), returnType, args1Type, args2Type);
+  }
+
+  /**
+   * Implementation of a binary function which requires FunctionProperties to complete and is
+   * specialized if the second argument is a literal. See {@link #implWithLiteral}.
+   *
+   * @param function    {@link ExprValue} based binary function.
+   * @param specializer function which pre-compiles the literal value of second argument into
+   *                    the unary function of first argument.
+   * @param returnType  return type.
+   * @param args1Type   first argument type.
+   * @param args2Type   second argument type.
+   * @return Binary Function Implementation.
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      implWithPropertiesAndLiteral(
+      SerializableTriFunction<FunctionProperties, ExprValue, ExprValue, ExprValue> function,
+      SerializableBiFunction<FunctionProperties, ExprValue,
+          SerializableFunction<ExprValue, ExprValue>> specializer,
+      ExprType returnType,
+      ExprType args1Type,
+      ExprType args2Type) {
+    SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>> general =
+        implWithProperties(function, returnType, args1Type, args2Type);
+
+    return functionName -> {
+      Pair<FunctionSignature, FunctionBuilder> generalImpl = general.apply(functionName);
+      FunctionBuilder functionBuilder = (functionProperties, arguments) -> {
+        SerializableFunction<ExprValue, ExprValue> specialized =
+            specialize(specializer, functionProperties, arguments.get(1));
+        if (specialized == null) {
+          return generalImpl.getValue().apply(functionProperties, arguments);
+        }
+
+        return new FunctionExpression(functionName, arguments) {
+          @Override
+          public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+            return specialized.apply(arguments.get(0).valueOf(valueEnv));
+          }
+
+          @Override
+          public ExprType type() {
+            return returnType;
+          }
+
+          @Override
+          public String toString() {
+            return String.format("%s(%s, %s)", functionName, arguments.get(0).toString(),
+                arguments.get(1).toString());
+          }
+        };
+      };
+      return Pair.of(generalImpl.getKey(), functionBuilder);
+    };
+  }
+
+  private static SerializableFunction<ExprValue, ExprValue> specialize(
+      SerializableBiFunction<FunctionProperties, ExprValue,
+          SerializableFunction<ExprValue, ExprValue>> specializer,
+      FunctionProperties functionProperties,
+      Expression argument) {
+    if (!(argument instanceof LiteralExpression)) {
+      return null;
+    }
+
+    ExprValue literal = argument.valueOf();
+    if (literal.isNull() || literal.isMissing()) {
+      return null;
+    }
+
+    // Leave invalid literal, e.g. malformed pattern, to fail on evaluation as before
+    try {
+      return specializer.apply(functionProperties, literal);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
   /**
    * No Arg Function Implementation.
    *
@@ -15,6 +15,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.function.FunctionDSL.define;
 import static org.opensearch.sql.expression.function.FunctionDSL.impl;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithLiteral;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandling;
 
 import com.google.common.collect.ImmutableTable;
@@ -27,6 +28,7 @@ import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
+import org.opensearch.sql.expression.function.SerializableFunction;
 import org.opensearch.sql.utils.OperatorUtils;
 
 /**
@@ -207,18 +209,27 @@ public class BinaryPredicateOperator {
 
   private static DefaultFunctionResolver like() {
     return define(BuiltinFunctionName.LIKE.getName(),
-        impl(nullMissingHandling(OperatorUtils::matches), BOOLEAN, STRING, STRING));
+        implWithLiteral(nullMissingHandling(OperatorUtils::matches),
+            pattern -> nullMissingHandling(OperatorUtils.wildcardMatcher(pattern)),
+            BOOLEAN, STRING, STRING));
   }
 
   private static DefaultFunctionResolver regexp() {
     return define(BuiltinFunctionName.REGEXP.getName(),
-        impl(nullMissingHandling(OperatorUtils::matchesRegexp), INTEGER, STRING, STRING));
+        implWithLiteral(nullMissingHandling(OperatorUtils::matchesRegexp),
+            pattern -> nullMissingHandling(OperatorUtils.regexpMatcher(pattern)),
+            INTEGER, STRING, STRING));
   }
 
   private static DefaultFunctionResolver notLike() {
     return define(BuiltinFunctionName.NOT_LIKE.getName(),
-        impl(nullMissingHandling(
+        implWithLiteral(nullMissingHandling(
             (v1, v2) -> UnaryPredicateOperator.not(OperatorUtils.matches(v1, v2))),
+            pattern -> {
+              SerializableFunction<ExprValue, ExprValue> matcher =
+                  OperatorUtils.wildcardMatcher(pattern);
+              return nullMissingHandling(v -> UnaryPredicateOperator.not(matcher.apply(v)));
+            },
             BOOLEAN, STRING, STRING));
   }
 
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.expression.span;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -24,6 +25,14 @@ public class SpanExpression implements Expression {
   private final Expression value;
   private final SpanUnit unit;
 
+  /**
+   * Rounding created once by the span interval literal. Rounding is not serializable and thus
+   * created again after deserialized.
+   */
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  private transient Rounding<?> rounding;
+
   /**
    * Construct a span expression by field and span interval expression.
    */
@@ -35,7 +44,9 @@ public class SpanExpression implements Expression {
 
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
-    Rounding<?> rounding = Rounding.createRounding(this); //TODO: will integrate with WindowAssigner
+    if (rounding == null) {
+      rounding = Rounding.createRounding(this); //TODO: will integrate with WindowAssigner
+    }
     return rounding.round(field.valueOf(valueEnv));
   }
 
@@ -19,6 +19,7 @@ import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
+import org.opensearch.sql.expression.window.frame.SlidingWindowFrame;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
@@ -33,11 +34,18 @@ public class AggregateWindowFunction implements WindowFunctionExpression {
 
   @Override
   public WindowFrame createWindowFrame(WindowDefinition definition) {
+    if (definition.getFrame() != null) {
+      return new SlidingWindowFrame(definition);
+    }
     return new PeerRowsWindowFrame(definition);
   }
 
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    if (valueEnv instanceof SlidingWindowFrame) {
+      return slide((SlidingWindowFrame) valueEnv);
+    }
+
     PeerRowsWindowFrame frame = (PeerRowsWindowFrame) valueEnv;
     if (frame.isNewPartition()) {
       state = aggregator.create();
@@ -50,6 +58,32 @@ public class AggregateWindowFunction implements WindowFunctionExpression {
     return state.result();
   }
 
+  /**
+   * Update state by the rows leaving and entering the sliding frame. If the aggregator is not
+   * removable, the state is aggregated again over all rows in the frame once any row leaves.
+   */
+  private ExprValue slide(SlidingWindowFrame frame) {
+    if (frame.isNewPartition()) {
+      state = aggregator.isRemovable() ? aggregator.createRemovable() : aggregator.create();
+    }
+
+    List<ExprValue> leaving = frame.leaving();
+    List<ExprValue> entering = frame.next();
+    if (!leaving.isEmpty() && !aggregator.isRemovable()) {
+      state = aggregator.create();
+      entering = frame.rows();
+    } else {
+      for (ExprValue row : leaving) {
+        state = aggregator.remove(row.bindingTuples(), state);
+      }
+    }
+
+    for (ExprValue row : entering) {
+      state = aggregator.iterate(row.bindingTuples(), state);
+    }
+    return state.result();
+  }
+
   @Override
   public ExprType type() {
     return aggregator.type();
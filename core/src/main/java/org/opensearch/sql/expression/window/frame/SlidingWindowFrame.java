@@ -0,0 +1,362 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.window.frame;
+
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.BoundType.CURRENT_ROW;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.BoundType.UNBOUNDED_FOLLOWING;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.BoundType.UNBOUNDED_PRECEDING;
+import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
+
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+/**
+ * Window frame of the rows between start and end bound relative to current row in a partition,
+ * which is specified by ROWS or RANGE frame clause in window definition. Rows are buffered in a
+ * ring buffer only from frame start (or current row if frame start is unbounded) to frame end.
+ * Because both frame start and end only move forward as current row moves forward, the window
+ * function can update its state incrementally by the rows entering the frame returned by
+ * {@link #next()} and the rows leaving the frame returned by {@link #leaving()}.
+ * See SlidingWindowFrameTest for details about how this window frame slides.
+ */
+public class SlidingWindowFrame implements WindowFrame {
+
+  @Getter
+  private final WindowDefinition windowDefinition;
+
+  private final WindowFrameSpec frame;
+
+  private final List<Expression> sortFields;
+
+  /**
+   * Rows of current partition buffered which are indexed by position in partition.
+   */
+  private final RowBuffer rows = new RowBuffer();
+
+  /**
+   * Partition key of the rows buffered.
+   */
+  private List<ExprValue> partition;
+
+  /**
+   * Position of current row in partition.
+   */
+  private long position;
+
+  /**
+   * Sort key of current row.
+   */
+  private List<ExprValue> currentKey;
+
+  /**
+   * Frame of current row from start (inclusive) to end (exclusive).
+   */
+  private long frameStart;
+  private long frameEnd;
+
+  /**
+   * Rows iterated by window function from start (inclusive) to end (exclusive), which is the
+   * same as the frame unless the frame is empty, because it never moves backward.
+   */
+  private long iteratedStart;
+  private long iteratedEnd;
+
+  private boolean isNewPartition;
+
+  private List<ExprValue> entering = Collections.emptyList();
+
+  private List<ExprValue> leaving = Collections.emptyList();
+
+  /**
+   * Initialize sliding window frame.
+   * @param windowDefinition  window definition with frame
+   */
+  public SlidingWindowFrame(WindowDefinition windowDefinition) {
+    this.windowDefinition = windowDefinition;
+    this.frame = windowDefinition.getFrame();
+    this.sortFields = windowDefinition.getSortList()
+                                      .stream()
+                                      .map(Pair::getRight)
+                                      .collect(Collectors.toList());
+  }
+
+  /**
+   * If any more pre-fetched rows after current row not returned to window operator yet.
+   */
+  @Override
+  public boolean hasNext() {
+    return position + 1 < rows.end();
+  }
+
+  /**
+   * Rows that enter the frame of current row, which are only returned at the first time.
+   * @return rows in current frame but not iterated by window function yet
+   */
+  @Override
+  public List<ExprValue> next() {
+    List<ExprValue> result = entering;
+    entering = Collections.emptyList();
+    return result;
+  }
+
+  /**
+   * Rows that leave the frame of current row, which are always in the same order as entering.
+   * @return rows iterated by window function but not in current frame any more
+   */
+  public List<ExprValue> leaving() {
+    return leaving;
+  }
+
+  /**
+   * All rows in the frame of current row, which is only available if frame start is bounded
+   * because rows before current row are not buffered otherwise.
+   * @return rows in current frame
+   */
+  public List<ExprValue> rows() {
+    return rows.subList(frameStart, frameEnd);
+  }
+
+  @Override
+  public ExprValue current() {
+    return rows.get(position);
+  }
+
+  @Override
+  public boolean isNewPartition() {
+    return isNewPartition;
+  }
+
+  /**
+   * Move to next row and load rows ahead until frame end of the row determined, then slide
+   * the frame. A new partition begins if next row is in different partition.
+   * @param it  rows iterator
+   */
+  @Override
+  public void load(PeekingIterator<ExprValue> it) {
+    if (hasNext()) {
+      isNewPartition = false;
+    } else {
+      ExprValue next = it.next();
+      isNewPartition = !resolve(windowDefinition.getPartitionByList(), next).equals(partition);
+      if (isNewPartition) {
+        reset(next);
+      } else {
+        rows.add(next);
+      }
+    }
+
+    position++;
+    currentKey = resolve(sortFields, current());
+    long end = findFrameEnd(it);
+    long start = findFrameStart();
+    slide(start, end);
+
+    long firstNeeded = Math.min(position, frameEnd);
+    if (frame.getStart().getType() != UNBOUNDED_PRECEDING) {
+      firstNeeded = Math.min(firstNeeded, frameStart);
+    }
+    rows.removeBefore(firstNeeded);
+  }
+
+  private void reset(ExprValue first) {
+    rows.clear();
+    rows.add(first);
+    partition = resolve(windowDefinition.getPartitionByList(), first);
+    position = -1;
+    frameStart = frameEnd = 0;
+    iteratedStart = iteratedEnd = 0;
+  }
+
+  /**
+   * Find rows entering and leaving the frame by comparing the new frame with the rows iterated.
+   */
+  private void slide(long start, long end) {
+    leaving = rows.subList(iteratedStart, Math.min(start, iteratedEnd));
+    iteratedStart = Math.max(iteratedStart, start);
+    iteratedEnd = Math.max(iteratedEnd, iteratedStart);
+    entering = rows.subList(iteratedEnd, end);
+    iteratedEnd = Math.max(iteratedEnd, end);
+    frameStart = start;
+    frameEnd = end;
+  }
+
+  private long findFrameStart() {
+    FrameBound bound = frame.getStart();
+    if (bound.getType() == UNBOUNDED_PRECEDING) {
+      return 0L;
+    }
+
+    if (frame.getType() == FrameType.ROWS) {
+      return Math.max(0L, position + signedOffset(bound));
+    }
+
+    long start = frameStart;
+    while (start < rows.end() && compareToCurrent(start, bound) < 0) {
+      start++;
+    }
+    return start;
+  }
+
+  private long findFrameEnd(PeekingIterator<ExprValue> it) {
+    FrameBound bound = frame.getEnd();
+    if (bound.getType() == UNBOUNDED_FOLLOWING) {
+      loadUntil(it, Long.MAX_VALUE);
+      return rows.end();
+    }
+
+    if (frame.getType() == FrameType.ROWS) {
+      long end = Math.max(0L, position + 1 + signedOffset(bound));
+      loadUntil(it, end);
+      return Math.min(end, rows.end());
+    }
+
+    long end = frameEnd;
+    loadUntil(it, end + 1);
+    while (end < rows.end() && compareToCurrent(end, bound) <= 0) {
+      end++;
+      loadUntil(it, end + 1);
+    }
+    return end;
+  }
+
+  /**
+   * Load rows of the same partition until the end of rows buffered reaches the end given.
+   */
+  private void loadUntil(PeekingIterator<ExprValue> it, long end) {
+    while (rows.end() < end && it.hasNext()
+        && resolve(windowDefinition.getPartitionByList(), it.peek()).equals(partition)) {
+      rows.add(it.next());
+    }
+  }
+
+  /**
+   * Compare row at the index with the bound of RANGE frame relative to current row.
+   * Because rows are sorted by the sort key, rows with null key is grouped either before or
+   * after all others, and null is only in the range of current row with null key.
+   *
+   * @return negative if before the bound, positive if after, otherwise 0 (in the range)
+   */
+  private int compareToCurrent(long index, FrameBound bound) {
+    List<ExprValue> key = resolve(sortFields, rows.get(index));
+    if (key.equals(currentKey)) {
+      return Long.signum(-signedOffset(bound));
+    }
+
+    int direction = Long.compare(index, position);
+    if (bound.getType() == CURRENT_ROW) {
+      return direction;
+    }
+
+    ExprValue value = key.get(0);
+    ExprValue current = currentKey.get(0);
+    if (value.isNull() || value.isMissing() || current.isNull() || current.isMissing()) {
+      return direction;
+    }
+
+    SortOption option = windowDefinition.getSortList().get(0).getLeft();
+    double diff = value.doubleValue() - current.doubleValue();
+    if (option.getSortOrder() == DESC) {
+      diff = -diff;
+    }
+    return Double.compare(diff, signedOffset(bound));
+  }
+
+  private long signedOffset(FrameBound bound) {
+    switch (bound.getType()) {
+      case PRECEDING:
+        return -bound.getOffset();
+      case FOLLOWING:
+        return bound.getOffset();
+      default:
+        return 0L;
+    }
+  }
+
+  private List<ExprValue> resolve(List<Expression> expressions, ExprValue row) {
+    Environment<Expression, ExprValue> valueEnv = row.bindingTuples();
+    return expressions.stream()
+                      .map(expr -> expr.valueOf(valueEnv))
+                      .collect(Collectors.toList());
+  }
+
+  /**
+   * Ring buffer of rows indexed by position in partition. Rows are appended at the end
+   * and removed from the beginning only, so the memory used is bounded by frame size.
+   */
+  private static class RowBuffer {
+    private ExprValue[] elements = new ExprValue[16];
+
+    /**
+     * Index in elements of the first row.
+     */
+    private int head;
+
+    private int size;
+
+    /**
+     * Position in partition of the first row.
+     */
+    private long first;
+
+    long end() {
+      return first + size;
+    }
+
+    ExprValue get(long index) {
+      return elements[(head + (int) (index - first)) & (elements.length - 1)];
+    }
+
+    void add(ExprValue row) {
+      if (size == elements.length) {
+        ExprValue[] grown = new ExprValue[elements.length * 2];
+        for (int i = 0; i < size; i++) {
+          grown[i] = elements[(head + i) & (elements.length - 1)];
+        }
+        elements = grown;
+        head = 0;
+      }
+      elements[(head + size) & (elements.length - 1)] = row;
+      size++;
+    }
+
+    void removeBefore(long index) {
+      while (first < index) {
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        first++;
+        size--;
+      }
+    }
+
+    void clear() {
+      removeBefore(end());
+      first = 0L;
+    }
+
+    List<ExprValue> subList(long from, long to) {
+      List<ExprValue> result = new ArrayList<>();
+      for (long i = from; i < to; i++) {
+        result.add(get(i));
+      }
+      return result;
+    }
+  }
+
+}
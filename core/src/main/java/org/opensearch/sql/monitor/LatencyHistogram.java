@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.monitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram in the same bucketing scheme as HDR histogram. Latency is recorded
+ * in microseconds into log-linear buckets, i.e. each power of 2 range is divided into
+ * {@link #SUB_BUCKETS} linear sub-buckets, so that the percentile reported is within about 6% of
+ * the actual latency with a fixed small memory footprint. Recording is a few atomic increments
+ * and thus cheap enough to be done for every query.
+ */
+public class LatencyHistogram {
+
+  /**
+   * Number of linear sub-buckets of each power of 2 range. Must be power of 2.
+   */
+  static final int SUB_BUCKETS = 16;
+
+  private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+  /**
+   * Exponent of the highest power of 2 range tracked, which is up to about 38 hours in micros.
+   * Latency beyond is counted in the last bucket.
+   */
+  private static final int MAX_EXPONENT = 36;
+
+  private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+  private final LongAdder count = new LongAdder();
+
+  private final LongAdder sum = new LongAdder();
+
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Record latency.
+   *
+   * @param nanos latency in nanoseconds
+   */
+  public void record(long nanos) {
+    long micros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+    buckets.incrementAndGet(bucketIndex(micros));
+    count.increment();
+    sum.add(micros);
+    max.accumulateAndGet(micros, Math::max);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Get the latency at the percentile given, which is the highest latency in the bucket of it
+   * but no more than the max latency recorded.
+   *
+   * @param percentile percentile in (0, 100]
+   * @return latency in microseconds, or 0 if nothing recorded
+   */
+  public long percentile(double percentile) {
+    long total = 0L;
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+
+    long rank = (long) Math.ceil(percentile / 100.0 * total);
+    long seen = 0L;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts[i];
+      if (counts[i] > 0 && seen >= rank) {
+        long highest = (i == BUCKET_COUNT - 1) ? Long.MAX_VALUE : highestValueOf(i);
+        return Math.min(highest, max.get());
+      }
+    }
+    return 0L;
+  }
+
+  /**
+   * Snapshot of the histogram with latency in milliseconds.
+   *
+   * @return count, mean, max and percentiles
+   */
+  public Map<String, Object> snapshot() {
+    long total = getCount();
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("count", total);
+    snapshot.put("mean_ms", (total == 0) ? 0.0 : toMillis(sum.sum() / (double) total));
+    snapshot.put("p50_ms", toMillis(percentile(50)));
+    snapshot.put("p90_ms", toMillis(percentile(90)));
+    snapshot.put("p99_ms", toMillis(percentile(99)));
+    snapshot.put("max_ms", toMillis(max.get()));
+    return snapshot;
+  }
+
+  /**
+   * Values below {@link #SUB_BUCKETS} have their own bucket. Otherwise, the value is in the
+   * power of 2 range of its highest bit, and the sub-bucket by the next bits below.
+   */
+  static int bucketIndex(long micros) {
+    if (micros < SUB_BUCKETS) {
+      return (int) micros;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(micros);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int shift = exponent - SUB_BUCKET_BITS;
+    int subBucket = (int) (micros >>> shift) & (SUB_BUCKETS - 1);
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * Highest value in the bucket, which is the inverse of {@link #bucketIndex(long)}.
+   */
+  static long highestValueOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  private static double toMillis(double micros) {
+    return Math.round(micros) / 1000.0;
+  }
+}
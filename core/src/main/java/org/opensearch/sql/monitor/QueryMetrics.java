@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.monitor;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latency histogram of each query stage for all the queries processed on this node.
+ */
+public class QueryMetrics {
+
+  private static final QueryMetrics INSTANCE = new QueryMetrics();
+
+  private final Map<QueryStage, LatencyHistogram> histograms = new EnumMap<>(QueryStage.class);
+
+  QueryMetrics() {
+    for (QueryStage stage : QueryStage.values()) {
+      histograms.put(stage, new LatencyHistogram());
+    }
+  }
+
+  public static QueryMetrics getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Record latency of the query stage.
+   *
+   * @param stage query stage
+   * @param nanos latency in nanoseconds
+   */
+  public void record(QueryStage stage, long nanos) {
+    histograms.get(stage).record(nanos);
+  }
+
+  public LatencyHistogram getHistogram(QueryStage stage) {
+    return histograms.get(stage);
+  }
+
+  /**
+   * Snapshot of the latency histogram of all query stages.
+   *
+   * @return histogram snapshot by stage name
+   */
+  public Map<String, Object> snapshot() {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    histograms.forEach((stage, histogram) -> snapshot.put(stage.getName(), histogram.snapshot()));
+    return snapshot;
+  }
+}
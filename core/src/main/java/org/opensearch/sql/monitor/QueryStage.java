@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.monitor;
+
+import java.util.Locale;
+
+/**
+ * Stage of query processing which latency is measured.
+ */
+public enum QueryStage {
+  /**
+   * Parse query string into AST.
+   */
+  PARSE,
+
+  /**
+   * Analyze AST into logical plan.
+   */
+  ANALYZE,
+
+  /**
+   * Optimize logical plan and implement it as physical plan.
+   */
+  PLAN,
+
+  /**
+   * Execute physical plan until the last row produced, including the response formatting
+   * which is done along with execution if streamed.
+   */
+  EXECUTE,
+
+  /**
+   * Round-trip of a single search request to OpenSearch.
+   */
+  OPENSEARCH,
+
+  /**
+   * Format query result as response.
+   */
+  FORMAT;
+
+  public String getName() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+}
@@ -17,4 +17,14 @@ public abstract class ResourceMonitor {
    * @return true for healthy, otherwise false.
    */
   public abstract boolean isHealthy();
+
+  /**
+   * Estimated memory in bytes that a single blocking operator, e.g. sort, may buffer before
+   * spilling to local disk.
+   *
+   * @return memory budget in bytes, unlimited by default
+   */
+  public long getOperatorMemoryBudget() {
+    return Long.MAX_VALUE;
+  }
 }
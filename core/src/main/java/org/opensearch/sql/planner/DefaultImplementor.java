@@ -6,10 +6,17 @@
 
 package org.opensearch.sql.planner;
 
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalEval;
 import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalJoin;
 import org.opensearch.sql.planner.logical.LogicalLimit;
 import org.opensearch.sql.planner.logical.LogicalNested;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -26,6 +33,7 @@ import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -82,7 +90,7 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
   public PhysicalPlan visitWindow(LogicalWindow node, C context) {
     return new WindowOperator(
         visitChild(node, context),
-        node.getWindowFunction(),
+        node.getWindowFunctions(),
         node.getWindowDefinition());
   }
 
@@ -103,6 +111,14 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitSort(LogicalSort node, C context) {
+    LogicalPlan child = node.getChild().get(0);
+    if (child instanceof LogicalAggregation
+        && isSortedByGroupKey(node.getSortList(), (LogicalAggregation) child)) {
+      // Aggregation sorts its results by group key, so no separate sort is needed
+      LogicalAggregation aggregation = (LogicalAggregation) child;
+      return new AggregationOperator(visitChild(aggregation, context),
+          aggregation.getAggregatorList(), aggregation.getGroupByList(), Long.MAX_VALUE, true);
+    }
     return new SortOperator(visitChild(node, context), node.getSortList());
   }
 
@@ -122,6 +138,16 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return new FilterOperator(visitChild(node, context), node.getCondition());
   }
 
+  @Override
+  public PhysicalPlan visitJoin(LogicalJoin node, C context) {
+    return new HashJoinOperator(
+        node.getChild().get(0).accept(this, context),
+        node.getChild().get(1).accept(this, context),
+        node.getJoinType(),
+        node.getLeftKeys(),
+        node.getRightKeys());
+  }
+
   @Override
   public PhysicalPlan visitValues(LogicalValues node, C context) {
     return new ValuesOperator(node.getValues());
@@ -129,6 +155,17 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitLimit(LogicalLimit node, C context) {
+    LogicalPlan child = node.getChild().get(0);
+    if (child instanceof LogicalSort) {
+      // Only the first offset + limit sorted rows are consumed, so sort keeps top K rows only.
+      // The sum saturates instead of overflowing, and memory budget is the same as a full sort
+      LogicalSort sort = (LogicalSort) child;
+      int topK = (int) Math.min((long) node.getLimit() + node.getOffset(), Integer.MAX_VALUE);
+      return new LimitOperator(
+          new SortOperator(visitChild(sort, context), sort.getSortList(), topK),
+          node.getLimit(),
+          node.getOffset());
+    }
     return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
   }
 
@@ -148,6 +185,28 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
         + "implementing and optimizing logical plan with relation involved");
   }
 
+  /**
+   * Sort list is the same order as aggregation results sorted by group key if it's ascending
+   * with null first by the leading group by expressions.
+   */
+  private boolean isSortedByGroupKey(List<Pair<SortOption, Expression>> sortList,
+                                     LogicalAggregation aggregation) {
+    List<NamedExpression> groupByList = aggregation.getGroupByList();
+    if (sortList.size() > groupByList.size()) {
+      return false;
+    }
+    for (int i = 0; i < sortList.size(); i++) {
+      Pair<SortOption, Expression> sortItem = sortList.get(i);
+      if (!SortOption.DEFAULT_ASC.equals(sortItem.getLeft())
+          || !(sortItem.getRight() instanceof ReferenceExpression)
+          || !((ReferenceExpression) sortItem.getRight()).getAttr()
+              .equals(groupByList.get(i).getNameOrAlias())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   protected PhysicalPlan visitChild(LogicalPlan node, C context) {
     // Logical operators visited here must have a single child
     return node.getChild().get(0).accept(this, context);
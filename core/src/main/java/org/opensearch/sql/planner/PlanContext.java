@@ -7,6 +7,8 @@ package org.opensearch.sql.planner;
 
 import java.util.Optional;
 import lombok.Getter;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.executor.QueryProfile;
 import org.opensearch.sql.storage.split.Split;
 
 /**
@@ -17,15 +19,38 @@ public class PlanContext {
   @Getter
   private final Optional<Split> split;
 
+  /**
+   * Cancellation token of the query planned.
+   */
+  @Getter
+  private final CancellationToken cancellationToken;
+
+  /**
+   * Profile of the query planned.
+   */
+  @Getter
+  private final QueryProfile profile;
+
   public PlanContext(Split split) {
-    this.split = Optional.of(split);
+    this(Optional.of(split), new CancellationToken(), new QueryProfile());
+  }
+
+  public PlanContext(CancellationToken cancellationToken) {
+    this(cancellationToken, new QueryProfile());
+  }
+
+  public PlanContext(CancellationToken cancellationToken, QueryProfile profile) {
+    this(Optional.empty(), cancellationToken, profile);
   }
 
-  private PlanContext(Optional<Split> split) {
+  private PlanContext(Optional<Split> split, CancellationToken cancellationToken,
+                      QueryProfile profile) {
     this.split = split;
+    this.cancellationToken = cancellationToken;
+    this.profile = profile;
   }
 
   public static PlanContext emptyPlanContext() {
-    return new PlanContext(Optional.empty());
+    return new PlanContext(Optional.empty(), new CancellationToken(), new QueryProfile());
   }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.logical;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Logical equi-join of two inputs. Rows are joined if the key expressions evaluated on left row
+ * are equal to the ones evaluated on right row pairwise.
+ *
+ * <p>Note that neither SQL nor PPL grammar has join syntax in the new engine, so the analyzer
+ * doesn't build this node yet and join queries still fall back to the legacy engine.</p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class LogicalJoin extends LogicalPlan {
+
+  /**
+   * Join type supported.
+   */
+  public enum JoinType {
+    /** Only rows matched on both sides are returned. */
+    INNER,
+    /** Rows of left side are returned even if not matched by any row of right side. */
+    LEFT
+  }
+
+  private final JoinType joinType;
+  private final List<Expression> leftKeys;
+  private final List<Expression> rightKeys;
+
+  /**
+   * Constructor of LogicalJoin.
+   */
+  public LogicalJoin(LogicalPlan left, LogicalPlan right, JoinType joinType,
+                     List<Expression> leftKeys, List<Expression> rightKeys) {
+    super(Arrays.asList(left, right));
+    if (leftKeys.isEmpty() || leftKeys.size() != rightKeys.size()) {
+      throw new IllegalArgumentException(String.format(
+          "Join keys %s and %s must be non-empty and of the same size", leftKeys, rightKeys));
+    }
+    this.joinType = joinType;
+    this.leftKeys = leftKeys;
+    this.rightKeys = rightKeys;
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitJoin(this, context);
+  }
+}
@@ -69,6 +69,12 @@ public class LogicalPlanDSL {
     return new LogicalWindow(input, windowFunction, windowDefinition);
   }
 
+  public LogicalPlan window(LogicalPlan input,
+                            List<NamedExpression> windowFunctions,
+                            WindowDefinition windowDefinition) {
+    return new LogicalWindow(input, windowFunctions, windowDefinition);
+  }
+
   public LogicalPlan highlight(LogicalPlan input, Expression field,
       Map<String, Literal> arguments) {
     return new LogicalHighlight(input, field, arguments);
@@ -128,4 +134,10 @@ public class LogicalPlanDSL {
     return new LogicalLimit(input, limit, offset);
   }
 
+  public static LogicalPlan join(LogicalPlan left, LogicalPlan right,
+                                 LogicalJoin.JoinType joinType,
+                                 List<Expression> leftKeys, List<Expression> rightKeys) {
+    return new LogicalJoin(left, right, joinType, leftKeys, rightKeys);
+  }
+
 }
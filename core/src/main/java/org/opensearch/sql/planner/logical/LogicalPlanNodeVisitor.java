@@ -85,6 +85,10 @@ public abstract class LogicalPlanNodeVisitor<R, C> {
     return visitNode(plan, context);
   }
 
+  public R visitJoin(LogicalJoin plan, C context) {
+    return visitNode(plan, context);
+  }
+
   public R visitRareTopN(LogicalRareTopN plan, C context) {
     return visitNode(plan, context);
   }
@@ -7,6 +7,7 @@
 package org.opensearch.sql.planner.logical;
 
 import java.util.Collections;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -16,13 +17,14 @@ import org.opensearch.sql.expression.window.WindowDefinition;
 /**
  * Logical operator for window function generated from project list. Logically, each window operator
  * has to work with a Sort operator to ensure input data is sorted as required by window definition.
- * However, the Sort operator may be removed after logical optimization.
+ * However, the Sort operator may be removed after logical optimization. Window functions with
+ * the same window definition share one window operator and are evaluated in a single pass.
  */
 @EqualsAndHashCode(callSuper = true)
 @Getter
 @ToString
 public class LogicalWindow extends LogicalPlan {
-  private final NamedExpression windowFunction;
+  private final List<NamedExpression> windowFunctions;
   private final WindowDefinition windowDefinition;
 
   /**
@@ -30,13 +32,20 @@ public class LogicalWindow extends LogicalPlan {
    */
   public LogicalWindow(
       LogicalPlan child,
-      NamedExpression windowFunction,
+      List<NamedExpression> windowFunctions,
       WindowDefinition windowDefinition) {
     super(Collections.singletonList(child));
-    this.windowFunction = windowFunction;
+    this.windowFunctions = windowFunctions;
     this.windowDefinition = windowDefinition;
   }
 
+  public LogicalWindow(
+      LogicalPlan child,
+      NamedExpression windowFunction,
+      WindowDefinition windowDefinition) {
+    this(child, Collections.singletonList(windowFunction), windowDefinition);
+  }
+
   @Override
   public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitWindow(this, context);
@@ -6,6 +6,8 @@
 
 package org.opensearch.sql.planner.physical;
 
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -13,21 +15,47 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.CancellationToken;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.span.SpanExpression;
 import org.opensearch.sql.planner.physical.collector.Collector;
+import org.opensearch.sql.planner.physical.collector.HashCollector;
+import org.opensearch.sql.planner.physical.collector.HashCollector.GroupKey;
+import org.opensearch.sql.planner.physical.spill.MergeIterator;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Group the all the input {@link BindingTuple} by {@link AggregationOperator#groupByExprList},
  * calculate the aggregation result by using {@link AggregationOperator#aggregatorList}.
+ *
+ * <p>Results are ordered by group key only if {@link AggregationOperator#sortOutput} is set,
+ * which is required by span buckets or a sort by group key that is merged into aggregation.
+ * Otherwise, results are returned in hash table order.</p>
+ *
+ * <p>Once the estimated size of the group hash table reaches
+ * {@link AggregationOperator#memoryBudget}, no more group is created in memory. Rows of new
+ * groups are spilled to partition files by hash of group key instead, and each partition is
+ * aggregated in turn after the input is drained. Unsorted results of in-memory groups and
+ * partitions are simply concatenated. If sorted, the results of partitions are spilled as sorted
+ * runs and merged with the in-memory results by group key at the end.</p>
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
 public class AggregationOperator extends PhysicalPlan {
+  /**
+   * Number of partitions that rows are spilled to. Must be power of 2.
+   */
+  private static final int SPILL_PARTITIONS = 16;
+
+  /**
+   * Maximum times of partitioning. Partition beyond is aggregated in memory regardless of budget.
+   */
+  private static final int MAX_SPILL_DEPTH = 4;
+
   @Getter
   private final PhysicalPlan input;
   @Getter
@@ -36,12 +64,39 @@ public class AggregationOperator extends PhysicalPlan {
   private final List<NamedExpression> groupByExprList;
 
   /**
-   * {@link BindingTuple} Collector.
+   * Whether results are required to be ordered by group key.
+   */
+  @Getter
+  private final boolean sortOutput;
+
+  /**
+   * Estimated size in bytes of group hash table before spilling rows to disk.
    */
+  @Getter
+  @ToString.Exclude
   @EqualsAndHashCode.Exclude
-  private final Collector collector;
+  private final long memoryBudget;
+
+  /**
+   * Peak estimated size in bytes of group hash table, which is reported by explain analyze.
+   */
+  @Getter
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private long peakMemory = 0L;
+
   @EqualsAndHashCode.Exclude
   private Iterator<ExprValue> iterator;
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final List<SpillFile> spillFiles = new ArrayList<>();
+
+  /**
+   * Cancellation token checked for each input row drained on open.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private CancellationToken cancellationToken = new CancellationToken();
 
   /**
    * AggregationOperator Constructor.
@@ -52,10 +107,48 @@ public class AggregationOperator extends PhysicalPlan {
    */
   public AggregationOperator(PhysicalPlan input, List<NamedAggregator> aggregatorList,
                              List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, Long.MAX_VALUE);
+  }
+
+  /**
+   * AggregationOperator Constructor. Results are sorted only if grouped by span.
+   *
+   * @param input           Input {@link PhysicalPlan}
+   * @param aggregatorList  List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryBudget    estimated size in bytes of groups in memory before spilling
+   */
+  public AggregationOperator(PhysicalPlan input, List<NamedAggregator> aggregatorList,
+                             List<NamedExpression> groupByExprList, long memoryBudget) {
+    this(input, aggregatorList, groupByExprList, memoryBudget, false);
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input           Input {@link PhysicalPlan}
+   * @param aggregatorList  List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryBudget    estimated size in bytes of groups in memory before spilling
+   * @param sortOutput      whether results are required to be ordered by group key, which is
+   *                        always true if grouped by span
+   */
+  public AggregationOperator(PhysicalPlan input, List<NamedAggregator> aggregatorList,
+                             List<NamedExpression> groupByExprList, long memoryBudget,
+                             boolean sortOutput) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
-    this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
+    this.memoryBudget = memoryBudget;
+    this.sortOutput = sortOutput || isGroupedBySpan(groupByExprList);
+  }
+
+  /**
+   * Span buckets are always returned in order, the same as bucket aggregation pushed down.
+   */
+  private static boolean isGroupedBySpan(List<NamedExpression> groupByExprList) {
+    return groupByExprList.stream()
+        .anyMatch(groupBy -> groupBy.getDelegated() instanceof SpanExpression);
   }
 
   @Override
@@ -79,12 +172,95 @@ public class AggregationOperator extends PhysicalPlan {
     return iterator.next();
   }
 
+  @Override
+  public void setCancellationToken(CancellationToken token) {
+    super.setCancellationToken(token);
+    this.cancellationToken = token;
+  }
+
   @Override
   public void open() {
     super.open();
-    while (input.hasNext()) {
-      collector.collect(input.next().bindingTuples());
+    iterator = aggregate(input, 0);
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    spillFiles.forEach(SpillFile::close);
+    spillFiles.clear();
+  }
+
+  private Iterator<ExprValue> aggregate(Iterator<ExprValue> rows, int depth) {
+    HashCollector collector = Collector.Builder.build(groupByExprList, aggregatorList);
+    List<SpillFile> partitions = Collections.emptyList();
+    while (rows.hasNext()) {
+      cancellationToken.throwIfCancelled();
+      ExprValue row = rows.next();
+      BindingTuple tuple = row.bindingTuples();
+      GroupKey key = collector.groupKey(tuple);
+      if (collector.collectExisting(key, tuple)) {
+        continue;
+      }
+
+      if (partitions.isEmpty()
+          && (collector.getEstimatedSize() < memoryBudget || depth >= MAX_SPILL_DEPTH)) {
+        collector.collect(key, tuple);
+      } else {
+        if (partitions.isEmpty()) {
+          partitions = createPartitions();
+        }
+        partitions.get(partition(key, depth)).write(row);
+      }
     }
-    iterator = collector.results().iterator();
+    peakMemory = Math.max(peakMemory, collector.getEstimatedSize());
+
+    Iterator<ExprValue> results = collector.results(sortOutput).iterator();
+    if (partitions.isEmpty()) {
+      return results;
+    }
+
+    if (!sortOutput) {
+      // Each partition is aggregated only after the results before it are consumed
+      return Iterators.concat(results, Iterators.concat(Iterators.transform(
+          partitions.iterator(), partition -> aggregate(partition.read(), depth + 1))));
+    }
+
+    // In-memory results are merged as is. Results of partitions are spilled as sorted runs
+    // because all of them are needed at the same time for merging.
+    List<Iterator<ExprValue>> runs = new ArrayList<>();
+    runs.add(results);
+    for (SpillFile partition : partitions) {
+      runs.add(spill(aggregate(partition.read(), depth + 1)));
+      partition.close();
+    }
+    return new MergeIterator(runs, collector.resultComparator());
+  }
+
+  private List<SpillFile> createPartitions() {
+    List<SpillFile> partitions = new ArrayList<>(SPILL_PARTITIONS);
+    for (int i = 0; i < SPILL_PARTITIONS; i++) {
+      SpillFile partition = SpillFile.create("sql-agg-");
+      spillFiles.add(partition);
+      partitions.add(partition);
+    }
+    return partitions;
+  }
+
+  /**
+   * Use different bits of the spread hash code at each depth, so that a partition spilled
+   * again is split into different partitions.
+   */
+  private int partition(GroupKey key, int depth) {
+    int hash = key.hashCode();
+    hash ^= (hash >>> 16);
+    return (hash >>> (depth * 4)) & (SPILL_PARTITIONS - 1);
+  }
+
+  private Iterator<ExprValue> spill(Iterator<ExprValue> results) {
+    SpillFile file = SpillFile.create("sql-agg-");
+    spillFiles.add(file);
+    results.forEachRemaining(file::write);
+    return file.read();
   }
 }
@@ -16,6 +16,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.env.Environment;
@@ -46,6 +48,14 @@ public class EvalOperator extends PhysicalPlan {
   @Getter
   private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  /**
+   * Output schema and slots of evaluated fields for the row schema of input seen last time.
+   * Row backed input of the same operator shares the same schema, so this is computed once.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private RowBinding rowBinding;
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -63,7 +73,23 @@ public class EvalOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return evaluate(input.next());
+  }
+
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = input.nextBatch(maxSize);
+    for (int i = 0; i < batch.size(); i++) {
+      batch.set(i, evaluate(batch.get(i)));
+    }
+    return batch;
+  }
+
+  private ExprValue evaluate(ExprValue inputValue) {
+    if (ExprTupleValue.rowSchemaOf(inputValue) != null) {
+      return evalRow((ExprTupleValue) inputValue);
+    }
+
     Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
 
     if (STRUCT == inputValue.type()) {
@@ -84,6 +110,29 @@ public class EvalOperator extends PhysicalPlan {
     }
   }
 
+  /**
+   * Evaluate row backed input into a row of the input schema extended by evaluated fields, which
+   * replace the input field of the same name in place.
+   */
+  private ExprValue evalRow(ExprTupleValue inputValue) {
+    RowSchema inputSchema = inputValue.getRowSchema();
+    RowBinding binding = rowBinding;
+    if (binding == null || binding.inputSchema != inputSchema) {
+      binding = new RowBinding(inputSchema);
+      rowBinding = binding;
+    }
+
+    ExprValue[] row = inputValue.copyRowValues(binding.outputSchema.size());
+    Environment<Expression, ExprValue> env = inputValue.bindingTuples();
+    for (int i = 0; i < expressionList.size(); i++) {
+      Pair<ReferenceExpression, Expression> pair = expressionList.get(i);
+      ExprValue value = pair.getValue().valueOf(env);
+      env = extendEnv(env, pair.getKey(), value);
+      row[binding.slots[i]] = value;
+    }
+    return ExprTupleValue.fromRow(binding.outputSchema, row);
+  }
+
   /**
    * Evaluate the expression in the {@link EvalOperator#expressionList} with {@link Environment}.
    * @param env {@link Environment}
@@ -99,4 +148,18 @@ public class EvalOperator extends PhysicalPlan {
     }
     return evalResultMap;
   }
+
+  private class RowBinding {
+    private final RowSchema inputSchema;
+    private final RowSchema outputSchema;
+    private final int[] slots;
+
+    RowBinding(RowSchema inputSchema) {
+      this.inputSchema = inputSchema;
+      this.outputSchema = inputSchema.extend(expressionList.stream()
+          .map(pair -> pair.getKey().toString()).collect(Collectors.toList()));
+      this.slots = expressionList.stream()
+          .mapToInt(pair -> outputSchema.slot(pair.getKey().toString())).toArray();
+    }
+  }
 }
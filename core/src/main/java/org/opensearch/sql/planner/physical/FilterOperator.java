@@ -7,12 +7,14 @@ package org.opensearch.sql.planner.physical;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -45,8 +47,7 @@ public class FilterOperator extends PhysicalPlan {
   public boolean hasNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      if (matches(inputValue)) {
         next = inputValue;
         return true;
       }
@@ -58,4 +59,34 @@ public class FilterOperator extends PhysicalPlan {
   public ExprValue next() {
     return next;
   }
+
+  /**
+   * Filter batch of input by selection without copying rows matched. Input batches are pulled
+   * until any row matched so that empty batch is returned only if input is exhausted.
+   */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = input.nextBatch(maxSize);
+    while (!batch.isEmpty()) {
+      batch.retainIf(this::matches);
+      if (!batch.isEmpty()) {
+        return batch;
+      }
+      batch = input.nextBatch(maxSize);
+    }
+    return batch;
+  }
+
+  /**
+   * Filters commute, so the filter pushed down is passed through to input.
+   */
+  @Override
+  public boolean pushDownTermsFilter(ReferenceExpression field, Set<ExprValue> values) {
+    return input.pushDownTermsFilter(field, values);
+  }
+
+  private boolean matches(ExprValue inputValue) {
+    ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
+    return !(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue());
+  }
 }
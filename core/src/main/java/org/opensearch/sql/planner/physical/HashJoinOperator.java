@@ -0,0 +1,342 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Join the rows of {@link HashJoinOperator#left} and {@link HashJoinOperator#right} whose join
+ * keys are equal. Right side is the build side loaded into a hash table by join key, and left
+ * side is the probe side streamed through it. Rows with null or missing key never match.
+ * The joined row has the columns of left row followed by those of right row, and a right column
+ * of the same name as a left column is qualified by {@link HashJoinOperator#RIGHT_QUALIFIER}
+ * instead of overwriting it. For left join, the left row not matched is returned with the columns
+ * of right side as NULL, which are the ones seen in build side rows and qualified the same way.
+ *
+ * <p>Once the estimated size of the hash table reaches {@link HashJoinOperator#memoryBudget},
+ * rows of both sides are spilled to partition files by hash of join key instead, and each pair
+ * of partitions is joined in turn.</p>
+ *
+ * <p>For inner join on single key of left column, the keys of build side are pushed down to the
+ * probe side before it is opened if the hash table fits in memory, e.g. as terms filter of index
+ * scan, so that only rows possible to match are fetched.</p>
+ *
+ * <p>The operator is only planned from {@link org.opensearch.sql.planner.logical.LogicalJoin}
+ * built by planner DSL for now, because the analyzer has no join support yet.</p>
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class HashJoinOperator extends PhysicalPlan {
+  /**
+   * Number of partitions that rows are spilled to. Must be power of 2.
+   */
+  private static final int SPILL_PARTITIONS = 16;
+
+  /**
+   * Maximum times of partitioning. Partition beyond is built in memory regardless of budget.
+   */
+  private static final int MAX_SPILL_DEPTH = 4;
+
+  /**
+   * Maximum number of build side keys pushed down to probe side, which is the default maximum
+   * number of terms in OpenSearch terms query.
+   */
+  static final int MAX_PUSH_DOWN_KEYS = 65536;
+
+  /**
+   * Prefix of right column name if left row has column of the same name.
+   */
+  static final String RIGHT_QUALIFIER = "right.";
+
+  @Getter
+  private final PhysicalPlan left;
+  @Getter
+  private final PhysicalPlan right;
+  @Getter
+  private final JoinType joinType;
+  @Getter
+  private final List<Expression> leftKeys;
+  @Getter
+  private final List<Expression> rightKeys;
+
+  /**
+   * Estimated size in bytes of build side hash table before spilling rows to disk.
+   */
+  @Getter
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final long memoryBudget;
+
+  /**
+   * Peak estimated size in bytes of build side hash table, which is reported by explain analyze.
+   */
+  @Getter
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private long peakMemory = 0L;
+
+  @EqualsAndHashCode.Exclude
+  private Iterator<ExprValue> iterator;
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final List<SpillFile> spillFiles = new ArrayList<>();
+
+  /**
+   * Column names of build side rows, which are NULL in left join row not matched.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final Set<String> rightColumns = new LinkedHashSet<>();
+
+  /**
+   * Cancellation token checked for each build side row loaded.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private CancellationToken cancellationToken = new CancellationToken();
+
+  /**
+   * HashJoinOperator Constructor.
+   *
+   * @param left      probe side {@link PhysicalPlan}
+   * @param right     build side {@link PhysicalPlan}
+   * @param joinType  join type
+   * @param leftKeys  join keys evaluated on left row
+   * @param rightKeys join keys evaluated on right row
+   */
+  public HashJoinOperator(PhysicalPlan left, PhysicalPlan right, JoinType joinType,
+                          List<Expression> leftKeys, List<Expression> rightKeys) {
+    this(left, right, joinType, leftKeys, rightKeys, Long.MAX_VALUE);
+  }
+
+  /**
+   * HashJoinOperator Constructor.
+   *
+   * @param left         probe side {@link PhysicalPlan}
+   * @param right        build side {@link PhysicalPlan}
+   * @param joinType     join type
+   * @param leftKeys     join keys evaluated on left row
+   * @param rightKeys    join keys evaluated on right row
+   * @param memoryBudget estimated size in bytes of build side in memory before spilling
+   */
+  public HashJoinOperator(PhysicalPlan left, PhysicalPlan right, JoinType joinType,
+                          List<Expression> leftKeys, List<Expression> rightKeys,
+                          long memoryBudget) {
+    this.left = left;
+    this.right = right;
+    this.joinType = joinType;
+    this.leftKeys = leftKeys;
+    this.rightKeys = rightKeys;
+    this.memoryBudget = memoryBudget;
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitHashJoin(this, context);
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Arrays.asList(left, right);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+
+  @Override
+  public void setCancellationToken(CancellationToken token) {
+    super.setCancellationToken(token);
+    this.cancellationToken = token;
+  }
+
+  /**
+   * Open and build the right side before opening the left side, so that the build side keys
+   * can be pushed down to the left side.
+   */
+  @Override
+  public void open() {
+    right.open();
+    HashTable table = build(right, 0);
+    if (table.partitions.isEmpty()) {
+      pushDownKeys(table.rows.keySet());
+    }
+    left.open();
+    iterator = probe(table, left, 0);
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    spillFiles.forEach(SpillFile::close);
+    spillFiles.clear();
+  }
+
+  private HashTable build(Iterator<ExprValue> rows, int depth) {
+    HashTable table = new HashTable();
+    long size = 0;
+    while (rows.hasNext()) {
+      cancellationToken.throwIfCancelled();
+      ExprValue row = rows.next();
+      if (joinType == JoinType.LEFT) {
+        rightColumns.addAll(row.tupleValue().keySet());
+      }
+      List<ExprValue> key = joinKey(row, rightKeys);
+      if (key == null) {
+        continue;
+      }
+
+      if (!table.partitions.isEmpty()) {
+        table.partitions.get(partition(key, depth)).write(row);
+        continue;
+      }
+      table.rows.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+      size += ExprValueSizeEstimator.estimate(row);
+      if (size >= memoryBudget && depth < MAX_SPILL_DEPTH) {
+        table.partitions = createPartitions();
+        table.rows.forEach((rowKey, matches) -> matches.forEach(
+            match -> table.partitions.get(partition(rowKey, depth)).write(match)));
+        table.rows.clear();
+      }
+    }
+    peakMemory = Math.max(peakMemory, size);
+    return table;
+  }
+
+  private Iterator<ExprValue> probe(HashTable table, Iterator<ExprValue> rows, int depth) {
+    if (table.partitions.isEmpty()) {
+      return Iterators.concat(Iterators.transform(rows, row -> join(row, table.rows)));
+    }
+
+    List<SpillFile> partitions = createPartitions();
+    rows.forEachRemaining(row -> {
+      List<ExprValue> key = joinKey(row, leftKeys);
+      if (key != null || joinType == JoinType.LEFT) {
+        partitions.get(partition(key, depth)).write(row);
+      }
+    });
+    return Iterators.concat(Iterators.transform(
+        IntStream.range(0, SPILL_PARTITIONS).iterator(),
+        i -> probe(build(table.partitions.get(i).read(), depth + 1),
+            partitions.get(i).read(), depth + 1)));
+  }
+
+  private Iterator<ExprValue> join(ExprValue row, Map<List<ExprValue>, List<ExprValue>> table) {
+    List<ExprValue> matches =
+        table.getOrDefault(joinKey(row, leftKeys), Collections.emptyList());
+    if (matches.isEmpty()) {
+      return (joinType == JoinType.LEFT)
+          ? Iterators.singletonIterator(withNullRightColumns(row)) : Collections.emptyIterator();
+    }
+    return Iterators.transform(matches.iterator(), match -> combine(row, match));
+  }
+
+  private ExprValue combine(ExprValue leftRow, ExprValue rightRow) {
+    Map<String, ExprValue> values = new LinkedHashMap<>(leftRow.tupleValue());
+    rightRow.tupleValue().forEach((column, value) ->
+        values.put(rightColumnName(leftRow, column), value));
+    return ExprTupleValue.fromExprValueMap(values);
+  }
+
+  private ExprValue withNullRightColumns(ExprValue leftRow) {
+    Map<String, ExprValue> values = new LinkedHashMap<>(leftRow.tupleValue());
+    rightColumns.forEach(column ->
+        values.put(rightColumnName(leftRow, column), ExprValueUtils.nullValue()));
+    return ExprTupleValue.fromExprValueMap(values);
+  }
+
+  private String rightColumnName(ExprValue leftRow, String column) {
+    return leftRow.tupleValue().containsKey(column) ? RIGHT_QUALIFIER + column : column;
+  }
+
+  /**
+   * Evaluate join key of the row.
+   *
+   * @return key values or null if any is null or missing
+   */
+  private List<ExprValue> joinKey(ExprValue row, List<Expression> keys) {
+    BindingTuple tuple = row.bindingTuples();
+    List<ExprValue> values = new ArrayList<>(keys.size());
+    for (Expression key : keys) {
+      ExprValue value = key.valueOf(tuple);
+      if (value.isNull() || value.isMissing()) {
+        return null;
+      }
+      values.add(value);
+    }
+    return values;
+  }
+
+  private void pushDownKeys(Set<List<ExprValue>> keys) {
+    if (joinType == JoinType.INNER
+        && leftKeys.size() == 1
+        && leftKeys.get(0) instanceof ReferenceExpression
+        && keys.size() <= MAX_PUSH_DOWN_KEYS) {
+      left.pushDownTermsFilter((ReferenceExpression) leftKeys.get(0),
+          keys.stream().map(key -> key.get(0)).collect(Collectors.toSet()));
+    }
+  }
+
+  private List<SpillFile> createPartitions() {
+    List<SpillFile> partitions = new ArrayList<>(SPILL_PARTITIONS);
+    for (int i = 0; i < SPILL_PARTITIONS; i++) {
+      SpillFile partition = SpillFile.create("sql-join-");
+      spillFiles.add(partition);
+      partitions.add(partition);
+    }
+    return partitions;
+  }
+
+  /**
+   * Use different bits of the spread hash code at each depth, so that a partition spilled
+   * again is split into different partitions. Left rows of null key go to the first partition.
+   */
+  private int partition(List<ExprValue> key, int depth) {
+    int hash = (key == null) ? 0 : key.hashCode();
+    hash ^= (hash >>> 16);
+    return (hash >>> (depth * 4)) & (SPILL_PARTITIONS - 1);
+  }
+
+  /**
+   * Build side rows grouped by join key in memory, or spilled to partitions if over budget.
+   */
+  private static class HashTable {
+    private final Map<List<ExprValue>, List<ExprValue>> rows = new HashMap<>();
+    private List<SpillFile> partitions = Collections.emptyList();
+  }
+}
@@ -40,7 +40,7 @@ public class LimitOperator extends PhysicalPlan {
     super.open();
 
     // skip the leading rows of offset size
-    while (input.hasNext() && count < offset) {
+    while (count < offset && input.hasNext()) {
       count++;
       input.next();
     }
@@ -48,7 +48,7 @@ public class LimitOperator extends PhysicalPlan {
 
   @Override
   public boolean hasNext() {
-    return input.hasNext() && count < offset + limit;
+    return input.hasNext() && count < (long) offset + limit;
   }
 
   @Override
@@ -57,6 +57,18 @@ public class LimitOperator extends PhysicalPlan {
     return input.next();
   }
 
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    // Computed in long because offset + limit may overflow int, e.g. unlimited with offset
+    long remaining = (long) offset + limit - count;
+    if (remaining <= 0) {
+      return RowBatch.of(ImmutableList.of());
+    }
+    RowBatch batch = input.nextBatch((int) Math.min(maxSize, remaining));
+    count += batch.size();
+    return batch;
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitLimit(this, context);
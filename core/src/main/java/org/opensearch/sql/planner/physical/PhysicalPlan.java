@@ -6,9 +6,14 @@
 
 package org.opensearch.sql.planner.physical;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.CancellationToken;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.planner.PlanNode;
 import org.opensearch.sql.storage.split.Split;
 
@@ -37,6 +42,47 @@ public abstract class PhysicalPlan implements PlanNode<PhysicalPlan>,
     getChild().forEach(PhysicalPlan::close);
   }
 
+  /**
+   * Get next batch of at most the given number of rows in batch mode, which is empty only if no
+   * more rows. By default, rows are pulled by {@link #hasNext()} and {@link #next()} one by one,
+   * and operators which can process a batch of rows at once override this to call nextBatch on
+   * their input. Caller can switch from row mode to batch mode as long as each hasNext() called
+   * is followed by next().
+   *
+   * @param maxSize maximum number of rows in the batch
+   * @return batch of rows
+   */
+  public RowBatch nextBatch(int maxSize) {
+    List<ExprValue> rows = new ArrayList<>();
+    while (rows.size() < maxSize && hasNext()) {
+      rows.add(next());
+    }
+    return RowBatch.of(rows);
+  }
+
+  /**
+   * Push down filter of the field on the values given before open, e.g. the keys of hash join
+   * build side known only at runtime. This is a hint to reduce the rows produced, and operators
+   * which can apply it efficiently or pass it through to their input override this.
+   *
+   * @param field  field to filter on
+   * @param values values accepted
+   * @return true if the filter is applied, otherwise all rows are produced as usual
+   */
+  public boolean pushDownTermsFilter(ReferenceExpression field, Set<ExprValue> values) {
+    return false;
+  }
+
+  /**
+   * Set cancellation token of the query before open. Operators which drain their input on open
+   * check it in the loop, so that a cancelled query stops before the whole input is consumed.
+   *
+   * @param token cancellation token
+   */
+  public void setCancellationToken(CancellationToken token) {
+    getChild().forEach(child -> child.setCancellationToken(token));
+  }
+
   public void add(Split split) {
     getChild().forEach(child -> child.add(split));
   }
@@ -22,6 +22,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 
 /**
  * Physical Plan DSL.
@@ -86,6 +87,12 @@ public class PhysicalPlanDSL {
     return new WindowOperator(input, windowFunction, windowDefinition);
   }
 
+  public WindowOperator window(PhysicalPlan input,
+                               List<NamedExpression> windowFunctions,
+                               WindowDefinition windowDefinition) {
+    return new WindowOperator(input, windowFunctions, windowDefinition);
+  }
+
   public static RareTopNOperator rareTopN(PhysicalPlan input, CommandType commandType,
                                           List<Expression> groups, Expression... expressions) {
     return new RareTopNOperator(input, commandType, Arrays.asList(expressions), groups);
@@ -107,6 +114,13 @@ public class PhysicalPlanDSL {
     return new LimitOperator(input, limit, offset);
   }
 
+  public static HashJoinOperator hashJoin(PhysicalPlan left, PhysicalPlan right,
+                                          JoinType joinType,
+                                          List<Expression> leftKeys,
+                                          List<Expression> rightKeys) {
+    return new HashJoinOperator(left, right, joinType, leftKeys, rightKeys);
+  }
+
   public static NestedOperator nested(
       PhysicalPlan input,
       Set<String> args,
@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.List;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryProfile.OperatorProfile;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.storage.split.Split;
+
+/**
+ * A PhysicalPlan which counts the rows produced and time spent by the delegate plan. Time
+ * includes that of the children of the delegate plan. It is transparent to the visitor because
+ * {@link #accept} is delegated.
+ */
+@ToString
+@RequiredArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class ProfilePlan extends PhysicalPlan {
+
+  /**
+   * Delegated PhysicalPlan.
+   */
+  private final PhysicalPlan delegate;
+
+  /**
+   * Counters of the delegate plan.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final OperatorProfile profile;
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return delegate.accept(visitor, context);
+  }
+
+  @Override
+  public void open() {
+    long start = System.nanoTime();
+    delegate.open();
+    profile.add(0, System.nanoTime() - start);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public void setCancellationToken(CancellationToken token) {
+    delegate.setCancellationToken(token);
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return delegate.getChild();
+  }
+
+  @Override
+  public boolean hasNext() {
+    long start = System.nanoTime();
+    boolean hasNext = delegate.hasNext();
+    profile.add(0, System.nanoTime() - start);
+    return hasNext;
+  }
+
+  @Override
+  public ExprValue next() {
+    long start = System.nanoTime();
+    ExprValue next = delegate.next();
+    profile.add(1, System.nanoTime() - start);
+    return next;
+  }
+
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    long start = System.nanoTime();
+    RowBatch batch = delegate.nextBatch(maxSize);
+    profile.add(batch.size(), System.nanoTime() - start);
+    return batch;
+  }
+
+  @Override
+  public boolean pushDownTermsFilter(ReferenceExpression field, Set<ExprValue> values) {
+    return delegate.pushDownTermsFilter(field, values);
+  }
+
+  @Override
+  public void add(Split split) {
+    delegate.add(split);
+  }
+
+  @Override
+  public ExecutionEngine.Schema schema() {
+    return delegate.schema();
+  }
+}
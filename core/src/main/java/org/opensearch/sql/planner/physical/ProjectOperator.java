@@ -14,21 +14,21 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Project the fields specified in {@link ProjectOperator#projectList} from input.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@RequiredArgsConstructor
 public class ProjectOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
@@ -37,6 +37,44 @@ public class ProjectOperator extends PhysicalPlan {
   @Getter
   private final List<NamedExpression> namedParseExpressions;
 
+  /**
+   * Parse expression overriding the project expression in the same position if any.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final NamedExpression[] parseExpressions;
+
+  /**
+   * Schema of output row, which is empty if any name in project list is duplicate.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Optional<RowSchema> outputSchema;
+
+  /**
+   * Initialize project operator.
+   * @param input                  child operator
+   * @param projectList            project list
+   * @param namedParseExpressions  parse expressions
+   */
+  public ProjectOperator(PhysicalPlan input,
+                         List<NamedExpression> projectList,
+                         List<NamedExpression> namedParseExpressions) {
+    this.input = input;
+    this.projectList = projectList;
+    this.namedParseExpressions = namedParseExpressions;
+    // ParseExpression will always override NamedExpression when identifier conflicts
+    // TODO needs a better implementation, see https://github.com/opensearch-project/sql/issues/458
+    this.parseExpressions = projectList.stream()
+        .map(expr -> namedParseExpressions.stream()
+            .filter(parseExpr -> parseExpr.getNameOrAlias().equals(expr.getNameOrAlias()))
+            .findFirst()
+            .orElse(null))
+        .toArray(NamedExpression[]::new);
+    this.outputSchema = RowSchema.of(projectList.stream()
+        .map(NamedExpression::getNameOrAlias).collect(Collectors.toList()));
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitProject(this, context);
@@ -54,35 +92,49 @@ public class ProjectOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
+    return project(input.next());
+  }
 
-    // ParseExpression will always override NamedExpression when identifier conflicts
-    // TODO needs a better implementation, see https://github.com/opensearch-project/sql/issues/458
-    for (NamedExpression expr : projectList) {
-      ExprValue exprValue = expr.valueOf(inputValue.bindingTuples());
-      Optional<NamedExpression> optionalParseExpression = namedParseExpressions.stream()
-          .filter(parseExpr -> parseExpr.getNameOrAlias().equals(expr.getNameOrAlias()))
-          .findFirst();
-      if (optionalParseExpression.isEmpty()) {
-        mapBuilder.put(expr.getNameOrAlias(), exprValue);
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    RowBatch batch = input.nextBatch(maxSize);
+    for (int i = 0; i < batch.size(); i++) {
+      batch.set(i, project(batch.get(i)));
+    }
+    return batch;
+  }
+
+  private ExprValue project(ExprValue inputValue) {
+    BindingTuple bindingTuple = inputValue.bindingTuples();
+    ExprValue[] row = new ExprValue[projectList.size()];
+    boolean complete = true;
+
+    for (int i = 0; i < row.length; i++) {
+      NamedExpression parseExpression = parseExpressions[i];
+      if (parseExpression == null) {
+        row[i] = projectList.get(i).valueOf(bindingTuple);
         continue;
       }
 
-      NamedExpression parseExpression = optionalParseExpression.get();
-      ExprValue sourceFieldValue = inputValue.bindingTuples()
+      ExprValue sourceFieldValue = bindingTuple
           .resolve(((ParseExpression) parseExpression.getDelegated()).getSourceField());
       if (sourceFieldValue.isMissing()) {
         // source field will be missing after stats command, read from inputValue if it exists
         // otherwise do nothing since it should not appear as a field
-        ExprValue tupleValue =
-            ExprValueUtils.getTupleValue(inputValue).get(parseExpression.getNameOrAlias());
-        if (tupleValue != null) {
-          mapBuilder.put(parseExpression.getNameOrAlias(), tupleValue);
-        }
+        row[i] = ExprValueUtils.getTupleValue(inputValue).get(parseExpression.getNameOrAlias());
+        complete &= (row[i] != null);
       } else {
-        ExprValue parsedValue = parseExpression.valueOf(inputValue.bindingTuples());
-        mapBuilder.put(parseExpression.getNameOrAlias(), parsedValue);
+        row[i] = parseExpression.valueOf(bindingTuple);
+      }
+    }
+
+    if (complete && outputSchema.isPresent()) {
+      return ExprTupleValue.fromRow(outputSchema.get(), row);
+    }
+    ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
+    for (int i = 0; i < row.length; i++) {
+      if (row[i] != null) {
+        mapBuilder.put(projectList.get(i).getNameOrAlias(), row[i]);
       }
     }
     return ExprTupleValue.fromExprValueMap(mapBuilder.build());
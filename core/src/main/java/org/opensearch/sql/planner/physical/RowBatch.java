@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Batch of rows passed between physical operators in batch mode. Rows filtered out are dropped
+ * from the selection vector instead of being copied, so the rows selected are accessed by their
+ * position in the selection.
+ */
+public class RowBatch {
+
+  private final ExprValue[] rows;
+
+  /**
+   * Index of the rows selected, or null if all rows are selected in order.
+   */
+  private int[] selection;
+
+  /**
+   * Number of rows selected.
+   */
+  private int size;
+
+  /**
+   * Create batch of all the rows given selected.
+   */
+  public RowBatch(ExprValue[] rows) {
+    this.rows = rows;
+    this.size = rows.length;
+  }
+
+  public static RowBatch of(List<ExprValue> rows) {
+    return new RowBatch(rows.toArray(new ExprValue[0]));
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Get the row selected at the position.
+   */
+  public ExprValue get(int position) {
+    return rows[index(position)];
+  }
+
+  /**
+   * Replace the row selected at the position, e.g. by the row evaluated from it.
+   */
+  public void set(int position, ExprValue row) {
+    rows[index(position)] = row;
+  }
+
+  /**
+   * Retain the rows selected which match the predicate only.
+   */
+  public void retainIf(Predicate<ExprValue> predicate) {
+    // Compact selection in place because the position written never passes the one read
+    int[] newSelection = (selection == null) ? new int[size] : selection;
+    int newSize = 0;
+    for (int i = 0; i < size; i++) {
+      int index = index(i);
+      if (predicate.test(rows[index])) {
+        newSelection[newSize++] = index;
+      }
+    }
+    selection = newSelection;
+    size = newSize;
+  }
+
+  /**
+   * Get the rows selected in order.
+   */
+  public List<ExprValue> toList() {
+    List<ExprValue> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(get(i));
+    }
+    return result;
+  }
+
+  private int index(int position) {
+    return (selection == null) ? position : selection[position];
+  }
+}
@@ -9,6 +9,9 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -23,26 +26,77 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.utils.ExprValueOrdering;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
+import org.opensearch.sql.executor.CancellationToken;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.planner.physical.SortOperator.Sorter.SorterBuilder;
+import org.opensearch.sql.planner.physical.spill.MergeIterator;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}.
- * The count indicate how many sorted result should been return.
+ *
+ * <p>If {@link SortOperator#topK} is set, only that many leading rows are required by the parent
+ * operator and the sort keeps a bounded heap of K rows, unless the heap alone exceeds the memory
+ * budget in which case it sorts externally as below. Otherwise, all input rows are buffered
+ * and whenever the estimated size of the buffer exceeds {@link SortOperator#memoryBudget},
+ * the buffer is sorted and spilled to a local temporary file as a sorted run. The sorted runs
+ * are merged with the remaining in-memory rows at the end, in multiple passes if there are more
+ * runs than {@link SortOperator#MERGE_FAN_IN}.</p>
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
 public class SortOperator extends PhysicalPlan {
+  /**
+   * Max number of sorted runs merged at the same time, which bounds the files and read buffers
+   * open in external sort no matter how many runs are spilled.
+   */
+  static final int MERGE_FAN_IN = 64;
+
   @Getter
   private final PhysicalPlan input;
 
   @Getter
   private final List<Pair<SortOption, Expression>> sortList;
+
+  /**
+   * Number of leading sorted rows required by parent operator. Null means all rows.
+   */
+  @Getter
+  private final Integer topK;
+
+  /**
+   * Estimated size in bytes of buffered rows before spilling them to disk.
+   */
+  @Getter
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final long memoryBudget;
+
+  /**
+   * Peak estimated size in bytes of rows buffered in memory, which is reported by explain
+   * analyze.
+   */
+  @Getter
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private long peakMemory = 0L;
+
   @EqualsAndHashCode.Exclude
   private final Sorter sorter;
   @EqualsAndHashCode.Exclude
   private Iterator<ExprValue> iterator;
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final List<SpillFile> spillFiles = new ArrayList<>();
+
+  /**
+   * Cancellation token checked for each input row drained on open.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private CancellationToken cancellationToken = new CancellationToken();
 
   /**
    * Sort Operator Constructor.
@@ -52,8 +106,35 @@ public class SortOperator extends PhysicalPlan {
    */
   public SortOperator(
       PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, null, Long.MAX_VALUE);
+  }
+
+  /**
+   * Sort Operator Constructor of top K rows.
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field.
+   *                 The sort field is specified by the {@link Expression} with {@link SortOption}
+   * @param topK number of leading rows required
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, Integer topK) {
+    this(input, sortList, topK, Long.MAX_VALUE);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field.
+   *                 The sort field is specified by the {@link Expression} with {@link SortOption}
+   * @param topK number of leading rows required, null if all rows are required
+   * @param memoryBudget estimated size in bytes of rows buffered in memory before spilling
+   */
+  public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList,
+                      Integer topK, long memoryBudget) {
     this.input = input;
     this.sortList = sortList;
+    this.topK = topK;
+    this.memoryBudget = memoryBudget;
     SorterBuilder sorterBuilder = Sorter.builder();
     for (Pair<SortOption, Expression> pair : sortList) {
       SortOption option = pair.getLeft();
@@ -73,15 +154,23 @@ public class SortOperator extends PhysicalPlan {
     return visitor.visitSort(this, context);
   }
 
+  @Override
+  public void setCancellationToken(CancellationToken token) {
+    super.setCancellationToken(token);
+    this.cancellationToken = token;
+  }
+
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
-    while (input.hasNext()) {
-      sorted.add(input.next());
-    }
+    iterator = (topK == null) ? sortAll(new ArrayList<>(), 0L) : sortTopK();
+  }
 
-    iterator = iterator(sorted);
+  @Override
+  public void close() {
+    super.close();
+    spillFiles.forEach(SpillFile::close);
+    spillFiles.clear();
   }
 
   @Override
@@ -121,17 +210,108 @@ public class SortOperator extends PhysicalPlan {
     }
   }
 
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
-      @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
+  /**
+   * Keep the K smallest rows in a max-heap so that the largest one is evicted first.
+   * The heap is accounted against the memory budget the same way as a full sort. If K rows
+   * are too large to keep in memory, it falls back to external merge sort of the rows left
+   * and only the first K sorted rows are returned.
+   */
+  private Iterator<ExprValue> sortTopK() {
+    if (topK <= 0) {
+      return Collections.emptyIterator();
+    }
+
+    PriorityQueue<ExprValue> heap = new PriorityQueue<>(sorter.reversed());
+    long heapSize = 0L;
+    while (input.hasNext()) {
+      cancellationToken.throwIfCancelled();
+      ExprValue row = input.next();
+      if (heap.size() < topK) {
+        heap.add(row);
+        heapSize += estimate(row);
+      } else if (sorter.compare(row, heap.peek()) < 0) {
+        heapSize += estimate(row) - estimate(heap.poll());
+        heap.add(row);
+      } else {
+        continue;
       }
 
-      @Override
-      public ExprValue next() {
-        return result.poll();
+      peakMemory = Math.max(peakMemory, heapSize);
+      if (heapSize > memoryBudget) {
+        return Iterators.limit(sortAll(new ArrayList<>(heap), heapSize), topK);
+      }
+    }
+
+    List<ExprValue> sorted = new ArrayList<>(heap);
+    sorted.sort(sorter);
+    return sorted.iterator();
+  }
+
+  private Iterator<ExprValue> sortAll(List<ExprValue> buffer, long bufferSize) {
+    while (input.hasNext()) {
+      cancellationToken.throwIfCancelled();
+      ExprValue row = input.next();
+      buffer.add(row);
+      bufferSize += estimate(row);
+      peakMemory = Math.max(peakMemory, bufferSize);
+      if (bufferSize > memoryBudget) {
+        spill(buffer);
+        buffer = new ArrayList<>();
+        bufferSize = 0L;
       }
-    };
+    }
+
+    buffer.sort(sorter);
+    if (spillFiles.isEmpty()) {
+      return buffer.iterator();
+    }
+
+    mergeSpillFiles();
+    List<Iterator<ExprValue>> runs = new ArrayList<>();
+    spillFiles.forEach(file -> runs.add(file.read()));
+    runs.add(buffer.iterator());
+    return new MergeIterator(runs, sorter);
+  }
+
+  /**
+   * Merge the sorted runs spilled in passes until they can be merged with the in-memory rows in
+   * the end, so that at most {@link #MERGE_FAN_IN} runs are read at the same time. Consecutive
+   * runs are merged in order, which keeps the merge stable.
+   */
+  private void mergeSpillFiles() {
+    while (spillFiles.size() >= MERGE_FAN_IN) {
+      List<SpillFile> merged = new ArrayList<>();
+      for (List<SpillFile> group : Lists.partition(new ArrayList<>(spillFiles), MERGE_FAN_IN)) {
+        merged.add(group.size() == 1 ? group.get(0) : merge(group));
+      }
+      spillFiles.clear();
+      spillFiles.addAll(merged);
+    }
+  }
+
+  private SpillFile merge(List<SpillFile> group) {
+    cancellationToken.throwIfCancelled();
+    SpillFile file = SpillFile.create("sql-sort-");
+    spillFiles.add(file);
+    List<Iterator<ExprValue>> runs = new ArrayList<>();
+    group.forEach(run -> runs.add(run.read()));
+    file.writeAll(new MergeIterator(runs, sorter));
+    group.forEach(SpillFile::close);
+    spillFiles.removeAll(group);
+    return file;
+  }
+
+  /**
+   * Size estimation is skipped if memory is unlimited.
+   */
+  private long estimate(ExprValue row) {
+    return (memoryBudget == Long.MAX_VALUE) ? 0L : ExprValueSizeEstimator.estimate(row);
+  }
+
+  private void spill(List<ExprValue> buffer) {
+    buffer.sort(sorter);
+    SpillFile file = SpillFile.create("sql-sort-");
+    spillFiles.add(file);
+    file.writeAll(buffer.iterator());
   }
 }
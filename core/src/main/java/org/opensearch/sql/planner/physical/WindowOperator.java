@@ -6,23 +6,31 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
- * Physical operator for window function computation.
+ * Physical operator for window function computation. All window functions with the same window
+ * definition are evaluated in one pass over the sorted input, and each input row is enriched by
+ * the results of all of them at once.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -31,38 +39,61 @@ public class WindowOperator extends PhysicalPlan {
   private final PhysicalPlan input;
 
   @Getter
-  private final NamedExpression windowFunction;
+  private final List<NamedExpression> windowFunctions;
 
   @Getter
   private final WindowDefinition windowDefinition;
 
+  /**
+   * Window frame of each window function, because frame holds the state of the function.
+   */
   @EqualsAndHashCode.Exclude
   @ToString.Exclude
-  private final WindowFrame windowFrame;
+  private final List<WindowFrame> windowFrames;
 
   /**
-   * Peeking iterator that can peek next element which is required
-   * by window frame such as peer frame to prefetch all rows related
-   * to same peer (of same sorting key).
+   * Peeking iterator of each window frame that can peek next element which is required
+   * by window frame such as peer frame to prefetch all rows related to same peer (of same
+   * sorting key). Frames prefetch different number of rows, so each has its own iterator
+   * over input rows shared and buffered until all frames have loaded them.
    */
   @EqualsAndHashCode.Exclude
   @ToString.Exclude
-  private final PeekingIterator<ExprValue> peekingIterator;
+  private final List<PeekingIterator<ExprValue>> peekingIterators;
+
+  /**
+   * Row schema of input seen last time and the output schema extended by window functions.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private RowSchema inputSchema;
+
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private RowSchema outputSchema;
 
   /**
    * Initialize window operator.
    * @param input             child operator
-   * @param windowFunction    window function
+   * @param windowFunctions   window functions
    * @param windowDefinition  window definition
    */
   public WindowOperator(PhysicalPlan input,
-                        NamedExpression windowFunction,
+                        List<NamedExpression> windowFunctions,
                         WindowDefinition windowDefinition) {
     this.input = input;
-    this.windowFunction = windowFunction;
+    this.windowFunctions = windowFunctions;
     this.windowDefinition = windowDefinition;
-    this.windowFrame = createWindowFrame();
-    this.peekingIterator = Iterators.peekingIterator(input);
+    this.windowFrames = windowFunctions.stream()
+                                       .map(this::createWindowFrame)
+                                       .collect(Collectors.toList());
+    this.peekingIterators = createPeekingIterators();
+  }
+
+  public WindowOperator(PhysicalPlan input,
+                        NamedExpression windowFunction,
+                        WindowDefinition windowDefinition) {
+    this(input, Collections.singletonList(windowFunction), windowDefinition);
   }
 
   @Override
@@ -75,37 +106,132 @@ public class WindowOperator extends PhysicalPlan {
     return Collections.singletonList(input);
   }
 
+  /**
+   * All frames are at the same current row, so any of them knows if more rows to return.
+   */
   @Override
   public boolean hasNext() {
-    return peekingIterator.hasNext() || windowFrame.hasNext();
+    return peekingIterators.get(0).hasNext() || windowFrames.get(0).hasNext();
   }
 
   @Override
   public ExprValue next() {
-    windowFrame.load(peekingIterator);
+    for (int i = 0; i < windowFrames.size(); i++) {
+      windowFrames.get(i).load(peekingIterators.get(i));
+    }
     return enrichCurrentRowByWindowFunctionResult();
   }
 
-  private WindowFrame createWindowFrame() {
+  private WindowFrame createWindowFrame(NamedExpression windowFunction) {
     return ((WindowFunctionExpression) windowFunction.getDelegated())
         .createWindowFrame(windowDefinition);
   }
 
+  private List<PeekingIterator<ExprValue>> createPeekingIterators() {
+    if (windowFunctions.size() == 1) {
+      return Collections.singletonList(Iterators.peekingIterator(input));
+    }
+
+    SharedRows sharedRows = new SharedRows(input);
+    return windowFunctions.stream()
+                          .map(windowFunction -> sharedRows.newCursor())
+                          .collect(Collectors.toList());
+  }
+
   private ExprValue enrichCurrentRowByWindowFunctionResult() {
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
-    preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+    ExprValue inputValue = windowFrames.get(0).current();
+    if (ExprTupleValue.rowSchemaOf(inputValue) != null) {
+      return enrichCurrentRow((ExprTupleValue) inputValue);
+    }
+
+    Map<String, ExprValue> map = new LinkedHashMap<>(inputValue.tupleValue());
+    addWindowFunctionResultColumns(map::put);
+    return ExprTupleValue.fromExprValueMap(map);
+  }
+
+  private ExprValue enrichCurrentRow(ExprTupleValue inputValue) {
+    if (inputValue.getRowSchema() != inputSchema) {
+      inputSchema = inputValue.getRowSchema();
+      outputSchema = inputSchema.extend(windowFunctions.stream()
+                                                       .map(NamedExpression::getName)
+                                                       .collect(Collectors.toList()));
+    }
+    ExprValue[] row = inputValue.copyRowValues(outputSchema.size());
+    addWindowFunctionResultColumns((name, value) -> row[outputSchema.slot(name)] = value);
+    return ExprTupleValue.fromRow(outputSchema, row);
   }
 
-  private void preserveAllOriginalColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue inputValue = windowFrame.current();
-    inputValue.tupleValue().forEach(mapBuilder::put);
+  private void addWindowFunctionResultColumns(BiConsumer<String, ExprValue> columns) {
+    for (int i = 0; i < windowFunctions.size(); i++) {
+      NamedExpression windowFunction = windowFunctions.get(i);
+      columns.accept(windowFunction.getName(), windowFunction.valueOf(windowFrames.get(i)));
+    }
   }
 
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+  /**
+   * Input rows shared by the window frames. Rows pulled from input are buffered until all
+   * cursors move past them, so the memory used is bounded by the most rows prefetched by
+   * any window frame ahead of current row.
+   */
+  private static class SharedRows {
+    private final Iterator<ExprValue> input;
+
+    private final List<ExprValue> buffer = new ArrayList<>();
+
+    private final List<Cursor> cursors = new ArrayList<>();
+
+    /**
+     * Position of the first row in buffer counted from the first input row.
+     */
+    private long first;
+
+    SharedRows(Iterator<ExprValue> input) {
+      this.input = input;
+    }
+
+    PeekingIterator<ExprValue> newCursor() {
+      Cursor cursor = new Cursor();
+      cursors.add(cursor);
+      return Iterators.peekingIterator(cursor);
+    }
+
+    private long end() {
+      return first + buffer.size();
+    }
+
+    /**
+     * Remove rows from buffer in batch so that the rows remaining are not shifted every time.
+     */
+    private void removeRowsLoadedByAllCursors() {
+      long minPosition = cursors.stream().mapToLong(cursor -> cursor.position).min().getAsLong();
+      int loaded = (int) (minPosition - first);
+      if (loaded * 2 >= buffer.size()) {
+        buffer.subList(0, loaded).clear();
+        first = minPosition;
+      }
+    }
+
+    private class Cursor implements Iterator<ExprValue> {
+      /**
+       * Position of next row to return counted from the first input row.
+       */
+      private long position;
+
+      @Override
+      public boolean hasNext() {
+        return position < end() || input.hasNext();
+      }
+
+      @Override
+      public ExprValue next() {
+        if (position == end()) {
+          buffer.add(input.next());
+        }
+        ExprValue next = buffer.get((int) (position++ - first));
+        removeRowsLoadedByAllCursors();
+        return next;
+      }
+    }
   }
 
 }
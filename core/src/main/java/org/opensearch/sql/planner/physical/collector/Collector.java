@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.planner.physical.collector;
 
-import com.google.common.collect.ImmutableList;
 import java.util.List;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprValue;
@@ -33,22 +32,16 @@ public interface Collector {
   List<ExprValue> results();
 
   /**
-   * {@link Collector} tree builder.
+   * {@link Collector} builder.
    */
   @UtilityClass
   class Builder {
     /**
-     * build {@link Collector}.
+     * build {@link Collector} which groups by all the buckets at once.
      */
-    public static Collector build(List<NamedExpression> buckets,
-                                  List<NamedAggregator> aggregators) {
-      if (buckets.isEmpty()) {
-        return new MetricCollector(aggregators);
-      } else {
-        return new BucketCollector(
-            buckets.get(0),
-            () -> build(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
-      }
+    public static HashCollector build(List<NamedExpression> buckets,
+                                      List<NamedAggregator> aggregators) {
+      return new HashCollector(buckets, aggregators);
     }
   }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.RowSchema;
+import org.opensearch.sql.data.utils.ExprValueOrdering;
+import org.opensearch.sql.data.utils.ExprValueSizeEstimator;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Collect {@link BindingTuple} into a flat hash table from composite group key to the
+ * {@link AggregationState} of each aggregator. If ordered results are required, groups are
+ * sorted by key only once when building results, the same order as bucket aggregation.
+ */
+public class HashCollector implements Collector {
+
+  /**
+   * Ordering of group key value. Null and missing come first.
+   */
+  private static final ExprValueOrdering KEY_ORDERING = ExprValueOrdering.natural().nullsFirst();
+
+  /**
+   * Estimated overhead of a group in bytes, including hash table entry, key and state array.
+   */
+  private static final long GROUP_OVERHEAD = 96L;
+
+  private final List<NamedExpression> groupByExprList;
+
+  private final List<NamedAggregator> aggregatorList;
+
+  private final Map<GroupKey, AggregationState[]> groups = new HashMap<>();
+
+  /**
+   * Schema of result row, which is empty if any name of group by and aggregator is duplicate.
+   */
+  private final Optional<RowSchema> resultSchema;
+
+  /**
+   * Estimated size in bytes of the hash table.
+   */
+  @Getter
+  private long estimatedSize = 0L;
+
+  /**
+   * Constructor of {@link HashCollector}. Without group by expressions, there is always a single
+   * group even if nothing is collected.
+   *
+   * @param groupByExprList group by expressions
+   * @param aggregatorList aggregators
+   */
+  public HashCollector(List<NamedExpression> groupByExprList,
+                       List<NamedAggregator> aggregatorList) {
+    this.groupByExprList = groupByExprList;
+    this.aggregatorList = aggregatorList;
+    this.resultSchema = RowSchema.of(Stream.concat(
+        groupByExprList.stream().map(NamedExpression::getNameOrAlias),
+        aggregatorList.stream().map(NamedAggregator::getName)).collect(Collectors.toList()));
+    if (groupByExprList.isEmpty()) {
+      createGroup(new GroupKey(new ExprValue[0]));
+    }
+  }
+
+  /**
+   * Evaluate the group key of {@link BindingTuple}.
+   */
+  public GroupKey groupKey(BindingTuple tuple) {
+    ExprValue[] values = new ExprValue[groupByExprList.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = groupByExprList.get(i).valueOf(tuple);
+    }
+    return new GroupKey(values);
+  }
+
+  @Override
+  public void collect(BindingTuple tuple) {
+    collect(groupKey(tuple), tuple);
+  }
+
+  /**
+   * Collect {@link BindingTuple} into the group of the given key, create group if absent.
+   */
+  public void collect(GroupKey key, BindingTuple tuple) {
+    AggregationState[] states = groups.get(key);
+    if (states == null) {
+      states = createGroup(key);
+    }
+    iterate(states, tuple);
+  }
+
+  /**
+   * Collect {@link BindingTuple} only if the group of the given key exists already.
+   *
+   * @return true if collected, otherwise false
+   */
+  public boolean collectExisting(GroupKey key, BindingTuple tuple) {
+    AggregationState[] states = groups.get(key);
+    if (states == null) {
+      return false;
+    }
+    iterate(states, tuple);
+    return true;
+  }
+
+  /**
+   * Get results of all groups ordered by group key. Each result is group key values followed by
+   * aggregation results.
+   *
+   * @return list of {@link ExprValue}.
+   */
+  @Override
+  public List<ExprValue> results() {
+    return results(true);
+  }
+
+  /**
+   * Get results of all groups. Each result is group key values followed by aggregation results.
+   *
+   * @param sorted whether ordered by group key, otherwise in hash table order
+   * @return list of {@link ExprValue}.
+   */
+  public List<ExprValue> results(boolean sorted) {
+    List<Map.Entry<GroupKey, AggregationState[]>> entries = new ArrayList<>(groups.entrySet());
+    if (sorted && entries.size() > 1) {
+      entries.sort(Map.Entry.comparingByKey());
+    }
+
+    List<ExprValue> results = new ArrayList<>(entries.size());
+    for (Map.Entry<GroupKey, AggregationState[]> entry : entries) {
+      ExprValue[] keyValues = entry.getKey().values;
+      AggregationState[] states = entry.getValue();
+      ExprValue[] row = Arrays.copyOf(keyValues, keyValues.length + states.length);
+      for (int i = 0; i < states.length; i++) {
+        row[keyValues.length + i] = states[i].result();
+      }
+      results.add(resultSchema.isPresent()
+          ? ExprTupleValue.fromRow(resultSchema.get(), row) : toTupleValue(row));
+    }
+    return results;
+  }
+
+  private ExprValue toTupleValue(ExprValue[] row) {
+    LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+    for (int i = 0; i < groupByExprList.size(); i++) {
+      map.put(groupByExprList.get(i).getNameOrAlias(), row[i]);
+    }
+    for (int i = 0; i < aggregatorList.size(); i++) {
+      map.put(aggregatorList.get(i).getName(), row[groupByExprList.size() + i]);
+    }
+    return new ExprTupleValue(map);
+  }
+
+  /**
+   * Comparator of result rows consistent with the order of {@link #results()}.
+   */
+  public Comparator<ExprValue> resultComparator() {
+    return (left, right) -> {
+      for (NamedExpression groupBy : groupByExprList) {
+        String name = groupBy.getNameOrAlias();
+        int result = KEY_ORDERING.compare(
+            left.tupleValue().get(name), right.tupleValue().get(name));
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    };
+  }
+
+  private AggregationState[] createGroup(GroupKey key) {
+    AggregationState[] states = new AggregationState[aggregatorList.size()];
+    estimatedSize += GROUP_OVERHEAD;
+    for (int i = 0; i < states.length; i++) {
+      states[i] = aggregatorList.get(i).create();
+      estimatedSize += states[i].estimatedSize();
+    }
+    groups.put(key, states);
+
+    for (ExprValue value : key.values) {
+      estimatedSize += ExprValueSizeEstimator.estimate(value);
+    }
+    return states;
+  }
+
+  private void iterate(AggregationState[] states, BindingTuple tuple) {
+    for (int i = 0; i < states.length; i++) {
+      aggregatorList.get(i).iterate(tuple, states[i]);
+    }
+  }
+
+  /**
+   * Composite group key with hash code computed once.
+   */
+  public static class GroupKey implements Comparable<GroupKey> {
+    private final ExprValue[] values;
+    private final int hash;
+
+    GroupKey(ExprValue[] values) {
+      this.values = values;
+      this.hash = Arrays.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof GroupKey)) {
+        return false;
+      }
+      GroupKey other = (GroupKey) o;
+      return hash == other.hash && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public int compareTo(GroupKey other) {
+      for (int i = 0; i < values.length; i++) {
+        int result = KEY_ORDERING.compare(values[i], other.values[i]);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * K-way merge of runs which are already sorted by the same comparator, such as the sorted runs
+ * spilled by a blocking operator. Ties are broken by run index so that the merge is stable.
+ */
+public class MergeIterator implements Iterator<ExprValue> {
+
+  private final List<Iterator<ExprValue>> runs;
+
+  private final PriorityQueue<RunHead> heads;
+
+  /**
+   * Constructor of MergeIterator.
+   *
+   * @param runs sorted runs
+   * @param comparator comparator by which every run is sorted
+   */
+  public MergeIterator(List<Iterator<ExprValue>> runs, Comparator<ExprValue> comparator) {
+    this.runs = runs;
+    this.heads = new PriorityQueue<>(Math.max(1, runs.size()),
+        Comparator.<RunHead, ExprValue>comparing(RunHead::getValue, comparator)
+            .thenComparingInt(RunHead::getRun));
+    for (int i = 0; i < runs.size(); i++) {
+      advance(i);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !heads.isEmpty();
+  }
+
+  @Override
+  public ExprValue next() {
+    RunHead head = heads.remove();
+    advance(head.getRun());
+    return head.getValue();
+  }
+
+  private void advance(int run) {
+    Iterator<ExprValue> iterator = runs.get(run);
+    if (iterator.hasNext()) {
+      heads.add(new RunHead(iterator.next(), run));
+    }
+  }
+
+  /**
+   * Current head value of a sorted run.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  private static class RunHead {
+    private final ExprValue value;
+    private final int run;
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Temporary local file holding a sequence of {@link ExprValue} spilled by a blocking operator
+ * whose buffered rows exceed its memory budget. Values are written with Java serialization and
+ * read back in the order written. The file is deleted on {@link #close()}.
+ */
+public class SpillFile implements AutoCloseable {
+
+  /**
+   * How many values to write before resetting the object stream, so that it doesn't keep a
+   * reference to every value written.
+   */
+  private static final int RESET_INTERVAL = 1000;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  @Getter
+  private final Path path;
+
+  private ObjectOutputStream output;
+
+  private ObjectInputStream input;
+
+  /**
+   * Number of values written.
+   */
+  @Getter
+  private long size = 0L;
+
+  private SpillFile(Path path, ObjectOutputStream output) {
+    this.path = path;
+    this.output = output;
+  }
+
+  /**
+   * Create a new spill file in the temporary directory.
+   *
+   * @param prefix file name prefix which identifies the operator
+   * @return spill file open for writing
+   */
+  public static SpillFile create(String prefix) {
+    try {
+      Path path = Files.createTempFile(prefix, ".spill");
+      return new SpillFile(path, new ObjectOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to create spill file", e);
+    }
+  }
+
+  /**
+   * Append a value to the file.
+   */
+  public void write(ExprValue value) {
+    try {
+      writeObject(value);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write spill file " + path, e);
+    }
+  }
+
+  /**
+   * Append all the values to the file and finish writing, so that no file handle or buffer is
+   * held by the file until it's read.
+   *
+   * @param values values to write
+   */
+  public void writeAll(Iterator<ExprValue> values) {
+    try (ObjectOutputStream out = output) {
+      while (values.hasNext()) {
+        writeObject(values.next());
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write spill file " + path, e);
+    } finally {
+      output = null;
+    }
+  }
+
+  private void writeObject(ExprValue value) throws IOException {
+    output.writeObject(value);
+    if (++size % RESET_INTERVAL == 0) {
+      output.reset();
+    }
+  }
+
+  /**
+   * Finish writing and return an iterator over the values in the order they were written.
+   * The file can be read only once.
+   */
+  public Iterator<ExprValue> read() {
+    try {
+      if (output != null) {
+        output.close();
+        output = null;
+      }
+      input = new ObjectInputStream(
+          new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to open spill file " + path, e);
+    }
+
+    return new Iterator<ExprValue>() {
+      private long remaining = size;
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0;
+      }
+
+      @Override
+      public ExprValue next() {
+        if (remaining <= 0) {
+          throw new NoSuchElementException();
+        }
+        try {
+          remaining--;
+          return (ExprValue) input.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+          throw new IllegalStateException("Failed to read spill file " + path, e);
+        }
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (output != null) {
+        output.close();
+      }
+      if (input != null) {
+        input.close();
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete spill file " + path, e);
+    }
+  }
+}
@@ -11,6 +11,7 @@ import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.function.SerializableFunction;
 
 @UtilityClass
 public class OperatorUtils {
@@ -22,10 +23,17 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprBooleanValue matches(ExprValue text, ExprValue pattern) {
-    return ExprBooleanValue.of(
-        Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE)
-            .matcher(text.stringValue())
-            .matches());
+    return ExprBooleanValue.of(compileWildcard(pattern).matcher(text.stringValue()).matches());
+  }
+
+  /**
+   * Wildcard pattern matcher with the pattern compiled once for all text to match.
+   * @param pattern string pattern to match.
+   * @return function which returns true if text matches pattern; else return false.
+   */
+  public static SerializableFunction<ExprValue, ExprValue> wildcardMatcher(ExprValue pattern) {
+    Pattern compiled = compileWildcard(pattern);
+    return text -> ExprBooleanValue.of(compiled.matcher(text.stringValue()).matches());
   }
 
   /**
@@ -38,6 +46,20 @@ public class OperatorUtils {
                     .matches() ? 1 : 0);
   }
 
+  /**
+   * Regular expression matcher with the pattern compiled once for all text to match.
+   * @param pattern string pattern to match.
+   * @return function which returns 1 if text matches pattern; else return 0.
+   */
+  public static SerializableFunction<ExprValue, ExprValue> regexpMatcher(ExprValue pattern) {
+    Pattern compiled = Pattern.compile(pattern.stringValue());
+    return text -> new ExprIntegerValue(compiled.matcher(text.stringValue()).matches() ? 1 : 0);
+  }
+
+  private static Pattern compileWildcard(ExprValue pattern) {
+    return Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE);
+  }
+
   private static final char DEFAULT_ESCAPE = '\\';
 
   private static String patternToRegex(String patternString) {
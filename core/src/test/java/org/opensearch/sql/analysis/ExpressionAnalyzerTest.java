@@ -321,6 +321,24 @@ class ExpressionAnalyzerTest extends AnalyzerTestBase {
     );
   }
 
+  @Test
+  public void percentile_mapto_percentileApprox() {
+    assertAnalyzeEqual(
+        DSL.percentileApprox(DSL.ref("integer_value", INTEGER),
+            DSL.namedArgument("rank", DSL.literal(95))),
+        AstDSL.aggregate("percentile", qualifiedName("integer_value"),
+            AstDSL.argument("rank", intLiteral(95)))
+    );
+  }
+
+  @Test
+  public void percentile_approx_with_invalid_percent() {
+    SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+        () -> analyze(AstDSL.aggregate("percentile_approx", qualifiedName("integer_value"),
+            AstDSL.argument("percent", intLiteral(150)))));
+    assertEquals("percent must be between 0 and 100", exception.getMessage());
+  }
+
   @Test
   public void distinct_count() {
     assertAnalyzeEqual(
@@ -779,6 +797,37 @@ class ExpressionAnalyzerTest extends AnalyzerTestBase {
     assertTrue(values.stream().noneMatch(v -> v.valueOf() == referenceValue));
   }
 
+  @Test
+  public void function_of_literal_arguments_folded() {
+    assertAnalyzeEqual(DSL.literal(1), function("abs", intLiteral(-1)));
+    assertAnalyzeEqual(
+        DSL.literal(3),
+        function("+", function("abs", intLiteral(-1)), intLiteral(2)));
+    assertAnalyzeEqual(
+        DSL.like(DSL.ref("string_value", STRING), DSL.literal("%ab%")),
+        function("like", qualifiedName("string_value"),
+            function("concat", stringLiteral("%ab"), stringLiteral("%"))));
+  }
+
+  @Test
+  public void function_not_folded() {
+    assertAnalyzeEqual(
+        DSL.abs(DSL.ref("integer_value", INTEGER)),
+        function("abs", qualifiedName("integer_value")));
+    assertAnalyzeEqual(
+        DSL.avg(DSL.ref("integer_value", INTEGER)),
+        function("avg", qualifiedName("integer_value")));
+    assertAnalyzeEqual(DSL.rand(DSL.literal(1)), function("rand", intLiteral(1)));
+    // Returns NULL
+    assertAnalyzeEqual(
+        DSL.divide(DSL.literal(1), DSL.literal(0)),
+        function("/", intLiteral(1), intLiteral(0)));
+    // Fails on evaluation
+    assertAnalyzeEqual(
+        DSL.regexp(DSL.literal("str"), DSL.literal("(")),
+        function("regexp", stringLiteral("str"), stringLiteral("(")));
+  }
+
   protected Expression analyze(UnresolvedExpression unresolvedExpression) {
     return expressionAnalyzer.analyze(unresolvedExpression, analysisContext);
   }
@@ -7,6 +7,9 @@
 package org.opensearch.sql.analysis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType.RANGE;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType.ROWS;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_LAST;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
@@ -18,19 +21,27 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.expression.Alias;
+import org.opensearch.sql.ast.expression.UnresolvedExpression;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalWindow;
 
 class WindowExpressionAnalyzerTest extends AnalyzerTestBase {
 
@@ -130,4 +141,135 @@ class WindowExpressionAnalyzerTest extends AnalyzerTestBase {
     });
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void should_share_window_operator_for_same_window_definition() {
+    assertEquals(
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.relation("test", table),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING)),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))),
+            ImmutableList.of(
+                DSL.named("row_number", DSL.rowNumber()),
+                DSL.named("rank", DSL.rank())),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)),
+                ImmutableList.of(
+                    ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))))),
+        analyzer.analyze(
+            ImmutableList.of(
+                windowFunction("row_number", "string_value", "integer_value"),
+                AstDSL.alias("string_value", AstDSL.qualifiedName("string_value")),
+                windowFunction("rank", "string_value", "integer_value"),
+                windowFunction("row_number", "string_value", "integer_value")),
+            analysisContext));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void should_reuse_sort_if_sort_items_are_prefix_of_sorted() {
+    assertEquals(
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.window(
+                    LogicalPlanDSL.window(
+                        LogicalPlanDSL.sort(
+                            LogicalPlanDSL.relation("test", table),
+                            ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING)),
+                            ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))),
+                        DSL.named("row_number", DSL.rowNumber()),
+                        new WindowDefinition(
+                            ImmutableList.of(DSL.ref("string_value", STRING)),
+                            ImmutableList.of(
+                                ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))))),
+                    DSL.named("rank", DSL.rank()),
+                    new WindowDefinition(
+                        ImmutableList.of(DSL.ref("string_value", STRING)),
+                        ImmutableList.of())),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))),
+            DSL.named("dense_rank", DSL.denseRank()),
+            new WindowDefinition(
+                ImmutableList.of(),
+                ImmutableList.of(
+                    ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))))),
+        analyzer.analyze(
+            ImmutableList.of(
+                windowFunction("rank", "string_value", null),
+                windowFunction("row_number", "string_value", "integer_value"),
+                windowFunction("dense_rank", null, "integer_value")),
+            analysisContext));
+  }
+
+  @Test
+  void can_analyze_window_frame() {
+    WindowFrameSpec rows = new WindowFrameSpec(
+        ROWS, FrameBound.preceding(1), FrameBound.CURRENT_ROW);
+    assertEquals(rows, analyzeFrame(rows, "integer_value", "string_value"));
+
+    WindowFrameSpec rangeWithOffset = new WindowFrameSpec(
+        RANGE, FrameBound.preceding(1), FrameBound.following(1));
+    assertEquals(rangeWithOffset, analyzeFrame(rangeWithOffset, "integer_value"));
+
+    WindowFrameSpec rangeWithoutOffset = new WindowFrameSpec(
+        RANGE, FrameBound.UNBOUNDED_PRECEDING, FrameBound.CURRENT_ROW);
+    assertEquals(rangeWithoutOffset, analyzeFrame(rangeWithoutOffset));
+  }
+
+  @Test
+  void should_fail_if_frame_start_after_frame_end() {
+    SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(new WindowFrameSpec(
+            ROWS, FrameBound.UNBOUNDED_FOLLOWING, FrameBound.UNBOUNDED_FOLLOWING)));
+    assertEquals("Invalid window frame: ROWS BETWEEN UNBOUNDED FOLLOWING AND UNBOUNDED FOLLOWING",
+        exception.getMessage());
+
+    assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(new WindowFrameSpec(
+            ROWS, FrameBound.CURRENT_ROW, FrameBound.UNBOUNDED_PRECEDING)));
+    assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(new WindowFrameSpec(
+            ROWS, FrameBound.following(1), FrameBound.preceding(1))));
+  }
+
+  @Test
+  void should_fail_if_range_frame_with_offset_not_on_single_number_sort_key() {
+    SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(new WindowFrameSpec(
+            RANGE, FrameBound.CURRENT_ROW, FrameBound.following(1)), "string_value"));
+    assertEquals("RANGE frame with offset requires exactly one sort key of number type: "
+        + "RANGE BETWEEN CURRENT ROW AND 1 FOLLOWING", exception.getMessage());
+
+    assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(new WindowFrameSpec(
+            RANGE, FrameBound.preceding(1), FrameBound.CURRENT_ROW)));
+  }
+
+  private UnresolvedExpression windowFunction(String name, String partitionBy, String sortBy) {
+    return AstDSL.alias(
+        name,
+        AstDSL.window(
+            AstDSL.function(name),
+            (partitionBy == null) ? Collections.emptyList()
+                : ImmutableList.of(AstDSL.qualifiedName(partitionBy)),
+            (sortBy == null) ? Collections.emptyList()
+                : ImmutableList.of(ImmutablePair.of(DEFAULT_ASC, AstDSL.qualifiedName(sortBy)))));
+  }
+
+  private WindowFrameSpec analyzeFrame(WindowFrameSpec frame, String... sortFields) {
+    Alias ast = AstDSL.alias(
+        "sum",
+        AstDSL.window(
+            AstDSL.aggregate("sum", AstDSL.qualifiedName("integer_value")),
+            Collections.emptyList(),
+            Arrays.stream(sortFields)
+                .map(field -> Pair.<SortOption, UnresolvedExpression>of(
+                    DEFAULT_ASC, AstDSL.qualifiedName(field)))
+                .collect(Collectors.toList()),
+            frame));
+
+    LogicalWindow window = (LogicalWindow) analyzer.analyze(ast, analysisContext);
+    return window.getWindowDefinition().getFrame();
+  }
+
 }
@@ -6,14 +6,21 @@
 
 package org.opensearch.sql.data.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.utils.ComparisonUtil.compare;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 
@@ -56,4 +63,57 @@ class ExprTupleValueTest {
         () -> compare(tupleValue, tupleValue));
     assertEquals("ExprTupleValue instances are not comparable", exception.getMessage());
   }
+
+  @Test
+  public void row_backed_tuple_same_as_map_backed() {
+    RowSchema schema = RowSchema.of(Arrays.asList("name", "age")).get();
+    ExprTupleValue row = ExprTupleValue.fromRow(schema,
+        new ExprValue[] {ExprValueUtils.stringValue("bob"), ExprValueUtils.integerValue(30)});
+    ExprValue map = ExprValueUtils.tupleValue(ImmutableMap.of("name", "bob", "age", 30));
+
+    assertEquals(map, row);
+    assertEquals(row, map);
+    assertEquals(map.hashCode(), row.hashCode());
+    assertEquals(map.toString(), row.toString());
+    assertEquals(map.value(), row.value());
+    assertEquals(ExprValueUtils.integerValue(30), row.keyValue("age"));
+    assertTrue(row.keyValue("address").isMissing());
+    assertSame(schema, row.getRowSchema());
+    assertEquals(ExprValueUtils.stringValue("bob"), row.rowValue(0));
+    assertNull(((ExprTupleValue) map).getRowSchema());
+    assertSame(schema, ExprTupleValue.rowSchemaOf(row));
+    assertNull(ExprTupleValue.rowSchemaOf(ExprValueUtils.integerValue(30)));
+  }
+
+  @Test
+  public void row_backed_tuple_map_view() {
+    RowSchema schema = RowSchema.of(Arrays.asList("name")).get();
+    ExprTupleValue row = ExprTupleValue.fromRow(schema,
+        new ExprValue[] {ExprValueUtils.stringValue("bob")});
+    Map<String, ExprValue> map = row.tupleValue();
+
+    assertEquals(1, map.size());
+    assertTrue(map.containsKey("name"));
+    assertFalse(map.containsKey("age"));
+    assertFalse(map.containsKey(1));
+    assertNull(map.get(1));
+    assertEquals(ExprValueUtils.stringValue("bob"), map.getOrDefault("name", null));
+    assertEquals(1, map.entrySet().size());
+    Iterator<Map.Entry<String, ExprValue>> iterator = map.entrySet().iterator();
+    assertEquals("name", iterator.next().getKey());
+    assertThrows(NoSuchElementException.class, iterator::next);
+    assertThrows(UnsupportedOperationException.class,
+        () -> map.put("age", ExprValueUtils.integerValue(30)));
+    assertArrayEquals(new ExprValue[] {ExprValueUtils.stringValue("bob"), null},
+        row.copyRowValues(2));
+  }
+
+  @Test
+  public void row_not_matching_schema_throws() {
+    RowSchema schema = RowSchema.of(Arrays.asList("name")).get();
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> ExprTupleValue.fromRow(schema, new ExprValue[0]));
+    assertEquals("Row of 0 values doesn't match schema RowSchema(names=[name])",
+        exception.getMessage());
+  }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.data.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class RowSchemaTest {
+
+  private final RowSchema schema = RowSchema.of(Arrays.asList("name", "age")).get();
+
+  @Test
+  public void slot_of_column() {
+    assertEquals(2, schema.size());
+    assertEquals(0, schema.slot("name"));
+    assertEquals(1, schema.slot("age"));
+    assertEquals(-1, schema.slot("address"));
+  }
+
+  @Test
+  public void duplicate_column_not_allowed() {
+    assertFalse(RowSchema.of(Arrays.asList("name", "name")).isPresent());
+  }
+
+  @Test
+  public void extend_keeps_existing_slots() {
+    RowSchema extended = schema.extend(Arrays.asList("age", "address", "address"));
+    assertEquals(Arrays.asList("name", "age", "address"), extended.getNames());
+    assertEquals(1, extended.slot("age"));
+    assertEquals(2, extended.slot("address"));
+    assertEquals(RowSchema.of(Arrays.asList("name", "age", "address")).get(), extended);
+  }
+}
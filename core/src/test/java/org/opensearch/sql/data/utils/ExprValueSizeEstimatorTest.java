@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+class ExprValueSizeEstimatorTest {
+
+  @Test
+  public void estimate_primitive_value() {
+    assertEquals(24L, ExprValueSizeEstimator.estimate(integerValue(1)));
+  }
+
+  @Test
+  public void estimate_string_value_grows_with_length() {
+    assertTrue(ExprValueSizeEstimator.estimate(stringValue("a long string value"))
+        > ExprValueSizeEstimator.estimate(stringValue("a")));
+  }
+
+  @Test
+  public void estimate_nested_value() {
+    long element = ExprValueSizeEstimator.estimate(integerValue(1));
+    assertEquals(24L + 2 * (8L + element),
+        ExprValueSizeEstimator.estimate(collectionValue(ImmutableList.of(1, 2))));
+    assertEquals(24L + 64L + 2L + element,
+        ExprValueSizeEstimator.estimate(tupleValue(ImmutableMap.of("a", 1))));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.exception.QueryCancelledException;
+
+@ExtendWith(MockitoExtension.class)
+class CancellationTokenTest {
+
+  @Mock
+  private Runnable callback;
+
+  private final CancellationToken token = new CancellationToken();
+
+  @Test
+  void notCancelled() {
+    assertFalse(token.isCancelled());
+    assertNull(token.getReason());
+    assertDoesNotThrow(token::throwIfCancelled);
+  }
+
+  @Test
+  void cancel() {
+    token.addCallback(callback);
+    token.cancel("cancelled by user");
+
+    assertTrue(token.isCancelled());
+    QueryCancelledException e =
+        assertThrows(QueryCancelledException.class, token::throwIfCancelled);
+    assertEquals("cancelled by user", e.getMessage());
+    verify(callback).run();
+  }
+
+  @Test
+  void cancelOnlyOnce() {
+    token.addCallback(callback);
+    token.cancel("cancelled by user");
+    token.cancel("timed out");
+
+    assertEquals("cancelled by user", token.getReason());
+    verify(callback, times(1)).run();
+  }
+
+  @Test
+  void runCallbackAddedAfterCancelled() {
+    token.cancel("cancelled by user");
+    token.addCallback(callback);
+    verify(callback).run();
+  }
+
+  @Test
+  void callbackRemovedNotRun() {
+    token.addCallback(callback);
+    token.removeCallback(callback);
+    token.cancel("cancelled by user");
+    verify(callback, never()).run();
+  }
+}
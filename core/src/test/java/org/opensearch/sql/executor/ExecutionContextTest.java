@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ExecutionContextTest {
+
+  @Test
+  void createEmptyExecutionContext() {
+    ExecutionContext context = ExecutionContext.emptyExecutionContext();
+    assertTrue(context.getSplit().isEmpty());
+    assertFalse(context.getCancellationToken().isCancelled());
+    assertFalse(context.getProfile().isEnabled());
+  }
+
+  @Test
+  void createExecutionContextWithoutProfile() {
+    CancellationToken token = new CancellationToken();
+    ExecutionContext context = new ExecutionContext(Optional.empty(), token);
+    assertSame(token, context.getCancellationToken());
+    assertFalse(context.getProfile().isEnabled());
+  }
+
+  @Test
+  void createExecutionContextWithProfile() {
+    QueryProfile profile = new QueryProfile();
+    ExecutionContext context =
+        new ExecutionContext(Optional.empty(), new CancellationToken(), profile);
+    assertSame(profile, context.getProfile());
+  }
+}
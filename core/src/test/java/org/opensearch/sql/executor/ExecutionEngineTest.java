@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+
+class ExecutionEngineTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void explainWithoutExecutionByDefault() {
+    ExecutionEngine engine = spy(new ExecutionEngine() {
+      @Override
+      public void execute(PhysicalPlan plan, ResponseListener<QueryResponse> listener) {
+      }
+
+      @Override
+      public void execute(PhysicalPlan plan, ExecutionContext context,
+                          ResponseListener<QueryResponse> listener) {
+      }
+
+      @Override
+      public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
+      }
+    });
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    ResponseListener<ExplainResponse> listener = mock(ResponseListener.class);
+
+    engine.explain(plan, ExecutionContext.emptyExecutionContext(), listener);
+    verify(engine).explain(plan, listener);
+  }
+}
@@ -9,6 +9,8 @@ package org.opensearch.sql.executor;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType.ROWS;
 import static org.opensearch.sql.ast.tree.RareTopN.CommandType.TOP;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -21,6 +23,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.agg;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.hashJoin;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.nested;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
@@ -39,10 +42,13 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.QueryProfile.OperatorProfile;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionTestBase;
@@ -51,6 +57,8 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -154,6 +162,34 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_window_with_frame() {
+    List<Pair<Sort.SortOption, Expression>> sortList = List.of(
+        ImmutablePair.of(DEFAULT_ASC, ref("age", INTEGER)));
+    WindowFrameSpec frame =
+        new WindowFrameSpec(ROWS, FrameBound.preceding(1), FrameBound.following(2));
+
+    PhysicalPlan plan = window(tableScan,
+        named(new AggregateWindowFunction(DSL.sum(ref("age", INTEGER)))),
+        new WindowDefinition(List.of(), sortList, frame));
+
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "WindowOperator",
+                Map.of(
+                    "function", "sum(age)",
+                    "definition", Map.of(
+                        "partitionBy", "[]",
+                        "sortList", Map.of(
+                            "age", Map.of(
+                                "sortOrder", "ASC",
+                                "nullOrder", "NULL_FIRST")),
+                        "frame", "ROWS BETWEEN 1 PRECEDING AND 2 FOLLOWING")),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
   @Test
   void can_explain_other_operators() {
     ReferenceExpression[] removeList = {ref("state", STRING)};
@@ -243,6 +279,65 @@ class ExplainTest extends ExpressionTestBase {
     );
   }
 
+  @Test
+  void can_explain_hash_join() {
+    PhysicalPlan plan = hashJoin(tableScan, new FakeTableScan(), JoinType.INNER,
+        List.of(ref("dept_id", INTEGER)), List.of(ref("id", INTEGER)));
+
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "HashJoinOperator",
+                Map.of(
+                    "joinType", "INNER",
+                    "leftKeys", "[dept_id]",
+                    "rightKeys", "[id]"),
+                List.of(tableScan.explainNode(), tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
+  @Test
+  void can_explain_analyze_with_operator_profile() {
+    List<NamedAggregator> aggList = List.of(
+        named("avg(balance)", DSL.avg(ref("balance", DOUBLE))));
+    List<NamedExpression> groupByList = List.of(named("state", ref("state", STRING)));
+    PhysicalPlan plan = sort(
+        agg(tableScan, aggList, groupByList),
+        ImmutablePair.of(DEFAULT_ASC, ref("state", STRING)));
+
+    OperatorProfile sortProfile = new QueryProfile().addOperator("SortOperator");
+    sortProfile.add(2, 3_000_000);
+    OperatorProfile aggProfile = sortProfile.addChild("AggregationOperator");
+    aggProfile.add(2, 2_000_000);
+    aggProfile.addChild("FakeTableScan").add(10, 1_000_000);
+
+    ExplainResponseNode sortNode = explain.apply(plan, sortProfile).getRoot();
+    assertEquals(
+        Map.of("rows_in", 2L, "rows_out", 2L, "time_ms", 3.0, "memory_bytes", 0L),
+        sortNode.getAnalyze());
+    ExplainResponseNode aggNode = sortNode.getChildren().get(0);
+    assertEquals(
+        Map.of("rows_in", 10L, "rows_out", 2L, "time_ms", 2.0, "memory_bytes", 0L),
+        aggNode.getAnalyze());
+    assertEquals(
+        Map.of("rows_out", 10L, "time_ms", 1.0),
+        aggNode.getChildren().get(0).getAnalyze());
+  }
+
+  @Test
+  void can_explain_analyze_without_child_profile() {
+    PhysicalPlan plan = hashJoin(tableScan, new FakeTableScan(), JoinType.INNER,
+        List.of(ref("dept_id", INTEGER)), List.of(ref("id", INTEGER)));
+    OperatorProfile joinProfile = new QueryProfile().addOperator("HashJoinOperator");
+    joinProfile.addChild("FakeTableScan");
+
+    ExplainResponseNode joinNode = explain.apply(plan, joinProfile).getRoot();
+    assertEquals(0L, joinNode.getAnalyze().get("memory_bytes"));
+    assertEquals(Map.of("rows_out", 0L, "time_ms", 0.0),
+        joinNode.getChildren().get(0).getAnalyze());
+    assertNull(joinNode.getChildren().get(1).getAnalyze());
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.executor.QueryProfile.OperatorProfile;
+import org.opensearch.sql.monitor.QueryMetrics;
+import org.opensearch.sql.monitor.QueryStage;
+
+@ExtendWith(MockitoExtension.class)
+class QueryProfileTest {
+
+  @Mock
+  private QueryMetrics metrics;
+
+  @Test
+  void disabled_by_default() {
+    assertFalse(new QueryProfile().isEnabled());
+  }
+
+  @Test
+  void record_stage_latency_into_metrics_and_profile() {
+    QueryProfile profile = new QueryProfile(metrics);
+    profile.record(QueryStage.PARSE, 1_500_000L);
+    profile.record(QueryStage.PARSE, 500_000L);
+
+    verify(metrics).record(QueryStage.PARSE, 1_500_000L);
+    verify(metrics).record(QueryStage.PARSE, 500_000L);
+    assertEquals(Map.of("parse_ms", 2.0), profile.toMap().get("stages"));
+  }
+
+  @Test
+  void time_action_whether_succeeded_or_not() {
+    QueryProfile profile = new QueryProfile(metrics);
+    assertEquals("plan", profile.time(QueryStage.PLAN, () -> "plan"));
+    assertThrows(IllegalStateException.class, () -> profile.time(QueryStage.ANALYZE, () -> {
+      throw new IllegalStateException();
+    }));
+
+    Map<?, ?> stages = (Map<?, ?>) profile.toMap().get("stages");
+    assertEquals(List.of("analyze_ms", "plan_ms"), List.copyOf(stages.keySet()));
+  }
+
+  @Test
+  void operator_profile_as_tree() {
+    QueryProfile profile = new QueryProfile(metrics);
+    OperatorProfile project = profile.addOperator("ProjectOperator");
+    OperatorProfile scan = project.addChild("IndexScan");
+    scan.add(10, 2_000_000L);
+    project.add(10, 3_000_000L);
+    project.add(0, 1_000_000L);
+
+    assertEquals(
+        List.of(Map.of(
+            "name", "ProjectOperator",
+            "rows", 10L,
+            "time_ms", 4.0,
+            "children", List.of(Map.of(
+                "name", "IndexScan",
+                "rows", 10L,
+                "time_ms", 2.0))))),
+        profile.toMap().get("operators"));
+  }
+}
@@ -9,19 +9,24 @@
 package org.opensearch.sql.executor;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.analysis.Analyzer;
@@ -107,6 +112,105 @@ class QueryServiceTest {
         .handledByOnFailure();
   }
 
+  @Test
+  public void executeWithCancellationToken() {
+    CancellationToken token = new CancellationToken();
+    queryService().executeSuccess();
+    queryService.execute(ast, new PlanContext(token), new ResponseListener<>() {
+      @Override
+      public void onResponse(ExecutionEngine.QueryResponse response) {
+        assertNotNull(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        fail();
+      }
+    });
+
+    ArgumentCaptor<ExecutionContext> context = ArgumentCaptor.forClass(ExecutionContext.class);
+    verify(executionEngine).execute(eq(plan), context.capture(), any());
+    assertSame(token, context.getValue().getCancellationToken());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void executeWithProfile() {
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    queryService().executeSuccess();
+    queryService.execute(ast, new PlanContext(new CancellationToken(), profile),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExecutionEngine.QueryResponse response) {
+            assertNotNull(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail();
+          }
+        });
+
+    ArgumentCaptor<ExecutionContext> context = ArgumentCaptor.forClass(ExecutionContext.class);
+    verify(executionEngine).execute(eq(plan), context.capture(), any());
+    assertSame(profile, context.getValue().getProfile());
+    Map<String, Object> stages = (Map<String, Object>) profile.toMap().get("stages");
+    assertTrue(stages.containsKey("analyze_ms"));
+    assertTrue(stages.containsKey("plan_ms"));
+  }
+
+  @Test
+  public void explainWithProfile() {
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    queryService();
+    doAnswer(
+        invocation -> {
+          ResponseListener<ExecutionEngine.ExplainResponse> listener = invocation.getArgument(2);
+          listener.onResponse(
+              new ExecutionEngine.ExplainResponse(
+                  new ExecutionEngine.ExplainResponseNode("test")));
+          return null;
+        })
+        .when(executionEngine)
+        .explain(any(), any(), any());
+
+    queryService.explain(ast, new PlanContext(new CancellationToken(), profile),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExecutionEngine.ExplainResponse response) {
+            assertNotNull(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail();
+          }
+        });
+
+    ArgumentCaptor<ExecutionContext> context = ArgumentCaptor.forClass(ExecutionContext.class);
+    verify(executionEngine).explain(eq(plan), context.capture(), any());
+    assertSame(profile, context.getValue().getProfile());
+  }
+
+  @Test
+  public void explainWithProfileShouldCatchException() {
+    queryService().analyzeFail();
+    queryService.explain(ast, new PlanContext(new CancellationToken(), new QueryProfile()),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExecutionEngine.ExplainResponse response) {
+            fail();
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            assertTrue(e instanceof IllegalStateException);
+          }
+        });
+  }
+
   Helper queryService() {
     return new Helper();
   }
@@ -140,6 +244,7 @@ class QueryServiceTest {
           .when(executionEngine)
           .execute(any(), any(), any());
       lenient().when(planContext.getSplit()).thenReturn(this.split);
+      lenient().when(planContext.getProfile()).thenReturn(new QueryProfile());
 
       return this;
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+
+class ResponseSinkTest {
+
+  @Test
+  void deliver_whole_response_as_single_batch() {
+    List<String> events = new ArrayList<>();
+    ResponseSink sink = new ResponseSink() {
+      @Override
+      public void onSchema(Schema schema) {
+        events.add("schema");
+      }
+
+      @Override
+      public void onBatch(List<ExprValue> batch) {
+        events.add("batch" + batch.size());
+      }
+
+      @Override
+      public void onComplete() {
+        events.add("complete");
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        events.add("failure");
+      }
+    };
+
+    sink.onResponse(new QueryResponse(
+        new Schema(Collections.emptyList()), Arrays.asList(integerValue(1), integerValue(2))));
+    sink.onProfile(new QueryProfile());
+    assertEquals(Arrays.asList("schema", "batch2", "complete"), events);
+    assertEquals(ResponseSink.DEFAULT_BATCH_SIZE, sink.batchSize());
+  }
+}
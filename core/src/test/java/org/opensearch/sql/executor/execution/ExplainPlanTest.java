@@ -9,11 +9,13 @@
 package org.opensearch.sql.executor.execution;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.QueryProfile;
 
 @ExtendWith(MockitoExtension.class)
 public class ExplainPlanTest {
@@ -44,6 +47,15 @@ public class ExplainPlanTest {
     verify(queryPlan, times(1)).explain(explainListener);
   }
 
+  @Test
+  public void profileOfPlanExplained() {
+    QueryProfile profile = new QueryProfile();
+    when(queryPlan.getProfile()).thenReturn(profile);
+
+    ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
+    assertSame(profile, explainPlan.getProfile());
+  }
+
   @Test
   public void explainThrowException() {
     ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
@@ -8,7 +8,12 @@
 
 package org.opensearch.sql.executor.execution;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -21,6 +26,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.planner.PlanContext;
 
 @ExtendWith(MockitoExtension.class)
 class QueryPlanTest {
@@ -45,7 +51,22 @@ class QueryPlanTest {
     QueryPlan query = new QueryPlan(queryId, plan, queryService, queryListener);
     query.execute();
 
-    verify(queryService, times(1)).execute(any(), any());
+    verify(queryService, times(1)).execute(eq(plan), any(), eq(queryListener));
+  }
+
+  @Test
+  public void cancel() {
+    QueryPlan query = new QueryPlan(queryId, plan, queryService, queryListener);
+    doAnswer(invocation -> {
+      PlanContext planContext = invocation.getArgument(1);
+      assertFalse(planContext.getCancellationToken().isCancelled());
+      query.cancel("cancelled by user");
+      assertEquals("cancelled by user", planContext.getCancellationToken().getReason());
+      return null;
+    }).when(queryService).execute(any(), any(), any());
+
+    query.execute();
+    assertTrue(query.getCancellationToken().isCancelled());
   }
 
   @Test
@@ -53,6 +74,6 @@ class QueryPlanTest {
     QueryPlan query = new QueryPlan(queryId, plan, queryService, queryListener);
     query.explain(explainListener);
 
-    verify(queryService, times(1)).explain(plan, explainListener);
+    verify(queryService, times(1)).explain(eq(plan), any(), eq(explainListener));
   }
 }
@@ -32,6 +32,9 @@ import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -41,6 +44,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -137,6 +141,36 @@ class ReferenceExpressionTest extends ExpressionTestBase {
     assertEquals("First message in array", actualValue.stringValue());
   }
 
+  @Test
+  public void resolve_row_backed_tuple_by_slot() {
+    ExprTupleValue row = row(tuple());
+    assertEquals(stringValue("bob smith"), ref("name", STRING).resolve(row));
+    assertEquals(integerValue(1990), ref("project.year", INTEGER).resolve(row));
+    assertEquals(stringValue("WA"), ref("address.state", STRING).resolve(row));
+    assertEquals(integerValue(1990), ref("address.project.year", INTEGER).resolve(row));
+    assertTrue(ref("address.local.state", STRING).resolve(row).isMissing());
+    assertTrue(ref("missing_field", STRING).resolve(row).isMissing());
+  }
+
+  @Test
+  public void resolve_row_backed_tuples_of_different_schema() {
+    ReferenceExpression expr = ref("name", STRING);
+    ExprTupleValue row = row(tuple());
+    ExprTupleValue other = ExprTupleValue.fromRow(
+        RowSchema.of(Arrays.asList("age", "name")).get(),
+        new ExprValue[] {integerValue(30), stringValue("alice")});
+
+    assertEquals(stringValue("bob smith"), expr.resolve(row));
+    assertEquals(stringValue("alice"), expr.resolve(other));
+    assertEquals(stringValue("bob smith"), expr.resolve(row));
+  }
+
+  private ExprTupleValue row(ExprTupleValue tuple) {
+    Map<String, ExprValue> map = tuple.tupleValue();
+    return ExprTupleValue.fromRow(RowSchema.of(new ArrayList<>(map.keySet())).get(),
+        map.values().toArray(new ExprValue[0]));
+  }
+
   /**
    * {
    *   "name": "bob smith"
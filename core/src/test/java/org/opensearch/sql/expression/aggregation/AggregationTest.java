@@ -140,4 +140,20 @@ public class AggregationTest extends ExpressionTestBase {
     }
     return state.result();
   }
+
+  /**
+   * Aggregate all tuples and then remove the first tuples in the same order as iterated,
+   * which is how aggregate window function slides its frame.
+   */
+  protected ExprValue aggregationAfterRemove(Aggregator aggregator, List<ExprValue> tuples,
+                                             int removed) {
+    AggregationState state = aggregator.createRemovable();
+    for (ExprValue tuple : tuples) {
+      aggregator.iterate(tuple.bindingTuples(), state);
+    }
+    for (ExprValue tuple : tuples.subList(0, removed)) {
+      aggregator.remove(tuple.bindingTuples(), state);
+    }
+    return state.result();
+  }
 }
@@ -17,9 +17,11 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
+import com.google.common.collect.ImmutableMap;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprValue;
@@ -154,4 +156,35 @@ class AvgAggregatorTest extends AggregationTest {
     assertEquals(String.format("avg(*(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         avgAggregator.toString());
   }
+
+  @Test
+  public void avg_after_remove() {
+    assertTrue(DSL.avg(DSL.ref("double_value", DOUBLE)).isRemovable());
+    ExprValue result =
+        aggregationAfterRemove(DSL.avg(DSL.ref("double_value", DOUBLE)), tuples, 2);
+    assertEquals(3.5, result.value());
+  }
+
+  @Test
+  public void avg_after_remove_all() {
+    ExprValue result =
+        aggregationAfterRemove(DSL.avg(DSL.ref("double_value", DOUBLE)), tuples, 4);
+    assertTrue(result.isNull());
+  }
+
+  @Test
+  public void avg_after_remove_non_finite_value() {
+    List<ExprValue> values = Arrays.asList(
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", Double.NaN)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", Double.NEGATIVE_INFINITY)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", 1e20)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", 1d)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", 2d)));
+    assertEquals(Double.NaN, aggregationAfterRemove(
+        DSL.avg(DSL.ref("double_value", DOUBLE)), values, 0).value());
+    assertEquals(Double.NEGATIVE_INFINITY, aggregationAfterRemove(
+        DSL.avg(DSL.ref("double_value", DOUBLE)), values, 1).value());
+    assertEquals(1.5, aggregationAfterRemove(
+        DSL.avg(DSL.ref("double_value", DOUBLE)), values, 3).value());
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompensatedSumTest {
+
+  @Test
+  void should_sum_values_remaining() {
+    CompensatedSum sum = sum(1.0, 2.0, 3.0);
+    sum.remove(1.0);
+    assertEquals(5.0, sum.value());
+  }
+
+  @Test
+  void should_recover_precision_lost_by_value_removed() {
+    CompensatedSum sum = sum(1e20, 1.0, -3.0);
+    sum.remove(1e20);
+    assertEquals(-2.0, sum.value());
+
+    sum = sum(1.0, 1e20);
+    sum.remove(1e20);
+    assertEquals(1.0, sum.value());
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+  void should_sum_finite_values_after_non_finite_removed(double nonFinite) {
+    CompensatedSum sum = sum(nonFinite, 1.0, 2.0);
+    assertEquals(nonFinite, sum.value());
+
+    sum.remove(nonFinite);
+    assertEquals(3.0, sum.value());
+  }
+
+  @Test
+  void should_be_nan_if_both_infinities_remaining() {
+    CompensatedSum sum = sum(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 1.0);
+    assertEquals(Double.NaN, sum.value());
+
+    sum.remove(Double.POSITIVE_INFINITY);
+    assertEquals(Double.NEGATIVE_INFINITY, sum.value());
+  }
+
+  @Test
+  void should_be_nan_if_nan_remaining() {
+    CompensatedSum sum = sum(Double.POSITIVE_INFINITY, Double.NaN);
+    assertEquals(Double.NaN, sum.value());
+  }
+
+  private CompensatedSum sum(double... values) {
+    CompensatedSum sum = new CompensatedSum();
+    for (double value : values) {
+      sum.add(value);
+    }
+    return sum;
+  }
+}
@@ -7,7 +7,9 @@
 package org.opensearch.sql.expression.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
@@ -186,4 +188,17 @@ class CountAggregatorTest extends AggregationTest {
     assertEquals(String.format("count(abs(%s))", DSL.ref("integer_value", INTEGER)),
         countAggregator.toString());
   }
+
+  @Test
+  public void count_after_remove() {
+    assertTrue(DSL.count(DSL.ref("integer_value", INTEGER)).isRemovable());
+    ExprValue result =
+        aggregationAfterRemove(DSL.count(DSL.ref("integer_value", INTEGER)), tuples, 1);
+    assertEquals(3, result.value());
+  }
+
+  @Test
+  public void distinct_count_is_not_removable() {
+    assertFalse(DSL.distinctCount(DSL.ref("integer_value", INTEGER)).isRemovable());
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.aggregation.DistinctCountApproxAggregator.DistinctCountApproxState;
+
+class DistinctCountApproxAggregatorTest extends AggregationTest {
+
+  @Test
+  public void distinct_count_approx() {
+    Aggregator aggregator = DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER));
+    assertEquals(LONG, aggregator.type());
+    assertEquals(3L, aggregation(aggregator, tuples_with_duplicates).value());
+  }
+
+  @Test
+  public void distinct_count_approx_of_struct_and_string() {
+    assertEquals(3L, aggregation(DSL.distinctCountApprox(DSL.ref("struct_value", STRUCT)),
+        tuples_with_duplicates).value());
+    assertEquals(3L, aggregation(DSL.distinctCountApprox(DSL.ref("string_value", STRING)),
+        tuples).value());
+  }
+
+  @Test
+  public void filtered_distinct_count_approx() {
+    ExprValue result = aggregation(DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER))
+        .condition(DSL.greater(DSL.ref("double_value", DOUBLE), DSL.literal(1d))),
+        tuples_with_duplicates);
+    assertEquals(2L, result.value());
+  }
+
+  @Test
+  public void distinct_count_approx_with_null_and_missing() {
+    assertEquals(2L, aggregation(DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER)),
+        tuples_with_null_and_missing).value());
+    assertEquals(0L, aggregation(DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER)),
+        tuples_with_all_null_or_missing).value());
+  }
+
+  @Test
+  public void distinct_count_approx_with_precision_threshold() {
+    List<ExprValue> values = IntStream.range(0, 10000)
+        .mapToObj(i -> ExprValueUtils.tupleValue(ImmutableMap.of("integer_value", i % 5000)))
+        .collect(Collectors.toList());
+
+    long exact = aggregation(DSL.distinctCountApprox(
+        DSL.ref("integer_value", INTEGER), DSL.literal(40000)), values).longValue();
+    long approx = aggregation(DSL.distinctCountApprox(
+        DSL.ref("integer_value", INTEGER), DSL.literal(100)), values).longValue();
+    assertEquals(5000L, exact);
+    assertEquals(5000.0, approx, 5000 * 0.1);
+  }
+
+  @Test
+  public void merge_partial_states() {
+    DistinctCountApproxAggregator aggregator = (DistinctCountApproxAggregator)
+        DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER));
+    DistinctCountApproxState state = aggregator.create();
+    DistinctCountApproxState other = aggregator.create();
+    for (ExprValue tuple : tuples) {
+      aggregator.iterate(tuple.bindingTuples(), state);
+    }
+    for (ExprValue tuple : tuples_with_duplicates) {
+      aggregator.iterate(tuple.bindingTuples(), other);
+    }
+
+    state.merge(other);
+    assertEquals(4L, state.result().value());
+  }
+
+  @Test
+  public void estimated_size_fixed_by_precision_threshold() {
+    DistinctCountApproxAggregator aggregator = (DistinctCountApproxAggregator)
+        DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER));
+    DistinctCountApproxState state = aggregator.create();
+    assertEquals(1 << 14, state.estimatedSize());
+    for (ExprValue tuple : tuples) {
+      aggregator.iterate(tuple.bindingTuples(), state);
+    }
+    assertEquals(1 << 14, state.estimatedSize());
+
+    aggregator = (DistinctCountApproxAggregator)
+        DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER), DSL.literal(100));
+    assertEquals(1 << 10, aggregator.create().estimatedSize());
+  }
+
+  @Test
+  public void test_to_string() {
+    assertEquals("distinct_count_approx(integer_value)",
+        DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER)).toString());
+    assertEquals("distinct_count_approx(integer_value, 100)",
+        DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER), DSL.literal(100)).toString());
+  }
+
+  @Test
+  public void test_value_of() {
+    ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+        () -> DSL.distinctCountApprox(DSL.ref("integer_value", INTEGER)).valueOf(valueEnv()));
+    assertEquals("can't evaluate on aggregator: distinct_count_approx", exception.getMessage());
+  }
+}
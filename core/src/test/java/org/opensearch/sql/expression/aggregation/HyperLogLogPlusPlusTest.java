@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HyperLogLogPlusPlusTest {
+
+  @Test
+  void precision_from_threshold() {
+    assertEquals(4, HyperLogLogPlusPlus.precisionFromThreshold(0));
+    assertEquals(5, HyperLogLogPlusPlus.precisionFromThreshold(5));
+    assertEquals(6, HyperLogLogPlusPlus.precisionFromThreshold(10));
+    assertEquals(14, HyperLogLogPlusPlus.precisionFromThreshold(3000));
+    assertEquals(18, HyperLogLogPlusPlus.precisionFromThreshold(40000));
+    assertEquals(18, new HyperLogLogPlusPlus(Long.MAX_VALUE).getPrecision());
+  }
+
+  @Test
+  void should_fail_if_precision_threshold_negative() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> new HyperLogLogPlusPlus(-1));
+    assertEquals("precision threshold must be greater than or equal to 0",
+        exception.getMessage());
+  }
+
+  @Test
+  void count_exactly_before_converted_to_registers() {
+    HyperLogLogPlusPlus sketch = sketch(3000, 0, 1500);
+    sketch.add(integerValue(0));
+    sketch.add(stringValue("0"));
+    assertEquals(1501, sketch.cardinality());
+  }
+
+  @Test
+  void count_closely_below_precision_threshold() {
+    assertEquals(3000, sketch(3000, 0, 3000).cardinality(), 3000 * 0.02);
+  }
+
+  @Test
+  void size_fixed_by_precision() {
+    HyperLogLogPlusPlus sketch = new HyperLogLogPlusPlus(3000);
+    assertEquals(1 << 14, sketch.sizeInBytes());
+    sketch.merge(sketch(3000, 0, 10000));
+    assertEquals(1 << 14, sketch.sizeInBytes());
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 5, 10, 100, 3000})
+  void estimate_within_error_beyond_precision_threshold(long precisionThreshold) {
+    for (int count : new int[] {50, 1000, 20000, 100000}) {
+      HyperLogLogPlusPlus sketch = sketch(precisionThreshold, 0, count);
+      double error = 3 * 1.04 / Math.sqrt(1 << sketch.getPrecision());
+      assertEquals(count, sketch.cardinality(), count * error,
+          "Assertion failed on count " + count);
+    }
+  }
+
+  @Test
+  void merge_sketches_with_hashes_or_registers() {
+    assertEquals(15, merge(sketch(100, 0, 10), sketch(100, 5, 15)).cardinality());
+
+    long expected = merge(sketch(100, 0, 5000), sketch(100, 2000, 10000)).cardinality();
+    assertEquals(10000, expected, 10000 * 0.1);
+    assertEquals(expected, merge(sketch(100, 2000, 10000), sketch(100, 0, 5000)).cardinality());
+    assertEquals(expected, merge(sketch(100, 0, 10), sketch(100, 0, 10000)).cardinality());
+  }
+
+  @Test
+  void should_fail_to_merge_sketch_of_different_precision() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> merge(new HyperLogLogPlusPlus(100), new HyperLogLogPlusPlus(3000)));
+    assertEquals("can't merge sketch of precision 14 into 10", exception.getMessage());
+  }
+
+  private HyperLogLogPlusPlus sketch(long precisionThreshold, int from, int to) {
+    HyperLogLogPlusPlus sketch = new HyperLogLogPlusPlus(precisionThreshold);
+    for (int i = from; i < to; i++) {
+      sketch.add(integerValue(i));
+    }
+    return sketch;
+  }
+
+  private HyperLogLogPlusPlus merge(HyperLogLogPlusPlus sketch, HyperLogLogPlusPlus other) {
+    sketch.merge(other);
+    return sketch;
+  }
+}
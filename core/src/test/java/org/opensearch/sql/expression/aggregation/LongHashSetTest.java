@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LongHashSetTest {
+
+  @Test
+  void add_distinct_values_only() {
+    LongHashSet set = new LongHashSet(16);
+    assertTrue(set.add(0L));
+    assertTrue(set.add(1L));
+    assertTrue(set.add(-1L));
+    assertTrue(set.add(Long.MIN_VALUE));
+    assertFalse(set.add(0L));
+    assertFalse(set.add(-1L));
+    assertEquals(4, set.size());
+
+    Set<Long> values = new HashSet<>();
+    set.forEach(values::add);
+    assertEquals(Set.of(0L, 1L, -1L, Long.MIN_VALUE), values);
+  }
+
+  @Test
+  void add_values_colliding_in_table() {
+    LongHashSet set = new LongHashSet(4);
+    // 3 and 8 fall into the last slot, so 8 wraps around to the first slot taken by 2 otherwise
+    assertTrue(set.add(3L));
+    assertTrue(set.add(8L));
+    assertTrue(set.add(2L));
+    assertFalse(set.add(8L));
+    assertFalse(set.add(2L));
+    assertEquals(3, set.size());
+  }
+
+  @Test
+  void should_fail_to_add_value_if_full() {
+    LongHashSet set = new LongHashSet(4);
+    assertEquals(3, set.maxSize());
+    set.add(1L);
+    set.add(2L);
+    set.add(3L);
+    assertFalse(set.add(3L));
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> set.add(4L));
+    assertEquals("hash set is full with 3 values", exception.getMessage());
+    assertThrows(IllegalStateException.class, () -> set.add(0L));
+  }
+
+  @Test
+  void size_in_bytes_fixed_by_capacity() {
+    LongHashSet set = new LongHashSet(8);
+    assertEquals(64L, set.sizeInBytes());
+    set.add(1L);
+    assertEquals(64L, set.sizeInBytes());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 6})
+  void should_fail_if_capacity_invalid(int capacity) {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> new LongHashSet(capacity));
+    assertEquals("capacity must be a power of 2 and at least 2", exception.getMessage());
+  }
+}
@@ -137,4 +137,20 @@ public class MaxAggregatorTest extends AggregationTest {
     assertEquals(String.format("max(+(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         maxAggregator.toString());
   }
+
+  @Test
+  public void max_after_remove() {
+    assertTrue(DSL.max(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertEquals(4, aggregationAfterRemove(
+        DSL.max(DSL.ref("integer_value", INTEGER)), tuples, 2).value());
+    assertEquals(4, aggregationAfterRemove(
+        DSL.max(DSL.ref("integer_value", INTEGER)), tuples, 3).value());
+  }
+
+  @Test
+  public void max_after_remove_all() {
+    ExprValue result =
+        aggregationAfterRemove(DSL.max(DSL.ref("integer_value", INTEGER)), tuples, 4);
+    assertTrue(result.isNull());
+  }
 }
@@ -137,4 +137,20 @@ public class MinAggregatorTest extends AggregationTest {
     assertEquals(String.format("min(+(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         minAggregator.toString());
   }
+
+  @Test
+  public void min_after_remove() {
+    assertTrue(DSL.min(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertEquals(3, aggregationAfterRemove(
+        DSL.min(DSL.ref("integer_value", INTEGER)), tuples, 2).value());
+    assertEquals(4, aggregationAfterRemove(
+        DSL.min(DSL.ref("integer_value", INTEGER)), tuples, 3).value());
+  }
+
+  @Test
+  public void min_after_remove_all() {
+    ExprValue result =
+        aggregationAfterRemove(DSL.min(DSL.ref("integer_value", INTEGER)), tuples, 4);
+    assertTrue(result.isNull());
+  }
 }
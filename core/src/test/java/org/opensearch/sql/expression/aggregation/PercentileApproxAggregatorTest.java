@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.exception.SemanticCheckException;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.aggregation.PercentileApproxAggregator.PercentileApproxState;
+
+class PercentileApproxAggregatorTest extends AggregationTest {
+
+  @Test
+  public void percentile_approx() {
+    Aggregator aggregator =
+        DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(50.0));
+    assertEquals(DOUBLE, aggregator.type());
+    assertEquals(2.5, aggregation(aggregator, tuples).value());
+  }
+
+  @Test
+  public void percentile_approx_of_min_and_max() {
+    assertEquals(1.0, aggregation(DSL.percentileApprox(
+        DSL.ref("long_value", LONG), DSL.literal(0.0)), tuples).value());
+    assertEquals(4.0, aggregation(DSL.percentileApprox(
+        DSL.ref("double_value", DOUBLE), DSL.literal(100)), tuples).value());
+  }
+
+  @Test
+  public void filtered_percentile_approx() {
+    ExprValue result = aggregation(
+        DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(50.0))
+            .condition(DSL.greater(DSL.ref("integer_value", INTEGER), DSL.literal(1))),
+        tuples);
+    assertEquals(3.0, result.value());
+  }
+
+  @Test
+  public void percentile_approx_with_null_and_missing() {
+    assertEquals(1.5, aggregation(DSL.percentileApprox(
+        DSL.ref("integer_value", INTEGER), DSL.literal(50.0)),
+        tuples_with_null_and_missing).value());
+    assertTrue(aggregation(DSL.percentileApprox(
+        DSL.ref("integer_value", INTEGER), DSL.literal(50.0)),
+        tuples_with_all_null_or_missing).isNull());
+  }
+
+  @Test
+  public void percentile_approx_with_compression() {
+    List<ExprValue> values = IntStream.range(0, 10000)
+        .mapToObj(i -> ExprValueUtils.tupleValue(ImmutableMap.of("integer_value", i)))
+        .collect(Collectors.toList());
+
+    PercentileApproxAggregator aggregator = (PercentileApproxAggregator) DSL.percentileApprox(
+        DSL.ref("integer_value", INTEGER), DSL.literal(99.0), DSL.literal(200.0));
+    assertEquals(99.0, aggregator.getPercent());
+    assertEquals(200.0, aggregator.getCompression());
+    assertEquals(9900.0, aggregation(aggregator, values).doubleValue(), 10000 * 0.001);
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-1.0, 101.0, Double.NaN})
+  public void should_fail_if_percent_out_of_range(double percent) {
+    SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+        () -> DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(percent)));
+    assertEquals("percent must be between 0 and 100", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0.0, -1.0, Double.NaN})
+  public void should_fail_if_compression_not_positive(double compression) {
+    SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+        () -> DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(50.0),
+            DSL.literal(compression)));
+    assertEquals("compression must be greater than 0", exception.getMessage());
+  }
+
+  @Test
+  public void merge_partial_states() {
+    PercentileApproxAggregator aggregator = (PercentileApproxAggregator)
+        DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(50.0));
+    PercentileApproxState state = aggregator.create();
+    PercentileApproxState other = aggregator.create();
+    for (ExprValue tuple : tuples) {
+      aggregator.iterate(tuple.bindingTuples(), state);
+    }
+    for (ExprValue tuple : tuples_with_duplicates) {
+      aggregator.iterate(tuple.bindingTuples(), other);
+    }
+
+    state.merge(other);
+    assertEquals(2.0, state.result().value());
+  }
+
+  @Test
+  public void estimated_size_bounded_by_compression() {
+    PercentileApproxAggregator aggregator = (PercentileApproxAggregator)
+        DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(50.0));
+    assertEquals((500 + 100) * 40L, aggregator.create().estimatedSize());
+
+    aggregator = (PercentileApproxAggregator) DSL.percentileApprox(
+        DSL.ref("integer_value", INTEGER), DSL.literal(50.0), DSL.literal(10.0));
+    assertEquals((50 + 10) * 40L, aggregator.create().estimatedSize());
+  }
+
+  @Test
+  public void test_to_string() {
+    assertEquals("percentile_approx(integer_value, 50.0)",
+        DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(50.0)).toString());
+    assertEquals("percentile_approx(integer_value, 50.0, 200.0)",
+        DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(50.0),
+            DSL.literal(200.0)).toString());
+  }
+
+  @Test
+  public void test_value_of() {
+    ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+        () -> DSL.percentileApprox(DSL.ref("integer_value", INTEGER), DSL.literal(50.0))
+            .valueOf(valueEnv()));
+    assertEquals("can't evaluate on aggregator: percentile_approx", exception.getMessage());
+  }
+}
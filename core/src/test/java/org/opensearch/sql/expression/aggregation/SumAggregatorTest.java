@@ -17,6 +17,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
@@ -121,4 +123,55 @@ class SumAggregatorTest extends AggregationTest {
     assertEquals(String.format("sum(*(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         sumAggregator.toString());
   }
+
+  @Test
+  public void sum_after_remove() {
+    assertTrue(DSL.sum(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertEquals(7, aggregationAfterRemove(
+        DSL.sum(DSL.ref("integer_value", INTEGER)), tuples, 2).value());
+    assertEquals(7L, aggregationAfterRemove(
+        DSL.sum(DSL.ref("long_value", LONG)), tuples, 2).value());
+    assertEquals(7f, aggregationAfterRemove(
+        DSL.sum(DSL.ref("float_value", FLOAT)), tuples, 2).value());
+    assertEquals(7d, aggregationAfterRemove(
+        DSL.sum(DSL.ref("double_value", DOUBLE)), tuples, 2).value());
+  }
+
+  @Test
+  public void sum_after_remove_all() {
+    ExprValue result =
+        aggregationAfterRemove(DSL.sum(DSL.ref("integer_value", INTEGER)), tuples, 4);
+    assertTrue(result.isNull());
+  }
+
+  @Test
+  public void sum_after_remove_with_null_and_missing() {
+    assertEquals(4.0, aggregationAfterRemove(DSL.sum(DSL.ref("double_value", DOUBLE)),
+        tuples_with_null_and_missing, 1).value());
+    assertEquals(1, aggregationAfterRemove(DSL.sum(DSL.ref("integer_value", INTEGER)),
+        tuples_with_null_and_missing, 1).value());
+  }
+
+  @Test
+  public void filtered_sum_after_remove() {
+    ExprValue result = aggregationAfterRemove(DSL.sum(DSL.ref("integer_value", INTEGER))
+        .condition(DSL.greater(DSL.ref("integer_value", INTEGER), DSL.literal(1))), tuples, 2);
+    assertEquals(7, result.value());
+  }
+
+  @Test
+  public void sum_after_remove_non_finite_value() {
+    List<ExprValue> values = Arrays.asList(
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", Double.NaN)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", Double.POSITIVE_INFINITY)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", 1e20)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("double_value", 1d)));
+    assertEquals(1d, aggregationAfterRemove(
+        DSL.sum(DSL.ref("double_value", DOUBLE)), values, 3).value());
+    assertEquals(Float.POSITIVE_INFINITY, aggregationAfterRemove(
+        DSL.sum(DSL.ref("float_value", FLOAT)), List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("float_value", Float.NaN)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("float_value", Float.POSITIVE_INFINITY))),
+        1).value());
+  }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.aggregation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TDigestTest {
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0.0, -1.0, Double.NaN})
+  void should_fail_if_compression_not_positive(double compression) {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> new TDigest(compression));
+    assertEquals("compression must be greater than 0", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-0.1, 1.1})
+  void should_fail_if_quantile_out_of_range(double q) {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> new TDigest(TDigest.DEFAULT_COMPRESSION).quantile(q));
+    assertEquals("quantile must be between 0 and 1", exception.getMessage());
+  }
+
+  @Test
+  void quantile_of_empty_digest_is_nan() {
+    assertTrue(Double.isNaN(new TDigest(TDigest.DEFAULT_COMPRESSION).quantile(0.5)));
+  }
+
+  @Test
+  void quantile_interpolated_between_values_if_few() {
+    TDigest digest = digest(TDigest.DEFAULT_COMPRESSION, List.of(3, 1, 5, 2, 4));
+    assertEquals(1.0, digest.quantile(0.0));
+    assertEquals(1.75, digest.quantile(0.25));
+    assertEquals(3.0, digest.quantile(0.5));
+    assertEquals(5.0, digest.quantile(1.0));
+    assertEquals(5, digest.centroidCount());
+    assertEquals(5.0, digest.getTotalWeight());
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {100, 200, 500})
+  void estimate_within_error(double compression) {
+    int count = 100000;
+    TDigest digest = digest(compression, shuffled(count));
+    for (double q : new double[] {0.0, 0.001, 0.01, 0.1, 0.5, 0.9, 0.99, 0.999, 1.0}) {
+      assertEquals(q * (count - 1), digest.quantile(q), count * 0.005,
+          "Assertion failed on quantile " + q);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {1, 10, 100, 1000})
+  void centroids_bounded_by_compression(double compression) {
+    TDigest digest = digest(compression, shuffled(100000));
+    assertTrue(digest.centroidCount() <= compression + 2);
+    assertEquals(100000.0, digest.getTotalWeight());
+  }
+
+  @Test
+  void merge_digests() {
+    List<Integer> values = shuffled(100000);
+    TDigest digest = digest(TDigest.DEFAULT_COMPRESSION, values.subList(0, 30000));
+    digest.merge(digest(TDigest.DEFAULT_COMPRESSION, values.subList(30000, 100000)));
+
+    assertEquals(100000.0, digest.getTotalWeight());
+    assertEquals(0.0, digest.quantile(0.0));
+    assertEquals(99999.0, digest.quantile(1.0));
+    assertEquals(50000.0, digest.quantile(0.5), 100000 * 0.005);
+    assertEquals(99000.0, digest.quantile(0.99), 100000 * 0.005);
+  }
+
+  @Test
+  void merge_empty_digest() {
+    TDigest digest = digest(TDigest.DEFAULT_COMPRESSION, List.of(1, 2, 3));
+    digest.merge(new TDigest(TDigest.DEFAULT_COMPRESSION));
+    assertEquals(2.0, digest.quantile(0.5));
+
+    TDigest empty = new TDigest(TDigest.DEFAULT_COMPRESSION);
+    empty.merge(digest);
+    assertEquals(2.0, empty.quantile(0.5));
+  }
+
+  private TDigest digest(double compression, List<Integer> values) {
+    TDigest digest = new TDigest(compression);
+    values.forEach(digest::add);
+    return digest;
+  }
+
+  private List<Integer> shuffled(int count) {
+    List<Integer> values = IntStream.range(0, count).boxed()
+        .collect(Collectors.toCollection(ArrayList::new));
+    Collections.shuffle(values, new Random(0));
+    return values;
+  }
+}
@@ -7,6 +7,7 @@
 package org.opensearch.sql.expression.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
@@ -83,4 +84,15 @@ class TakeAggregatorTest extends AggregationTest {
     Aggregator takeAggregator = DSL.take(DSL.ref("string_value", STRING), DSL.literal(10));
     assertEquals("take(string_value,10)", takeAggregator.toString());
   }
+
+  @Test
+  public void remove_is_not_supported() {
+    Aggregator aggregator = DSL.take(DSL.ref("string_value", STRING), DSL.literal(10));
+    assertFalse(aggregator.isRemovable());
+
+    AggregationState state = aggregator.create();
+    UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+        () -> aggregator.remove(tuples.get(0).bindingTuples(), state));
+    assertEquals("can't remove value from aggregator: take", exception.getMessage());
+  }
 }
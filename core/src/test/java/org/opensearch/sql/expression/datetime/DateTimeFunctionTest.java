@@ -14,6 +14,7 @@ import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.nullValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
@@ -22,6 +23,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -48,6 +50,7 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionTestBase;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 class DateTimeFunctionTest extends ExpressionTestBase {
 
@@ -1773,6 +1776,42 @@ class DateTimeFunctionTest extends ExpressionTestBase {
     assertEquals(eval(dateFormatExpr), eval(timeFormatExpr));
   }
 
+  @Test
+  public void testDateFormatAndTimeFormatWithFormatNotLiteral() {
+    BindingTuple tuple = tupleValue(ImmutableMap.of("format", "%Y-%m-%d %H:%i")).bindingTuples();
+
+    assertEquals("1998-01-31 13:14", DSL.date_format(functionProperties,
+        DSL.literal("1998-01-31 13:14:15"), DSL.ref("format", STRING))
+        .valueOf(tuple).stringValue());
+    assertEquals(
+        LocalDateTime.now(functionProperties.getQueryStartClock())
+            .format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + " 13:14",
+        DSL.date_format(functionProperties,
+            DSL.literal(new ExprTimeValue("13:14:15")), DSL.ref("format", STRING))
+            .valueOf(tuple).stringValue());
+    assertEquals("0000-00-00 13:14", DSL.time_format(functionProperties,
+        DSL.literal("13:14:15"), DSL.ref("format", STRING))
+        .valueOf(tuple).stringValue());
+  }
+
+  @Test
+  public void testDateFormatWithFormatLiteralForEachDate() {
+    FunctionExpression expr = DSL.date_format(
+        functionProperties, DSL.ref("date", DATE), DSL.literal("%D %b"));
+
+    // Java pattern of %D changes with day of month
+    assertEquals("31st Jan", formatDate(expr, "1998-01-31"));
+    assertEquals("1st Feb", formatDate(expr, "1998-02-01"));
+    assertEquals("1st Mar", formatDate(expr, "1998-03-01"));
+    assertEquals(nullValue(), expr.valueOf(
+        tupleValue(ImmutableMap.of("date", nullValue())).bindingTuples()));
+  }
+
+  private String formatDate(Expression expr, String date) {
+    return expr.valueOf(tupleValue(ImmutableMap.of("date", new ExprDateValue(date)))
+        .bindingTuples()).stringValue();
+  }
+
   private ExprValue eval(Expression expression) {
     return expression.valueOf();
   }
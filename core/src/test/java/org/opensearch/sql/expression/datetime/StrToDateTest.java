@@ -7,9 +7,13 @@
 package org.opensearch.sql.expression.datetime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.UNDEFINED;
 
+import com.google.common.collect.ImmutableMap;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -206,6 +210,42 @@ class StrToDateTest extends ExpressionTestBase {
         strToDateResult);
   }
 
+  @Test
+  public void test_str_to_date_with_format_not_literal() {
+    FunctionExpression expression = DSL.str_to_date(
+        functionProperties,
+        DSL.literal(new ExprStringValue("01,5,2013")),
+        DSL.ref("format", STRING));
+
+    assertEquals(new ExprDatetimeValue("2013-05-01 00:00:00"), expression.valueOf(
+        tupleValue(ImmutableMap.of("format", "%d,%m,%Y")).bindingTuples()));
+  }
+
+  @Test
+  public void test_str_to_date_with_format_literal_for_each_string() {
+    FunctionExpression expression = DSL.str_to_date(
+        functionProperties,
+        DSL.ref("datetime", STRING),
+        DSL.literal(new ExprStringValue("%d,%m,%Y")));
+
+    assertEquals(new ExprDatetimeValue("2013-05-01 00:00:00"), expression.valueOf(
+        tupleValue(ImmutableMap.of("datetime", "01,5,2013")).bindingTuples()));
+    assertEquals(new ExprDatetimeValue("2014-06-02 00:00:00"), expression.valueOf(
+        tupleValue(ImmutableMap.of("datetime", "02,6,2014")).bindingTuples()));
+    assertEquals(ExprNullValue.of(), expression.valueOf(
+        tupleValue(ImmutableMap.of("datetime", "2014")).bindingTuples()));
+  }
+
+  @Test
+  public void test_str_to_date_with_invalid_format_literal() {
+    FunctionExpression expression = DSL.str_to_date(
+        functionProperties,
+        DSL.literal(new ExprStringValue("01,5,2013")),
+        DSL.literal(new ExprStringValue("{")));
+
+    assertThrows(IllegalArgumentException.class, () -> eval(expression));
+  }
+
   private ExprValue eval(Expression expression) {
     return expression.valueOf();
   }
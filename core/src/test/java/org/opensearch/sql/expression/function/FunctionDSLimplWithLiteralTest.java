@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.expression.function.FunctionDSL.implWithLiteral;
+
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+
+class FunctionDSLimplWithLiteralTest extends FunctionDSLimplTestBase {
+
+  private static final SerializableBiFunction<ExprValue, ExprValue, ExprValue> general =
+      (v1, v2) -> v1;
+
+  private static final Environment<Expression, ExprValue> env = expr -> stringValue("field");
+
+  @Override
+  SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      getImplementationGenerator() {
+    return implWithLiteral(general, literal -> v -> literal, ANY_TYPE, ANY_TYPE, ANY_TYPE);
+  }
+
+  @Override
+  List<Expression> getSampleArguments() {
+    return List.of(DSL.literal(ANY), DSL.literal(ANY));
+  }
+
+  @Override
+  String getExpected_toString() {
+    return "sample(ANY, ANY)";
+  }
+
+  @Test
+  void implementation_specialized_by_literal() {
+    assertEquals(stringValue("literal"),
+        valueOf(getImplementation(), DSL.ref("arg", ANY_TYPE), DSL.literal("literal")));
+  }
+
+  @Test
+  void implementation_not_specialized_if_not_literal() {
+    assertEquals(stringValue("arg"),
+        valueOf(getImplementation(), DSL.literal("arg"), DSL.ref("arg", ANY_TYPE)));
+  }
+
+  @Test
+  void implementation_not_specialized_by_null_or_missing() {
+    assertEquals(stringValue("arg"),
+        valueOf(getImplementation(), DSL.literal("arg"), DSL.literal(NULL)));
+    assertEquals(stringValue("arg"),
+        valueOf(getImplementation(), DSL.literal("arg"), DSL.literal(MISSING)));
+  }
+
+  @Test
+  void implementation_not_specialized_if_failed() {
+    Pair<FunctionSignature, FunctionBuilder> implementation = implWithLiteral(general,
+        literal -> {
+          throw new IllegalArgumentException("invalid literal");
+        }, ANY_TYPE, ANY_TYPE, ANY_TYPE).apply(SAMPLE_NAME);
+
+    assertEquals(stringValue("arg"),
+        valueOf(implementation, DSL.literal("arg"), DSL.literal("literal")));
+  }
+
+  private ExprValue valueOf(Pair<FunctionSignature, FunctionBuilder> implementation,
+                            Expression arg1, Expression arg2) {
+    return ((FunctionExpression) implementation.getValue()
+        .apply(functionProperties, List.of(arg1, arg2))).valueOf(env);
+  }
+}
@@ -8,6 +8,7 @@ package org.opensearch.sql.expression.operator.predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_MISSING_VALUE_FIELD;
 import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_NULL_VALUE_FIELD;
@@ -46,6 +47,7 @@ import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -535,6 +537,63 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
         .valueOf(valueEnv()).integerValue());
   }
 
+  @Test
+  public void test_like_and_regexp_with_pattern_not_literal() {
+    Expression pattern = DSL.ref("string_value", STRING);
+    assertTrue(DSL.like(DSL.literal("STR"), pattern).valueOf(valueEnv()).booleanValue());
+    assertFalse(DSL.notLike(DSL.literal("STR"), pattern).valueOf(valueEnv()).booleanValue());
+    assertEquals(1, DSL.regexp(DSL.literal("str"), pattern).valueOf(valueEnv()).integerValue());
+  }
+
+  @Test
+  public void test_like_and_regexp_with_pattern_literal_for_each_text() {
+    Expression text = DSL.ref("string_value", STRING);
+    Expression nullText = DSL.ref(STRING_TYPE_NULL_VALUE_FIELD, STRING);
+    Expression missingText = DSL.ref(STRING_TYPE_MISSING_VALUE_FIELD, STRING);
+
+    FunctionExpression like = DSL.like(text, DSL.literal("S_r%"));
+    assertEquals("like(string_value, \"S_r%\")", like.toString());
+    assertEquals(LITERAL_TRUE, like.valueOf(valueEnv()));
+    assertEquals(LITERAL_NULL, DSL.like(nullText, DSL.literal("S_r%")).valueOf(valueEnv()));
+    assertEquals(LITERAL_MISSING,
+        DSL.like(missingText, DSL.literal("S_r%")).valueOf(valueEnv()));
+
+    FunctionExpression notLike = DSL.notLike(text, DSL.literal("S_r%"));
+    assertEquals(LITERAL_FALSE, notLike.valueOf(valueEnv()));
+    assertEquals(LITERAL_NULL, DSL.notLike(nullText, DSL.literal("S_r%")).valueOf(valueEnv()));
+
+    FunctionExpression regexp = DSL.regexp(text, DSL.literal("s.*"));
+    assertEquals(1, regexp.valueOf(valueEnv()).integerValue());
+    assertEquals(0, DSL.regexp(text, DSL.literal("x.*")).valueOf(valueEnv()).integerValue());
+    assertEquals(LITERAL_NULL, DSL.regexp(nullText, DSL.literal("s.*")).valueOf(valueEnv()));
+  }
+
+  @Test
+  public void test_like_with_null_pattern_literal() {
+    assertEquals(LITERAL_NULL,
+        DSL.like(DSL.literal("str"), DSL.literal(LITERAL_NULL)).valueOf(valueEnv()));
+  }
+
+  @Test
+  public void test_regexp_with_invalid_pattern_literal() {
+    FunctionExpression regexp = DSL.regexp(DSL.literal("str"), DSL.literal("("));
+    assertThrows(PatternSyntaxException.class, () -> regexp.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void serializationOfLikeWithPatternLiteral() throws Exception {
+    Expression expression = DSL.like(DSL.ref("string_value", STRING), DSL.literal("s%"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(expression);
+    objectOutput.flush();
+
+    ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    Expression e = (Expression) objectInput.readObject();
+    assertEquals(LITERAL_TRUE, e.valueOf(valueEnv()));
+  }
+
   /**
    * Todo. remove this test cases after script serilization implemented.
    */
@@ -32,4 +32,12 @@ public class SpanExpressionTest extends ExpressionTestBase {
     assertEquals(DOUBLE, span.type());
     assertEquals(ExprValueUtils.doubleValue(1.0), span.valueOf(valueEnv()));
   }
+
+  @Test
+  void testSpanEvaluatedRepeatedly() {
+    SpanExpression span = DSL.span(DSL.ref("integer_value", INTEGER), DSL.literal(2), "");
+    assertEquals(ExprValueUtils.integerValue(0), span.valueOf(valueEnv()));
+    assertEquals(ExprValueUtils.integerValue(0), span.valueOf(valueEnv()));
+    assertEquals(DSL.span(DSL.ref("integer_value", INTEGER), DSL.literal(2), ""), span);
+  }
 }
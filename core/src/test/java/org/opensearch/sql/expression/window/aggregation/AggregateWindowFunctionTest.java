@@ -7,25 +7,40 @@
 package org.opensearch.sql.expression.window.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType;
 import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.ExpressionTestBase;
+import org.opensearch.sql.expression.aggregation.AggregationState;
 import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
+import org.opensearch.sql.expression.window.frame.SlidingWindowFrame;
+import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
  * Aggregate window function test collection.
@@ -35,6 +50,9 @@ import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
 @ExtendWith(MockitoExtension.class)
 class AggregateWindowFunctionTest extends ExpressionTestBase {
 
+  private static final WindowFrameSpec ROWS_1_PRECEDING = new WindowFrameSpec(
+      FrameType.ROWS, FrameBound.preceding(1), FrameBound.CURRENT_ROW);
+
   @SuppressWarnings("rawtypes")
   @Test
   void test_delegated_methods() {
@@ -67,4 +85,56 @@ class AggregateWindowFunctionTest extends ExpressionTestBase {
     assertEquals(new ExprIntegerValue(60), windowFunction.valueOf(windowFrame));
   }
 
+  @Test
+  void should_create_sliding_window_frame_if_frame_specified() {
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(DSL.sum(DSL.ref("age", INTEGER)));
+    assertTrue(windowFunction.createWindowFrame(
+        new WindowDefinition(ImmutableList.of(), ImmutableList.of()))
+        instanceof PeerRowsWindowFrame);
+    assertTrue(windowFunction.createWindowFrame(
+        new WindowDefinition(ImmutableList.of(), ImmutableList.of(), ROWS_1_PRECEDING))
+        instanceof SlidingWindowFrame);
+  }
+
+  @Test
+  void should_add_entering_rows_and_remove_leaving_rows_if_removable() {
+    assertEquals(
+        ImmutableList.of(integerValue(10), integerValue(30), integerValue(50)),
+        slide(DSL.sum(DSL.ref("age", INTEGER)), 10, 20, 30));
+  }
+
+  @Test
+  void should_slide_min_and_max_over_monotonic_deque() {
+    assertEquals(
+        ImmutableList.of(integerValue(30), integerValue(10), integerValue(10), integerValue(20)),
+        slide(DSL.min(DSL.ref("age", INTEGER)), 30, 10, 20, 40));
+    assertEquals(
+        ImmutableList.of(integerValue(30), integerValue(30), integerValue(20), integerValue(40)),
+        slide(DSL.max(DSL.ref("age", INTEGER)), 30, 10, 20, 40));
+  }
+
+  @Test
+  void should_aggregate_all_rows_in_frame_again_if_not_removable() {
+    assertEquals(
+        ImmutableList.of(integerValue(1), integerValue(1), integerValue(2)),
+        slide(DSL.distinctCount(DSL.ref("age", INTEGER)), 10, 10, 20));
+  }
+
+  private List<ExprValue> slide(Aggregator<AggregationState> aggregator, int... ages) {
+    AggregateWindowFunction windowFunction = new AggregateWindowFunction(aggregator);
+    WindowFrame windowFrame = windowFunction.createWindowFrame(
+        new WindowDefinition(ImmutableList.of(), ImmutableList.of(), ROWS_1_PRECEDING));
+    PeekingIterator<ExprValue> rows = Iterators.peekingIterator(Arrays.stream(ages)
+        .mapToObj(age -> fromExprValueMap(ImmutableMap.of("age", integerValue(age))))
+        .iterator());
+
+    List<ExprValue> results = new ArrayList<>();
+    while (rows.hasNext() || windowFrame.hasNext()) {
+      windowFrame.load(rows);
+      results.add(windowFunction.valueOf(windowFrame));
+    }
+    return results;
+  }
+
 }
@@ -0,0 +1,320 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.window.frame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType.RANGE;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType.ROWS;
+import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_LAST;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlidingWindowFrameTest {
+
+  @Test
+  void test_rows_frame_in_two_partitions() {
+    SlidingWindowFrame windowFrame =
+        frame(ROWS, FrameBound.preceding(1), FrameBound.following(1));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10),
+            tuple("WA", 20),
+            tuple("WA", 30),
+            tuple("CA", 40)));
+
+    // Here we simulate how WindowFrame interacts with WindowOperator which calls load()
+    // and WindowFunction which calls isNewPartition(), leaving() and next()
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertFrame(windowFrame, tuple("WA", 10), List.of(), List.of(10, 20));
+    assertEquals(List.of(), windowFrame.next());
+
+    windowFrame.load(tuples);
+    assertFalse(windowFrame.isNewPartition());
+    assertFrame(windowFrame, tuple("WA", 20), List.of(), List.of(30));
+
+    windowFrame.load(tuples);
+    assertFalse(windowFrame.isNewPartition());
+    assertFrame(windowFrame, tuple("WA", 30), List.of(10), List.of());
+    assertEquals(List.of(tuple("WA", 20), tuple("WA", 30)), windowFrame.rows());
+    assertFalse(windowFrame.hasNext());
+
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertFrame(windowFrame, tuple("CA", 40), List.of(), List.of(40));
+    assertFalse(windowFrame.hasNext());
+  }
+
+  @Test
+  void test_rows_frame_loading_no_row_ahead() {
+    SlidingWindowFrame windowFrame =
+        frame(ROWS, FrameBound.preceding(1), FrameBound.CURRENT_ROW);
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10),
+            tuple("WA", 20),
+            tuple("WA", 30)));
+
+    windowFrame.load(tuples);
+    assertTrue(windowFrame.isNewPartition());
+    assertFalse(windowFrame.hasNext());
+    assertFrame(windowFrame, tuple("WA", 10), List.of(), List.of(10));
+
+    windowFrame.load(tuples);
+    assertFalse(windowFrame.isNewPartition());
+    assertFrame(windowFrame, tuple("WA", 20), List.of(), List.of(20));
+
+    windowFrame.load(tuples);
+    assertFalse(windowFrame.isNewPartition());
+    assertFrame(windowFrame, tuple("WA", 30), List.of(10), List.of(30));
+  }
+
+  @Test
+  void test_rows_frame_ending_before_current_row() {
+    SlidingWindowFrame windowFrame =
+        frame(ROWS, FrameBound.preceding(2), FrameBound.preceding(1));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10),
+            tuple("WA", 20),
+            tuple("WA", 30),
+            tuple("WA", 40)));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 10), List.of(), List.of());
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 20), List.of(), List.of(10));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 30), List.of(), List.of(20));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 40), List.of(10), List.of(30));
+  }
+
+  @Test
+  void test_rows_frame_starting_after_current_row() {
+    SlidingWindowFrame windowFrame =
+        frame(ROWS, FrameBound.following(1), FrameBound.following(2));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10),
+            tuple("WA", 20),
+            tuple("WA", 30)));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 10), List.of(), List.of(20, 30));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 20), List.of(20), List.of());
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 30), List.of(30), List.of());
+    assertEquals(List.of(), windowFrame.rows());
+  }
+
+  @Test
+  void test_rows_frame_from_current_row_to_unbounded_following() {
+    SlidingWindowFrame windowFrame =
+        frame(ROWS, FrameBound.CURRENT_ROW, FrameBound.UNBOUNDED_FOLLOWING);
+    List<Integer> ages = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        ages.stream().map(age -> tuple("WA", age)).iterator());
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 0), List.of(), ages);
+    for (int age = 1; age < 20; age++) {
+      windowFrame.load(tuples);
+      assertFrame(windowFrame, tuple("WA", age), List.of(age - 1), List.of());
+    }
+    assertFalse(windowFrame.hasNext());
+  }
+
+  @Test
+  void test_rows_frame_from_unbounded_preceding_to_current_row() {
+    SlidingWindowFrame windowFrame =
+        frame(ROWS, FrameBound.UNBOUNDED_PRECEDING, FrameBound.CURRENT_ROW);
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        IntStream.range(0, 20).mapToObj(age -> tuple("WA", age)).iterator());
+
+    for (int age = 0; age < 20; age++) {
+      windowFrame.load(tuples);
+      assertFrame(windowFrame, tuple("WA", age), List.of(), List.of(age));
+    }
+  }
+
+  @Test
+  void test_range_frame_of_peers() {
+    SlidingWindowFrame windowFrame =
+        frame(RANGE, FrameBound.CURRENT_ROW, FrameBound.CURRENT_ROW);
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10),
+            tuple("WA", 20),
+            tuple("WA", 20),
+            tuple("WA", 30)));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 10), List.of(), List.of(10));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 20), List.of(10), List.of(20, 20));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 20), List.of(), List.of());
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 30), List.of(20, 20), List.of(30));
+  }
+
+  @Test
+  void test_range_frame_starting_after_current_row() {
+    SlidingWindowFrame windowFrame =
+        frame(RANGE, FrameBound.following(1), FrameBound.following(5));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 10),
+            tuple("WA", 12)));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 10), List.of(), List.of(12));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 12), List.of(12), List.of());
+  }
+
+  @Test
+  void test_range_frame_with_offset_and_null_first() {
+    SlidingWindowFrame windowFrame =
+        frame(RANGE, FrameBound.preceding(10), FrameBound.following(10));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", LITERAL_NULL),
+            tuple("WA", 10),
+            tuple("WA", 15),
+            tuple("WA", 30)));
+
+    windowFrame.load(tuples);
+    assertEquals(List.of(), windowFrame.leaving());
+    assertEquals(List.of(tuple("WA", LITERAL_NULL)), windowFrame.next());
+
+    windowFrame.load(tuples);
+    assertEquals(List.of(tuple("WA", LITERAL_NULL)), windowFrame.leaving());
+    assertEquals(List.of(tuple("WA", 10), tuple("WA", 15)), windowFrame.next());
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 15), List.of(), List.of());
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 30), List.of(10, 15), List.of(30));
+  }
+
+  @Test
+  void test_range_frame_with_offset_in_descending_order_and_null_last() {
+    SlidingWindowFrame windowFrame = new SlidingWindowFrame(new WindowDefinition(
+        ImmutableList.of(DSL.ref("state", STRING)),
+        ImmutableList.of(Pair.of(new SortOption(DESC, NULL_LAST), DSL.ref("age", INTEGER))),
+        new WindowFrameSpec(RANGE, FrameBound.preceding(5), FrameBound.CURRENT_ROW)));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(
+            tuple("WA", 30),
+            tuple("WA", 25),
+            tuple("WA", LITERAL_NULL),
+            tuple("WA", LITERAL_NULL)));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 30), List.of(), List.of(30));
+
+    windowFrame.load(tuples);
+    assertFrame(windowFrame, tuple("WA", 25), List.of(), List.of(25));
+
+    windowFrame.load(tuples);
+    assertEquals(List.of(tuple("WA", 30), tuple("WA", 25)), windowFrame.leaving());
+    assertEquals(
+        List.of(tuple("WA", LITERAL_NULL), tuple("WA", LITERAL_NULL)), windowFrame.next());
+
+    windowFrame.load(tuples);
+    assertEquals(List.of(), windowFrame.leaving());
+    assertEquals(List.of(), windowFrame.next());
+  }
+
+  @Test
+  void test_range_frame_with_offset_and_missing_value() {
+    SlidingWindowFrame windowFrame =
+        frame(RANGE, FrameBound.preceding(1), FrameBound.following(1));
+    ExprValue missing = fromExprValueMap(ImmutableMap.of("state", new ExprStringValue("WA")));
+    PeekingIterator<ExprValue> tuples = Iterators.peekingIterator(
+        Iterators.forArray(missing, tuple("WA", 1)));
+
+    windowFrame.load(tuples);
+    assertEquals(List.of(), windowFrame.leaving());
+    assertEquals(List.of(missing), windowFrame.next());
+
+    windowFrame.load(tuples);
+    assertEquals(List.of(missing), windowFrame.leaving());
+    assertEquals(List.of(tuple("WA", 1)), windowFrame.next());
+  }
+
+  private SlidingWindowFrame frame(FrameType type, FrameBound start, FrameBound end) {
+    return new SlidingWindowFrame(new WindowDefinition(
+        ImmutableList.of(DSL.ref("state", STRING)),
+        ImmutableList.of(Pair.of(DEFAULT_ASC, DSL.ref("age", INTEGER))),
+        new WindowFrameSpec(type, start, end)));
+  }
+
+  private void assertFrame(SlidingWindowFrame windowFrame, ExprValue current,
+                           List<Integer> leaving, List<Integer> entering) {
+    assertEquals(current, windowFrame.current());
+    assertEquals(leaving, ages(windowFrame.leaving()));
+    assertEquals(entering, ages(windowFrame.next()));
+  }
+
+  private List<Integer> ages(List<ExprValue> rows) {
+    return rows.stream()
+               .map(row -> row.tupleValue().get("age").integerValue())
+               .collect(Collectors.toList());
+  }
+
+  private ExprValue tuple(String state, int age) {
+    return tuple(state, new ExprIntegerValue(age));
+  }
+
+  private ExprValue tuple(String state, ExprValue age) {
+    return fromExprValueMap(ImmutableMap.of(
+        "state", new ExprStringValue(state),
+        "age", age));
+  }
+}
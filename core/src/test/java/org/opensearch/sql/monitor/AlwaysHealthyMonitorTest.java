@@ -6,6 +6,7 @@
 
 package org.opensearch.sql.monitor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -16,4 +17,9 @@ class AlwaysHealthyMonitorTest {
   void isHealthy() {
     assertTrue(new AlwaysHealthyMonitor().isHealthy());
   }
+
+  @Test
+  void unlimitedOperatorMemoryBudget() {
+    assertEquals(Long.MAX_VALUE, new AlwaysHealthyMonitor().getOperatorMemoryBudget());
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void snapshot_of_empty_histogram() {
+    Map<String, Object> snapshot = new LatencyHistogram().snapshot();
+    assertEquals(0L, snapshot.get("count"));
+    assertEquals(0.0, snapshot.get("mean_ms"));
+    assertEquals(0.0, snapshot.get("p50_ms"));
+    assertEquals(0.0, snapshot.get("max_ms"));
+  }
+
+  @Test
+  void percentiles_within_bucket_precision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    IntStream.rangeClosed(1, 1000).forEach(i -> histogram.record(millis(i)));
+
+    assertEquals(1000L, histogram.getCount());
+    assertWithinPrecision(500_000L, histogram.percentile(50));
+    assertWithinPrecision(900_000L, histogram.percentile(90));
+    assertWithinPrecision(990_000L, histogram.percentile(99));
+    assertEquals(1_000_000L, histogram.percentile(100));
+
+    Map<String, Object> snapshot = histogram.snapshot();
+    assertEquals(1000L, snapshot.get("count"));
+    assertEquals(500.5, snapshot.get("mean_ms"));
+    assertEquals(1000.0, snapshot.get("max_ms"));
+  }
+
+  @Test
+  void small_latency_recorded_exactly() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+    histogram.record(-1L);
+    assertEquals(3L, histogram.percentile(100));
+    assertEquals(0L, histogram.percentile(50));
+  }
+
+  @Test
+  void latency_beyond_range_counted_in_last_bucket() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(TimeUnit.DAYS.toNanos(30));
+    assertEquals(TimeUnit.DAYS.toMicros(30), histogram.percentile(50));
+  }
+
+  @Test
+  void bucket_index_is_inverse_of_highest_value() {
+    for (long micros : new long[] {0, 15, 16, 31, 32, 33, 1000, 123456789}) {
+      long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketIndex(micros));
+      assertTrue(highest >= micros);
+      assertEquals(LatencyHistogram.bucketIndex(micros), LatencyHistogram.bucketIndex(highest));
+    }
+  }
+
+  private static long millis(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  private static void assertWithinPrecision(long expected, long actual) {
+    assertTrue(Math.abs(actual - expected) <= expected / LatencyHistogram.SUB_BUCKETS,
+        String.format("%d is not close to %d", actual, expected));
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class QueryMetricsTest {
+
+  @Test
+  void record_latency_by_stage() {
+    QueryMetrics metrics = new QueryMetrics();
+    metrics.record(QueryStage.PARSE, 1_000_000L);
+    metrics.record(QueryStage.PARSE, 2_000_000L);
+    metrics.record(QueryStage.OPENSEARCH, 3_000_000L);
+
+    assertEquals(2L, metrics.getHistogram(QueryStage.PARSE).getCount());
+    assertEquals(1L, metrics.getHistogram(QueryStage.OPENSEARCH).getCount());
+    assertEquals(0L, metrics.getHistogram(QueryStage.FORMAT).getCount());
+  }
+
+  @Test
+  void snapshot_of_all_stages() {
+    QueryMetrics metrics = new QueryMetrics();
+    metrics.record(QueryStage.EXECUTE, 1_000_000L);
+
+    Map<String, Object> snapshot = metrics.snapshot();
+    assertEquals(
+        Arrays.stream(QueryStage.values()).map(QueryStage::getName).collect(Collectors.toList()),
+        snapshot.keySet().stream().collect(Collectors.toList()));
+    assertEquals(1L, ((Map<?, ?>) snapshot.get("execute")).get("count"));
+  }
+
+  @Test
+  void singleton_instance() {
+    assertNotNull(QueryMetrics.getInstance());
+    assertSame(QueryMetrics.getInstance(), QueryMetrics.getInstance());
+  }
+}
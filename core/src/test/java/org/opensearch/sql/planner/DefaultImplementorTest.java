@@ -17,6 +17,7 @@ import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.join;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.nested;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
@@ -52,11 +53,15 @@ import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.ranking.RowNumberFunction;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.SortOperator;
 import org.opensearch.sql.storage.Table;
 import org.opensearch.sql.storage.TableScanOperator;
 import org.opensearch.sql.storage.read.TableScanBuilder;
@@ -227,6 +232,87 @@ class DefaultImplementorTest {
     assertEquals(physicalPlan, logicalPlan.accept(implementor, null));
   }
 
+  @Test
+  public void visitLimitOverSortShouldReturnTopKSortOperator() {
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+    LogicalPlan plan = limit(sort(values(), sortField), 10, 5);
+
+    assertEquals(
+        PhysicalPlanDSL.limit(
+            new SortOperator(PhysicalPlanDSL.values(), List.of(sortField), 15),
+            10,
+            5),
+        plan.accept(implementor, null));
+  }
+
+  @Test
+  public void visitLimitOverSortShouldSaturateTopK() {
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+    LogicalPlan plan = limit(sort(values(), sortField), Integer.MAX_VALUE, 10);
+
+    assertEquals(
+        PhysicalPlanDSL.limit(
+            new SortOperator(PhysicalPlanDSL.values(), List.of(sortField), Integer.MAX_VALUE),
+            Integer.MAX_VALUE,
+            10),
+        plan.accept(implementor, null));
+  }
+
+  @Test
+  public void visitSortByGroupKeyShouldReturnSortedAggregationOperator() {
+    List<NamedAggregator> aggregators = List.of(
+        new NamedAggregator("avg", new AvgAggregator(List.of(ref("age", INTEGER)), INTEGER)));
+    List<NamedExpression> groupBy = List.of(
+        named("name", ref("name", STRING)), named("age", ref("age", INTEGER)));
+    LogicalPlan plan = sort(aggregation(values(), aggregators, groupBy),
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING)));
+
+    assertEquals(
+        new AggregationOperator(
+            PhysicalPlanDSL.values(), aggregators, groupBy, Long.MAX_VALUE, true),
+        plan.accept(implementor, null));
+  }
+
+  @Test
+  public void visitSortNotByGroupKeyShouldReturnSortOperator() {
+    List<NamedAggregator> aggregators = List.of(
+        new NamedAggregator("avg", new AvgAggregator(List.of(ref("age", INTEGER)), INTEGER)));
+    List<NamedExpression> groupBy = List.of(named("name", ref("name", STRING)));
+    LogicalPlan aggregation = aggregation(values(), aggregators, groupBy);
+    PhysicalPlan physicalAggregation = PhysicalPlanDSL.agg(
+        PhysicalPlanDSL.values(), aggregators, groupBy);
+
+    Pair<Sort.SortOption, Expression> byName =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+    Pair<Sort.SortOption, Expression> byNameDesc =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_DESC, ref("name", STRING));
+    Pair<Sort.SortOption, Expression> byAvg =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("avg", INTEGER));
+    Pair<Sort.SortOption, Expression> byLiteral =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, literal(1));
+
+    for (List<Pair<Sort.SortOption, Expression>> sortList : List.of(
+        List.of(byName, byAvg), List.of(byNameDesc), List.of(byAvg), List.of(byLiteral))) {
+      assertEquals(
+          new SortOperator(physicalAggregation, sortList),
+          new LogicalSort(aggregation, sortList).accept(implementor, null));
+    }
+  }
+
+  @Test
+  public void visitJoinShouldReturnHashJoinOperator() {
+    List<Expression> leftKeys = List.of(ref("dept_id", INTEGER));
+    List<Expression> rightKeys = List.of(ref("id", INTEGER));
+    LogicalPlan plan = join(values(), values(), JoinType.LEFT, leftKeys, rightKeys);
+
+    assertEquals(
+        PhysicalPlanDSL.hashJoin(PhysicalPlanDSL.values(), PhysicalPlanDSL.values(),
+            JoinType.LEFT, leftKeys, rightKeys),
+        plan.accept(implementor, null));
+  }
+
   @Test
   public void visitTableScanBuilderShouldBuildTableScanOperator() {
     TableScanOperator tableScanOperator = Mockito.mock(TableScanOperator.class);
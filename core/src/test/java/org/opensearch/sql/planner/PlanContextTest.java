@@ -5,12 +5,16 @@
 
 package org.opensearch.sql.planner;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.executor.QueryProfile;
 import org.opensearch.sql.storage.split.Split;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,5 +31,24 @@ class PlanContextTest {
   @Test
   void createPlanContextWithSplit() {
     assertTrue(new PlanContext(split).getSplit().isPresent());
+    assertFalse(new PlanContext(split).getCancellationToken().isCancelled());
+  }
+
+  @Test
+  void createPlanContextWithCancellationToken() {
+    CancellationToken token = new CancellationToken();
+    PlanContext planContext = new PlanContext(token);
+    assertTrue(planContext.getSplit().isEmpty());
+    assertSame(token, planContext.getCancellationToken());
+    assertFalse(planContext.getProfile().isEnabled());
+  }
+
+  @Test
+  void createPlanContextWithProfile() {
+    CancellationToken token = new CancellationToken();
+    QueryProfile profile = new QueryProfile();
+    PlanContext planContext = new PlanContext(token, profile);
+    assertSame(token, planContext.getCancellationToken());
+    assertSame(profile, planContext.getProfile());
   }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.logical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.join;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.values;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+
+class LogicalJoinTest {
+
+  @Test
+  public void join_with_both_inputs_as_children() {
+    LogicalPlan left = values();
+    LogicalPlan right = values();
+    LogicalPlan plan = join(left, right, JoinType.INNER,
+        List.of(ref("dept_id", INTEGER)), List.of(ref("id", INTEGER)));
+
+    assertEquals(List.of(left, right), plan.getChild());
+  }
+
+  @Test
+  public void join_without_key_should_fail() {
+    List<Expression> noKeys = List.of();
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> join(values(), values(), JoinType.INNER, noKeys, noKeys));
+    assertEquals("Join keys [] and [] must be non-empty and of the same size",
+        exception.getMessage());
+  }
+
+  @Test
+  public void join_with_keys_of_different_size_should_fail() {
+    List<Expression> leftKeys = List.of(ref("dept_id", INTEGER));
+    List<Expression> rightKeys = List.of(ref("id", INTEGER), ref("year", INTEGER));
+    assertThrows(IllegalArgumentException.class,
+        () -> join(values(), values(), JoinType.INNER, leftKeys, rightKeys));
+  }
+}
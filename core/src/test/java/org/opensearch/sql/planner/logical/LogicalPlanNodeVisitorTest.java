@@ -149,6 +149,11 @@ class LogicalPlanNodeVisitorTest {
     assertNull(rareTopN.accept(new LogicalPlanNodeVisitor<Integer, Object>() {
     }, null));
 
+    LogicalPlan join = LogicalPlanDSL.join(relation, relation, LogicalJoin.JoinType.INNER,
+        ImmutableList.of(expression), ImmutableList.of(expression));
+    assertNull(join.accept(new LogicalPlanNodeVisitor<Integer, Object>() {
+    }, null));
+
     Map<String, Literal> args = new HashMap<>();
     LogicalPlan highlight = new LogicalHighlight(filter,
         new LiteralExpression(ExprValueUtils.stringValue("fieldA")), args);
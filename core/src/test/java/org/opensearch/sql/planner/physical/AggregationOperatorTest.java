@@ -7,9 +7,13 @@
 package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -32,6 +36,8 @@ import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.exception.QueryCancelledException;
+import org.opensearch.sql.executor.CancellationToken;
 import org.opensearch.sql.expression.DSL;
 
 class AggregationOperatorTest extends PhysicalPlanTestBase {
@@ -598,4 +604,83 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
 
     assertEquals(plan, copy);
   }
+
+  @Test
+  public void sum_with_one_groups_spilled_to_disk() {
+    List<ExprValue> expected = execute(new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("sum(response)", DSL.sum(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("ip", DSL.ref("ip", STRING)))));
+
+    AggregationOperator plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("sum(response)", DSL.sum(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("ip", DSL.ref("ip", STRING))),
+        1L);
+    assertThat(execute(plan), containsInAnyOrder(expected.toArray()));
+    assertTrue(plan.getPeakMemory() > 0);
+  }
+
+  @Test
+  public void sorted_results_spilled_to_disk() {
+    AggregationOperator plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("sum(response)", DSL.sum(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("ip", DSL.ref("ip", STRING))),
+        1L, true);
+    assertTrue(plan.isSortOutput());
+    assertThat(execute(plan), contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("ip", "112.111.162.4", "sum(response)", 200)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("ip", "209.160.24.63", "sum(response)", 604)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("ip", "74.125.19.106", "sum(response)", 700))));
+  }
+
+  @Test
+  public void sorted_if_grouped_by_span() {
+    AggregationOperator plan = new AggregationOperator(testScan(datetimeInputs),
+        Collections.singletonList(DSL
+            .named("count", DSL.count(DSL.ref("second", TIMESTAMP)))),
+        Collections.singletonList(DSL
+            .named("span", DSL.span(DSL.ref("second", TIMESTAMP), DSL.literal(6 * 1000), "ms"))));
+    assertTrue(plan.isSortOutput());
+    assertFalse(new AggregationOperator(new TestScan(),
+        Collections.singletonList(DSL.named("count", DSL.count(DSL.ref("ip", STRING)))),
+        Collections.singletonList(DSL.named("ip", DSL.ref("ip", STRING)))).isSortOutput());
+  }
+
+  @Test
+  public void spill_groups_of_same_hash_until_max_depth() {
+    // All the keys except "C" have the same hash code, so they always go to the same partition
+    List<ExprValue> inputs = Arrays.asList(
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "C", "value", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "AaAa", "value", 2)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "BBBB", "value", 3)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "AaBB", "value", 4)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "BBAa", "value", 5)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "AaAa", "value", 6)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "C", "value", 7)));
+    PhysicalPlan plan = new AggregationOperator(new TestScan(inputs),
+        Collections.singletonList(DSL.named("sum(value)", DSL.sum(DSL.ref("value", INTEGER)))),
+        Collections.singletonList(DSL.named("key", DSL.ref("key", STRING))),
+        1L);
+    assertThat(execute(plan), containsInAnyOrder(
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "AaAa", "sum(value)", 8)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "AaBB", "sum(value)", 4)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "BBAa", "sum(value)", 5)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "BBBB", "sum(value)", 3)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("key", "C", "sum(value)", 8))));
+  }
+
+  @Test
+  public void stop_aggregating_input_if_cancelled() {
+    CancellationToken token = new CancellationToken();
+    token.cancel("cancelled by user");
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))));
+    plan.setCancellationToken(token);
+
+    assertThrows(QueryCancelledException.class, plan::open);
+  }
 }
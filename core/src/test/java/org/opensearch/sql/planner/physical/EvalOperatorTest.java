@@ -8,23 +8,29 @@ package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.RowSchema;
 import org.opensearch.sql.expression.DSL;
 
 @ExtendWith(MockitoExtension.class)
@@ -132,4 +138,56 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
 
     assertThat(result, allOf(iterableWithSize(1), hasItems(ExprValueUtils.integerValue(1))));
   }
+
+  @Test
+  public void eval_row_backed_input_into_row_of_extended_schema() {
+    RowSchema schema = RowSchema.of(Arrays.asList("distance", "time")).get();
+    RowSchema reordered = RowSchema.of(Arrays.asList("time", "distance")).get();
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprTupleValue.fromRow(schema,
+            new ExprValue[] {integerValue(100), integerValue(10)}))
+        .thenReturn(ExprTupleValue.fromRow(schema,
+            new ExprValue[] {integerValue(50), integerValue(5)}))
+        .thenReturn(ExprTupleValue.fromRow(reordered,
+            new ExprValue[] {integerValue(2), integerValue(8)}));
+
+    PhysicalPlan plan =
+        eval(
+            inputPlan,
+            ImmutablePair.of(
+                DSL.ref("distance", INTEGER),
+                DSL.multiply(DSL.ref("distance", INTEGER), DSL.literal(2))),
+            ImmutablePair.of(
+                DSL.ref("velocity", INTEGER),
+                DSL.divide(DSL.ref("distance", INTEGER), DSL.ref("time", INTEGER))));
+    List<ExprValue> result = execute(plan);
+    assertThat(
+        result,
+        contains(
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 200, "time", 10, "velocity", 20)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 5, "velocity", 20)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("time", 2, "distance", 16, "velocity", 8))));
+    assertEquals(Arrays.asList("distance", "time", "velocity"),
+        ((ExprTupleValue) result.get(0)).getRowSchema().getNames());
+  }
+
+  @Test
+  public void eval_in_batch() {
+    when(inputPlan.nextBatch(2))
+        .thenReturn(RowBatch.of(List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 10)))))
+        .thenReturn(RowBatch.of(List.of()));
+
+    PhysicalPlan plan =
+        eval(
+            inputPlan,
+            ImmutablePair.of(
+                DSL.ref("velocity", DOUBLE),
+                DSL.divide(DSL.ref("distance", INTEGER), DSL.ref("time", INTEGER))));
+    assertEquals(
+        List.of(List.of(ExprValueUtils.tupleValue(
+            ImmutableMap.of("distance", 100, "time", 10, "velocity", 10)))),
+        executeInBatch(plan, 2));
+  }
 }
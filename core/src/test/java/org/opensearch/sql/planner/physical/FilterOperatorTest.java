@@ -9,14 +9,18 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -69,4 +73,28 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
     List<ExprValue> result = execute(plan);
     assertEquals(0, result.size());
   }
+
+  @Test
+  public void filterInBatch() {
+    FilterOperator plan = new FilterOperator(new TestScan(),
+        DSL.and(DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(200)),
+                DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(500))));
+    List<List<ExprValue>> result = executeInBatch(plan, 2);
+    assertEquals(List.of(List.of(ExprValueUtils
+        .tupleValue(ImmutableMap
+            .of("ip", "209.160.24.63", "action", "GET", "response", 404, "referer",
+                "www.amazon.com")))), result);
+  }
+
+  @Test
+  public void pushDownTermsFilterToInput() {
+    Set<ExprValue> values = Set.of(ExprValueUtils.integerValue(404));
+    when(inputPlan.pushDownTermsFilter(DSL.ref("response", INTEGER), values)).thenReturn(true);
+
+    FilterOperator plan = new FilterOperator(inputPlan,
+        DSL.equal(DSL.ref("action", STRING), DSL.literal("GET")));
+    assertTrue(plan.pushDownTermsFilter(DSL.ref("response", INTEGER), values));
+    assertFalse(new FilterOperator(new TestScan(), DSL.literal(true))
+        .pushDownTermsFilter(DSL.ref("response", INTEGER), values));
+  }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.nullValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.exception.QueryCancelledException;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+
+class HashJoinOperatorTest extends PhysicalPlanTestBase {
+
+  private static final List<ExprValue> employees = List.of(
+      tupleValue(ImmutableMap.of("name", "alice", "dept_id", 1)),
+      tupleValue(ImmutableMap.of("name", "bob", "dept_id", 2)),
+      tupleValue(ImmutableMap.of("name", "carol", "dept_id", 3)),
+      tupleValue(ImmutableMap.of("name", "dave", "dept_id", nullValue())),
+      tupleValue(ImmutableMap.of("name", "eve")));
+
+  private static final List<ExprValue> departments = List.of(
+      tupleValue(ImmutableMap.of("id", 1, "dept", "eng")),
+      tupleValue(ImmutableMap.of("id", 2, "dept", "ops")),
+      tupleValue(ImmutableMap.of("id", 2, "dept", "sre")),
+      tupleValue(ImmutableMap.of("id", nullValue(), "dept", "none")));
+
+  private static final List<Expression> leftKeys = List.of(ref("dept_id", INTEGER));
+
+  private static final List<Expression> rightKeys = List.of(ref("id", INTEGER));
+
+  @Test
+  public void inner_join() {
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees), testScan(departments),
+        JoinType.INNER, leftKeys, rightKeys);
+
+    assertThat(execute(plan), contains(
+        joined("alice", 1, "eng"),
+        joined("bob", 2, "ops"),
+        joined("bob", 2, "sre")));
+  }
+
+  @Test
+  public void left_join() {
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees), testScan(departments),
+        JoinType.LEFT, leftKeys, rightKeys);
+
+    assertThat(execute(plan), contains(
+        joined("alice", 1, "eng"),
+        joined("bob", 2, "ops"),
+        joined("bob", 2, "sre"),
+        notJoined("carol", integerValue(3)),
+        notJoined("dave", nullValue()),
+        tupleValue(ImmutableMap.of("name", "eve", "id", nullValue(), "dept", nullValue()))));
+  }
+
+  @Test
+  public void join_by_multiple_keys() {
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees), testScan(departments),
+        JoinType.INNER,
+        List.of(ref("dept_id", INTEGER), literal("eng")),
+        List.of(ref("id", INTEGER), ref("dept", STRING)));
+
+    assertThat(execute(plan), contains(joined("alice", 1, "eng")));
+  }
+
+  @Test
+  public void qualify_right_column_if_column_name_duplicate() {
+    PhysicalPlan plan = new HashJoinOperator(
+        testScan(List.of(tupleValue(ImmutableMap.of("id", 1, "name", "alice")))),
+        testScan(List.of(tupleValue(ImmutableMap.of("id", 1, "name", "eng")))),
+        JoinType.INNER, List.of(ref("id", INTEGER)), List.of(ref("id", INTEGER)));
+
+    List<ExprValue> result = execute(plan);
+    assertThat(result, contains(tupleValue(ImmutableMap.of(
+        "id", 1, "name", "alice", "right.id", 1, "right.name", "eng"))));
+    assertEquals(stringValue("eng"),
+        ref("right.name", STRING).valueOf(result.get(0).bindingTuples()));
+  }
+
+  @Test
+  public void qualify_null_right_column_if_column_name_duplicate_in_left_join() {
+    PhysicalPlan plan = new HashJoinOperator(
+        testScan(List.of(
+            tupleValue(ImmutableMap.of("id", 1, "name", "alice")),
+            tupleValue(ImmutableMap.of("id", 2, "name", "bob")))),
+        testScan(List.of(tupleValue(ImmutableMap.of("id", 1, "name", "eng")))),
+        JoinType.LEFT, List.of(ref("id", INTEGER)), List.of(ref("id", INTEGER)));
+
+    assertThat(execute(plan), contains(
+        tupleValue(ImmutableMap.of(
+            "id", 1, "name", "alice", "right.id", 1, "right.name", "eng")),
+        tupleValue(ImmutableMap.of(
+            "id", 2, "name", "bob", "right.id", nullValue(), "right.name", nullValue()))));
+  }
+
+  @Test
+  public void inner_join_spilled_to_disk() {
+    HashJoinOperator plan = new HashJoinOperator(testScan(employees), testScan(departments),
+        JoinType.INNER, leftKeys, rightKeys, 1L);
+
+    assertThat(execute(plan), containsInAnyOrder(
+        joined("alice", 1, "eng"),
+        joined("bob", 2, "ops"),
+        joined("bob", 2, "sre")));
+    assertThat(plan.getPeakMemory(), greaterThan(0L));
+  }
+
+  @Test
+  public void left_join_spilled_to_disk() {
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees), testScan(departments),
+        JoinType.LEFT, leftKeys, rightKeys, 1L);
+
+    assertThat(execute(plan), containsInAnyOrder(
+        joined("alice", 1, "eng"),
+        joined("bob", 2, "ops"),
+        joined("bob", 2, "sre"),
+        notJoined("carol", integerValue(3)),
+        notJoined("dave", nullValue()),
+        tupleValue(ImmutableMap.of("name", "eve", "id", nullValue(), "dept", nullValue()))));
+  }
+
+  @Test
+  public void spill_rows_of_same_key_until_max_depth() {
+    List<ExprValue> right = IntStream.range(0, 5)
+        .mapToObj(i -> tupleValue(ImmutableMap.of("id", 1, "seq", i)))
+        .collect(Collectors.toList());
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees), testScan(right),
+        JoinType.INNER, leftKeys, rightKeys, 1L);
+
+    assertThat(execute(plan), hasSize(5));
+  }
+
+  @Test
+  public void push_down_build_side_keys_to_probe_side() {
+    PhysicalPlan left = spy(testScan(employees));
+    PhysicalPlan plan = new HashJoinOperator(left, testScan(departments),
+        JoinType.INNER, leftKeys, rightKeys);
+    execute(plan);
+
+    verify(left).pushDownTermsFilter(
+        ref("dept_id", INTEGER), ImmutableSet.of(integerValue(1), integerValue(2)));
+  }
+
+  @Test
+  public void push_down_empty_keys_if_build_side_empty() {
+    PhysicalPlan left = spy(testScan(employees));
+    PhysicalPlan plan = new HashJoinOperator(left, testScan(Collections.emptyList()),
+        JoinType.INNER, leftKeys, rightKeys);
+
+    assertThat(execute(plan), hasSize(0));
+    verify(left).pushDownTermsFilter(ref("dept_id", INTEGER), ImmutableSet.of());
+  }
+
+  @Test
+  public void do_not_push_down_keys_for_left_join() {
+    PhysicalPlan left = spy(testScan(employees));
+    execute(new HashJoinOperator(left, testScan(departments),
+        JoinType.LEFT, leftKeys, rightKeys));
+
+    verify(left, never()).pushDownTermsFilter(any(), any());
+  }
+
+  @Test
+  public void do_not_push_down_keys_of_multiple_keys_or_expression() {
+    PhysicalPlan left = spy(testScan(employees));
+    execute(new HashJoinOperator(left, testScan(departments), JoinType.INNER,
+        List.of(ref("dept_id", INTEGER), ref("name", STRING)),
+        List.of(ref("id", INTEGER), ref("dept", STRING))));
+    verify(left, never()).pushDownTermsFilter(any(), any());
+
+    left = spy(testScan(employees));
+    execute(new HashJoinOperator(left, testScan(departments), JoinType.INNER,
+        List.of(DSL.add(ref("dept_id", INTEGER), literal(0))), rightKeys));
+    verify(left, never()).pushDownTermsFilter(any(), any());
+  }
+
+  @Test
+  public void do_not_push_down_keys_spilled_to_disk() {
+    PhysicalPlan left = spy(testScan(employees));
+    execute(new HashJoinOperator(left, testScan(departments),
+        JoinType.INNER, leftKeys, rightKeys, 1L));
+
+    verify(left, never()).pushDownTermsFilter(any(), any());
+  }
+
+  @Test
+  public void do_not_push_down_too_many_keys() {
+    List<ExprValue> right = IntStream.rangeClosed(0, HashJoinOperator.MAX_PUSH_DOWN_KEYS)
+        .mapToObj(i -> tupleValue(ImmutableMap.of("id", i)))
+        .collect(Collectors.toList());
+    PhysicalPlan left = spy(testScan(employees));
+    execute(new HashJoinOperator(left, testScan(right), JoinType.INNER, leftKeys, rightKeys));
+
+    verify(left, never()).pushDownTermsFilter(any(), any());
+  }
+
+  private ExprValue joined(String name, int deptId, String dept) {
+    return tupleValue(ImmutableMap.of("name", name, "dept_id", deptId, "id", deptId,
+        "dept", dept));
+  }
+
+  private ExprValue notJoined(String name, ExprValue deptId) {
+    return tupleValue(ImmutableMap.of("name", name, "dept_id", deptId, "id", nullValue(),
+        "dept", nullValue()));
+  }
+
+  @Test
+  public void left_join_with_empty_right_side() {
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees),
+        testScan(Collections.emptyList()), JoinType.LEFT, leftKeys, rightKeys);
+
+    assertThat(execute(plan), contains(employees.toArray(new ExprValue[0])));
+  }
+
+  @Test
+  public void stop_building_hash_table_if_cancelled() {
+    CancellationToken token = new CancellationToken();
+    token.cancel("cancelled by user");
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees), testScan(departments),
+        JoinType.INNER, leftKeys, rightKeys);
+    plan.setCancellationToken(token);
+
+    assertThrows(QueryCancelledException.class, plan::open);
+  }
+}
@@ -46,4 +46,29 @@ public class LimitOperatorTest extends PhysicalPlanTestBase {
     List<ExprValue> result = execute(plan);
     assertEquals(0, result.size());
   }
+
+  @Test
+  public void limit_and_offset_in_batch() {
+    PhysicalPlan plan = new LimitOperator(new TestScan(), 3, 1);
+    List<List<ExprValue>> result = executeInBatch(plan, 2);
+    assertEquals(List.of(inputs.subList(1, 3), inputs.subList(3, 4)), result);
+  }
+
+  @Test
+  public void max_limit_and_offset_not_overflow() {
+    PhysicalPlan plan = new LimitOperator(new TestScan(), Integer.MAX_VALUE, 1);
+    assertEquals(inputs.subList(1, inputs.size()), execute(plan));
+  }
+
+  @Test
+  public void max_limit_and_offset_not_overflow_in_batch() {
+    PhysicalPlan plan = new LimitOperator(new TestScan(), Integer.MAX_VALUE, 1);
+    assertEquals(List.of(inputs.subList(1, inputs.size())), executeInBatch(plan, 10));
+  }
+
+  @Test
+  public void offset_exceeds_row_number_in_batch() {
+    PhysicalPlan plan = new LimitOperator(new TestScan(), 1, 6);
+    assertEquals(0, executeInBatch(plan, 2).size());
+  }
 }
@@ -29,6 +29,7 @@ import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 
 /**
  * Todo, testing purpose, delete later.
@@ -136,6 +137,11 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
     assertNull(limit.accept(new PhysicalPlanNodeVisitor<Integer, Object>() {
     }, null));
 
+    PhysicalPlan hashJoin = PhysicalPlanDSL.hashJoin(plan, plan, JoinType.INNER,
+        ImmutableList.of(ref), ImmutableList.of(ref));
+    assertNull(hashJoin.accept(new PhysicalPlanNodeVisitor<Integer, Object>() {
+    }, null));
+
     Set<String> nestedArgs = Set.of("nested.test");
     Map<String, List<String>> groupedFieldsByPath =
         Map.of("nested", List.of("nested.test"));
@@ -204,6 +204,21 @@ public class PhysicalPlanTestBase {
     return builder.build();
   }
 
+  /**
+   * Execute the plan in batch mode and collect the rows of each batch.
+   */
+  protected List<List<ExprValue>> executeInBatch(PhysicalPlan plan, int batchSize) {
+    ImmutableList.Builder<List<ExprValue>> builder = new ImmutableList.Builder<>();
+    plan.open();
+    RowBatch batch = plan.nextBatch(batchSize);
+    while (!batch.isEmpty()) {
+      builder.add(batch.toList());
+      batch = plan.nextBatch(batchSize);
+    }
+    plan.close();
+    return builder.build();
+  }
+
   protected static PhysicalPlan testScan(List<ExprValue> inputs) {
     return new TestScan(inputs);
   }
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryProfile;
+import org.opensearch.sql.executor.QueryProfile.OperatorProfile;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.storage.split.Split;
+
+class ProfilePlanTest extends PhysicalPlanTestBase {
+
+  @Test
+  void count_rows_in_row_mode() {
+    OperatorProfile profile = new QueryProfile().addOperator("TestScan");
+    List<ExprValue> rows = execute(new ProfilePlan(testScan(inputs), profile));
+
+    assertEquals(inputs, rows);
+    assertEquals((long) inputs.size(), profile.getRows());
+    assertTrue(profile.getNanos() > 0);
+  }
+
+  @Test
+  void count_rows_in_batch_mode() {
+    OperatorProfile profile = new QueryProfile().addOperator("TestScan");
+    executeInBatch(new ProfilePlan(testScan(inputs), profile), 3);
+
+    assertEquals((long) inputs.size(), profile.getRows());
+  }
+
+  @Test
+  void delegate_to_plan() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    PhysicalPlanNodeVisitor<Object, Object> visitor = new PhysicalPlanNodeVisitor<>() {};
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(List.of());
+    Split split = mock(Split.class);
+    ReferenceExpression field = DSL.ref("name", STRING);
+    when(plan.accept(visitor, null)).thenReturn("visited");
+    when(plan.getChild()).thenReturn(List.of());
+    when(plan.schema()).thenReturn(schema);
+    when(plan.pushDownTermsFilter(field, Set.of())).thenReturn(true);
+
+    ProfilePlan profilePlan = new ProfilePlan(plan, new QueryProfile().addOperator("mock"));
+    assertEquals("visited", profilePlan.accept(visitor, null));
+    assertEquals(List.of(), profilePlan.getChild());
+    assertSame(schema, profilePlan.schema());
+    assertTrue(profilePlan.pushDownTermsFilter(field, Set.of()));
+    CancellationToken token = new CancellationToken();
+    profilePlan.add(split);
+    profilePlan.setCancellationToken(token);
+    profilePlan.close();
+    verify(plan).add(split);
+    verify(plan).setCancellationToken(token);
+    verify(plan).close();
+  }
+}
@@ -11,6 +11,9 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
@@ -206,4 +209,46 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
                 ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", "200")),
                 ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST")))));
   }
+
+  @Test
+  public void project_output_backed_by_row_of_same_schema() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)))
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("response", 404)));
+    PhysicalPlan plan = project(
+        project(inputPlan,
+            DSL.named("response", DSL.ref("response", INTEGER)),
+            DSL.named("action", DSL.ref("action", STRING))),
+        DSL.named("action", DSL.ref("action", STRING)));
+    List<ExprValue> result = execute(plan);
+
+    assertThat(result, contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")),
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of("action", LITERAL_MISSING))));
+    assertSame(((ExprTupleValue) result.get(0)).getRowSchema(),
+        ((ExprTupleValue) result.get(1)).getRowSchema());
+  }
+
+  @Test
+  public void project_duplicate_name_fails_as_before() {
+    when(inputPlan.hasNext()).thenReturn(true);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")));
+    PhysicalPlan plan = project(inputPlan,
+        DSL.named("action", DSL.ref("action", STRING)),
+        DSL.named("action", DSL.ref("action", STRING)));
+
+    assertThrows(IllegalArgumentException.class, () -> execute(plan));
+  }
+
+  @Test
+  public void project_in_batch() {
+    PhysicalPlan plan = project(new TestScan(), DSL.named("action", DSL.ref("action", STRING)));
+    ExprValue get = ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET"));
+    ExprValue post = ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST"));
+
+    assertEquals(
+        List.of(List.of(get, get, get), List.of(post, post)), executeInBatch(plan, 3));
+  }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+
+class RowBatchTest {
+
+  private final RowBatch batch = RowBatch.of(
+      List.of(integerValue(1), integerValue(2), integerValue(3), integerValue(4)));
+
+  @Test
+  public void all_rows_selected_initially() {
+    assertEquals(4, batch.size());
+    assertFalse(batch.isEmpty());
+    assertEquals(integerValue(2), batch.get(1));
+    assertEquals(
+        List.of(integerValue(1), integerValue(2), integerValue(3), integerValue(4)),
+        batch.toList());
+  }
+
+  @Test
+  public void retain_rows_by_selection() {
+    batch.retainIf(value -> value.integerValue() % 2 == 0);
+    assertEquals(List.of(integerValue(2), integerValue(4)), batch.toList());
+
+    batch.set(1, integerValue(40));
+    assertEquals(integerValue(40), batch.get(1));
+
+    batch.retainIf(value -> value.integerValue() > 10);
+    assertEquals(List.<ExprValue>of(integerValue(40)), batch.toList());
+
+    batch.retainIf(value -> false);
+    assertTrue(batch.isEmpty());
+    assertEquals(List.of(), batch.toList());
+  }
+}
@@ -9,21 +9,34 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.exception.QueryCancelledException;
+import org.opensearch.sql.executor.CancellationToken;
 
 @ExtendWith(MockitoExtension.class)
 class SortOperatorTest extends PhysicalPlanTestBase {
@@ -267,4 +280,131 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         execute(sort(inputPlan,
             Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))).size());
   }
+
+  @Test
+  public void sort_top_k() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 100, "response", 500)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 200, "response", 404)));
+
+    assertThat(
+        execute(new SortOperator(inputPlan,
+            ImmutableList.of(Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER))),
+            2, Long.MAX_VALUE)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 100, "response", 500))));
+  }
+
+  @Test
+  public void sort_top_zero() {
+    assertEquals(
+        0,
+        execute(new SortOperator(inputPlan,
+            ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+            0, Long.MAX_VALUE)).size());
+  }
+
+  @Test
+  public void sort_top_k_with_spill_to_disk() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 100, "response", 500)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 200, "response", 404)));
+
+    // Budget smaller than a single row, so that top K rows can't be kept in heap
+    SortOperator sort = new SortOperator(inputPlan,
+        ImmutableList.of(Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER))),
+        3, 1L);
+    assertThat(
+        execute(sort),
+        contains(
+            tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 100, "response", 500)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+    assertTrue(sort.getPeakMemory() > 0);
+  }
+
+  @Test
+  public void sort_top_k_within_memory_budget() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)));
+
+    SortOperator sort = new SortOperator(inputPlan,
+        ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+        2, 1024 * 1024L);
+    assertThat(
+        execute(sort),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+    assertTrue(sort.getPeakMemory() > 0);
+  }
+
+  @Test
+  public void sort_with_spill_to_disk() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 100, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 200, "response", 500)));
+
+    // Budget smaller than a single row, so that every row is spilled to its own sorted run
+    SortOperator sort = new SortOperator(inputPlan,
+        ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+        null, 1L);
+    assertThat(
+        execute(sort),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 100, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 200, "response", 500)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503))));
+    assertTrue(sort.getPeakMemory() > 0);
+  }
+
+  @Test
+  public void sort_with_spill_to_disk_in_multiple_merge_passes() {
+    // One more run than two full merge groups, so that both a group of single run and groups
+    // of many runs are merged in the first pass
+    int rows = SortOperator.MERGE_FAN_IN * 2 + 1;
+    List<ExprValue> input = IntStream.range(0, rows)
+        .mapToObj(i -> tupleValue(ImmutableMap.of("size", i, "response", (i * 7) % 10)))
+        .collect(Collectors.toList());
+    Iterator<ExprValue> iterator = input.iterator();
+    when(inputPlan.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    when(inputPlan.next()).thenAnswer(invocation -> iterator.next());
+
+    SortOperator sort = new SortOperator(inputPlan,
+        ImmutableList.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))),
+        null, 1L);
+    List<ExprValue> expected = new ArrayList<>(input);
+    expected.sort(Comparator.comparing(row -> row.tupleValue().get("response").integerValue()));
+    assertEquals(expected, execute(sort));
+  }
+
+  @Test
+  public void stop_sorting_input_if_cancelled() {
+    when(inputPlan.hasNext()).thenReturn(true);
+    CancellationToken token = new CancellationToken();
+    token.cancel("cancelled by user");
+
+    PhysicalPlan plan = sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)));
+    plan.setCancellationToken(token);
+    assertThrows(QueryCancelledException.class, plan::open);
+    verify(inputPlan).setCancellationToken(token);
+  }
 }
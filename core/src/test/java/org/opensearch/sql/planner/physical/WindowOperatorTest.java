@@ -8,6 +8,7 @@ package org.opensearch.sql.planner.physical;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -16,9 +17,12 @@ import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -27,6 +31,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
@@ -107,6 +113,88 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         .done();
   }
 
+  @Test
+  void test_window_function_on_row_backed_input() {
+    WindowDefinition definition = new WindowDefinition(
+        Collections.singletonList(ref("action", STRING)),
+        Collections.singletonList(Pair.of(DEFAULT_ASC, ref("response", INTEGER))));
+    WindowOperator windowOperator = new WindowOperator(
+        new SortOperator(
+            PhysicalPlanDSL.project(new TestScan(),
+                DSL.named("action", ref("action", STRING)),
+                DSL.named("response", ref("response", INTEGER))),
+            definition.getAllSortItems()),
+        DSL.named(DSL.rank()),
+        definition);
+
+    List<ExprValue> result = execute(windowOperator);
+    assertEquals(Arrays.asList(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200, "rank()", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200, "rank()", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 404, "rank()", 3)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 200, "rank()", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 500, "rank()", 2))),
+        result);
+    assertSame(((ExprTupleValue) result.get(0)).getRowSchema(),
+        ((ExprTupleValue) result.get(4)).getRowSchema());
+  }
+
+  @Test
+  void test_multiple_window_functions_in_one_pass() {
+    WindowDefinition definition = new WindowDefinition(
+        Collections.singletonList(ref("action", STRING)),
+        Collections.singletonList(Pair.of(DEFAULT_ASC, ref("response", INTEGER))));
+    WindowOperator windowOperator = PhysicalPlanDSL.window(
+        new SortOperator(new TestScan(), definition.getAllSortItems()),
+        Arrays.asList(
+            DSL.named(DSL.rank()),
+            DSL.named(new AggregateWindowFunction(DSL.sum(ref("response", INTEGER))))),
+        definition);
+
+    List<ExprValue> result = execute(windowOperator);
+    assertEquals(Arrays.asList(1, 1, 3, 1, 2), valuesOf(result, "rank()"));
+    assertEquals(Arrays.asList(400, 400, 804, 200, 700), valuesOf(result, "sum(response)"));
+    assertEquals(Arrays.asList("209.160.24.63", "112.111.162.4", "209.160.24.63",
+        "74.125.19.106", "74.125.19.106"), valuesOf(result, "ip"));
+  }
+
+  @Test
+  void test_multiple_window_functions_on_row_backed_input() {
+    WindowDefinition definition = new WindowDefinition(
+        Collections.singletonList(ref("action", STRING)),
+        Collections.singletonList(Pair.of(DEFAULT_ASC, ref("response", INTEGER))));
+    WindowOperator windowOperator = new WindowOperator(
+        new SortOperator(
+            PhysicalPlanDSL.project(new TestScan(),
+                DSL.named("action", ref("action", STRING)),
+                DSL.named("response", ref("response", INTEGER))),
+            definition.getAllSortItems()),
+        Arrays.asList(
+            DSL.named(new AggregateWindowFunction(DSL.sum(ref("response", INTEGER)))),
+            DSL.named(DSL.rowNumber())),
+        definition);
+
+    List<ExprValue> result = execute(windowOperator);
+    assertEquals(Arrays.asList(
+        ExprValueUtils.tupleValue(ImmutableMap.of(
+            "action", "GET", "response", 200, "sum(response)", 400, "row_number()", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of(
+            "action", "GET", "response", 200, "sum(response)", 400, "row_number()", 2)),
+        ExprValueUtils.tupleValue(ImmutableMap.of(
+            "action", "GET", "response", 404, "sum(response)", 804, "row_number()", 3)),
+        ExprValueUtils.tupleValue(ImmutableMap.of(
+            "action", "POST", "response", 200, "sum(response)", 200, "row_number()", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of(
+            "action", "POST", "response", 500, "sum(response)", 700, "row_number()", 2))),
+        result);
+  }
+
+  private List<Object> valuesOf(List<ExprValue> rows, String name) {
+    return rows.stream()
+               .map(row -> row.tupleValue().get(name).value())
+               .collect(Collectors.toList());
+  }
+
   private WindowOperatorAssertion window(Expression windowFunction) {
     return new WindowOperatorAssertion(windowFunction);
   }
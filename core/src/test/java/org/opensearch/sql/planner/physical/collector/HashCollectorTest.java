@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.planner.physical.collector.HashCollector.GroupKey;
+
+class HashCollectorTest {
+
+  private final HashCollector collector = new HashCollector(
+      Collections.singletonList(DSL.named("key", DSL.ref("key", STRING))),
+      Collections.singletonList(DSL.named("count(value)", DSL.count(DSL.ref("value", INTEGER)))));
+
+  @Test
+  public void results_ordered_by_key_with_null_first() {
+    Map<String, Object> nullKey = new HashMap<>();
+    nullKey.put("key", null);
+    nullKey.put("value", 1);
+
+    collector.collect(tupleValue(ImmutableMap.of("key", "b", "value", 1)).bindingTuples());
+    collector.collect(tupleValue(nullKey).bindingTuples());
+    collector.collect(tupleValue(ImmutableMap.of("key", "a", "value", 1)).bindingTuples());
+    collector.collect(tupleValue(ImmutableMap.of("key", "b", "value", 1)).bindingTuples());
+
+    Map<String, Object> nullResult = new HashMap<>();
+    nullResult.put("key", null);
+    nullResult.put("count(value)", 1);
+    assertThat(collector.results(), contains(
+        tupleValue(nullResult),
+        tupleValue(ImmutableMap.of("key", "a", "count(value)", 1)),
+        tupleValue(ImmutableMap.of("key", "b", "count(value)", 2))));
+  }
+
+  @Test
+  public void results_unordered_if_not_sorted() {
+    collector.collect(tupleValue(ImmutableMap.of("key", "b", "value", 1)).bindingTuples());
+    collector.collect(tupleValue(ImmutableMap.of("key", "a", "value", 1)).bindingTuples());
+    collector.collect(tupleValue(ImmutableMap.of("key", "b", "value", 1)).bindingTuples());
+
+    assertThat(collector.results(false), containsInAnyOrder(
+        tupleValue(ImmutableMap.of("key", "a", "count(value)", 1)),
+        tupleValue(ImmutableMap.of("key", "b", "count(value)", 2))));
+  }
+
+  @Test
+  public void collect_existing_group_only() {
+    ExprValue row = tupleValue(ImmutableMap.of("key", "a", "value", 1));
+    GroupKey key = collector.groupKey(row.bindingTuples());
+    assertFalse(collector.collectExisting(key, row.bindingTuples()));
+
+    collector.collect(key, row.bindingTuples());
+    assertTrue(collector.collectExisting(key, row.bindingTuples()));
+    assertTrue(collector.getEstimatedSize() > 0);
+    assertThat(collector.results(), contains(
+        tupleValue(ImmutableMap.of("key", "a", "count(value)", 2))));
+  }
+
+  @Test
+  public void estimated_size_includes_size_of_states() {
+    HashCollector sketchCollector = new HashCollector(
+        Collections.singletonList(DSL.named("key", DSL.ref("key", STRING))),
+        Collections.singletonList(DSL.named("distinct_count_approx(value)",
+            DSL.distinctCountApprox(DSL.ref("value", INTEGER)))));
+    ExprValue row = tupleValue(ImmutableMap.of("key", "a", "value", 1));
+    collector.collect(row.bindingTuples());
+    sketchCollector.collect(row.bindingTuples());
+
+    assertEquals(
+        collector.getEstimatedSize() - AggregationState.DEFAULT_ESTIMATED_SIZE + (1 << 14),
+        sketchCollector.getEstimatedSize());
+  }
+
+  @Test
+  public void result_comparator_compares_group_key() {
+    ExprValue a = tupleValue(ImmutableMap.of("key", "a", "count(value)", 1));
+    ExprValue b = tupleValue(ImmutableMap.of("key", "b", "count(value)", 2));
+    assertTrue(collector.resultComparator().compare(a, b) < 0);
+    assertEquals(0, collector.resultComparator().compare(a, a));
+  }
+
+  @Test
+  public void group_key_equality() {
+    GroupKey key = collector.groupKey(tupleValue(ImmutableMap.of("key", "a")).bindingTuples());
+    GroupKey same = collector.groupKey(tupleValue(ImmutableMap.of("key", "a")).bindingTuples());
+    GroupKey other = collector.groupKey(tupleValue(ImmutableMap.of("key", "b")).bindingTuples());
+    assertEquals(key, key);
+    assertEquals(key, same);
+    assertEquals(key.hashCode(), same.hashCode());
+    assertNotEquals(key, other);
+    assertNotEquals(key, "a");
+  }
+
+  @Test
+  public void single_group_without_group_by() {
+    HashCollector noGroup = new HashCollector(Collections.emptyList(),
+        Collections.singletonList(DSL.named("count(value)", DSL.count(DSL.ref("value", INTEGER)))));
+    assertThat(noGroup.results(), contains(tupleValue(ImmutableMap.of("count(value)", 0))));
+  }
+
+  @Test
+  public void results_backed_by_row_unless_duplicate_name() {
+    collector.collect(tupleValue(ImmutableMap.of("key", "a", "value", 1)).bindingTuples());
+    ExprTupleValue result = (ExprTupleValue) collector.results().get(0);
+    assertEquals(Arrays.asList("key", "count(value)"), result.getRowSchema().getNames());
+
+    HashCollector duplicate = new HashCollector(
+        Collections.singletonList(DSL.named("key", DSL.ref("key", STRING))),
+        Collections.singletonList(DSL.named("key", DSL.count(DSL.ref("value", INTEGER)))));
+    duplicate.collect(tupleValue(ImmutableMap.of("key", "a", "value", 1)).bindingTuples());
+    result = (ExprTupleValue) duplicate.results().get(0);
+    assertNull(result.getRowSchema());
+    assertEquals(tupleValue(ImmutableMap.of("key", 1)), result);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+
+class MergeIteratorTest {
+
+  @Test
+  public void merge_sorted_runs() {
+    List<Iterator<ExprValue>> runs = ImmutableList.of(
+        ImmutableList.of(integerValue(1), integerValue(4)).iterator(),
+        Collections.emptyIterator(),
+        ImmutableList.of(integerValue(2), integerValue(3), integerValue(5)).iterator());
+
+    List<ExprValue> actual = new ArrayList<>();
+    new MergeIterator(runs, Comparator.naturalOrder()).forEachRemaining(actual::add);
+    assertEquals(
+        ImmutableList.of(integerValue(1), integerValue(2), integerValue(3), integerValue(4),
+            integerValue(5)),
+        actual);
+  }
+
+  @Test
+  public void merge_is_stable_by_run_index() {
+    ExprValue first = tupleValue(ImmutableMap.of("key", 1, "run", 0));
+    ExprValue second = tupleValue(ImmutableMap.of("key", 1, "run", 1));
+    Comparator<ExprValue> byKey = Comparator.comparing(v -> v.tupleValue().get("key"));
+
+    MergeIterator iterator = new MergeIterator(ImmutableList.of(
+        ImmutableList.of(first).iterator(), ImmutableList.of(second).iterator()), byKey);
+    assertEquals(first, iterator.next());
+    assertEquals(second, iterator.next());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void merge_no_run() {
+    assertFalse(new MergeIterator(Collections.emptyList(), Comparator.naturalOrder()).hasNext());
+  }
+}
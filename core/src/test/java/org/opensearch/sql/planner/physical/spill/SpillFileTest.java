@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+
+class SpillFileTest {
+
+  @Test
+  public void write_and_read_back_in_order() {
+    try (SpillFile file = SpillFile.create("test-")) {
+      List<ExprValue> expected = new ArrayList<>();
+      for (int i = 0; i < 2500; i++) {
+        ExprValue value = tupleValue(ImmutableMap.of("id", i));
+        expected.add(value);
+        file.write(value);
+      }
+      assertEquals(2500L, file.getSize());
+
+      List<ExprValue> actual = new ArrayList<>();
+      Iterator<ExprValue> iterator = file.read();
+      iterator.forEachRemaining(actual::add);
+      assertEquals(expected, actual);
+      assertThrows(NoSuchElementException.class, iterator::next);
+    }
+  }
+
+  @Test
+  public void write_all_and_read_back_in_order() {
+    try (SpillFile file = SpillFile.create("test-")) {
+      List<ExprValue> expected = List.of(integerValue(1), integerValue(2));
+      file.writeAll(expected.iterator());
+      assertEquals(2L, file.getSize());
+
+      List<ExprValue> actual = new ArrayList<>();
+      file.read().forEachRemaining(actual::add);
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  public void write_all_non_serializable_value_should_fail() {
+    try (SpillFile file = SpillFile.create("test-")) {
+      assertThrows(IllegalStateException.class,
+          () -> file.writeAll(List.of(mock(ExprValue.class)).iterator()));
+    }
+  }
+
+  @Test
+  public void close_deletes_file() {
+    SpillFile file = SpillFile.create("test-");
+    file.write(integerValue(1));
+    file.close();
+    assertFalse(Files.exists(file.getPath()));
+  }
+
+  @Test
+  public void write_non_serializable_value_should_fail() {
+    try (SpillFile file = SpillFile.create("test-")) {
+      assertThrows(IllegalStateException.class, () -> file.write(mock(ExprValue.class)));
+    }
+  }
+
+  @Test
+  public void read_deleted_file_should_fail() throws Exception {
+    SpillFile file = SpillFile.create("test-");
+    Files.delete(file.getPath());
+    assertThrows(IllegalStateException.class, file::read);
+    file.close();
+  }
+
+  @Test
+  public void read_aborted_write_should_fail() {
+    try (SpillFile file = SpillFile.create("test-")) {
+      assertThrows(IllegalStateException.class, () -> file.write(mock(ExprValue.class)));
+      file.write(integerValue(1));
+      Iterator<ExprValue> iterator = file.read();
+      assertThrows(IllegalStateException.class, iterator::next);
+    }
+  }
+
+  @Test
+  public void delete_failure_should_fail() throws Exception {
+    SpillFile file = SpillFile.create("test-");
+    Files.delete(file.getPath());
+    Files.createDirectory(file.getPath());
+    Files.createFile(file.getPath().resolve("child"));
+    assertThrows(IllegalStateException.class, file::close);
+    assertTrue(Files.deleteIfExists(file.getPath().resolve("child")));
+    Files.delete(file.getPath());
+  }
+}
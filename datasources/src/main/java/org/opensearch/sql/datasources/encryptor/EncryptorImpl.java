@@ -11,44 +11,44 @@ import com.amazonaws.encryptionsdk.AwsCrypto;
 import com.amazonaws.encryptionsdk.CommitmentPolicy;
 import com.amazonaws.encryptionsdk.CryptoResult;
 import com.amazonaws.encryptionsdk.jce.JceMasterKey;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import javax.crypto.spec.SecretKeySpec;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 public class EncryptorImpl implements Encryptor {
 
-  private final String masterKey;
+  /**
+   * Crypto and master key are thread-safe, so they are created once and reused by all calls
+   * instead of per call.
+   */
+  private static final AwsCrypto CRYPTO = AwsCrypto.builder()
+      .withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt)
+      .build();
+
+  private final Supplier<JceMasterKey> jceMasterKey;
+
+  /**
+   * Create encryptor of the master key. Invalid master key fails on encryption or decryption.
+   */
+  public EncryptorImpl(String masterKey) {
+    this.jceMasterKey = Suppliers.memoize(
+        () -> JceMasterKey.getInstance(new SecretKeySpec(masterKey.getBytes(), "AES"), "Custom",
+            "opensearch.config.master.key", "AES/GCM/NoPadding"));
+  }
 
   @Override
   public String encrypt(String plainText) {
-
-    final AwsCrypto crypto = AwsCrypto.builder()
-        .withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt)
-        .build();
-
-    JceMasterKey jceMasterKey
-        = JceMasterKey.getInstance(new SecretKeySpec(masterKey.getBytes(), "AES"), "Custom",
-        "opensearch.config.master.key", "AES/GCM/NoPadding");
-
-    final CryptoResult<byte[], JceMasterKey> encryptResult = crypto.encryptData(jceMasterKey,
-        plainText.getBytes(StandardCharsets.UTF_8));
+    final CryptoResult<byte[], JceMasterKey> encryptResult = CRYPTO.encryptData(
+        jceMasterKey.get(), plainText.getBytes(StandardCharsets.UTF_8));
     return Base64.getEncoder().encodeToString(encryptResult.getResult());
   }
 
   @Override
   public String decrypt(String encryptedText) {
-    final AwsCrypto crypto = AwsCrypto.builder()
-        .withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt)
-        .build();
-
-    JceMasterKey jceMasterKey
-        = JceMasterKey.getInstance(new SecretKeySpec(masterKey.getBytes(), "AES"), "Custom",
-        "opensearch.config.master.key", "AES/GCM/NoPadding");
-
     final CryptoResult<byte[], JceMasterKey> decryptedResult
-        = crypto.decryptData(jceMasterKey, Base64.getDecoder().decode(encryptedText));
+        = CRYPTO.decryptData(jceMasterKey.get(), Base64.getDecoder().decode(encryptedText));
     return new String(decryptedResult.getResult());
   }
 
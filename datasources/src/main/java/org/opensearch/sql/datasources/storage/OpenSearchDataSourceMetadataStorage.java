@@ -7,11 +7,14 @@
 
 package org.opensearch.sql.datasources.storage;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,6 +28,8 @@ import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
@@ -42,6 +47,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasources.auth.AuthenticationType;
 import org.opensearch.sql.datasources.encryptor.Encryptor;
@@ -63,6 +69,16 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
 
   private final Encryptor encryptor;
 
+  /**
+   * Decrypted datasource metadata by name, which saves the index search and decryption for each
+   * query on the datasource. Entry is revalidated on each lookup against the sequence number and
+   * primary term of the document, so that writes by any node are visible immediately. It is also
+   * invalidated on write by this node or change of datasource index in cluster state.
+   */
+  private final Cache<String, CachedDataSourceMetadata> metadataCache = CacheBuilder.newBuilder()
+      .maximumSize(1000)
+      .build();
+
   /**
    * This class implements DataSourceMetadataStorage interface
    * using OpenSearch as underlying storage.
@@ -76,6 +92,12 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
     this.client = client;
     this.clusterService = clusterService;
     this.encryptor = encryptor;
+    this.clusterService.addListener(event -> {
+      if (event.previousState().metadata().index(DATASOURCE_INDEX_NAME)
+          != event.state().metadata().index(DATASOURCE_INDEX_NAME)) {
+        metadataCache.invalidateAll();
+      }
+    });
   }
 
   @Override
@@ -89,14 +111,28 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
 
   @Override
   public Optional<DataSourceMetadata> getDataSourceMetadata(String datasourceName) {
+    CachedDataSourceMetadata cached = metadataCache.getIfPresent(datasourceName);
+    if (cached != null && isLatest(cached)) {
+      return Optional.of(copyOf(cached.metadata));
+    }
+
     if (!this.clusterService.state().routingTable().hasIndex(DATASOURCE_INDEX_NAME)) {
       createDataSourcesIndex();
       return Optional.empty();
     }
-    return searchInDataSourcesIndex(QueryBuilders.termQuery("name", datasourceName))
-        .stream()
-        .findFirst()
-        .map(x -> this.encryptDecryptAuthenticationData(x, false));
+    Optional<SearchHit> searchHit =
+        searchHitsInDataSourcesIndex(QueryBuilders.termQuery("name", datasourceName))
+            .stream()
+            .findFirst();
+    if (searchHit.isEmpty()) {
+      metadataCache.invalidate(datasourceName);
+      return Optional.empty();
+    }
+    DataSourceMetadata dataSourceMetadata =
+        encryptDecryptAuthenticationData(toDataSourceMetadata(searchHit.get()), false);
+    metadataCache.put(datasourceName, new CachedDataSourceMetadata(copyOf(dataSourceMetadata),
+        searchHit.get().getId(), searchHit.get().getSeqNo(), searchHit.get().getPrimaryTerm()));
+    return Optional.of(dataSourceMetadata);
   }
 
   @Override
@@ -116,6 +152,7 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
       indexRequest.source(XContentParserUtils.convertToXContent(dataSourceMetadata));
       indexResponseActionFuture = client.index(indexRequest);
       indexResponse = indexResponseActionFuture.actionGet();
+      metadataCache.invalidate(dataSourceMetadata.getName());
     } catch (VersionConflictEngineException exception) {
       throw new IllegalArgumentException("A datasource already exists with name: "
           + dataSourceMetadata.getName());
@@ -144,6 +181,7 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
       ActionFuture<UpdateResponse> updateResponseActionFuture
           = client.update(updateRequest);
       updateResponse = updateResponseActionFuture.actionGet();
+      metadataCache.invalidate(dataSourceMetadata.getName());
     } catch (DocumentMissingException exception) {
       throw new DataSourceNotFoundException("Datasource with name: "
           + dataSourceMetadata.getName() + " doesn't exist");
@@ -169,6 +207,7 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
       deleteResponseActionFuture = client.delete(deleteRequest);
     }
     DeleteResponse deleteResponse = deleteResponseActionFuture.actionGet();
+    metadataCache.invalidate(datasourceName);
     if (deleteResponse.getResult().equals(DocWriteResponse.Result.DELETED)) {
       LOG.debug("DatasourceMetadata : {}  successfully deleted", datasourceName);
     } else if (deleteResponse.getResult().equals(DocWriteResponse.Result.NOT_FOUND)) {
@@ -211,11 +250,20 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
   }
 
   private List<DataSourceMetadata> searchInDataSourcesIndex(QueryBuilder query) {
+    List<DataSourceMetadata> list = new ArrayList<>();
+    for (SearchHit searchHit : searchHitsInDataSourcesIndex(query)) {
+      list.add(toDataSourceMetadata(searchHit));
+    }
+    return list;
+  }
+
+  private List<SearchHit> searchHitsInDataSourcesIndex(QueryBuilder query) {
     SearchRequest searchRequest = new SearchRequest();
     searchRequest.indices(DATASOURCE_INDEX_NAME);
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
     searchSourceBuilder.query(query);
     searchSourceBuilder.size(DATASOURCE_QUERY_RESULT_SIZE);
+    searchSourceBuilder.seqNoAndPrimaryTerm(true);
     searchRequest.source(searchSourceBuilder);
     ActionFuture<SearchResponse> searchResponseActionFuture;
     try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext()
@@ -227,21 +275,45 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
       throw new RuntimeException("Fetching dataSource metadata information failed with status : "
           + searchResponse.status());
     } else {
-      List<DataSourceMetadata> list = new ArrayList<>();
-      for (SearchHit searchHit : searchResponse.getHits().getHits()) {
-        String sourceAsString = searchHit.getSourceAsString();
-        DataSourceMetadata dataSourceMetadata;
-        try {
-          dataSourceMetadata = XContentParserUtils.toDataSourceMetadata(sourceAsString);
-        } catch (IOException e) {
-          throw new RuntimeException(e);
-        }
-        list.add(dataSourceMetadata);
-      }
-      return list;
+      return List.of(searchResponse.getHits().getHits());
+    }
+  }
+
+  private DataSourceMetadata toDataSourceMetadata(SearchHit searchHit) {
+    try {
+      return XContentParserUtils.toDataSourceMetadata(searchHit.getSourceAsString());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Check if the metadata cached is of the latest version of the document by realtime get without
+   * source, which is much cheaper than search and decryption.
+   */
+  private boolean isLatest(CachedDataSourceMetadata cached) {
+    GetRequest getRequest = new GetRequest(DATASOURCE_INDEX_NAME, cached.id)
+        .fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE);
+    ActionFuture<GetResponse> getResponseActionFuture;
+    try (ThreadContext.StoredContext ignored = client.threadPool().getThreadContext()
+        .stashContext()) {
+      getResponseActionFuture = client.get(getRequest);
+    }
+    GetResponse getResponse = getResponseActionFuture.actionGet();
+    return getResponse.isExists()
+        && getResponse.getSeqNo() == cached.seqNo
+        && getResponse.getPrimaryTerm() == cached.primaryTerm;
+  }
+
+  /**
+   * Copy the metadata so that the one cached is not changed by caller, e.g. on removing auth info.
+   */
+  private DataSourceMetadata copyOf(DataSourceMetadata metadata) {
+    return new DataSourceMetadata(metadata.getName(), metadata.getConnector(),
+        metadata.getAllowedRoles() == null ? null : new ArrayList<>(metadata.getAllowedRoles()),
+        new HashMap<>(metadata.getProperties()));
+  }
+
   @SuppressWarnings("missingswitchdefault")
   private DataSourceMetadata encryptDecryptAuthenticationData(DataSourceMetadata dataSourceMetadata,
                                                               Boolean isEncryption) {
@@ -305,4 +377,21 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
     encryptOrDecrypt(propertiesMap, isEncryption, list);
   }
 
-}
\ No newline at end of file
+  /**
+   * Decrypted metadata cached with the document version it is read from.
+   */
+  private static class CachedDataSourceMetadata {
+    private final DataSourceMetadata metadata;
+    private final String id;
+    private final long seqNo;
+    private final long primaryTerm;
+
+    CachedDataSourceMetadata(DataSourceMetadata metadata, String id, long seqNo,
+                             long primaryTerm) {
+      this.metadata = metadata;
+      this.id = id;
+      this.seqNo = seqNo;
+      this.primaryTerm = primaryTerm;
+    }
+  }
+}
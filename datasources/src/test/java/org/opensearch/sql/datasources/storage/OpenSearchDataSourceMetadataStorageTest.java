@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -29,10 +30,15 @@ import org.opensearch.action.ActionFuture;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.index.engine.DocumentMissingException;
 import org.opensearch.index.engine.VersionConflictEngineException;
@@ -76,6 +82,10 @@ public class OpenSearchDataSourceMetadataStorageTest {
   private DeleteResponse deleteResponse;
   @Mock
   private SearchHit searchHit;
+  @Mock
+  private ActionFuture<GetResponse> getResponseActionFuture;
+  @Mock
+  private GetResponse getResponse;
   @InjectMocks
   private OpenSearchDataSourceMetadataStorage openSearchDataSourceMetadataStorage;
 
@@ -595,6 +605,131 @@ public class OpenSearchDataSourceMetadataStorageTest {
     Mockito.verify(client.threadPool().getThreadContext(), Mockito.times(1)).stashContext();
   }
 
+  @Test
+  public void testGetDataSourceMetadataFromCache() {
+    mockSearchOfBasicDataSourceMetadata();
+    mockGetOfDataSourceMetadata(true);
+
+    DataSourceMetadata dataSourceMetadata = openSearchDataSourceMetadataStorage
+        .getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME).get();
+    dataSourceMetadata.getProperties().clear();
+    dataSourceMetadata.getAllowedRoles().clear();
+    DataSourceMetadata cachedDataSourceMetadata = openSearchDataSourceMetadataStorage
+        .getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME).get();
+
+    Assertions.assertEquals("password",
+        cachedDataSourceMetadata.getProperties().get("prometheus.auth.password"));
+    Assertions.assertEquals(List.of("prometheus_access"),
+        cachedDataSourceMetadata.getAllowedRoles());
+    Mockito.verify(client, Mockito.times(1)).search(ArgumentMatchers.any());
+    Mockito.verify(encryptor, Mockito.times(1)).decrypt("password");
+    ArgumentCaptor<GetRequest> getRequest = ArgumentCaptor.forClass(GetRequest.class);
+    Mockito.verify(client).get(getRequest.capture());
+    Assertions.assertEquals(DATASOURCE_INDEX_NAME, getRequest.getValue().index());
+    Assertions.assertEquals(TEST_DATASOURCE_INDEX_NAME, getRequest.getValue().id());
+    Assertions.assertFalse(getRequest.getValue().fetchSourceContext().fetchSource());
+  }
+
+  @Test
+  public void testGetDataSourceMetadataReloadedIfUpdatedByOtherNode() {
+    mockSearchOfBasicDataSourceMetadata();
+    mockGetOfDataSourceMetadata(true);
+
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    Mockito.when(getResponse.getSeqNo()).thenReturn(1L);
+    Mockito.when(searchHit.getSeqNo()).thenReturn(1L);
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    Mockito.verify(client, Mockito.times(2)).search(ArgumentMatchers.any());
+
+    Mockito.when(getResponse.getPrimaryTerm()).thenReturn(2L);
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    Mockito.verify(client, Mockito.times(3)).search(ArgumentMatchers.any());
+    Mockito.verify(encryptor, Mockito.times(3)).decrypt("password");
+  }
+
+  @Test
+  public void testGetDataSourceMetadataDeletedByOtherNode() {
+    mockSearchOfBasicDataSourceMetadata();
+    mockGetOfDataSourceMetadata(false);
+
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    Mockito.when(searchResponse.getHits())
+        .thenReturn(new SearchHits(
+            new SearchHit[0], new TotalHits(0, TotalHits.Relation.EQUAL_TO), 1.0F));
+
+    Assertions.assertTrue(openSearchDataSourceMetadataStorage
+        .getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME).isEmpty());
+    Assertions.assertTrue(openSearchDataSourceMetadataStorage
+        .getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME).isEmpty());
+    Mockito.verify(client, Mockito.times(1)).get(ArgumentMatchers.any());
+    Mockito.verify(client, Mockito.times(3)).search(ArgumentMatchers.any());
+  }
+
+  @Test
+  public void testDeleteDataSourceMetadataInvalidatesCache() {
+    mockSearchOfBasicDataSourceMetadata();
+    Mockito.when(client.delete(ArgumentMatchers.any())).thenReturn(deleteResponseActionFuture);
+    Mockito.when(deleteResponseActionFuture.actionGet()).thenReturn(deleteResponse);
+    Mockito.when(deleteResponse.getResult()).thenReturn(DocWriteResponse.Result.DELETED);
+
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    openSearchDataSourceMetadataStorage.deleteDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+
+    Mockito.verify(client, Mockito.times(2)).search(ArgumentMatchers.any());
+  }
+
+  @Test
+  public void testDataSourceIndexChangeInvalidatesCache() {
+    mockSearchOfBasicDataSourceMetadata();
+    ArgumentCaptor<ClusterStateListener> listener =
+        ArgumentCaptor.forClass(ClusterStateListener.class);
+    Mockito.verify(clusterService).addListener(listener.capture());
+    ClusterChangedEvent event = Mockito.mock(ClusterChangedEvent.class, Answers.RETURNS_DEEP_STUBS);
+    IndexMetadata indexMetadata = Mockito.mock(IndexMetadata.class);
+    Mockito.when(event.previousState().metadata().index(DATASOURCE_INDEX_NAME))
+        .thenReturn(indexMetadata);
+
+    mockGetOfDataSourceMetadata(true);
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    Mockito.when(event.state().metadata().index(DATASOURCE_INDEX_NAME))
+        .thenReturn(indexMetadata);
+    listener.getValue().clusterChanged(event);
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    Mockito.verify(client, Mockito.times(1)).search(ArgumentMatchers.any());
+
+    Mockito.when(event.state().metadata().index(DATASOURCE_INDEX_NAME)).thenReturn(null);
+    listener.getValue().clusterChanged(event);
+    openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME);
+    Mockito.verify(client, Mockito.times(2)).search(ArgumentMatchers.any());
+  }
+
+  @SneakyThrows
+  private void mockSearchOfBasicDataSourceMetadata() {
+    Mockito.when(clusterService.state().routingTable().hasIndex(DATASOURCE_INDEX_NAME))
+        .thenReturn(true);
+    Mockito.when(client.search(ArgumentMatchers.any())).thenReturn(searchResponseActionFuture);
+    Mockito.when(searchResponseActionFuture.actionGet()).thenReturn(searchResponse);
+    Mockito.when(searchResponse.status()).thenReturn(RestStatus.OK);
+    Mockito.when(searchResponse.getHits())
+        .thenAnswer(invocation -> new SearchHits(
+            new SearchHit[] {searchHit},
+            new TotalHits(1, TotalHits.Relation.EQUAL_TO),
+            1.0F));
+    Mockito.when(searchHit.getSourceAsString())
+        .thenReturn(getBasicDataSourceMetadataString());
+    Mockito.when(searchHit.getId()).thenReturn(TEST_DATASOURCE_INDEX_NAME);
+    Mockito.when(encryptor.decrypt("password")).thenReturn("password");
+    Mockito.when(encryptor.decrypt("username")).thenReturn("username");
+  }
+
+  private void mockGetOfDataSourceMetadata(boolean exists) {
+    Mockito.when(client.get(ArgumentMatchers.any())).thenReturn(getResponseActionFuture);
+    Mockito.when(getResponseActionFuture.actionGet()).thenReturn(getResponse);
+    Mockito.when(getResponse.isExists()).thenReturn(exists);
+  }
+
   private String getBasicDataSourceMetadataString() throws JsonProcessingException {
     DataSourceMetadata dataSourceMetadata = new DataSourceMetadata();
     dataSourceMetadata.setName("testDS");
@@ -30,7 +30,14 @@ public enum MetricName {
     PPL_FAILED_REQ_COUNT_CUS("ppl_failed_request_count_cuserr"),
     DATASOURCE_REQ_COUNT("datasource_request_count"),
     DATASOURCE_FAILED_REQ_COUNT_SYS("datasource_failed_request_count_syserr"),
-    DATASOURCE_FAILED_REQ_COUNT_CUS("datasource_failed_request_count_cuserr");
+    DATASOURCE_FAILED_REQ_COUNT_CUS("datasource_failed_request_count_cuserr"),
+
+    SQL_PARSE_CACHE_HIT("sql_parse_cache_hit"),
+    SQL_PARSE_CACHE_MISS("sql_parse_cache_miss"),
+    PPL_PARSE_CACHE_HIT("ppl_parse_cache_hit"),
+    PPL_PARSE_CACHE_MISS("ppl_parse_cache_miss"),
+
+    QUERY_STAGE_LATENCY("query_stage_latency");
 
     private String name;
 
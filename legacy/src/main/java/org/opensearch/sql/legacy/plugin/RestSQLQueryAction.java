@@ -7,14 +7,17 @@
 package org.opensearch.sql.legacy.plugin;
 
 import static org.opensearch.rest.RestStatus.OK;
-import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.inject.Injector;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -25,18 +28,25 @@ import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.opensearch.executor.CancellableQueryTask;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
-import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.QueryResultSink;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
 import org.opensearch.sql.protocol.response.format.JdbcResponseFormatter;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 import org.opensearch.sql.protocol.response.format.RawResponseFormatter;
-import org.opensearch.sql.protocol.response.format.ResponseFormatter;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter;
 import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
 
 /**
  * New SQL REST action handler. This will not be registered to OpenSearch unless:
@@ -49,14 +59,25 @@ public class RestSQLQueryAction extends BaseRestHandler {
 
   public static final RestChannelConsumer NOT_SUPPORTED_YET = null;
 
+  /**
+   * Action name of the task registered for SQL query.
+   */
+  public static final String SQL_QUERY_TASK_ACTION = "cluster:admin/opensearch/sql";
+
   private final Injector injector;
 
+  /**
+   * Task manager of the node, which is null until the node is started.
+   */
+  private final Supplier<TaskManager> taskManager;
+
   /**
    * Constructor of RestSQLQueryAction.
    */
-  public RestSQLQueryAction(Injector injector) {
+  public RestSQLQueryAction(Injector injector, Supplier<TaskManager> taskManager) {
     super();
     this.injector = injector;
+    this.taskManager = taskManager;
   }
 
   @Override
@@ -102,16 +123,93 @@ public class RestSQLQueryAction extends BaseRestHandler {
                   createExplainResponseListener(channel, executionErrorHandler),
                   fallbackHandler));
     } else {
-      return channel ->
-          sqlService.execute(
-              request,
-              fallBackListener(
-                  channel,
-                  createQueryResponseListener(channel, request, executionErrorHandler),
-                  fallbackHandler));
+      return channel -> {
+        CancellableQueryTask task = registerTask(request);
+        QueryResultSink sink =
+            new QueryResultSink(
+                formatter(request),
+                unregisterOnCompletion(
+                    task,
+                    fallBackListener(
+                        channel,
+                        createQueryResponseListener(channel, executionErrorHandler),
+                        fallbackHandler)));
+        if (task != null) {
+          NodeClient client =
+              SecurityAccess.doPrivileged(() -> injector.getInstance(NodeClient.class));
+          Optional<QueryId> queryId = task.submitAsParent(
+              client.threadPool().getThreadContext(), () -> sqlService.execute(request, sink));
+          QueryManager queryManager =
+              SecurityAccess.doPrivileged(() -> injector.getInstance(QueryManager.class));
+          queryId.ifPresent(id -> task.setCancelAction(() -> queryManager.cancel(id)));
+        } else {
+          sqlService.execute(request, sink);
+        }
+      };
     }
   }
 
+  /**
+   * Register the query as cancellable task in the same way as PPL transport action, so that it
+   * is visible in _tasks API and can be cancelled by _tasks/_cancel API.
+   *
+   * @return task registered or null if task manager is not available yet
+   */
+  private CancellableQueryTask registerTask(SQLQueryRequest request) {
+    TaskManager manager = taskManager.get();
+    if (manager == null) {
+      return null;
+    }
+
+    return (CancellableQueryTask) manager.register("transport", SQL_QUERY_TASK_ACTION,
+        new TaskAwareRequest() {
+          private TaskId parentTaskId = TaskId.EMPTY_TASK_ID;
+
+          @Override
+          public void setParentTask(TaskId taskId) {
+            this.parentTaskId = taskId;
+          }
+
+          @Override
+          public TaskId getParentTask() {
+            return parentTaskId;
+          }
+
+          @Override
+          public Task createTask(long id, String type, String action, TaskId parentTaskId,
+                                 Map<String, String> headers) {
+            return new CancellableQueryTask(id, type, action, getDescription(), parentTaskId,
+                headers);
+          }
+
+          @Override
+          public String getDescription() {
+            return "SQL query: " + request.getQuery();
+          }
+        });
+  }
+
+  private <T> ResponseListener<T> unregisterOnCompletion(CancellableQueryTask task,
+                                                         ResponseListener<T> next) {
+    if (task == null) {
+      return next;
+    }
+
+    return new ResponseListener<T>() {
+      @Override
+      public void onResponse(T response) {
+        taskManager.get().unregister(task);
+        next.onResponse(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        taskManager.get().unregister(task);
+        next.onFailure(e);
+      }
+    };
+  }
+
   private <T> ResponseListener<T> fallBackListener(
       RestChannel channel,
       ResponseListener<T> next,
@@ -155,24 +253,24 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
-  private ResponseListener<QueryResponse> createQueryResponseListener(
-      RestChannel channel,
-      SQLQueryRequest request,
-      BiConsumer<RestChannel, Exception> errorHandler) {
+  private StreamingResponseFormatter formatter(SQLQueryRequest request) {
     Format format = request.format();
-    ResponseFormatter<QueryResult> formatter;
     if (format.equals(Format.CSV)) {
-      formatter = new CsvResponseFormatter(request.sanitize());
+      return new CsvResponseFormatter(request.sanitize());
     } else if (format.equals(Format.RAW)) {
-      formatter = new RawResponseFormatter();
+      return new RawResponseFormatter();
     } else {
-      formatter = new JdbcResponseFormatter(PRETTY);
+      return new JdbcResponseFormatter(PRETTY);
     }
-    return new ResponseListener<QueryResponse>() {
+  }
+
+  private ResponseListener<BytesReference> createQueryResponseListener(
+      RestChannel channel, BiConsumer<RestChannel, Exception> errorHandler) {
+    return new ResponseListener<BytesReference>() {
       @Override
-      public void onResponse(QueryResponse response) {
-        sendResponse(channel, OK,
-            formatter.format(new QueryResult(response.getSchema(), response.getResults())));
+      public void onResponse(BytesReference response) {
+        channel.sendResponse(new BytesRestResponse(
+            OK, "application/json; charset=UTF-8", response));
       }
 
       @Override
@@ -6,15 +6,25 @@
 
 package org.opensearch.sql.legacy.plugin;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.legacy.plugin.RestSQLQueryAction.SQL_QUERY_TASK_ACTION;
 import static org.opensearch.sql.legacy.plugin.RestSqlAction.EXPLAIN_API_ENDPOINT;
 import static org.opensearch.sql.legacy.plugin.RestSqlAction.QUERY_API_ENDPOINT;
+import static org.opensearch.sql.opensearch.executor.CancellableQueryTask.QUERY_TASK;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.json.JSONObject;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,11 +40,16 @@ import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.opensearch.executor.CancellableQueryTask;
 import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.threadpool.ThreadPool;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -54,6 +69,11 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
   @Mock
   private RestChannel restChannel;
 
+  @Mock
+  private TaskManager taskManager;
+
+  private final QueryId queryId = QueryId.queryId();
+
   private Injector injector;
 
   @Before
@@ -62,10 +82,13 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
     ModulesBuilder modules = new ModulesBuilder();
     modules.add(b -> {
       b.bind(SQLService.class).toInstance(new SQLService(new SQLSyntaxParser(), queryManager, factory));
+      b.bind(QueryManager.class).toInstance(queryManager);
+      b.bind(NodeClient.class).toInstance(nodeClient);
     });
     injector = modules.createInjector();
     Mockito.lenient().when(threadPool.getThreadContext())
         .thenReturn(new ThreadContext(org.opensearch.common.settings.Settings.EMPTY));
+    Mockito.lenient().when(queryManager.submit(any())).thenReturn(queryId);
   }
 
   @Test
@@ -76,7 +99,7 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
         QUERY_API_ENDPOINT,
         "");
 
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector);
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector, () -> null);
     queryAction.prepareRequest(request, (channel, exception) -> {
       fail();
     }, (channel, exception) -> {
@@ -92,7 +115,7 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
         EXPLAIN_API_ENDPOINT,
         "");
 
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector);
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector, () -> null);
     queryAction.prepareRequest(request, (channel, exception) -> {
       fail();
     }, (channel, exception) -> {
@@ -110,7 +133,7 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
         "");
 
     AtomicBoolean fallback = new AtomicBoolean(false);
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector);
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector, () -> null);
     queryAction.prepareRequest(request, (channel, exception) -> {
       fallback.set(true);
       assertTrue(exception instanceof SyntaxCheckException);
@@ -135,7 +158,7 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
         .submit(any());
 
     AtomicBoolean executionErrorHandler = new AtomicBoolean(false);
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector);
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector, () -> null);
     queryAction.prepareRequest(request, (channel, exception) -> {
       assertTrue(exception instanceof SyntaxCheckException);
     }, (channel, exception) -> {
@@ -146,6 +169,68 @@ public class RestSQLQueryActionTest extends BaseRestHandler {
     assertTrue(executionErrorHandler.get());
   }
 
+  @Test
+  public void registerQueryAsCancellableTask() throws Exception {
+    SQLQueryRequest request = new SQLQueryRequest(
+        new JSONObject("{\"query\": \"SELECT -123\"}"),
+        "SELECT -123",
+        QUERY_API_ENDPOINT,
+        "");
+    AtomicReference<CancellableQueryTask> task = new AtomicReference<>();
+    when(taskManager.register(eq("transport"), eq(SQL_QUERY_TASK_ACTION), any()))
+        .thenAnswer(invocation -> {
+          TaskAwareRequest taskRequest = invocation.getArgument(2);
+          taskRequest.setParentTask(TaskId.EMPTY_TASK_ID);
+          assertEquals(TaskId.EMPTY_TASK_ID, taskRequest.getParentTask());
+          task.set((CancellableQueryTask) taskRequest.createTask(
+              1L, "transport", SQL_QUERY_TASK_ACTION, taskRequest.getParentTask(), Map.of()));
+          return task.get();
+        });
+    AtomicReference<Object> submittedTask = new AtomicReference<>();
+    when(queryManager.submit(any())).thenAnswer(invocation -> {
+      submittedTask.set(threadPool.getThreadContext().getTransient(QUERY_TASK));
+      return queryId;
+    });
+
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector, () -> taskManager);
+    queryAction.prepareRequest(request, (channel, exception) -> {
+      fail();
+    }, (channel, exception) -> {
+      fail();
+    }).accept(restChannel);
+
+    assertEquals("SQL query: SELECT -123", task.get().getDescription());
+    assertSame(task.get(), submittedTask.get());
+    assertNull(threadPool.getThreadContext().getTransient(QUERY_TASK));
+    task.get().onCancelled();
+    verify(queryManager).cancel(queryId);
+  }
+
+  @Test
+  public void unregisterTaskOnCompletion() throws Exception {
+    SQLQueryRequest request = new SQLQueryRequest(
+        new JSONObject(
+            "{\"query\": \"SELECT name FROM test1 JOIN test2 ON test1.name = test2.name\"}"),
+        "SELECT name FROM test1 JOIN test2 ON test1.name = test2.name",
+        QUERY_API_ENDPOINT,
+        "");
+    CancellableQueryTask task = new CancellableQueryTask(
+        1L, "transport", SQL_QUERY_TASK_ACTION, "SQL query", TaskId.EMPTY_TASK_ID, Map.of());
+    when(taskManager.register(eq("transport"), eq(SQL_QUERY_TASK_ACTION), any()))
+        .thenReturn(task);
+
+    AtomicBoolean fallback = new AtomicBoolean(false);
+    RestSQLQueryAction queryAction = new RestSQLQueryAction(injector, () -> taskManager);
+    queryAction.prepareRequest(request, (channel, exception) -> {
+      fallback.set(true);
+    }, (channel, exception) -> {
+      fail();
+    }).accept(restChannel);
+
+    assertTrue(fallback.get());
+    verify(taskManager).unregister(task);
+  }
+
   @Override
   public String getName() {
     // do nothing, RestChannelConsumer is protected which required to extend BaseRestHandler
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.client;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Node level cache of index metadata, such as mappings and settings, shared by all queries on
+ * the node. Each entry is tagged with the cluster state metadata version it was loaded on, and is
+ * reloaded once the version moves on because any mapping or setting change (including index
+ * creation and deletion which may change what an index pattern resolves to) bumps the version.
+ * If the request is made by an authenticated user of security plugin, the entry is cached for
+ * the user and its roles only, because what the user can see depends on its permissions and
+ * field level security. Such entry also expires after {@link IndexMetadataCache#USER_CACHE_TTL},
+ * because permissions of a role may be changed without bumping the version.
+ */
+public class IndexMetadataCache {
+
+  /** Maximum number of entries which is the same as mapping cache in legacy engine. */
+  private static final long MAX_CACHE_SIZE = 100;
+
+  /** Time to live of entry loaded for authenticated user. */
+  static final Duration USER_CACHE_TTL = Duration.ofMinutes(1);
+
+  /** Supplier of current metadata version in local cluster state. */
+  private final LongSupplier metadataVersion;
+
+  /**
+   * Supplier of user of current request, including the user name and roles, or null if not
+   * authenticated.
+   */
+  private final Supplier<String> user;
+
+  /** Thread-safe cache from metadata kind and index expression to entry. */
+  private final Cache<List<String>, Entry> cache =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHE_SIZE).build();
+
+  /** Thread-safe cache from metadata kind, user and index expression to entry. */
+  private final Cache<List<String>, Entry> userCache;
+
+  /**
+   * Constructor of cache without security plugin.
+   *
+   * @param metadataVersion supplier of current metadata version
+   */
+  public IndexMetadataCache(LongSupplier metadataVersion) {
+    this(metadataVersion, () -> null);
+  }
+
+  /**
+   * Constructor of cache with security plugin.
+   *
+   * @param metadataVersion supplier of current metadata version
+   * @param user            supplier of user of current request or null if not authenticated
+   */
+  public IndexMetadataCache(LongSupplier metadataVersion, Supplier<String> user) {
+    this(metadataVersion, user, Ticker.systemTicker());
+  }
+
+  IndexMetadataCache(LongSupplier metadataVersion, Supplier<String> user, Ticker ticker) {
+    this.metadataVersion = metadataVersion;
+    this.user = user;
+    this.userCache = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHE_SIZE)
+        .expireAfterWrite(USER_CACHE_TTL)
+        .ticker(ticker)
+        .build();
+  }
+
+  /**
+   * Get index metadata from cache or load it if absent or stale. Failure of loading is thrown
+   * without caching anything. Metadata loaded for authenticated user is only shared with the
+   * requests of the same user and roles.
+   *
+   * @param kind            kind of metadata, e.g. mappings
+   * @param indexExpression index expression
+   * @param loader          function to load the metadata
+   * @return index metadata
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String kind, String[] indexExpression, Supplier<T> loader) {
+    String currentUser = user.get();
+    Cache<List<String>, Entry> entries = (currentUser == null) ? cache : userCache;
+    List<String> key = cacheKey(kind, currentUser, indexExpression);
+    // Read version before loading so that any change during loading makes the entry stale
+    long version = metadataVersion.getAsLong();
+    Entry entry = entries.getIfPresent(key);
+    if (entry == null || entry.version != version) {
+      entry = new Entry(version, loader.get());
+      entries.put(key, entry);
+    }
+    return (T) entry.value;
+  }
+
+  private List<String> cacheKey(String kind, String currentUser, String[] indexExpression) {
+    ImmutableList.Builder<String> key = ImmutableList.<String>builder().add(kind);
+    if (currentUser != null) {
+      key.add(currentUser);
+    }
+    return key.add(indexExpression).build();
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final long version;
+    private final Object value;
+  }
+}
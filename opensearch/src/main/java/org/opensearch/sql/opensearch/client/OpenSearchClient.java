@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
@@ -52,6 +53,14 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Fetch index.number_of_shards settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of shards
+   */
+  Map<String, Integer> getIndexNumberOfShards(String... indexExpression);
+
   /**
    * Perform search query in the search request.
    *
@@ -81,6 +90,21 @@ public interface OpenSearchClient {
    */
   void cleanup(OpenSearchRequest request);
 
+  /**
+   * Create point in time on the indices in the request.
+   *
+   * @param request create point in time request
+   * @return point in time id
+   */
+  String createPit(CreatePitRequest request);
+
+  /**
+   * Delete point in time created.
+   *
+   * @param pitId point in time id
+   */
+  void deletePit(String pitId);
+
   /**
    * Schedule a task to run.
    *
@@ -88,5 +112,14 @@ public interface OpenSearchClient {
    */
   void schedule(Runnable task);
 
+  /**
+   * Run a task asynchronously in background if any thread available. The task may not be run at
+   * all, so the caller is responsible for running it by itself if the result is required while
+   * the task is still not started.
+   *
+   * @param task task
+   */
+  void runAsync(Runnable task);
+
   NodeClient getNodeClient();
 }
@@ -6,6 +6,9 @@
 
 package org.opensearch.sql.opensearch.client;
 
+import static org.opensearch.sql.opensearch.executor.CancellableQueryTask.QUERY_TASK;
+import static org.opensearch.sql.opensearch.executor.OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME;
+
 import com.carrotsearch.hppc.cursors.ObjectObjectCursor;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -13,6 +16,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -23,14 +27,22 @@ import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
 
 /** OpenSearch connection by node client. */
 public class OpenSearchNodeClient implements OpenSearchClient {
@@ -41,11 +53,15 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   /** Node client provided by OpenSearch container. */
   private final NodeClient client;
 
+  /** Index mappings and settings cache shared on current node. */
+  private final IndexMetadataCache metadataCache;
+
   /**
    * Constructor of ElasticsearchNodeClient.
    */
-  public OpenSearchNodeClient(NodeClient client) {
+  public OpenSearchNodeClient(NodeClient client, IndexMetadataCache metadataCache) {
     this.client = client;
+    this.metadataCache = metadataCache;
   }
 
   @Override
@@ -74,8 +90,8 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    * Get field mappings of index by an index expression. Majority is copied from legacy
    * LocalClusterState.
    *
-   * <p>For simplicity, removed type (deprecated) and field filter in argument list. Also removed
-   * mapping cache, cluster state listener (mainly for performance and debugging).
+   * <p>For simplicity, removed type (deprecated) and field filter in argument list. The mapping
+   * cache is invalidated by metadata version instead of cluster state listener.
    *
    * @param indexExpression index name expression
    * @return index mapping(s) in our class to isolate OpenSearch API. IndexNotFoundException is
@@ -83,6 +99,11 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    */
   @Override
   public Map<String, IndexMapping> getIndexMappings(String... indexExpression) {
+    return metadataCache.get("mappings", indexExpression,
+        () -> loadIndexMappings(indexExpression));
+  }
+
+  private Map<String, IndexMapping> loadIndexMappings(String... indexExpression) {
     try {
       GetMappingsResponse mappingsResponse = client.admin().indices()
           .prepareGetMappings(indexExpression)
@@ -108,6 +129,28 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    */
   @Override
   public Map<String, Integer> getIndexMaxResultWindows(String... indexExpression) {
+    return getIndexSettings(IndexSettings.MAX_RESULT_WINDOW_SETTING, indexExpression);
+  }
+
+  /**
+   * Fetch index.number_of_shards settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its number of shards
+   */
+  @Override
+  public Map<String, Integer> getIndexNumberOfShards(String... indexExpression) {
+    return getIndexSettings(IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING, indexExpression);
+  }
+
+  private Map<String, Integer> getIndexSettings(Setting<Integer> setting,
+                                                String... indexExpression) {
+    return metadataCache.get(setting.getKey(), indexExpression,
+        () -> loadIndexSettings(setting, indexExpression));
+  }
+
+  private Map<String, Integer> loadIndexSettings(Setting<Integer> setting,
+                                                 String... indexExpression) {
     try {
       GetSettingsResponse settingsResponse =
           client.admin().indices().prepareGetSettings(indexExpression).setLocal(true).get();
@@ -117,9 +160,7 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         Settings settings = indexToSetting.value;
         result.put(
             indexToSetting.key,
-            settings.getAsInt(
-                IndexSettings.MAX_RESULT_WINDOW_SETTING.getKey(),
-                IndexSettings.MAX_RESULT_WINDOW_SETTING.getDefault(settings)));
+            settings.getAsInt(setting.getKey(), setting.getDefault(settings)));
       }
       return result.build();
     } catch (Exception e) {
@@ -130,15 +171,38 @@ public class OpenSearchNodeClient implements OpenSearchClient {
 
   /**
    * TODO: Scroll doesn't work for aggregation. Support aggregation later.
+   * Search requests are sent as children of the query task if any, so that they are cancelled
+   * on the data nodes along with the query rather than run to completion.
    */
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
+    TaskId parentTaskId = queryTaskId();
     return request.search(
-        req -> client.search(req).actionGet(),
-        req -> client.searchScroll(req).actionGet()
+        req -> {
+          req.setParentTask(parentTaskId);
+          return client.search(req).actionGet();
+        },
+        req -> {
+          req.setParentTask(parentTaskId);
+          return client.searchScroll(req).actionGet();
+        }
     );
   }
 
+  /**
+   * Id of the query task put in thread context by {@link
+   * org.opensearch.sql.opensearch.executor.CancellableQueryTask#submitAsParent}.
+   *
+   * @return task id, or empty task id if the query is not submitted as task
+   */
+  private TaskId queryTaskId() {
+    Task task = client.threadPool().getThreadContext().getTransient(QUERY_TASK);
+    if (task == null) {
+      return TaskId.EMPTY_TASK_ID;
+    }
+    return new TaskId(client.getLocalNodeId(), task.getId());
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -174,12 +238,31 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     request.clean(scrollId -> client.prepareClearScroll().addScrollId(scrollId).get());
   }
 
+  @Override
+  public String createPit(CreatePitRequest request) {
+    return client.execute(CreatePitAction.INSTANCE, request).actionGet().getId();
+  }
+
+  @Override
+  public void deletePit(String pitId) {
+    client.execute(DeletePitAction.INSTANCE, new DeletePitRequest(pitId)).actionGet();
+  }
+
   @Override
   public void schedule(Runnable task) {
     // at that time, task already running the sql-worker ThreadPool.
     task.run();
   }
 
+  @Override
+  public void runAsync(Runnable task) {
+    try {
+      client.threadPool().executor(SQL_WORKER_THREAD_POOL_NAME).execute(task);
+    } catch (RejectedExecutionException e) {
+      // Leave the task to caller if the worker thread pool is full
+    }
+  }
+
   @Override
   public NodeClient getNodeClient() {
     return client;
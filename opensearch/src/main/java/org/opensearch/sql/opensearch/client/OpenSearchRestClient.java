@@ -21,6 +21,8 @@ import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
@@ -81,34 +83,48 @@ public class OpenSearchRestClient implements OpenSearchClient {
 
   @Override
   public Map<String, Integer> getIndexMaxResultWindows(String... indexExpression) {
-    GetSettingsRequest request = new GetSettingsRequest()
-        .indices(indexExpression).includeDefaults(true);
     try {
-      GetSettingsResponse response = client.indices().getSettings(request, RequestOptions.DEFAULT);
-      ImmutableOpenMap<String, Settings> settings = response.getIndexToSettings();
-      ImmutableOpenMap<String, Settings> defaultSettings = response.getIndexToDefaultSettings();
-      Map<String, Integer> result = new HashMap<>();
-
-      defaultSettings.forEach(entry -> {
-        Integer maxResultWindow = entry.value.getAsInt("index.max_result_window", null);
-        if (maxResultWindow != null) {
-          result.put(entry.key, maxResultWindow);
-        }
-      });
-
-      settings.forEach(entry -> {
-        Integer maxResultWindow = entry.value.getAsInt("index.max_result_window", null);
-        if (maxResultWindow != null) {
-          result.put(entry.key, maxResultWindow);
-        }
-      });
-
-      return result;
+      return getIndexSettings("index.max_result_window", indexExpression);
     } catch (IOException e) {
       throw new IllegalStateException("Failed to get max result window for " + indexExpression, e);
     }
   }
 
+  @Override
+  public Map<String, Integer> getIndexNumberOfShards(String... indexExpression) {
+    try {
+      return getIndexSettings("index.number_of_shards", indexExpression);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get number of shards for " + indexExpression, e);
+    }
+  }
+
+  private Map<String, Integer> getIndexSettings(String key, String... indexExpression)
+      throws IOException {
+    GetSettingsRequest request = new GetSettingsRequest()
+        .indices(indexExpression).includeDefaults(true);
+    GetSettingsResponse response = client.indices().getSettings(request, RequestOptions.DEFAULT);
+    ImmutableOpenMap<String, Settings> settings = response.getIndexToSettings();
+    ImmutableOpenMap<String, Settings> defaultSettings = response.getIndexToDefaultSettings();
+    Map<String, Integer> result = new HashMap<>();
+
+    defaultSettings.forEach(entry -> {
+      Integer value = entry.value.getAsInt(key, null);
+      if (value != null) {
+        result.put(entry.key, value);
+      }
+    });
+
+    settings.forEach(entry -> {
+      Integer value = entry.value.getAsInt(key, null);
+      if (value != null) {
+        result.put(entry.key, value);
+      }
+    });
+
+    return result;
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
@@ -187,11 +203,35 @@ public class OpenSearchRestClient implements OpenSearchClient {
 
   }
 
+  @Override
+  public String createPit(CreatePitRequest request) {
+    try {
+      return client.createPit(request, RequestOptions.DEFAULT).getId();
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to create point in time with request " + request, e);
+    }
+  }
+
+  @Override
+  public void deletePit(String pitId) {
+    try {
+      client.deletePit(new DeletePitRequest(pitId), RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete point in time " + pitId, e);
+    }
+  }
+
   @Override
   public void schedule(Runnable task) {
     task.run();
   }
 
+  @Override
+  public void runAsync(Runnable task) {
+    // No background thread available, caller runs the task when its result required
+  }
+
   @Override
   public NodeClient getNodeClient() {
     throw new UnsupportedOperationException("Unsupported method.");
@@ -64,6 +64,7 @@ public class OpenSearchDataType implements ExprType, Serializable {
     }
   }
 
+  @Getter
   @EqualsAndHashCode.Exclude
   protected MappingType mappingType;
 
@@ -135,12 +136,29 @@ public class OpenSearchDataType implements ExprType, Serializable {
   public static OpenSearchDataType of(MappingType mappingType,
                                       Map<String, OpenSearchDataType> properties,
                                       Map<String, OpenSearchDataType> fields) {
+    return of(mappingType, properties, fields, null);
+  }
+
+  /**
+   * A constructor function which builds proper `OpenSearchDataType` for given mapping `Type`.
+   * Designed to be called by the mapping parser only (and tests).
+   * @param mappingType A mapping type.
+   * @param properties Properties to set.
+   * @param fields Fields to set.
+   * @param ignoreAbove Length of string above which is not indexed, or null if not set.
+   * @return An instance or inheritor of `OpenSearchDataType`.
+   */
+  public static OpenSearchDataType of(MappingType mappingType,
+                                      Map<String, OpenSearchDataType> properties,
+                                      Map<String, OpenSearchDataType> fields,
+                                      Integer ignoreAbove) {
     var res = of(mappingType);
-    if (!properties.isEmpty() || !fields.isEmpty()) {
+    if (!properties.isEmpty() || !fields.isEmpty() || ignoreAbove != null) {
       // Clone to avoid changing the singleton instance.
       res = res.cloneEmpty();
       res.properties = ImmutableMap.copyOf(properties);
       res.fields = ImmutableMap.copyOf(fields);
+      res.ignoreAbove = ignoreAbove;
     }
     return res;
   }
@@ -183,6 +201,11 @@ public class OpenSearchDataType implements ExprType, Serializable {
   @EqualsAndHashCode.Exclude
   Map<String, OpenSearchDataType> fields = ImmutableMap.of();
 
+  // keyword value longer than ignore_above is neither indexed nor searchable by term
+  @Getter
+  @EqualsAndHashCode.Exclude
+  Integer ignoreAbove = null;
+
   @Override
   // Called when building TypeEnvironment and when serializing PPL response
   public String typeName() {
@@ -212,6 +235,7 @@ public class OpenSearchDataType implements ExprType, Serializable {
     var copy = new OpenSearchDataType();
     copy.mappingType = mappingType;
     copy.exprCoreType = exprCoreType;
+    copy.ignoreAbove = ignoreAbove;
     return copy;
   }
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.data.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * The Implementation of Content to represent a scalar JSON value read from parser tokens directly
+ * without building {@link com.fasterxml.jackson.databind.JsonNode}. The conversion is the same
+ * as {@link OpenSearchJsonContent} on the equivalent value node.
+ */
+@RequiredArgsConstructor
+public class OpenSearchJsonScalarContent implements Content {
+
+  /**
+   * String, Number or Boolean value, or null.
+   */
+  private final Object value;
+
+  /**
+   * Read the scalar value at the current token of the parser.
+   *
+   * @param parser parser whose current token is a scalar value
+   * @return scalar content
+   */
+  public static OpenSearchJsonScalarContent of(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    switch (token) {
+      case VALUE_STRING:
+        return new OpenSearchJsonScalarContent(parser.getText());
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return new OpenSearchJsonScalarContent(parser.getNumberValue());
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+        return new OpenSearchJsonScalarContent(token == JsonToken.VALUE_TRUE);
+      case VALUE_NULL:
+        return new OpenSearchJsonScalarContent(null);
+      default:
+        throw new IllegalStateException("not a scalar value: " + token);
+    }
+  }
+
+  @Override
+  public Integer intValue() {
+    return isNumber() ? ((Number) value).intValue() : 0;
+  }
+
+  @Override
+  public Long longValue() {
+    return isNumber() ? ((Number) value).longValue() : 0L;
+  }
+
+  @Override
+  public Short shortValue() {
+    return isNumber() ? ((Number) value).shortValue() : 0;
+  }
+
+  @Override
+  public Byte byteValue() {
+    return (byte) shortValue().shortValue();
+  }
+
+  @Override
+  public Float floatValue() {
+    return isNumber() ? ((Number) value).floatValue() : 0.0f;
+  }
+
+  @Override
+  public Double doubleValue() {
+    return isNumber() ? ((Number) value).doubleValue() : 0.0;
+  }
+
+  @Override
+  public String stringValue() {
+    return String.valueOf(value);
+  }
+
+  @Override
+  public Boolean booleanValue() {
+    return value instanceof Boolean && (Boolean) value;
+  }
+
+  @Override
+  public Iterator<Map.Entry<String, Content>> map() {
+    return Collections.emptyIterator();
+  }
+
+  @Override
+  public Iterator<? extends Content> array() {
+    return Collections.emptyIterator();
+  }
+
+  @Override
+  public boolean isNull() {
+    return value == null;
+  }
+
+  @Override
+  public boolean isNumber() {
+    return value instanceof Number;
+  }
+
+  @Override
+  public boolean isString() {
+    return value instanceof String;
+  }
+
+  @Override
+  public Object objectValue() {
+    return value;
+  }
+
+  @Override
+  public Pair<Double, Double> geoValue() {
+    throw new IllegalStateException("geo point must in format of {\"lat\": number, \"lon\": "
+        + "number}");
+  }
+}
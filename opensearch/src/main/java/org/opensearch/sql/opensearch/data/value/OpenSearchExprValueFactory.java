@@ -14,11 +14,14 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.utils.DateTimeFormatters.DATE_TIME_FORMATTER;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -26,9 +29,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
@@ -51,6 +56,7 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.utils.Content;
 import org.opensearch.sql.opensearch.data.utils.ObjectContent;
 import org.opensearch.sql.opensearch.data.utils.OpenSearchJsonContent;
+import org.opensearch.sql.opensearch.data.utils.OpenSearchJsonScalarContent;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 
 /**
@@ -147,6 +153,48 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Construct ExprValue from document source in JSON by a single pass over its bytes, without
+   * decoding it to string first. Top level fields not required are skipped without being parsed.
+   * Otherwise it is same as {@link #construct(String)}.
+   *
+   * @param source document source in JSON
+   * @param fields top level fields required, or empty set if all fields are required
+   * @return ExprTupleValue
+   */
+  public ExprTupleValue construct(BytesReference source, Set<String> fields) {
+    try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(source.streamInput())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("invalid json source: expect object");
+      }
+
+      LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (fields.isEmpty() || fields.contains(field)) {
+          result.put(field, parse(content(parser), field, type(field)));
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return new ExprTupleValue(result);
+    } catch (IOException e) {
+      throw new IllegalStateException("invalid json source.", e);
+    }
+  }
+
+  /**
+   * Scalar value is read from the current token directly. Only object or array value is read
+   * into a tree.
+   */
+  private Content content(JsonParser parser) throws IOException {
+    if (parser.currentToken().isScalarValue()) {
+      return OpenSearchJsonScalarContent.of(parser);
+    }
+    return new OpenSearchJsonContent(OBJECT_MAPPER.readTree(parser));
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying
    * to construct from field of unsupported type.
@@ -182,6 +230,16 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Get the OpenSearch type of the field from the flattened mapping.
+   *
+   * @param field field name
+   * @return OpenSearch type, or empty if the field is not in mapping
+   */
+  public Optional<OpenSearchDataType> getFieldType(String field) {
+    return Optional.ofNullable(typeMapping.get(field));
+  }
+
   /**
    * In OpenSearch, it is possible field doesn't have type definition in mapping.
    * but has empty value. For example, {"empty_field": []}.
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskId;
+
+/**
+ * Task of SQL or PPL query which is visible in _tasks API and can be cancelled by _tasks/_cancel
+ * API. Cancellation is forwarded to the query submitted for the task.
+ */
+public class CancellableQueryTask extends CancellableTask {
+
+  /**
+   * Transient header of thread context which holds the task of the query submitted, so that
+   * search requests sent for the query by any thread are registered as children of the task.
+   */
+  public static final String QUERY_TASK = "_sql_query_task";
+
+  /**
+   * Action to cancel the query submitted which is null until the query submitted.
+   */
+  private Runnable cancelAction;
+
+  public CancellableQueryTask(long id, String type, String action, String description,
+                              TaskId parentTaskId, Map<String, String> headers) {
+    super(id, type, action, description, parentTaskId, headers);
+  }
+
+  /**
+   * Set action to cancel the query submitted, which is run at once if the task is cancelled
+   * before the query submitted.
+   *
+   * @param cancelAction action to cancel the query
+   */
+  public synchronized void setCancelAction(Runnable cancelAction) {
+    this.cancelAction = cancelAction;
+    if (isCancelled()) {
+      cancelAction.run();
+    }
+  }
+
+  /**
+   * Submit the query with this task in thread context, which is preserved by the thread pool
+   * running the query, so that the searches in flight are cancelled along with this task. The
+   * thread context of current thread is restored once submitted.
+   *
+   * @param threadContext thread context of current thread
+   * @param submit        action to submit the query
+   * @return result of the action
+   */
+  public <T> T submitAsParent(ThreadContext threadContext, Supplier<T> submit) {
+    try (ThreadContext.StoredContext ignored = threadContext.newStoredContext(true)) {
+      threadContext.putTransient(QUERY_TASK, this);
+      return submit.get();
+    }
+  }
+
+  @Override
+  protected synchronized void onCancelled() {
+    if (cancelAction != null) {
+      cancelAction.run();
+    }
+  }
+
+  @Override
+  public boolean shouldCancelChildrenOnCancellation() {
+    return true;
+  }
+}
@@ -12,18 +12,31 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.exception.QueryCancelledException;
+import org.opensearch.sql.executor.CancellationToken;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.executor.QueryProfile;
+import org.opensearch.sql.executor.QueryProfile.OperatorProfile;
+import org.opensearch.sql.executor.ResponseSink;
+import org.opensearch.sql.monitor.QueryStage;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.RowBatch;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** OpenSearch execution engine implementation. */
 @RequiredArgsConstructor
 public class OpenSearchExecutionEngine implements ExecutionEngine {
 
+  /**
+   * Maximum number of rows pulled from physical plan at once in batch mode.
+   */
+  private static final int BATCH_SIZE = 1000;
+
   private final OpenSearchClient client;
 
   private final ExecutionProtector executionProtector;
@@ -36,47 +49,152 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
   @Override
   public void execute(PhysicalPlan physicalPlan, ExecutionContext context,
                       ResponseListener<QueryResponse> listener) {
-    PhysicalPlan plan = executionProtector.protect(physicalPlan);
-    client.schedule(
-        () -> {
-          try {
-            List<ExprValue> result = new ArrayList<>();
+    QueryProfile profile = context.getProfile();
+    PhysicalPlan plan = profile.isEnabled()
+        ? executionProtector.protect(physicalPlan, profile)
+        : executionProtector.protect(physicalPlan);
+    CancellationToken token = context.getCancellationToken();
+    scheduleCancellable(plan, token, listener, () -> {
+      long start = System.nanoTime();
+      context.getSplit().ifPresent(plan::add);
+      plan.setCancellationToken(token);
+      plan.open();
 
-            context.getSplit().ifPresent(plan::add);
-            plan.open();
+      if (listener instanceof ResponseSink) {
+        stream(plan, physicalPlan.schema(), (ResponseSink) listener, token, profile, start);
+      } else {
+        List<ExprValue> result = new ArrayList<>();
+        RowBatch rows = plan.nextBatch(BATCH_SIZE);
+        while (!rows.isEmpty()) {
+          token.throwIfCancelled();
+          result.addAll(rows.toList());
+          rows = plan.nextBatch(BATCH_SIZE);
+        }
 
-            while (plan.hasNext()) {
-              result.add(plan.next());
-            }
+        QueryResponse response = new QueryResponse(physicalPlan.schema(), result);
+        profile.record(QueryStage.EXECUTE, System.nanoTime() - start);
+        response.setProfile(profile);
+        listener.onResponse(response);
+      }
+    });
+  }
 
-            QueryResponse response = new QueryResponse(physicalPlan.schema(), result);
-            listener.onResponse(response);
+  /**
+   * Schedule the task that runs the plan, and close the plan once done. The current thread is
+   * interrupted on cancellation to abort waiting for search response, and the listener fails by
+   * {@link QueryCancelledException} if cancelled. The searches in flight are cancelled on the data
+   * nodes separately because they are sent as children of the query task.
+   */
+  private void scheduleCancellable(PhysicalPlan plan, CancellationToken token,
+                                   ResponseListener<?> listener, Runnable task) {
+    client.schedule(
+        () -> {
+          Runnable interrupt = Thread.currentThread()::interrupt;
+          try {
+            token.addCallback(interrupt);
+            token.throwIfCancelled();
+            task.run();
           } catch (Exception e) {
-            listener.onFailure(e);
+            listener.onFailure(
+                token.isCancelled() ? new QueryCancelledException(token.getReason()) : e);
           } finally {
+            token.removeCallback(interrupt);
+            if (token.isCancelled()) {
+              // Clear interrupt status so that scroll or point in time can still be cleaned up
+              Thread.interrupted();
+            }
             plan.close();
           }
         });
   }
 
+  /**
+   * Push result rows to the sink batch by batch, so that at most one batch is held in memory.
+   */
+  private void stream(PhysicalPlan plan, Schema schema, ResponseSink sink,
+                      CancellationToken token, QueryProfile profile, long start) {
+    sink.onSchema(schema);
+
+    int batchSize = sink.batchSize();
+    List<ExprValue> batch = new ArrayList<>(batchSize);
+    // Request only what the batch to sink lacks, so that it never exceeds the batch size
+    RowBatch rows = plan.nextBatch(batchSize);
+    while (!rows.isEmpty()) {
+      token.throwIfCancelled();
+      batch.addAll(rows.toList());
+      if (batch.size() >= batchSize) {
+        sink.onBatch(batch);
+        batch.clear();
+      }
+      rows = plan.nextBatch(batchSize - batch.size());
+    }
+    if (!batch.isEmpty()) {
+      sink.onBatch(batch);
+    }
+    profile.record(QueryStage.EXECUTE, System.nanoTime() - start);
+    sink.onProfile(profile);
+    sink.onComplete();
+  }
+
   @Override
   public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
     client.schedule(() -> {
       try {
-        Explain openSearchExplain = new Explain() {
-          @Override
-          public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
-            return explain(node, context, explainNode -> {
-              explainNode.setDescription(ImmutableMap.of("request", node.explain()));
-            });
-          }
-        };
-
-        listener.onResponse(openSearchExplain.apply(plan));
+        listener.onResponse(openSearchExplain().apply(plan));
       } catch (Exception e) {
         listener.onFailure(e);
       }
     });
   }
 
+  /**
+   * Explain analyze if profiling is enabled, which executes the plan decorated by profiling and
+   * explains it with the runtime statistics collected once all rows are drained.
+   */
+  @Override
+  public void explain(PhysicalPlan physicalPlan, ExecutionContext context,
+                      ResponseListener<ExplainResponse> listener) {
+    QueryProfile profile = context.getProfile();
+    if (!profile.isEnabled()) {
+      explain(physicalPlan, listener);
+      return;
+    }
+
+    PhysicalPlan plan = executionProtector.protect(physicalPlan, profile);
+    OperatorProfile root = profile.getOperators().isEmpty() ? null : profile.getOperators().get(0);
+    CancellationToken token = context.getCancellationToken();
+    scheduleCancellable(plan, token, listener, () -> {
+      long start = System.nanoTime();
+      context.getSplit().ifPresent(plan::add);
+      plan.setCancellationToken(token);
+      plan.open();
+      RowBatch rows = plan.nextBatch(BATCH_SIZE);
+      while (!rows.isEmpty()) {
+        token.throwIfCancelled();
+        rows = plan.nextBatch(BATCH_SIZE);
+      }
+      profile.record(QueryStage.EXECUTE, System.nanoTime() - start);
+      listener.onResponse(openSearchExplain().apply(plan, root));
+    });
+  }
+
+  /**
+   * Explain table scan by the request pushed down, and by the search requests sent if analyzed.
+   */
+  private Explain openSearchExplain() {
+    return new Explain() {
+      @Override
+      public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
+        return explain(node, context, explainNode -> {
+          explainNode.setDescription(ImmutableMap.of("request", node.explain()));
+          if (node instanceof OpenSearchIndexScan) {
+            OpenSearchIndexScan scan = (OpenSearchIndexScan) node;
+            addAnalyze(explainNode, "search_requests", scan.getSearchCount());
+            addAnalyze(explainNode, "search_time_ms", QueryProfile.toMillis(scan.getSearchNanos()));
+          }
+        });
+      }
+    };
+  }
+
 }
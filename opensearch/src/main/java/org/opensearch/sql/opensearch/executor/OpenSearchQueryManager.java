@@ -8,14 +8,18 @@
 
 package org.opensearch.sql.opensearch.executor;
 
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.ThreadContext;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 /**
@@ -26,15 +30,60 @@ public class OpenSearchQueryManager implements QueryManager {
 
   private final NodeClient nodeClient;
 
-  private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
+  private final Settings settings;
+
+  /**
+   * Queries submitted and not done yet by query id.
+   */
+  private final Map<String, AbstractPlan> runningQueries = new ConcurrentHashMap<>();
+
+  public static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
 
   @Override
   public QueryId submit(AbstractPlan queryPlan) {
-    schedule(nodeClient, () -> queryPlan.execute());
+    String queryId = queryPlan.getQueryId().getQueryId();
+    runningQueries.put(queryId, queryPlan);
+    Scheduler.ScheduledCancellable timeout = scheduleTimeout(queryPlan);
+    schedule(nodeClient, () -> {
+      try {
+        queryPlan.execute();
+      } finally {
+        if (timeout != null) {
+          timeout.cancel();
+        }
+        runningQueries.remove(queryId);
+      }
+    });
 
     return queryPlan.getQueryId();
   }
 
+  @Override
+  public boolean cancel(QueryId queryId) {
+    AbstractPlan queryPlan = runningQueries.get(queryId.getQueryId());
+    if (queryPlan == null) {
+      return false;
+    }
+    queryPlan.cancel(
+        String.format(Locale.ROOT, "Query [%s] is cancelled", queryId.getQueryId()));
+    return true;
+  }
+
+  /**
+   * Cancel the query once it runs longer than the timeout configured. The timer starts on
+   * submission so the time waiting for a worker thread is counted too.
+   */
+  private Scheduler.ScheduledCancellable scheduleTimeout(AbstractPlan queryPlan) {
+    TimeValue timeout = settings.getSettingValue(Settings.Key.QUERY_TIMEOUT);
+    if (timeout == null || timeout.millis() <= 0) {
+      return null;
+    }
+    String reason = String.format(Locale.ROOT, "Query [%s] timed out after %s",
+        queryPlan.getQueryId().getQueryId(), timeout);
+    return nodeClient.threadPool().schedule(
+        () -> queryPlan.cancel(reason), timeout, ThreadPool.Names.GENERIC);
+  }
+
   private void schedule(NodeClient client, Runnable task) {
     ThreadPool threadPool = client.threadPool();
     threadPool.schedule(withCurrentContext(task), new TimeValue(0), SQL_WORKER_THREAD_POOL_NAME);
@@ -6,6 +6,7 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import org.opensearch.sql.executor.QueryProfile;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -18,4 +19,12 @@ public abstract class ExecutionProtector extends PhysicalPlanNodeVisitor<Physica
    * Decorated the PhysicalPlan to run in resource sensitive mode.
    */
   public abstract PhysicalPlan protect(PhysicalPlan physicalPlan);
+
+  /**
+   * Decorated the PhysicalPlan to run in resource sensitive mode and count rows and time of each
+   * operator into the query profile. Operators are not profiled by default.
+   */
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, QueryProfile profile) {
+    return protect(physicalPlan);
+  }
 }
@@ -7,6 +7,8 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.executor.QueryProfile;
+import org.opensearch.sql.executor.QueryProfile.OperatorProfile;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
@@ -15,9 +17,11 @@ import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
@@ -42,6 +46,16 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return physicalPlan.accept(this, null);
   }
 
+  /**
+   * Decorate each operator with {@link ProfilePlan} in addition, by passing the profile of parent
+   * operator down as visitor context.
+   */
+  @Override
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, QueryProfile profile) {
+    OperatorProfile operator = profile.addOperator(operatorName(physicalPlan));
+    return new ProfilePlan(physicalPlan.accept(this, operator), operator);
+  }
+
   @Override
   public PhysicalPlan visitFilter(FilterOperator node, Object context) {
     return new FilterOperator(visitInput(node.getInput(), context), node.getConditions());
@@ -50,7 +64,15 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
     return new AggregationOperator(visitInput(node.getInput(), context), node.getAggregatorList(),
-        node.getGroupByExprList());
+        node.getGroupByExprList(), resourceMonitor.getOperatorMemoryBudget(),
+        node.isSortOutput());
+  }
+
+  @Override
+  public PhysicalPlan visitHashJoin(HashJoinOperator node, Object context) {
+    return new HashJoinOperator(visitInput(node.getLeft(), context),
+        visitInput(node.getRight(), context), node.getJoinType(), node.getLeftKeys(),
+        node.getRightKeys(), resourceMonitor.getOperatorMemoryBudget());
   }
 
   @Override
@@ -107,19 +129,22 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   public PhysicalPlan visitWindow(WindowOperator node, Object context) {
     return new WindowOperator(
         doProtect(visitInput(node.getInput(), context)),
-        node.getWindowFunction(),
+        node.getWindowFunctions(),
         node.getWindowDefinition());
   }
 
   /**
-   * Decorate with {@link ResourceMonitorPlan}.
+   * Decorate with {@link ResourceMonitorPlan}. Sort spills to disk once its buffered rows
+   * exceed the operator memory budget given by resource monitor.
    */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
     return doProtect(
         new SortOperator(
             visitInput(node.getInput(), context),
-            node.getSortList()));
+            node.getSortList(),
+            node.getTopK(),
+            resourceMonitor.getOperatorMemoryBudget()));
   }
 
   /**
@@ -174,11 +199,18 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   PhysicalPlan visitInput(PhysicalPlan node, Object context) {
     if (null == node) {
       return node;
+    } else if (context instanceof OperatorProfile) {
+      OperatorProfile operator = ((OperatorProfile) context).addChild(operatorName(node));
+      return new ProfilePlan(node.accept(this, operator), operator);
     } else {
       return node.accept(this, context);
     }
   }
 
+  private String operatorName(PhysicalPlan node) {
+    return node.getClass().getSimpleName();
+  }
+
   protected PhysicalPlan doProtect(PhysicalPlan node) {
     if (isProtected(node)) {
       return node;
@@ -7,13 +7,17 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import java.util.List;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
 
 /**
  * A PhysicalPlan which will run the delegate plan in resource protection manner.
@@ -64,6 +68,11 @@ public class ResourceMonitorPlan extends PhysicalPlan {
     delegate.close();
   }
 
+  @Override
+  public void setCancellationToken(CancellationToken token) {
+    delegate.setCancellationToken(token);
+  }
+
   @Override
   public List<PhysicalPlan> getChild() {
     return delegate.getChild();
@@ -82,4 +91,21 @@ public class ResourceMonitorPlan extends PhysicalPlan {
     }
     return delegate.next();
   }
+
+  /**
+   * Check resource once for each batch which is supposed to be of size close to the number of
+   * calls to next() to check once in row mode.
+   */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    if (!this.monitor.isHealthy()) {
+      throw new IllegalStateException("resource is not enough to load next batch, quit.");
+    }
+    return delegate.nextBatch(maxSize);
+  }
+
+  @Override
+  public boolean pushDownTermsFilter(ReferenceExpression field, Set<ExprValue> values) {
+    return delegate.pushDownTermsFilter(field, values);
+  }
 }
@@ -55,11 +55,13 @@ public class IndexMapping {
           // TODO resolve alias reference
           return;
         }
+        var ignoreAbove = (Number) innerMap.getOrDefault("ignore_above", null);
         // TODO read formats for date type
         result.put(k, OpenSearchDataType.of(
             EnumUtils.getEnumIgnoreCase(OpenSearchDataType.MappingType.class, type),
             parseMapping((Map<String, Object>) innerMap.getOrDefault("properties", null)),
-            parseMapping((Map<String, Object>) innerMap.getOrDefault("fields", null))
+            parseMapping((Map<String, Object>) innerMap.getOrDefault("fields", null)),
+            ignoreAbove == null ? null : ignoreAbove.intValue()
             ));
       });
     }
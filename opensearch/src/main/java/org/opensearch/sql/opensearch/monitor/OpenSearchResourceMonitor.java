@@ -22,6 +22,12 @@ import org.opensearch.sql.monitor.ResourceMonitor;
  */
 @Log4j2
 public class OpenSearchResourceMonitor extends ResourceMonitor {
+  /**
+   * A blocking operator may buffer up to 1/N of the query memory limit before spilling,
+   * so that several concurrent blocking operators together stay under the limit.
+   */
+  private static final int OPERATOR_MEMORY_BUDGET_DIVISOR = 10;
+
   private final Settings settings;
   private final Retry retry;
   private final OpenSearchMemoryHealthy memoryMonitor;
@@ -63,4 +69,13 @@ public class OpenSearchResourceMonitor extends ResourceMonitor {
       return false;
     }
   }
+
+  /**
+   * Memory budget of a single blocking operator derived from query memory limit.
+   */
+  @Override
+  public long getOperatorMemoryBudget() {
+    ByteSizeValue limit = settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT);
+    return limit.getBytes() / OPERATOR_MEMORY_BUDGET_DIVISOR;
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * OpenSearch point in time search request which pages through result by search_after.
+ * Different from scroll request, no search context is held open per page on the data nodes
+ * and the request can be resumed from the point in time id and sort values of last hit.
+ * The point in time is created and deleted by the caller rather than this request, because it
+ * may be shared by multiple requests, e.g. one for each slice of the index.
+ * This has to be stateful because it needs to:
+ *
+ * <p>1) Accumulate search source builder when visiting logical plan to push down operation 2)
+ * Maintain sort values of last hit between calls to client search method
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchPitRequest implements OpenSearchRequest {
+
+  /** Default point in time keep alive in minutes which is extended by each page requested. */
+  public static final TimeValue DEFAULT_PIT_KEEP_ALIVE = TimeValue.timeValueMinutes(1L);
+
+  /**
+   * {@link OpenSearchRequest.IndexName}.
+   */
+  private final IndexName indexName;
+
+  /** Search request source builder. */
+  private final SearchSourceBuilder sourceBuilder;
+
+  /** OpenSearchExprValueFactory. */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  /** Point in time id to search on. */
+  private final String pitId;
+
+  /** Sort values of last hit returned which next page is searched after. */
+  @Setter
+  private Object[] searchAfter;
+
+  /**
+   * Constructor. The source builder given is owned and modified by this request, e.g. by the
+   * tiebreak sort and search after, so the caller is supposed to pass its own copy.
+   */
+  public OpenSearchPitRequest(IndexName indexName,
+                              SearchSourceBuilder sourceBuilder,
+                              OpenSearchExprValueFactory exprValueFactory,
+                              String pitId) {
+    this.indexName = indexName;
+    this.sourceBuilder = sourceBuilder;
+    this.exprValueFactory = exprValueFactory;
+    this.pitId = pitId;
+    addTiebreakSort();
+  }
+
+  @Override
+  public OpenSearchResponse search(Function<SearchRequest, SearchResponse> searchAction,
+                                   Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    SearchResponse openSearchResponse = searchAction.apply(searchRequest());
+    SearchHit[] hits = openSearchResponse.getHits().getHits();
+    if (hits.length > 0) {
+      searchAfter = hits[hits.length - 1].getSortValues();
+    }
+    FetchSourceContext fetchSource = this.sourceBuilder.fetchSource();
+    List<String> includes = fetchSource != null && fetchSource.includes() != null
+        ? Arrays.asList(fetchSource.includes())
+        : List.of();
+    return new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
+  }
+
+  /**
+   * Reset the paging state only. The point in time is deleted by the caller who created it.
+   */
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    searchAfter = null;
+  }
+
+  /**
+   * Generate OpenSearch search request on the point in time. Indices are not allowed because
+   * they are resolved by the point in time already.
+   *
+   * @return search request
+   */
+  public SearchRequest searchRequest() {
+    sourceBuilder.pointInTimeBuilder(
+        new PointInTimeBuilder(pitId).setKeepAlive(DEFAULT_PIT_KEEP_ALIVE));
+    if (searchAfter != null) {
+      // Offset is only applied to the first page, the rest pages start after the last hit
+      sourceBuilder.from(0).searchAfter(searchAfter);
+    }
+    return new SearchRequest().source(sourceBuilder);
+  }
+
+  /**
+   * Search after requires total order on sort values. Sort by _id at last to break the tie
+   * among documents having the same value on the sort fields, or the same _doc on
+   * different shards. Sort on _shard_doc would be cheaper but is not available in OpenSearch.
+   */
+  private void addTiebreakSort() {
+    if (sourceBuilder.sorts() == null) {
+      sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+    }
+    if (sourceBuilder.sorts().stream().noneMatch(sort -> sort instanceof FieldSortBuilder
+        && METADATA_FIELD_ID.equals(((FieldSortBuilder) sort).getFieldName()))) {
+      sourceBuilder.sort(METADATA_FIELD_ID, ASC);
+    }
+  }
+}
@@ -9,6 +9,8 @@ package org.opensearch.sql.opensearch.request;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -19,6 +21,9 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -28,7 +33,8 @@ import org.opensearch.sql.opensearch.response.OpenSearchResponse;
  * OpenSearch search request. This has to be stateful because it needs to:
  *
  * <p>1) Accumulate search source builder when visiting logical plan to push down operation. 2)
- * Indicate the search already done.
+ * Indicate the search already done, or maintain the after key of composite aggregation to
+ * page through its buckets.
  */
 @EqualsAndHashCode
 @Getter
@@ -63,6 +69,11 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
    */
   private boolean searchDone = false;
 
+  /**
+   * After key of last composite aggregation bucket returned which next page is searched after.
+   */
+  private Map<String, Object> afterKey;
+
   /**
    * Constructor of OpenSearchQueryRequest.
    */
@@ -104,9 +115,10 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     if (searchDone) {
       return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
     } else {
-      searchDone = true;
-      return new OpenSearchResponse(
-          searchAction.apply(searchRequest()), exprValueFactory, includes);
+      SearchResponse openSearchResponse = searchAction.apply(searchRequest());
+      afterKey = nextAfterKey(openSearchResponse);
+      searchDone = (afterKey == null);
+      return new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
     }
   }
 
@@ -122,8 +134,36 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
    */
   @VisibleForTesting
   protected SearchRequest searchRequest() {
+    compositeAggregation().ifPresent(composite -> composite.aggregateAfter(afterKey));
     return new SearchRequest()
         .indices(indexName.getIndexNames())
         .source(sourceBuilder);
   }
+
+  /**
+   * Composite aggregation has more buckets only if the page returned is full. Otherwise, there is
+   * nothing to search after.
+   */
+  private Map<String, Object> nextAfterKey(SearchResponse response) {
+    Optional<CompositeAggregationBuilder> builder = compositeAggregation();
+    if (builder.isEmpty() || response.getAggregations() == null) {
+      return null;
+    }
+    CompositeAggregation composite = response.getAggregations().get(builder.get().getName());
+    if (composite.getBuckets().size() < builder.get().size()) {
+      return null;
+    }
+    return composite.afterKey();
+  }
+
+  private Optional<CompositeAggregationBuilder> compositeAggregation() {
+    AggregatorFactories.Builder aggregations = sourceBuilder.aggregations();
+    if (aggregations == null) {
+      return Optional.empty();
+    }
+    return aggregations.getAggregatorFactories().stream()
+        .filter(CompositeAggregationBuilder.class::isInstance)
+        .map(CompositeAggregationBuilder.class::cast)
+        .findFirst();
+  }
 }
@@ -15,8 +15,10 @@ import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
@@ -24,6 +26,7 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.join.ScoreMode;
+import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.InnerHitBuilder;
@@ -31,6 +34,7 @@ import org.opensearch.index.query.NestedQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
@@ -39,11 +43,16 @@ import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.common.utils.StringUtils;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.opensearch.storage.split.OpenSearchSlice;
 import org.opensearch.sql.planner.logical.LogicalNested;
 
 /**
@@ -86,6 +95,29 @@ public class OpenSearchRequestBuilder {
    */
   private Integer querySize;
 
+  /**
+   * Is size (limit) pushed down, after which no more filter can be pushed down.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private boolean limitPushedDown = false;
+
+  /**
+   * Whether to page through result beyond max result window by point in time and search_after
+   * instead of scroll.
+   */
+  private final boolean pointInTimeEnabled;
+
+  /**
+   * Maximum number of slices to search concurrently if request is sliceable.
+   */
+  private final int maxSlices;
+
+  /**
+   * Number of composite aggregation buckets to search per page.
+   */
+  private final int aggregationPageSize;
+
   public OpenSearchRequestBuilder(String indexName,
                                   Integer maxResultWindow,
                                   Settings settings,
@@ -105,6 +137,13 @@ public class OpenSearchRequestBuilder {
     this.sourceBuilder = new SearchSourceBuilder();
     this.exprValueFactory = exprValueFactory;
     this.querySize = settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT);
+    this.pointInTimeEnabled = Boolean.TRUE.equals(
+        settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED));
+    this.maxSlices = Optional.ofNullable(
+        settings.<Integer>getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).orElse(1);
+    this.aggregationPageSize = Optional.ofNullable(
+        settings.<Integer>getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE))
+        .orElse(AggregationQueryBuilder.AGGREGATION_BUCKET_SIZE);
     sourceBuilder.from(0);
     sourceBuilder.size(querySize);
     sourceBuilder.timeout(DEFAULT_QUERY_TIMEOUT);
@@ -112,20 +151,107 @@ public class OpenSearchRequestBuilder {
   }
 
   /**
-   * Build DSL request.
+   * Build DSL request without point in time, e.g. for explain.
    *
-   * @return query request or scroll request
+   * @return query request, or point in time request or scroll request if result window exceeded
    */
   public OpenSearchRequest build() {
+    return build((String) null);
+  }
+
+  /**
+   * Build DSL request. The point in time id is supposed to be created by
+   * {@link #createPitRequest()} if the result is paginated and point in time enabled.
+   *
+   * @param pitId point in time id to search on if paginated
+   * @return query request, or point in time request or scroll request if result window exceeded
+   */
+  public OpenSearchRequest build(String pitId) {
     Integer from = sourceBuilder.from();
-    Integer size = sourceBuilder.size();
 
-    if (from + size <= maxResultWindow) {
+    if (!isPaginated()) {
       return new OpenSearchQueryRequest(indexName, sourceBuilder, exprValueFactory);
     } else {
       sourceBuilder.size(maxResultWindow - from);
-      return new OpenSearchScrollRequest(indexName, sourceBuilder, exprValueFactory);
+      return buildPaginatedRequest(copySourceBuilder(), pitId);
+    }
+  }
+
+  /**
+   * Build DSL request which searches the given slice of index only. This is supposed to be called
+   * only if {@link #isSliceable()}. Each slice has its own copy of source builder including the
+   * sort list, so that the requests of different slices never share any mutable state.
+   *
+   * @param slice slice to search
+   * @param pitId point in time id to search on, which may be shared by all slices
+   * @return point in time request or scroll request on the slice
+   */
+  public OpenSearchRequest build(OpenSearchSlice slice, String pitId) {
+    SearchSourceBuilder slicedSourceBuilder = copySourceBuilder()
+        .size(Math.min(sourceBuilder.size(), maxResultWindow))
+        .slice(slice.toSliceBuilder());
+    return buildPaginatedRequest(slicedSourceBuilder, pitId);
+  }
+
+  /**
+   * Is the result paginated because the size to fetch exceeds max result window.
+   *
+   * @return true if paginated
+   */
+  public boolean isPaginated() {
+    return sourceBuilder.from() + sourceBuilder.size() > maxResultWindow;
+  }
+
+  /**
+   * Generate OpenSearch create point in time request on the index.
+   *
+   * @return create point in time request
+   */
+  public CreatePitRequest createPitRequest() {
+    return new CreatePitRequest(
+        OpenSearchPitRequest.DEFAULT_PIT_KEEP_ALIVE, false, indexName.getIndexNames());
+  }
+
+  /**
+   * Is the request able to be split into slices searched concurrently, which requires the result
+   * to be paginated without aggregation, offset or any order other than index order.
+   *
+   * @return true if sliceable
+   */
+  public boolean isSliceable() {
+    return sourceBuilder.from() == 0
+        && sourceBuilder.size() > maxResultWindow
+        && sourceBuilder.aggregations() == null
+        && (sourceBuilder.sorts() == null || isSortByDocOnly());
+  }
+
+  /**
+   * Copy source builder including the sort list for paginated request, which modifies its
+   * source builder while paging, e.g. point in time request appends the tiebreak sort.
+   * Only what a paginated request may have pushed down is copied, e.g. aggregation is excluded
+   * because it fetches no hit.
+   */
+  private SearchSourceBuilder copySourceBuilder() {
+    SearchSourceBuilder copy = new SearchSourceBuilder()
+        .query(sourceBuilder.query())
+        .from(sourceBuilder.from())
+        .size(sourceBuilder.size())
+        .timeout(sourceBuilder.timeout())
+        .trackScores(sourceBuilder.trackScores())
+        .fetchSource(sourceBuilder.fetchSource())
+        .highlighter(sourceBuilder.highlighter());
+    if (sourceBuilder.sorts() != null) {
+      sourceBuilder.sorts().forEach(copy::sort);
     }
+    return copy;
+  }
+
+  private OpenSearchRequest buildPaginatedRequest(SearchSourceBuilder sourceBuilder,
+                                                  String pitId) {
+    if (pointInTimeEnabled) {
+      return new OpenSearchPitRequest(indexName, sourceBuilder, exprValueFactory, pitId);
+    }
+    return new OpenSearchScrollRequest(indexName, sourceBuilder, exprValueFactory);
   }
 
   /**
@@ -160,7 +286,13 @@ public class OpenSearchRequestBuilder {
    */
   public void pushDownAggregation(
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder) {
-    aggregationBuilder.getLeft().forEach(builder -> sourceBuilder.aggregation(builder));
+    aggregationBuilder.getLeft().forEach(builder -> {
+      if (builder instanceof CompositeAggregationBuilder) {
+        // Buckets are paged by after key so no more than query size is needed per page
+        ((CompositeAggregationBuilder) builder).size(Math.min(aggregationPageSize, querySize));
+      }
+      sourceBuilder.aggregation(builder);
+    });
     sourceBuilder.size(0);
     exprValueFactory.setParser(aggregationBuilder.getRight());
   }
@@ -186,9 +318,51 @@ public class OpenSearchRequestBuilder {
    */
   public void pushDownLimit(Integer limit, Integer offset) {
     querySize = limit;
+    limitPushedDown = true;
     sourceBuilder.from(offset).size(limit);
   }
 
+  /**
+   * Push down terms filter of the field on the values given, e.g. join keys of the other side.
+   * This is skipped if limit or aggregation is pushed down already because filtering documents
+   * changes the result of them, if the field is of object or array type, or if terms query
+   * may miss equal values of the field, e.g. text without keyword or keyword with ignore_above.
+   *
+   * @param field  field to filter on
+   * @param values values accepted
+   * @return true if pushed down
+   */
+  public boolean pushDownTerms(ReferenceExpression field, Collection<ExprValue> values) {
+    if (limitPushedDown
+        || sourceBuilder.aggregations() != null
+        || field.type() == ExprCoreType.STRUCT
+        || field.type() == ExprCoreType.ARRAY
+        || !isExactTermField(field)) {
+      return false;
+    }
+    String fieldName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
+    pushDown(QueryBuilders.termsQuery(fieldName,
+        values.stream().map(this::termValue).collect(Collectors.toList())));
+    return true;
+  }
+
+  /**
+   * Text field is analyzed so terms query only matches it by the keyword sub-field. Keyword value
+   * longer than ignore_above is not indexed so terms query never matches it.
+   */
+  private boolean isExactTermField(ReferenceExpression field) {
+    OpenSearchDataType type;
+    if (field.type() instanceof OpenSearchTextType) {
+      type = ((OpenSearchTextType) field.type()).getFields().get("keyword");
+      if (type == null || type.getMappingType() != OpenSearchDataType.MappingType.Keyword) {
+        return false;
+      }
+    } else {
+      type = exprValueFactory.getFieldType(field.getAttr()).orElse(null);
+    }
+    return type == null || type.getIgnoreAbove() == null;
+  }
+
   public void pushDownTrackedScore(boolean trackScores) {
     sourceBuilder.trackScores(trackScores);
   }
@@ -239,6 +413,13 @@ public class OpenSearchRequestBuilder {
     exprValueFactory.extendTypeMapping(typeMapping);
   }
 
+  private Object termValue(ExprValue value) {
+    if (value.type().equals(ExprCoreType.TIMESTAMP)) {
+      return value.timestampValue().toEpochMilli();
+    }
+    return value.value();
+  }
+
   private boolean isBoolFilterQuery(QueryBuilder current) {
     return (current instanceof BoolQueryBuilder);
   }
@@ -17,6 +17,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,6 +25,8 @@ import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.sql.data.model.ExprFloatValue;
@@ -118,50 +121,82 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
       List<String> metaDataFieldSet = includes.stream()
           .filter(include -> METADATAFIELD_TYPE_MAP.containsKey(include))
           .collect(Collectors.toList());
+      Set<String> sourceFields = includes.stream()
+          .filter(include -> !METADATAFIELD_TYPE_MAP.containsKey(include))
+          .map(include -> include.split("\\.")[0])
+          .collect(Collectors.toSet());
       ExprFloatValue maxScore = Float.isNaN(hits.getMaxScore())
           ? null : new ExprFloatValue(hits.getMaxScore());
       return Arrays.stream(hits.getHits())
           .map(hit -> {
-            String source = hit.getSourceAsString();
-            ExprValue docData = exprValueFactory.construct(source);
-
-            ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
             if (hit.getInnerHits() == null || hit.getInnerHits().isEmpty()) {
-              builder.putAll(docData.tupleValue());
+              ExprValue docData = parseSource(hit, sourceFields);
+              if (metaDataFieldSet.isEmpty() && hit.getHighlightFields().isEmpty()) {
+                return docData;
+              }
+              return addMetaDataFields(hit, new LinkedHashMap<>(docData.tupleValue()),
+                  metaDataFieldSet, maxScore);
             } else {
               Map<String, Object> rowSource = hit.getSourceAsMap();
-              builder.putAll(ExprValueUtils.tupleValue(rowSource).tupleValue());
-            }
-
-            metaDataFieldSet.forEach(metaDataField -> {
-              if (metaDataField.equals(METADATA_FIELD_INDEX)) {
-                builder.put(METADATA_FIELD_INDEX, new ExprStringValue(hit.getIndex()));
-              } else if (metaDataField.equals(METADATA_FIELD_ID)) {
-                builder.put(METADATA_FIELD_ID, new ExprStringValue(hit.getId()));
-              } else if (metaDataField.equals(METADATA_FIELD_SCORE)) {
-                if (!Float.isNaN(hit.getScore())) {
-                  builder.put(METADATA_FIELD_SCORE, new ExprFloatValue(hit.getScore()));
-                }
-              } else if (metaDataField.equals(METADATA_FIELD_MAXSCORE)) {
-                if (maxScore != null) {
-                  builder.put(METADATA_FIELD_MAXSCORE, maxScore);
-                }
-              } else { // if (metaDataField.equals(METADATA_FIELD_SORT)) {
-                builder.put(METADATA_FIELD_SORT, new ExprLongValue(hit.getSeqNo()));
-              }
-            });
-
-            if (!hit.getHighlightFields().isEmpty()) {
-              var hlBuilder = ImmutableMap.<String, ExprValue>builder();
-              for (var es : hit.getHighlightFields().entrySet()) {
-                hlBuilder.put(es.getKey(), ExprValueUtils.collectionValue(
-                    Arrays.stream(es.getValue().fragments()).map(
-                        t -> (t.toString())).collect(Collectors.toList())));
-              }
-              builder.put("_highlight", ExprTupleValue.fromExprValueMap(hlBuilder.build()));
+              return addMetaDataFields(hit,
+                  new LinkedHashMap<>(ExprValueUtils.tupleValue(rowSource).tupleValue()),
+                  metaDataFieldSet, maxScore);
             }
-            return (ExprValue) ExprTupleValue.fromExprValueMap(builder.build());
           }).iterator();
     }
   }
+
+  /**
+   * Parse document source in a single pass if it is JSON, otherwise convert it to JSON string
+   * and parse.
+   */
+  private ExprValue parseSource(SearchHit hit, Set<String> sourceFields) {
+    BytesReference source = hit.getSourceRef();
+    if (source != null && isJsonObject(source)) {
+      return exprValueFactory.construct(source, sourceFields);
+    }
+    return exprValueFactory.construct(hit.getSourceAsString());
+  }
+
+  private static boolean isJsonObject(BytesReference source) {
+    for (int i = 0; i < source.length(); i++) {
+      byte b = source.get(i);
+      if (!Character.isWhitespace(b)) {
+        return b == '{';
+      }
+    }
+    return false;
+  }
+
+  private ExprValue addMetaDataFields(SearchHit hit, LinkedHashMap<String, ExprValue> row,
+                                      List<String> metaDataFieldSet, ExprFloatValue maxScore) {
+    metaDataFieldSet.forEach(metaDataField -> {
+      if (metaDataField.equals(METADATA_FIELD_INDEX)) {
+        row.put(METADATA_FIELD_INDEX, new ExprStringValue(hit.getIndex()));
+      } else if (metaDataField.equals(METADATA_FIELD_ID)) {
+        row.put(METADATA_FIELD_ID, new ExprStringValue(hit.getId()));
+      } else if (metaDataField.equals(METADATA_FIELD_SCORE)) {
+        if (!Float.isNaN(hit.getScore())) {
+          row.put(METADATA_FIELD_SCORE, new ExprFloatValue(hit.getScore()));
+        }
+      } else if (metaDataField.equals(METADATA_FIELD_MAXSCORE)) {
+        if (maxScore != null) {
+          row.put(METADATA_FIELD_MAXSCORE, maxScore);
+        }
+      } else { // if (metaDataField.equals(METADATA_FIELD_SORT)) {
+        row.put(METADATA_FIELD_SORT, new ExprLongValue(hit.getSeqNo()));
+      }
+    });
+
+    if (!hit.getHighlightFields().isEmpty()) {
+      LinkedHashMap<String, ExprValue> highlights = new LinkedHashMap<>();
+      for (var es : hit.getHighlightFields().entrySet()) {
+        highlights.put(es.getKey(), ExprValueUtils.collectionValue(
+            Arrays.stream(es.getValue().fragments()).map(
+                t -> (t.toString())).collect(Collectors.toList())));
+      }
+      row.put("_highlight", new ExprTupleValue(highlights));
+    }
+    return new ExprTupleValue(row);
+  }
 }
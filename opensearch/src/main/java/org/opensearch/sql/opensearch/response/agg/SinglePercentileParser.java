@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanInfValue;
+
+import java.util.Collections;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.metrics.Percentiles;
+
+/**
+ * {@link Percentiles} metric parser which extracts the value of the only percent requested.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class SinglePercentileParser implements MetricParser {
+
+  @Getter private final String name;
+
+  private final double percent;
+
+  @Override
+  public Map<String, Object> parse(Aggregation agg) {
+    return Collections.singletonMap(
+        agg.getName(), handleNanInfValue(((Percentiles) agg).percentile(percent)));
+  }
+}
@@ -20,6 +20,7 @@ import lombok.extern.log4j.Log4j2;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.MemorySizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.common.setting.LegacySettings;
 import org.opensearch.sql.common.setting.Settings;
 
@@ -84,6 +85,33 @@ public class OpenSearchSettings extends Settings {
       Setting.Property.NodeScope,
       Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_POINT_IN_TIME_ENABLED_SETTING = Setting.boolSetting(
+      Key.QUERY_POINT_IN_TIME_ENABLED.getKeyValue(),
+      false,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_SLICES_SETTING = Setting.intSetting(
+      Key.QUERY_SCAN_SLICES.getKeyValue(),
+      1,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_AGGREGATION_PAGE_SIZE_SETTING = Setting.intSetting(
+      Key.QUERY_AGGREGATION_PAGE_SIZE.getKeyValue(),
+      1000,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_TIMEOUT_SETTING = Setting.timeSetting(
+      Key.QUERY_TIMEOUT.getKeyValue(),
+      TimeValue.MINUS_ONE,
+      TimeValue.MINUS_ONE,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING = Setting.longSetting(
       Key.METRICS_ROLLING_WINDOW.getKeyValue(),
       LegacyOpenDistroSettings.METRICS_ROLLING_WINDOW_SETTING,
@@ -119,6 +147,14 @@ public class OpenSearchSettings extends Settings {
         QUERY_MEMORY_LIMIT_SETTING, new Updater(Key.QUERY_MEMORY_LIMIT));
     register(settingBuilder, clusterSettings, Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING, new Updater(Key.QUERY_SIZE_LIMIT));
+    register(settingBuilder, clusterSettings, Key.QUERY_POINT_IN_TIME_ENABLED,
+        QUERY_POINT_IN_TIME_ENABLED_SETTING, new Updater(Key.QUERY_POINT_IN_TIME_ENABLED));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCAN_SLICES,
+        QUERY_SCAN_SLICES_SETTING, new Updater(Key.QUERY_SCAN_SLICES));
+    register(settingBuilder, clusterSettings, Key.QUERY_AGGREGATION_PAGE_SIZE,
+        QUERY_AGGREGATION_PAGE_SIZE_SETTING, new Updater(Key.QUERY_AGGREGATION_PAGE_SIZE));
+    register(settingBuilder, clusterSettings, Key.QUERY_TIMEOUT,
+        QUERY_TIMEOUT_SETTING, new Updater(Key.QUERY_TIMEOUT));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_WINDOW,
         METRICS_ROLLING_WINDOW_SETTING, new Updater(Key.METRICS_ROLLING_WINDOW));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_INTERVAL,
@@ -172,6 +208,10 @@ public class OpenSearchSettings extends Settings {
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_POINT_IN_TIME_ENABLED_SETTING)
+        .add(QUERY_SCAN_SLICES_SETTING)
+        .add(QUERY_AGGREGATION_PAGE_SIZE_SETTING)
+        .add(QUERY_TIMEOUT_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .build();
@@ -6,19 +6,37 @@
 
 package org.opensearch.sql.opensearch.storage;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.monitor.QueryMetrics;
+import org.opensearch.sql.monitor.QueryStage;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.split.OpenSearchSlice;
+import org.opensearch.sql.planner.physical.RowBatch;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.split.Split;
 
 /**
  * OpenSearch index scan operator.
@@ -36,10 +54,18 @@ public class OpenSearchIndexScan extends TableScanOperator {
   @ToString.Include
   private final OpenSearchRequestBuilder requestBuilder;
 
-  /** Search request. */
+  /** Search requests, one for each slice if the scan is split into slices. */
   @EqualsAndHashCode.Include
   @ToString.Include
-  private OpenSearchRequest request;
+  private List<OpenSearchRequest> requests;
+
+  /** Point in time created and shared by all requests, which is deleted on close. */
+  private String pitId;
+
+  /** Slice of index to scan only, which is assigned by split. */
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private OpenSearchSlice slice;
 
   /** Total query size. */
   @EqualsAndHashCode.Include
@@ -49,9 +75,32 @@ public class OpenSearchIndexScan extends TableScanOperator {
   /** Number of rows returned. */
   private Integer queryCount;
 
+  /** Number of rows requested by the batches fetched, which is the sum of their page size. */
+  private Integer fetchedSize;
+
+  /** Number of search requests sent, which is reported by explain analyze. */
+  @Getter
+  private long searchCount;
+
+  /** Round-trip time in nanoseconds of search requests sent. */
+  @Getter
+  private long searchNanos;
+
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Batches being searched, at most one for each request. */
+  private List<BatchSearch> pending;
+
+  /**
+   * Batches searched in the order of completion. This is bounded by the number of requests
+   * because each request has at most one batch in flight.
+   */
+  private BlockingQueue<BatchSearch> completed;
+
+  /** Cancellation token of the query, which stops waiting for the searches in flight on close. */
+  private CancellationToken cancellationToken = new CancellationToken();
+
   /**
    * Constructor.
    */
@@ -78,13 +127,26 @@ public class OpenSearchIndexScan extends TableScanOperator {
         indexName, maxResultWindow, settings, exprValueFactory);
   }
 
+  @Override
+  public void setCancellationToken(CancellationToken token) {
+    super.setCancellationToken(token);
+    this.cancellationToken = token;
+  }
+
   @Override
   public void open() {
     super.open();
     querySize = requestBuilder.getQuerySize();
-    request = requestBuilder.build();
+    requests = buildRequests();
     iterator = Collections.emptyIterator();
     queryCount = 0;
+    fetchedSize = 0;
+    searchCount = 0L;
+    searchNanos = 0L;
+    pending = new ArrayList<>();
+    completed = new ArrayBlockingQueue<>(requests.size());
+    // Search the first batch of single request by current thread directly
+    requests.forEach(request -> search(request, requests.size() > 1));
     fetchNextBatch();
   }
 
@@ -104,10 +166,132 @@ public class OpenSearchIndexScan extends TableScanOperator {
     return iterator.next();
   }
 
+  /**
+   * Drain rows of current page and the following ones into a batch without checking query size
+   * for each row.
+   */
+  @Override
+  public RowBatch nextBatch(int maxSize) {
+    int batchSize = Math.min(maxSize, querySize - queryCount);
+    List<ExprValue> rows = new ArrayList<>();
+    while (rows.size() < batchSize) {
+      if (!iterator.hasNext()) {
+        fetchNextBatch();
+        if (!iterator.hasNext()) {
+          break;
+        }
+      }
+      rows.add(iterator.next());
+    }
+    queryCount += rows.size();
+    return RowBatch.of(rows);
+  }
+
+  /**
+   * Push down terms filter to the request, which is supposed to be called before open.
+   */
+  @Override
+  public boolean pushDownTermsFilter(ReferenceExpression field, Set<ExprValue> values) {
+    return requestBuilder.pushDownTerms(field, values);
+  }
+
+  @Override
+  public void add(Split split) {
+    if (split instanceof OpenSearchSlice) {
+      slice = (OpenSearchSlice) split;
+    }
+  }
+
+  /**
+   * Split the scan into slices searched concurrently if the request is sliceable. The number of
+   * slices is capped by the total number of shards because slicing is done per shard first.
+   */
+  private List<OpenSearchRequest> buildRequests() {
+    if (slice != null) {
+      return List.of(requestBuilder.build(slice, createPitIfEnabled()));
+    }
+    if (requestBuilder.getMaxSlices() > 1 && requestBuilder.isSliceable()) {
+      int numberOfShards = client.getIndexNumberOfShards(
+          requestBuilder.getIndexName().getIndexNames()).values().stream()
+          .mapToInt(Integer::intValue).sum();
+      int max = Math.min(requestBuilder.getMaxSlices(), numberOfShards);
+      if (max > 1) {
+        String sharedPitId = createPitIfEnabled();
+        return IntStream.range(0, max)
+            .mapToObj(id -> requestBuilder.build(new OpenSearchSlice(id, max), sharedPitId))
+            .collect(Collectors.toList());
+      }
+    }
+    return List.of(requestBuilder.build(
+        requestBuilder.isPaginated() ? createPitIfEnabled() : null));
+  }
+
+  /**
+   * Create point in time for paginated request if enabled. This is called at most once by each
+   * scan because all slices search on the same point in time.
+   *
+   * @return point in time id, or null if not enabled
+   */
+  private String createPitIfEnabled() {
+    if (requestBuilder.isPointInTimeEnabled()) {
+      pitId = client.createPit(requestBuilder.createPitRequest());
+    }
+    return pitId;
+  }
+
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
-    if (!response.isEmpty()) {
-      iterator = response.iterator();
+    while (!pending.isEmpty()) {
+      BatchSearch batch = takeCompleted();
+      pending.remove(batch);
+      searchCount++;
+      searchNanos += batch.getNanos();
+      OpenSearchResponse response = batch.get();
+      if (!response.isEmpty()) {
+        iterator = response.iterator();
+        fetchedSize += batch.getRequest().getSourceBuilder().size();
+        if (fetchedSize < querySize) {
+          // Next page of aggregation buckets is searched only if current one is used up
+          search(batch.getRequest(), !response.isAggregationResponse());
+        }
+        return;
+      }
+      // Otherwise the request is exhausted and the rest requests are waited for
+    }
+  }
+
+  /**
+   * Issue search for next batch of the request. If async, the search is run in background as soon
+   * as current batch arrives, so that the round-trip is overlapped with consuming current batch.
+   * At most one batch is in flight for each request because each search depends on the state of
+   * request left by the previous one, e.g. scroll id.
+   */
+  private void search(OpenSearchRequest request, boolean async) {
+    BatchSearch batch = new BatchSearch(request, () -> client.search(request), completed);
+    pending.add(batch);
+    if (async) {
+      client.runAsync(batch);
+    }
+  }
+
+  /**
+   * Take the batch searched first. If none completed yet, run a search not started by current
+   * thread rather than waiting for the busy thread pool.
+   */
+  private BatchSearch takeCompleted() {
+    BatchSearch batch = completed.poll();
+    if (batch != null) {
+      return batch;
+    }
+    for (BatchSearch search : pending) {
+      if (search.runIfNotStarted()) {
+        break;
+      }
+    }
+    try {
+      return completed.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for next batch of scan", e);
     }
   }
 
@@ -115,11 +299,104 @@ public class OpenSearchIndexScan extends TableScanOperator {
   public void close() {
     super.close();
 
-    client.cleanup(request);
+    if (pending != null) {
+      pending.forEach(batch -> batch.cancel(cancellationToken));
+      pending.clear();
+    }
+    if (requests != null) {
+      requests.forEach(client::cleanup);
+    }
+    if (pitId != null) {
+      client.deletePit(pitId);
+      pitId = null;
+    }
   }
 
   @Override
   public String explain() {
     return getRequestBuilder().build().toString();
   }
+
+  /**
+   * Search for next batch of a request which is run either by background thread or by the scan
+   * thread, whoever starts it first. The batch is put into completed queue once done.
+   */
+  private static class BatchSearch implements Runnable {
+    @Getter
+    private final OpenSearchRequest request;
+    private final Supplier<OpenSearchResponse> search;
+    private final Queue<BatchSearch> completed;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final CountDownLatch done = new CountDownLatch(1);
+    private OpenSearchResponse response;
+    private RuntimeException failure;
+    @Getter
+    private long nanos;
+
+    BatchSearch(OpenSearchRequest request, Supplier<OpenSearchResponse> search,
+                Queue<BatchSearch> completed) {
+      this.request = request;
+      this.search = search;
+      this.completed = completed;
+    }
+
+    @Override
+    public void run() {
+      runIfNotStarted();
+    }
+
+    /**
+     * Run the search if not started by any thread yet.
+     *
+     * @return true if run by current thread
+     */
+    boolean runIfNotStarted() {
+      if (!started.compareAndSet(false, true)) {
+        return false;
+      }
+      long start = System.nanoTime();
+      try {
+        response = search.get();
+      } catch (RuntimeException e) {
+        failure = e;
+      } finally {
+        nanos = System.nanoTime() - start;
+        QueryMetrics.getInstance().record(QueryStage.OPENSEARCH, nanos);
+        completed.add(this);
+        done.countDown();
+      }
+      return true;
+    }
+
+    /**
+     * Get the batch searched, which is supposed to be called after completed.
+     */
+    OpenSearchResponse get() {
+      if (failure != null) {
+        throw failure;
+      }
+      return response;
+    }
+
+    /**
+     * Skip the search if not started yet, otherwise wait for it to complete so that the request
+     * can be cleaned up safely. The wait stops once the query is cancelled, because the search
+     * in flight is cancelled along with the query task and its response is abandoned anyway.
+     *
+     * @param token cancellation token of the query
+     */
+    void cancel(CancellationToken token) {
+      if (!started.compareAndSet(false, true)) {
+        Runnable stopWaiting = done::countDown;
+        token.addCallback(stopWaiting);
+        try {
+          done.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          token.removeCallback(stopWaiting);
+        }
+      }
+    }
+  }
 }
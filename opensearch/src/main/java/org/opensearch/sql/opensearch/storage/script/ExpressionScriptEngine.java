@@ -6,7 +6,10 @@
 
 package org.opensearch.sql.opensearch.storage.script;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -41,11 +44,25 @@ public class ExpressionScriptEngine implements ScriptEngine {
           .put(AggregationScript.CONTEXT, ExpressionAggregationScriptFactory::new)
           .build();
 
+  /**
+   * Maximum total length of script code cached.
+   */
+  private static final long MAX_CACHE_WEIGHT = 4 * 1024 * 1024;
+
   /**
    * Expression serializer that (de-)serializes expression.
    */
   private final ExpressionSerializer serializer;
 
+  /**
+   * Script factories compiled by script context and code. Identical query sent repeatedly, such as
+   * by dashboards, avoids deserializing the same expression on each shard for each request.
+   */
+  private final Cache<List<Object>, Object> factoryCache = CacheBuilder.newBuilder()
+      .maximumWeight(MAX_CACHE_WEIGHT)
+      .weigher((List<Object> key, Object factory) -> ((String) key.get(1)).length())
+      .build();
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -61,13 +78,19 @@ public class ExpressionScriptEngine implements ScriptEngine {
      * The "code" is actually a serialized expression tree by our serializer.
      * Therefore the compilation here is simply to deserialize the expression tree.
      */
-    Expression expression = serializer.deserialize(scriptCode);
+    if (!CONTEXTS.containsKey(context)) {
+      throw new IllegalStateException(String.format("Script context is currently not supported: "
+          + "all supported contexts [%s], given context [%s] ", CONTEXTS, context));
+    }
 
-    if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
+    List<Object> key = List.of(context.name, scriptCode);
+    Object factory = factoryCache.getIfPresent(key);
+    if (factory == null) {
+      Expression expression = serializer.deserialize(scriptCode);
+      factory = CONTEXTS.get(context).apply(expression);
+      factoryCache.put(key, factory);
     }
-    throw new IllegalStateException(String.format("Script context is currently not supported: "
-        + "all supported contexts [%s], given context [%s] ", CONTEXTS, context));
+    return context.factoryClazz.cast(factory);
   }
 
   @Override
@@ -11,6 +11,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
  * Expression script leaf factory that produces script executor for each leaf.
@@ -18,9 +19,9 @@ import org.opensearch.sql.expression.Expression;
 public class ExpressionAggregationScriptLeafFactory implements AggregationScript.LeafFactory {
 
   /**
-   * Expression to execute.
+   * Expression script with fields resolved once for all leaves.
    */
-  private final Expression expression;
+  private final ExpressionScript expressionScript;
 
   /**
    * Expression to execute.
@@ -37,14 +38,15 @@ public class ExpressionAggregationScriptLeafFactory implements AggregationScript
    */
   public ExpressionAggregationScriptLeafFactory(
       Expression expression, Map<String, Object> params, SearchLookup lookup) {
-    this.expression = expression;
+    this.expressionScript = new ExpressionScript(expression);
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public AggregationScript newInstance(LeafReaderContext ctx) {
-    return new ExpressionAggregationScript(expression, lookup, ctx, params);
+    return new ExpressionAggregationScript(
+        new ExpressionScript(expressionScript), lookup, ctx, params);
   }
 
   @Override
@@ -18,15 +18,19 @@ import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.ExtendedStats;
+import org.opensearch.search.aggregations.metrics.PercentilesAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.TopHitsAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValuesSourceAggregationBuilder;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.DistinctCountApproxAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.aggregation.PercentileApproxAggregator;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.MetricParser;
+import org.opensearch.sql.opensearch.response.agg.SinglePercentileParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.response.agg.StatsParser;
 import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
@@ -156,6 +160,20 @@ public class MetricAggregationBuilder
             condition,
             name,
             new StatsParser(ExtendedStats::getStdDeviationPopulation, name));
+      case "distinct_count_approx":
+        return make(
+            AggregationBuilders.cardinality(name).precisionThreshold(
+                ((DistinctCountApproxAggregator) node.getDelegated()).getPrecisionThreshold()),
+            expression,
+            condition,
+            name,
+            new SingleValueParser(name));
+      case "percentile_approx":
+        return makePercentile(
+            (PercentileApproxAggregator) node.getDelegated(),
+            expression,
+            condition,
+            name);
       case "take":
         return make(
             AggregationBuilders.topHits(name),
@@ -187,7 +205,7 @@ public class MetricAggregationBuilder
   }
 
   /**
-   * Make {@link CardinalityAggregationBuilder} for distinct count aggregations.
+   * Make {@link CardinalityAggregationBuilder} for distinct count and approx aggregations.
    */
   private Pair<AggregationBuilder, MetricParser> make(CardinalityAggregationBuilder builder,
                                                       Expression expression,
@@ -204,6 +222,26 @@ public class MetricAggregationBuilder
     return Pair.of(aggregationBuilder, parser);
   }
 
+  /**
+   * Make {@link PercentilesAggregationBuilder} of the only percent for percentile approx
+   * aggregations, with the same compression as the t-digest used without pushdown.
+   */
+  private Pair<AggregationBuilder, MetricParser> makePercentile(
+      PercentileApproxAggregator aggregator,
+      Expression expression,
+      Expression condition,
+      String name) {
+    double percent = aggregator.getPercent();
+    return make(
+        AggregationBuilders.percentiles(name)
+            .percentiles(percent)
+            .compression(aggregator.getCompression()),
+        expression,
+        condition,
+        name,
+        new SinglePercentileParser(name, percent));
+  }
+
   /**
    * Make {@link TopHitsAggregationBuilder} for take aggregations.
    */
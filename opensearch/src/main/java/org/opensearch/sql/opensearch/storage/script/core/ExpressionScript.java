@@ -13,10 +13,12 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
@@ -35,6 +37,8 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 /**
  * Expression script executor that executes the expression on each document
  * and determine if the document is supposed to be filtered out or not.
+ * Fields referenced are resolved to value slots once on construction, so that evaluation on each
+ * document only reads doc values into the slots reused across documents.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -51,21 +55,96 @@ public class ExpressionScript {
   private final OpenSearchExprValueFactory valueFactory;
 
   /**
-   * Reference Fields.
+   * Reference Fields with distinct names, each of which has a value slot of the same index.
    */
   @EqualsAndHashCode.Exclude
-  private final Set<ReferenceExpression> fields;
+  private final ReferenceExpression[] fields;
+
+  /**
+   * Names of doc values to read for each field.
+   */
+  @EqualsAndHashCode.Exclude
+  private final String[] docValueNames;
+
+  /**
+   * All reference instances in the expression, which is what evaluation resolves.
+   */
+  @EqualsAndHashCode.Exclude
+  private final ReferenceExpression[] references;
+
+  /**
+   * Slot index of value in {@link #values} for each reference instance.
+   */
+  @EqualsAndHashCode.Exclude
+  private final int[] referenceSlots;
+
+  /**
+   * Values of fields on current document, which is reused across documents.
+   */
+  @EqualsAndHashCode.Exclude
+  private final ExprValue[] values;
+
+  /**
+   * Doc values that {@link #values} are constructed from, which is used to skip constructing
+   * the same value again for the next document.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Object[] docValues;
+
+  /**
+   * Environment that resolves reference to its value slot.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Environment<Expression, ExprValue> valueEnv = this::resolve;
 
   /**
    * Expression constructor.
    */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
-    this.fields = AccessController.doPrivileged((PrivilegedAction<Set<ReferenceExpression>>) () ->
-        extractFields(expression));
+    this.references = AccessController.doPrivileged(
+        (PrivilegedAction<ReferenceExpression[]>) () -> extractReferences(expression));
+    this.referenceSlots = new int[references.length];
+    Map<String, Integer> slots = new HashMap<>();
+    List<ReferenceExpression> distinctFields = new ArrayList<>();
+    for (int i = 0; i < references.length; i++) {
+      Integer slot = slots.get(references[i].getAttr());
+      if (slot == null) {
+        slot = distinctFields.size();
+        slots.put(references[i].getAttr(), slot);
+        distinctFields.add(references[i]);
+      }
+      referenceSlots[i] = slot;
+    }
+    this.fields = distinctFields.toArray(new ReferenceExpression[0]);
     this.valueFactory =
         AccessController.doPrivileged(
             (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+    this.docValueNames = new String[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      docValueNames[i] =
+          OpenSearchTextType.convertTextToKeyword(fields[i].getAttr(), fields[i].type());
+    }
+    this.values = new ExprValue[fields.length];
+    this.docValues = new Object[fields.length];
+  }
+
+  /**
+   * Constructor that shares the fields resolved by the given expression script but has its own
+   * value slots. This is supposed to be called for each script instance because a script
+   * instance is only used by single thread at a time while it may run on different threads.
+   *
+   * @param other expression script to share resolved fields with
+   */
+  public ExpressionScript(ExpressionScript other) {
+    this.expression = other.expression;
+    this.fields = other.fields;
+    this.valueFactory = other.valueFactory;
+    this.docValueNames = other.docValueNames;
+    this.references = other.references;
+    this.referenceSlots = other.referenceSlots;
+    this.values = new ExprValue[fields.length];
+    this.docValues = new Object[fields.length];
   }
 
   /**
@@ -80,55 +159,69 @@ public class ExpressionScript {
                                Environment<Expression,
                                    ExprValue>, ExprValue> evaluator) {
     return AccessController.doPrivileged((PrivilegedAction<ExprValue>) () -> {
-      Environment<Expression, ExprValue> valueEnv =
-          buildValueEnv(fields, valueFactory, docProvider);
-      ExprValue result = evaluator.apply(expression, valueEnv);
-      return result;
+      readValues(docProvider);
+      return evaluator.apply(expression, valueEnv);
     });
   }
 
-  private Set<ReferenceExpression> extractFields(Expression expr) {
-    Set<ReferenceExpression> fields = new HashSet<>();
-    expr.accept(new ExpressionNodeVisitor<Object, Set<ReferenceExpression>>() {
+  /**
+   * Read doc values of fields into value slots. The value is constructed only if the doc value
+   * differs from the one on previous document.
+   */
+  private void readValues(Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
+    if (fields.length == 0) {
+      return;
+    }
+
+    Map<String, ScriptDocValues<?>> doc = docProvider.get();
+    for (int i = 0; i < fields.length; i++) {
+      Object docValue = getDocValue(fields[i], doc.get(docValueNames[i]));
+      if (values[i] == null || !Objects.equals(docValue, docValues[i])) {
+        values[i] = valueFactory.construct(fields[i].getAttr(), docValue);
+        docValues[i] = docValue;
+      }
+    }
+  }
+
+  /**
+   * Resolve the reference by its slot. References are compared by identity because evaluation
+   * only resolves the reference instances in the expression, which are all extracted already.
+   */
+  private ExprValue resolve(Expression reference) {
+    for (int i = 0; i < references.length; i++) {
+      if (references[i] == reference) {
+        return values[referenceSlots[i]];
+      }
+    }
+    throw new IllegalStateException(String.format(
+        "Field [%s] is not resolved in expression script [%s]", reference, expression));
+  }
+
+  private ReferenceExpression[] extractReferences(Expression expr) {
+    List<ReferenceExpression> references = new ArrayList<>();
+    expr.accept(new ExpressionNodeVisitor<Object, List<ReferenceExpression>>() {
       @Override
-      public Object visitReference(ReferenceExpression node, Set<ReferenceExpression> context) {
+      public Object visitReference(ReferenceExpression node, List<ReferenceExpression> context) {
         context.add(node);
         return null;
       }
 
       @Override
-      public Object visitParse(ParseExpression node, Set<ReferenceExpression> context) {
+      public Object visitParse(ParseExpression node, List<ReferenceExpression> context) {
         node.getSourceField().accept(this, context);
         return null;
       }
-    }, fields);
-    return fields;
+    }, references);
+    return references.toArray(new ReferenceExpression[0]);
   }
 
-  private OpenSearchExprValueFactory buildValueFactory(Set<ReferenceExpression> fields) {
-    Map<String, OpenSearchDataType> typeEnv = fields.stream().collect(toMap(
+  private OpenSearchExprValueFactory buildValueFactory(ReferenceExpression[] fields) {
+    Map<String, OpenSearchDataType> typeEnv = Arrays.stream(fields).collect(toMap(
         ReferenceExpression::getAttr, e -> OpenSearchDataType.of(e.type())));
     return new OpenSearchExprValueFactory(typeEnv);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields, OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue = valueFactory.construct(fieldName, getDocValue(field, docProvider));
-      valueEnv.put(field, exprValue);
-    }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
-  }
-
-  private Object getDocValue(ReferenceExpression field,
-                             Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
+  private Object getDocValue(ReferenceExpression field, ScriptDocValues<?> docValue) {
     if (docValue == null || docValue.isEmpty()) {
       return null; // No way to differentiate null and missing from doc value
     }
@@ -34,8 +34,18 @@ class ExpressionFilterScript extends FilterScript {
                                 SearchLookup lookup,
                                 LeafReaderContext context,
                                 Map<String, Object> params) {
+    this(new ExpressionScript(expression), lookup, context, params);
+  }
+
+  /**
+   * Constructor with expression script whose fields are resolved by leaf factory already.
+   */
+  public ExpressionFilterScript(ExpressionScript expressionScript,
+                                SearchLookup lookup,
+                                LeafReaderContext context,
+                                Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
   }
 
   @Override
@@ -11,6 +11,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.FilterScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
  * Expression script leaf factory that produces script executor for each leaf.
@@ -18,9 +19,9 @@ import org.opensearch.sql.expression.Expression;
 class ExpressionFilterScriptLeafFactory implements FilterScript.LeafFactory {
 
   /**
-   * Expression to execute.
+   * Expression script with fields resolved once for all leaves.
    */
-  private final Expression expression;
+  private final ExpressionScript expressionScript;
 
   /**
    * Parameters for the expression.
@@ -35,14 +36,14 @@ class ExpressionFilterScriptLeafFactory implements FilterScript.LeafFactory {
   public ExpressionFilterScriptLeafFactory(Expression expression,
                                            Map<String, Object> params,
                                            SearchLookup lookup) {
-    this.expression = expression;
+    this.expressionScript = new ExpressionScript(expression);
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public FilterScript newInstance(LeafReaderContext ctx) {
-    return new ExpressionFilterScript(expression, lookup, ctx, params);
+    return new ExpressionFilterScript(new ExpressionScript(expressionScript), lookup, ctx, params);
   }
 
 }
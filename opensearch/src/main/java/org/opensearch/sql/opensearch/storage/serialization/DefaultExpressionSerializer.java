@@ -9,23 +9,34 @@ package org.opensearch.sql.opensearch.storage.serialization;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 import org.opensearch.sql.expression.Expression;
 
 /**
- * Default serializer that (de-)serialize expressions by JDK serialization.
+ * Default serializer that (de-)serialize expressions by JDK serialization. The serialized bytes
+ * are prefixed by a version byte and compressed because class descriptors in JDK serialization
+ * are verbose and repeated across the expression tree. Code without version byte is read as
+ * uncompressed JDK serialization in case it is sent by node of previous version.
  */
 public class DefaultExpressionSerializer implements ExpressionSerializer {
 
+  /** Current version of encoding which is the first byte of the code. */
+  static final int VERSION = 1;
+
   @Override
   public String serialize(Expression expr) {
     try {
       ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(expr);
-      objectOutput.flush();
+      output.write(VERSION);
+      try (ObjectOutputStream objectOutput =
+               new ObjectOutputStream(new DeflaterOutputStream(output))) {
+        objectOutput.writeObject(expr);
+      }
       return Base64.getEncoder().encodeToString(output.toByteArray());
     } catch (IOException e) {
       throw new IllegalStateException("Failed to serialize expression: " + expr, e);
@@ -36,7 +47,13 @@ public class DefaultExpressionSerializer implements ExpressionSerializer {
   public Expression deserialize(String code) {
     try {
       ByteArrayInputStream input = new ByteArrayInputStream(Base64.getDecoder().decode(code));
-      ObjectInputStream objectInput = new ObjectInputStream(input);
+      InputStream payload = input;
+      if (input.read() == VERSION) {
+        payload = new InflaterInputStream(input);
+      } else {
+        input.reset();
+      }
+      ObjectInputStream objectInput = new ObjectInputStream(payload);
       return (Expression) objectInput.readObject();
     } catch (Exception e) {
       throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
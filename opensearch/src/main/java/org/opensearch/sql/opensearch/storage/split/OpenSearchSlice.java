@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.split;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.sql.storage.split.Split;
+
+/**
+ * OpenSearch slice which is one of the disjoint sections of index documents searched by sliced
+ * scroll or point in time.
+ */
+@EqualsAndHashCode
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class OpenSearchSlice implements Split {
+
+  /** Slice id starting from 0. */
+  private final int id;
+
+  /** Total number of slices. */
+  private final int max;
+
+  @Override
+  public String getSplitId() {
+    return id + "/" + max;
+  }
+
+  /**
+   * Build slice in search request source.
+   *
+   * @return slice builder
+   */
+  public SliceBuilder toSliceBuilder() {
+    return new SliceBuilder(id, max);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IndexMetadataCacheTest {
+
+  private final AtomicLong metadataVersion = new AtomicLong(1L);
+
+  private final IndexMetadataCache cache = new IndexMetadataCache(metadataVersion::get);
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private final Ticker ticker = new Ticker() {
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+  };
+
+  @Mock
+  private Supplier<String> loader;
+
+  @Test
+  void loadOnceIfMetadataNotChanged() {
+    when(loader.get()).thenReturn("mapping");
+
+    assertEquals("mapping", cache.get("mappings", new String[] {"test"}, loader));
+    assertEquals("mapping", cache.get("mappings", new String[] {"test"}, loader));
+    verify(loader, times(1)).get();
+  }
+
+  @Test
+  void reloadIfMetadataChanged() {
+    when(loader.get()).thenReturn("mapping1", "mapping2");
+
+    assertEquals("mapping1", cache.get("mappings", new String[] {"test"}, loader));
+    metadataVersion.incrementAndGet();
+    assertEquals("mapping2", cache.get("mappings", new String[] {"test"}, loader));
+    assertEquals("mapping2", cache.get("mappings", new String[] {"test"}, loader));
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  void cacheByKindAndIndexExpression() {
+    when(loader.get()).thenReturn("mapping1", "mapping2", "setting");
+
+    assertEquals("mapping1", cache.get("mappings", new String[] {"test1"}, loader));
+    assertEquals("mapping2", cache.get("mappings", new String[] {"test1", "test2"}, loader));
+    assertEquals("setting", cache.get("settings", new String[] {"test1"}, loader));
+    assertEquals("mapping1", cache.get("mappings", new String[] {"test1"}, loader));
+    verify(loader, times(3)).get();
+  }
+
+  @Test
+  void cacheHitForSameUserWithSecurityEnabled() {
+    AtomicReference<String> user = new AtomicReference<>("alice||own_index|");
+    IndexMetadataCache cache = new IndexMetadataCache(metadataVersion::get, user::get, ticker);
+    when(loader.get()).thenAnswer(invocation -> "mapping visible to " + user.get());
+
+    assertEquals("mapping visible to alice||own_index|",
+        cache.get("mappings", new String[] {"test*"}, loader));
+    assertEquals("mapping visible to alice||own_index|",
+        cache.get("mappings", new String[] {"test*"}, loader));
+    verify(loader, times(1)).get();
+  }
+
+  @Test
+  void cacheByUserAndRoles() {
+    AtomicReference<String> user = new AtomicReference<>();
+    IndexMetadataCache cache = new IndexMetadataCache(metadataVersion::get, user::get, ticker);
+    when(loader.get()).thenAnswer(invocation -> "mapping visible to " + user.get());
+
+    user.set("alice||own_index|");
+    assertEquals("mapping visible to alice||own_index|",
+        cache.get("mappings", new String[] {"test*"}, loader));
+    user.set("bob||own_index|");
+    assertEquals("mapping visible to bob||own_index|",
+        cache.get("mappings", new String[] {"test*"}, loader));
+    user.set("alice||all_access|");
+    assertEquals("mapping visible to alice||all_access|",
+        cache.get("mappings", new String[] {"test*"}, loader));
+    user.set(null);
+    assertEquals("mapping visible to null",
+        cache.get("mappings", new String[] {"test*"}, loader));
+    user.set("alice||own_index|");
+    assertEquals("mapping visible to alice||own_index|",
+        cache.get("mappings", new String[] {"test*"}, loader));
+    verify(loader, times(4)).get();
+  }
+
+  @Test
+  void reloadForUserAfterTimeToLive() {
+    IndexMetadataCache cache =
+        new IndexMetadataCache(metadataVersion::get, () -> "alice||own_index|", ticker);
+    when(loader.get()).thenReturn("mapping1", "mapping2");
+
+    assertEquals("mapping1", cache.get("mappings", new String[] {"test"}, loader));
+    nanos.addAndGet(IndexMetadataCache.USER_CACHE_TTL.toNanos() - 1);
+    assertEquals("mapping1", cache.get("mappings", new String[] {"test"}, loader));
+    nanos.incrementAndGet();
+    assertEquals("mapping2", cache.get("mappings", new String[] {"test"}, loader));
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  void reloadForUserIfMetadataChanged() {
+    IndexMetadataCache cache =
+        new IndexMetadataCache(metadataVersion::get, () -> "alice||own_index|", ticker);
+    when(loader.get()).thenReturn("mapping1", "mapping2");
+
+    assertEquals("mapping1", cache.get("mappings", new String[] {"test"}, loader));
+    metadataVersion.incrementAndGet();
+    assertEquals("mapping2", cache.get("mappings", new String[] {"test"}, loader));
+    verify(loader, times(2)).get();
+  }
+
+  @Test
+  void failureNotCached() {
+    when(loader.get())
+        .thenThrow(new IllegalStateException("Failed to read mapping"))
+        .thenReturn("mapping");
+
+    assertThrows(IllegalStateException.class,
+        () -> cache.get("mappings", new String[] {"test"}, loader));
+    assertEquals("mapping", cache.get("mappings", new String[] {"test"}, loader));
+  }
+}
@@ -7,22 +7,28 @@
 package org.opensearch.sql.opensearch.client;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.opensearch.client.OpenSearchClient.META_CLUSTER_NAME;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import static org.opensearch.sql.opensearch.executor.CancellableQueryTask.QUERY_TASK;
+import static org.opensearch.sql.opensearch.executor.OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME;
 
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
@@ -33,7 +39,10 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,13 +59,20 @@ import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequestBuilder;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.DeprecationHandler;
@@ -71,9 +87,12 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.CancellableQueryTask;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.tasks.TaskId;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchNodeClientTest {
@@ -103,7 +122,7 @@ class OpenSearchNodeClientTest {
 
   @BeforeEach
   void setUp() {
-    this.client = new OpenSearchNodeClient(nodeClient);
+    this.client = new OpenSearchNodeClient(nodeClient, new IndexMetadataCache(() -> 1L));
   }
 
   @Test
@@ -217,6 +236,9 @@ class OpenSearchNodeClientTest {
         // `manager.name` is a `text` with `fields`
         () -> assertTrue(((OpenSearchTextType)parsedTypes.get("manager.name"))
                 .getFields().size() > 0),
+        () -> assertEquals(256, ((OpenSearchTextType)parsedTypes.get("manager.name"))
+                .getFields().get("keyword").getIgnoreAbove()),
+        () -> assertNull(parsedTypes.get("manager.address").getIgnoreAbove()),
         () -> assertEquals(OpenSearchTextType.of(MappingType.Keyword),
             parsedTypes.get("manager.address")),
         () -> assertEquals(OpenSearchTextType.of(MappingType.Long),
@@ -254,6 +276,17 @@ class OpenSearchNodeClientTest {
     assertThrows(IndexNotFoundException.class, () -> client.getIndexMappings("non_exist_index"));
   }
 
+  @Test
+  void getIndexMappingsFromCache() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_FILE);
+    String mappings = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "test";
+    mockNodeClientIndicesMappings(indexName, mappings);
+
+    Map<String, IndexMapping> indexMappings = client.getIndexMappings(indexName);
+    assertSame(indexMappings, client.getIndexMappings(indexName));
+  }
+
   @Test
   void getIndexMaxResultWindows() throws IOException {
     URL url = Resources.getResource(TEST_MAPPING_SETTINGS_FILE);
@@ -290,6 +323,24 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows(indexName));
   }
 
+  @Test
+  void getIndexNumberOfShards() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_SETTINGS_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientSettings(indexName, indexMetadata);
+
+    Map<String, Integer> indexNumberOfShards = client.getIndexNumberOfShards(indexName);
+    assertEquals(Map.of(indexName, 5), indexNumberOfShards);
+  }
+
+  @Test
+  void getIndexNumberOfShardsWithException() {
+    when(nodeClient.admin().indices()).thenThrow(RuntimeException.class);
+
+    assertThrows(IllegalStateException.class, () -> client.getIndexNumberOfShards("test"));
+  }
+
   /** Jacoco enforce this constant lambda be tested. */
   @Test
   void testAllFieldsPredicate() {
@@ -298,6 +349,9 @@ class OpenSearchNodeClientTest {
 
   @Test
   void search() {
+    when(nodeClient.threadPool().getThreadContext())
+        .thenReturn(new ThreadContext(Settings.EMPTY));
+
     // Mock first scroll request
     SearchResponse searchResponse = mock(SearchResponse.class);
     when(nodeClient.search(any()).actionGet()).thenReturn(searchResponse);
@@ -333,6 +387,30 @@ class OpenSearchNodeClientTest {
     assertTrue(response2.isEmpty());
   }
 
+  @Test
+  void searchAsChildOfQueryTask() {
+    ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    threadContext.putTransient(QUERY_TASK, new CancellableQueryTask(
+        1L, "transport", "cluster:admin/opensearch/ppl", "PPL query", TaskId.EMPTY_TASK_ID,
+        Map.of()));
+    when(nodeClient.threadPool().getThreadContext()).thenReturn(threadContext);
+    when(nodeClient.getLocalNodeId()).thenReturn("node1");
+
+    SearchRequest searchRequest = new SearchRequest();
+    SearchScrollRequest scrollRequest = new SearchScrollRequest("scroll123");
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    when(request.search(any(), any())).thenAnswer(invocation -> {
+      invocation.<Function<SearchRequest, SearchResponse>>getArgument(0).apply(searchRequest);
+      invocation.<Function<SearchScrollRequest, SearchResponse>>getArgument(1)
+          .apply(scrollRequest);
+      return null;
+    });
+
+    client.search(request);
+    assertEquals(new TaskId("node1", 1L), searchRequest.getParentTask());
+    assertEquals(new TaskId("node1", 1L), scrollRequest.getParentTask());
+  }
+
   @Test
   void schedule() {
     AtomicBoolean isRun = new AtomicBoolean(false);
@@ -343,6 +421,20 @@ class OpenSearchNodeClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void runAsync() {
+    Runnable task = () -> { };
+    client.runAsync(task);
+    verify(nodeClient.threadPool().executor(SQL_WORKER_THREAD_POOL_NAME)).execute(task);
+  }
+
+  @Test
+  void runAsyncRejected() {
+    ExecutorService executor = nodeClient.threadPool().executor(SQL_WORKER_THREAD_POOL_NAME);
+    doThrow(new RejectedExecutionException()).when(executor).execute(any());
+    assertDoesNotThrow(() -> client.runAsync(() -> { }));
+  }
+
   @Test
   void cleanup() {
     ClearScrollRequestBuilder requestBuilder = mock(ClearScrollRequestBuilder.class);
@@ -368,6 +460,23 @@ class OpenSearchNodeClientTest {
     verify(nodeClient, never()).prepareClearScroll();
   }
 
+  @Test
+  void createPit() {
+    CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+    when(nodeClient.execute(eq(CreatePitAction.INSTANCE), any()).actionGet())
+        .thenReturn(createPitResponse);
+    when(createPitResponse.getId()).thenReturn("pit123");
+
+    assertEquals("pit123", client.createPit(
+        new CreatePitRequest(TimeValue.timeValueMinutes(1L), false, "test")));
+  }
+
+  @Test
+  void deletePit() {
+    client.deletePit("pit123");
+    verify(nodeClient).execute(eq(DeletePitAction.INSTANCE), any());
+  }
+
   @Test
   void getIndices() {
     AliasMetadata aliasMetadata = mock(AliasMetadata.class);
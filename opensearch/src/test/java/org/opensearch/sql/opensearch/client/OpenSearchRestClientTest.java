@@ -39,6 +39,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
@@ -51,6 +53,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -277,6 +280,33 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows("test"));
   }
 
+  @Test
+  void getIndexNumberOfShards() throws IOException {
+    String indexName = "test";
+
+    GetSettingsResponse response = mock(GetSettingsResponse.class);
+    Settings numberOfShardsSettings = Settings.builder()
+        .put("index.number_of_shards", 3)
+        .build();
+    ImmutableOpenMap<String, Settings> indexToSettings =
+        mockSettings(indexName, numberOfShardsSettings);
+    ImmutableOpenMap<String, Settings> indexToDefaultSettings =
+        mockSettings(indexName, Settings.builder().build());
+    when(response.getIndexToSettings()).thenReturn(indexToSettings);
+    when(response.getIndexToDefaultSettings()).thenReturn(indexToDefaultSettings);
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenReturn(response);
+
+    assertEquals(Map.of(indexName, 3), client.getIndexNumberOfShards(indexName));
+  }
+
+  @Test
+  void getIndexNumberOfShardsWithIOException() throws IOException {
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenThrow(new IOException());
+    assertThrows(IllegalStateException.class, () -> client.getIndexNumberOfShards("test"));
+  }
+
   @Test
   void search() throws IOException {
     // Mock first scroll request
@@ -355,6 +385,13 @@ class OpenSearchRestClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void runAsync() {
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.runAsync(() -> isRun.set(true));
+    assertFalse(isRun.get());
+  }
+
   @Test
   void cleanup() throws IOException {
     OpenSearchScrollRequest request = new OpenSearchScrollRequest("test", factory);
@@ -380,6 +417,35 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.cleanup(request));
   }
 
+  @Test
+  void createPit() throws IOException {
+    CreatePitResponse createPitResponse = mock(CreatePitResponse.class);
+    when(restClient.createPit(any(), any())).thenReturn(createPitResponse);
+    when(createPitResponse.getId()).thenReturn("pit123");
+
+    assertEquals("pit123", client.createPit(
+        new CreatePitRequest(TimeValue.timeValueMinutes(1L), false, "test")));
+  }
+
+  @Test
+  void createPitWithIOException() throws IOException {
+    when(restClient.createPit(any(), any())).thenThrow(new IOException());
+    assertThrows(IllegalStateException.class, () -> client.createPit(
+        new CreatePitRequest(TimeValue.timeValueMinutes(1L), false, "test")));
+  }
+
+  @Test
+  void deletePit() throws IOException {
+    client.deletePit("pit123");
+    verify(restClient).deletePit(any(), any());
+  }
+
+  @Test
+  void deletePitWithIOException() throws IOException {
+    when(restClient.deletePit(any(), any())).thenThrow(new IOException());
+    assertThrows(IllegalStateException.class, () -> client.deletePit("pit123"));
+  }
+
   @Test
   void getIndices() throws IOException {
     when(restClient.indices().get(any(GetIndexRequest.class), any(RequestOptions.class)))
@@ -240,6 +240,21 @@ class OpenSearchDataTypeTest {
     );
   }
 
+  @Test
+  public void ignore_above_is_kept_by_clone_but_not_cached() {
+    var type = OpenSearchDataType.of(MappingType.Keyword, Map.of(), Map.of(), 256);
+    var clone = type.cloneEmpty();
+
+    assertAll(
+        () -> assertNotSame(OpenSearchDataType.of(MappingType.Keyword), type),
+        () -> assertEquals(OpenSearchDataType.of(MappingType.Keyword), type),
+        () -> assertEquals(256, type.getIgnoreAbove()),
+        () -> assertEquals(256, clone.getIgnoreAbove()),
+        () -> assertEquals(MappingType.Keyword, clone.getMappingType()),
+        () -> assertNull(OpenSearchDataType.of(MappingType.Keyword).getIgnoreAbove())
+    );
+  }
+
   // Following structure of nested objects should be flattened
   // =====================
   // type
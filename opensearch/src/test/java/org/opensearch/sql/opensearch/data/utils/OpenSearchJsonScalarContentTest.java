@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class OpenSearchJsonScalarContentTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  public void readScalarValue() throws IOException {
+    assertEquals("str", read("\"str\"").objectValue());
+    assertEquals(1, read("1").objectValue());
+    assertEquals(1.5, read("1.5").objectValue());
+    assertEquals(true, read("true").objectValue());
+    assertEquals(false, read("false").objectValue());
+    assertEquals(null, read("null").objectValue());
+  }
+
+  @Test
+  public void readNonScalarValueThrowException() {
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> read("[1]"));
+    assertEquals("not a scalar value: START_ARRAY", exception.getMessage());
+  }
+
+  private OpenSearchJsonScalarContent read(String json) throws IOException {
+    try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(json)) {
+      parser.nextToken();
+      return OpenSearchJsonScalarContent.of(parser);
+    }
+  }
+}
@@ -41,9 +41,12 @@ import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
@@ -372,6 +375,73 @@ class OpenSearchExprValueFactoryTest {
     assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
   }
 
+  @Test
+  public void constructFromBytesSameAsFromString() {
+    String source = "{\"intV\":1,\"stringV\":\"str\",\"nullV\":null,"
+        + "\"structV\":{\"id\":1,\"state\":\"WA\"},\"arrayV\":[{\"info\":\"zz\"}]}";
+    assertEquals(
+        exprValueFactory.construct(source),
+        exprValueFactory.construct(new BytesArray(source), Set.of()));
+  }
+
+  @Test
+  public void constructScalarFromBytesSameAsFromString() {
+    String source = "{\"byteV\":1,\"shortV\":2,\"intV\":3,\"longV\":4,\"floatV\":5.5,"
+        + "\"doubleV\":6.5,\"stringV\":\"str\",\"timestampV\":1420070400001,"
+        + "\"dateV\":\"2015-01-01\",\"boolV\":true,\"textV\":\"text\","
+        + "\"ipV\":\"192.168.0.1\",\"binaryV\":\"U29tZSBiaW5hcnkgYmxvYg==\"}";
+    assertEquals(
+        exprValueFactory.construct(source),
+        exprValueFactory.construct(new BytesArray(source), Set.of()));
+  }
+
+  @Test
+  public void constructMismatchedScalarFromBytesSameAsFromString() {
+    String source = "{\"byteV\":\"1\",\"shortV\":\"2\",\"intV\":\"3\",\"longV\":true,"
+        + "\"floatV\":\"x\",\"doubleV\":false,\"stringV\":7,\"textV\":1.5,\"boolV\":1,"
+        + "\"structV\":1,\"arrayV\":\"a\",\"dateV\":null}";
+    assertEquals(
+        exprValueFactory.construct(source),
+        exprValueFactory.construct(new BytesArray(source), Set.of()));
+  }
+
+  @Test
+  public void constructGeoPointFromStringBytesThrowException() {
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> exprValueFactory.construct(new BytesArray("{\"geoV\":\"1,2\"}"), Set.of()));
+    assertEquals("geo point must in format of {\"lat\": number, \"lon\": number}",
+        exception.getMessage());
+  }
+
+  @Test
+  public void constructFromBytesSkipFieldsNotRequired() {
+    String source = "{\"intV\":1,\"structV\":{\"id\":1,\"state\":\"WA\"},"
+        + "\"arrayV\":[{\"info\":\"zz\"}],\"stringV\":\"str\"}";
+    assertEquals(
+        new ExprTupleValue(
+            new LinkedHashMap<String, ExprValue>() {
+              {
+                put("intV", integerValue(1));
+                put("stringV", stringValue("str"));
+              }
+            }),
+        exprValueFactory.construct(new BytesArray(source), Set.of("intV", "stringV")));
+  }
+
+  @Test
+  public void constructFromNonObjectBytesThrowException() {
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> exprValueFactory.construct(new BytesArray("[1]"), Set.of()));
+    assertEquals("invalid json source: expect object", exception.getMessage());
+  }
+
+  @Test
+  public void constructFromInvalidJsonBytesThrowException() {
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> exprValueFactory.construct(new BytesArray("{\"invalid_json:1}"), Set.of()));
+    assertEquals("invalid json source.", exception.getMessage());
+  }
+
   @Test
   public void noTypeFoundForMapping() {
     assertEquals(nullValue(), tupleValue("{\"not_exist\":[]}").get("not_exist"));
@@ -417,6 +487,15 @@ class OpenSearchExprValueFactoryTest {
     );
   }
 
+  @Test
+  public void getFieldType() {
+    assertAll(
+        () -> assertEquals(Optional.of(OpenSearchDataType.of(INTEGER)),
+            exprValueFactory.getFieldType("structV.id")),
+        () -> assertEquals(Optional.empty(), exprValueFactory.getFieldType("unknown"))
+    );
+  }
+
   public Map<String, ExprValue> tupleValue(String jsonString) {
     final ExprValue construct = exprValueFactory.construct(jsonString);
     return construct.tupleValue();
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.tasks.TaskId;
+
+class CancellableQueryTaskTest {
+
+  private final CancellableQueryTask task = new CancellableQueryTask(
+      1L, "transport", "cluster:admin/opensearch/ppl", "PPL query: source=t",
+      TaskId.EMPTY_TASK_ID, Map.of());
+
+  @Test
+  void testCancelChildren() {
+    assertTrue(task.shouldCancelChildrenOnCancellation());
+  }
+
+  @Test
+  void testCancelQuerySubmitted() {
+    AtomicInteger cancelled = new AtomicInteger();
+    task.setCancelAction(cancelled::incrementAndGet);
+    assertEquals(0, cancelled.get());
+
+    task.onCancelled();
+    assertEquals(1, cancelled.get());
+  }
+
+  @Test
+  void testCancelledBeforeQuerySubmitted() {
+    // Nothing to cancel yet
+    task.onCancelled();
+
+    CancellableQueryTask cancelledTask = spy(task);
+    when(cancelledTask.isCancelled()).thenReturn(true);
+    AtomicInteger cancelled = new AtomicInteger();
+    cancelledTask.setCancelAction(cancelled::incrementAndGet);
+    assertEquals(1, cancelled.get());
+  }
+
+  @Test
+  void testSubmitAsParent() {
+    ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    Object submitted = task.submitAsParent(threadContext,
+        () -> threadContext.getTransient(CancellableQueryTask.QUERY_TASK));
+
+    assertSame(task, submitted);
+    assertNull(threadContext.getTransient(CancellableQueryTask.QUERY_TASK));
+  }
+}
@@ -10,23 +10,30 @@ import static com.google.common.collect.ImmutableMap.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_AGGREGATION_PAGE_SIZE;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_POINT_IN_TIME_ENABLED;
+import static org.opensearch.sql.common.setting.Settings.Key.QUERY_SCAN_SLICES;
 import static org.opensearch.sql.common.setting.Settings.Key.QUERY_SIZE_LIMIT;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,14 +44,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.exception.QueryCancelledException;
+import org.opensearch.sql.executor.CancellationToken;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.QueryProfile;
+import org.opensearch.sql.executor.ResponseSink;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.RowBatch;
 import org.opensearch.sql.storage.TableScanOperator;
 import org.opensearch.sql.storage.split.Split;
 
@@ -103,11 +115,175 @@ class OpenSearchExecutionEngineTest {
     assertTrue(plan.hasClosed);
   }
 
+  @Test
+  void executeWithResponseSinkInBatches() {
+    List<ExprValue> expected =
+        Arrays.asList(
+            tupleValue(of("name", "John", "age", 20)),
+            tupleValue(of("name", "Allen", "age", 30)),
+            tupleValue(of("name", "Smith", "age", 40)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    List<List<ExprValue>> batches = new ArrayList<>();
+    List<String> events = new ArrayList<>();
+    executor.execute(
+        plan,
+        new ResponseSink() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema actual) {
+            assertEquals(schema, actual);
+            events.add("schema");
+          }
+
+          @Override
+          public void onBatch(List<ExprValue> batch) {
+            batches.add(new ArrayList<>(batch));
+          }
+
+          @Override
+          public void onComplete() {
+            events.add("complete");
+          }
+
+          @Override
+          public int batchSize() {
+            return 2;
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(Arrays.asList("schema", "complete"), events);
+    assertEquals(
+        Arrays.asList(expected.subList(0, 2), expected.subList(2, 3)), batches);
+    assertTrue(plan.hasClosed);
+  }
+
+  @Test
+  void executeWithProfile() {
+    List<ExprValue> expected = List.of(tupleValue(of("name", "John", "age", 20)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    when(protector.protect(plan, profile)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<QueryProfile> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ExecutionContext(Optional.empty(), new CancellationToken(), profile),
+        new ResponseSink() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema schema) {
+          }
+
+          @Override
+          public void onBatch(List<ExprValue> batch) {
+          }
+
+          @Override
+          public void onProfile(QueryProfile profile) {
+            actual.set(profile);
+          }
+
+          @Override
+          public void onComplete() {
+            assertNotNull(actual.get());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertSame(profile, actual.get());
+    assertTrue(((Map<?, ?>) profile.toMap().get("stages")).containsKey("execute_ms"));
+  }
+
+  @Test
+  void executeWithProfileInResponse() {
+    List<ExprValue> expected = List.of(tupleValue(of("name", "John", "age", 20)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    when(protector.protect(plan, profile)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<QueryResponse> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ExecutionContext(Optional.empty(), new CancellationToken(), profile),
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            actual.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(expected, actual.get().getResults());
+    assertSame(profile, actual.get().getProfile());
+    assertTrue(((Map<?, ?>) profile.toMap().get("stages")).containsKey("execute_ms"));
+  }
+
+  @Test
+  void executeWithResponseSinkInFullBatches() {
+    List<ExprValue> expected =
+        Arrays.asList(
+            tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    List<List<ExprValue>> batches = new ArrayList<>();
+    AtomicBoolean completed = new AtomicBoolean(false);
+    executor.execute(
+        plan,
+        new ResponseSink() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema actual) {
+          }
+
+          @Override
+          public void onBatch(List<ExprValue> batch) {
+            batches.add(new ArrayList<>(batch));
+          }
+
+          @Override
+          public void onComplete() {
+            completed.set(true);
+          }
+
+          @Override
+          public int batchSize() {
+            return 2;
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(Arrays.asList(expected), batches);
+    assertTrue(completed.get());
+  }
+
   @Test
   void executeWithFailure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
     RuntimeException expected = new RuntimeException("Execution error");
-    when(plan.hasNext()).thenThrow(expected);
+    when(plan.nextBatch(anyInt())).thenThrow(expected);
     when(protector.protect(plan)).thenReturn(plan);
 
     OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
@@ -129,11 +305,124 @@ class OpenSearchExecutionEngineTest {
     verify(plan).close();
   }
 
+  @Test
+  void executeCancelledBeforeStart() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(plan)).thenReturn(plan);
+    CancellationToken token = new CancellationToken();
+    token.cancel("cancelled by user");
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ExecutionContext(Optional.empty(), token),
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            fail("Expected cancellation didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+
+    assertTrue(actual.get() instanceof QueryCancelledException);
+    assertEquals("cancelled by user", actual.get().getMessage());
+    assertFalse(plan.hasOpen);
+    assertTrue(plan.hasClosed);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void executeCancelledWhileRunning() {
+    CancellationToken token = new CancellationToken();
+    PhysicalPlan plan = mockPlanCancelledOnFirstRow(token);
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ExecutionContext(Optional.empty(), token),
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            fail("Expected cancellation didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+
+    assertTrue(actual.get() instanceof QueryCancelledException);
+    verify(plan).close();
+    // Interrupt by cancellation is cleared once execution is done
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void executeWithResponseSinkCancelledWhileRunning() {
+    CancellationToken token = new CancellationToken();
+    PhysicalPlan plan = mockPlanCancelledOnFirstRow(token);
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ExecutionContext(Optional.empty(), token),
+        new ResponseSink() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema schema) {
+          }
+
+          @Override
+          public void onBatch(List<ExprValue> batch) {
+            fail("Expected cancellation didn't happen");
+          }
+
+          @Override
+          public void onComplete() {
+            fail("Expected cancellation didn't happen");
+          }
+
+          @Override
+          public int batchSize() {
+            return 10;
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+
+    assertTrue(actual.get() instanceof QueryCancelledException);
+    verify(plan).close();
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  private PhysicalPlan mockPlanCancelledOnFirstRow(CancellationToken token) {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    when(plan.nextBatch(anyInt())).thenAnswer(invocation -> {
+      token.cancel("cancelled by user");
+      return RowBatch.of(List.of(tupleValue(of("name", "John", "age", 20))));
+    });
+    when(protector.protect(plan)).thenReturn(plan);
+    return plan;
+  }
+
   @Test
   void explainSuccessfully() {
     OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
     Settings settings = mock(Settings.class);
     when(settings.getSettingValue(QUERY_SIZE_LIMIT)).thenReturn(100);
+    when(settings.getSettingValue(QUERY_POINT_IN_TIME_ENABLED)).thenReturn(false);
+    when(settings.getSettingValue(QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
     PhysicalPlan plan = new OpenSearchIndexScan(mock(OpenSearchClient.class),
         settings, "test", 10000, mock(OpenSearchExprValueFactory.class));
 
@@ -175,6 +464,137 @@ class OpenSearchExecutionEngineTest {
     assertNotNull(result.get());
   }
 
+  @Test
+  void explainAnalyzeWithProfile() {
+    FakePhysicalPlan plan =
+        new FakePhysicalPlan(List.of(tupleValue(of("name", "John", "age", 20))).iterator());
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    when(protector.protect(plan, profile)).thenAnswer(invocation -> {
+      profile.addOperator("FakePhysicalPlan").add(1, 1_000_000);
+      return plan;
+    });
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.explain(
+        plan,
+        new ExecutionContext(Optional.of(split), new CancellationToken(), profile),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail(e);
+          }
+        });
+
+    assertEquals(of("rows_out", 1L, "time_ms", 1.0), result.get().getRoot().getAnalyze());
+    assertTrue(plan.hasSplit);
+    assertTrue(plan.hasClosed);
+    assertTrue(((Map<?, ?>) profile.toMap().get("stages")).containsKey("execute_ms"));
+  }
+
+  @Test
+  void explainAnalyzeCancelledBeforeStart() {
+    FakePhysicalPlan plan =
+        new FakePhysicalPlan(List.of(tupleValue(of("name", "John", "age", 20))).iterator());
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    when(protector.protect(plan, profile)).thenReturn(plan);
+    CancellationToken token = new CancellationToken();
+    token.cancel("cancelled by user");
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<Exception> result = new AtomicReference<>();
+    executor.explain(
+        plan,
+        new ExecutionContext(Optional.empty(), token, profile),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            fail("Should fail as expected");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            result.set(e);
+          }
+        });
+
+    assertTrue(result.get() instanceof QueryCancelledException);
+    assertEquals("cancelled by user", result.get().getMessage());
+    assertFalse(plan.hasOpen);
+    assertTrue(plan.hasClosed);
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void explainAnalyzeCancelledWhileRunning() {
+    CancellationToken token = new CancellationToken();
+    AtomicBoolean interrupted = new AtomicBoolean();
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    when(plan.nextBatch(anyInt())).thenAnswer(invocation -> {
+      token.cancel("cancelled by user");
+      interrupted.set(Thread.currentThread().isInterrupted());
+      return RowBatch.of(List.of(tupleValue(of("name", "John", "age", 20))));
+    });
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    when(protector.protect(plan, profile)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<Exception> result = new AtomicReference<>();
+    executor.explain(
+        plan,
+        new ExecutionContext(Optional.empty(), token, profile),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            fail("Should fail as expected");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            result.set(e);
+          }
+        });
+
+    assertTrue(result.get() instanceof QueryCancelledException);
+    // Waiting for search response is interrupted on cancellation
+    assertTrue(interrupted.get());
+    verify(plan).close();
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  void explainWithoutProfile() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.explain(
+        plan,
+        ExecutionContext.emptyExecutionContext(),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail(e);
+          }
+        });
+
+    assertEquals("FakePhysicalPlan", result.get().getRoot().getName());
+    assertFalse(plan.hasOpen);
+  }
+
   @Test
   void callAddSplitAndOpenInOrder() {
     List<ExprValue> expected =
@@ -183,6 +603,8 @@ class OpenSearchExecutionEngineTest {
     FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
     when(protector.protect(plan)).thenReturn(plan);
     when(executionContext.getSplit()).thenReturn(Optional.of(split));
+    when(executionContext.getCancellationToken()).thenReturn(new CancellationToken());
+    when(executionContext.getProfile()).thenReturn(new QueryProfile());
 
     OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
     List<ExprValue> actual = new ArrayList<>();
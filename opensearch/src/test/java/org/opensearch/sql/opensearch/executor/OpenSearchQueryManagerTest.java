@@ -9,24 +9,33 @@
 package org.opensearch.sql.opensearch.executor;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlan;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,11 +53,23 @@ class OpenSearchQueryManagerTest {
   @Mock
   private ResponseListener<ExecutionEngine.QueryResponse> listener;
 
+  @Mock
+  private NodeClient nodeClient;
+
+  @Mock
+  private ThreadPool threadPool;
+
+  @Mock
+  private Settings settings;
+
+  @BeforeEach
+  void setUp() {
+    when(queryId.getQueryId()).thenReturn("query1");
+  }
+
   @Test
   public void submitQuery() {
-    NodeClient nodeClient = mock(NodeClient.class);
-    ThreadPool threadPool = mock(ThreadPool.class);
-    when(nodeClient.threadPool()).thenReturn(threadPool);
+    when(settings.getSettingValue(Settings.Key.QUERY_TIMEOUT)).thenReturn(TimeValue.MINUS_ONE);
 
     AtomicBoolean isRun = new AtomicBoolean(false);
     AbstractPlan queryPlan = new QueryPlan(queryId, plan, queryService, listener) {
@@ -58,6 +79,69 @@ class OpenSearchQueryManagerTest {
       }
     };
 
+    runScheduledTaskImmediately();
+    new OpenSearchQueryManager(nodeClient, settings).submit(queryPlan);
+
+    assertTrue(isRun.get());
+  }
+
+  @Test
+  public void cancelRunningQuery() {
+    when(settings.getSettingValue(Settings.Key.QUERY_TIMEOUT)).thenReturn(null);
+    OpenSearchQueryManager queryManager = new OpenSearchQueryManager(nodeClient, settings);
+
+    AtomicReference<String> reason = new AtomicReference<>();
+    AbstractPlan queryPlan = new QueryPlan(queryId, plan, queryService, listener) {
+      @Override
+      public void execute() {
+        assertTrue(queryManager.cancel(queryId));
+        reason.set(getCancellationToken().getReason());
+      }
+    };
+
+    runScheduledTaskImmediately();
+    queryManager.submit(queryPlan);
+
+    assertEquals("Query [query1] is cancelled", reason.get());
+    // Query is untracked once done
+    assertFalse(queryManager.cancel(queryId));
+  }
+
+  @Test
+  public void cancelQueryTimedOut() {
+    when(settings.getSettingValue(Settings.Key.QUERY_TIMEOUT))
+        .thenReturn(TimeValue.timeValueSeconds(30));
+    Scheduler.ScheduledCancellable timeout = mock(Scheduler.ScheduledCancellable.class);
+    AtomicReference<Runnable> timeoutTask = new AtomicReference<>();
+    doAnswer(invocation -> {
+      timeoutTask.set(invocation.getArgument(0));
+      return timeout;
+    }).when(threadPool)
+        .schedule(any(), eq(TimeValue.timeValueSeconds(30)), eq(ThreadPool.Names.GENERIC));
+
+    AtomicReference<String> reason = new AtomicReference<>();
+    AbstractPlan queryPlan = new QueryPlan(queryId, plan, queryService, listener) {
+      @Override
+      public void execute() {
+        timeoutTask.get().run();
+        reason.set(getCancellationToken().getReason());
+      }
+    };
+
+    runScheduledTaskImmediately();
+    new OpenSearchQueryManager(nodeClient, settings).submit(queryPlan);
+
+    assertEquals("Query [query1] timed out after 30s", reason.get());
+    verify(timeout).cancel();
+  }
+
+  @Test
+  public void cancelQueryNotSubmitted() {
+    assertFalse(new OpenSearchQueryManager(nodeClient, settings).cancel(queryId));
+  }
+
+  private void runScheduledTaskImmediately() {
+    when(nodeClient.threadPool()).thenReturn(threadPool);
     doAnswer(
         invocation -> {
           Runnable task = invocation.getArgument(0);
@@ -65,9 +149,7 @@ class OpenSearchQueryManagerTest {
           return null;
         })
         .when(threadPool)
-        .schedule(any(), any(), any());
-    new OpenSearchQueryManager(nodeClient).submit(queryPlan);
-
-    assertTrue(isRun.get());
+        .schedule(any(), eq(new TimeValue(0)),
+            eq(OpenSearchQueryManager.SQL_WORKER_THREAD_POOL_NAME));
   }
 }
@@ -11,12 +11,19 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.executor.protector.ResourceMonitorPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -84,6 +91,24 @@ class ResourceMonitorPlanTest {
     assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchSuccess() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+
+    monitorPlan.nextBatch(100);
+    verify(resourceMonitor, times(1)).isHealthy();
+    verify(plan, times(1)).nextBatch(100);
+  }
+
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch(100));
+    assertEquals("resource is not enough to load next batch, quit.", exception.getMessage());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
@@ -102,6 +127,21 @@ class ResourceMonitorPlanTest {
     verify(plan, times(1)).getChild();
   }
 
+  @Test
+  void pushDownTermsFilterSuccess() {
+    ReferenceExpression field = DSL.ref("id", INTEGER);
+    Set<ExprValue> values = Set.of(ExprValueUtils.integerValue(1));
+    monitorPlan.pushDownTermsFilter(field, values);
+    verify(plan, times(1)).pushDownTermsFilter(field, values);
+  }
+
+  @Test
+  void setCancellationTokenSuccess() {
+    CancellationToken token = new CancellationToken();
+    monitorPlan.setCancellationToken(token);
+    verify(plan, times(1)).setCancellationToken(token);
+  }
+
   @Test
   void acceptSuccess() {
     monitorPlan.accept(visitor, context);
@@ -8,10 +8,12 @@ package org.opensearch.sql.opensearch.executor.protector;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.executor.QueryProfile;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,4 +29,14 @@ class NoopExecutionProtectorTest {
 
     assertEquals(plan, protectedPlan);
   }
+
+  @Test
+  void protect_without_profiling() {
+    NoopExecutionProtector executionProtector = new NoopExecutionProtector();
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+
+    assertEquals(plan, executionProtector.protect(plan, profile));
+    assertEquals(List.of(), profile.toMap().get("operators"));
+  }
 }
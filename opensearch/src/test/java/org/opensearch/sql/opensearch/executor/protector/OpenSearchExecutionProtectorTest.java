@@ -43,6 +43,8 @@ import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.executor.QueryProfile;
+import org.opensearch.sql.executor.QueryProfile.OperatorProfile;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
@@ -60,9 +62,12 @@ import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLOperator;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchExecutionProtectorTest {
@@ -89,6 +94,9 @@ class OpenSearchExecutionProtectorTest {
   @Test
   public void testProtectIndexScan() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
 
     String indexName = "test";
     Integer maxResultWindow = 10000;
@@ -329,6 +337,44 @@ class OpenSearchExecutionProtectorTest {
         executionProtector.visitNested(nestedOperator, values(emptyList())));
   }
 
+  @Test
+  public void testVisitHashJoin() {
+    when(resourceMonitor.getOperatorMemoryBudget()).thenReturn(1024L);
+    List<Expression> leftKeys = List.of(ref("dept_id", INTEGER));
+    List<Expression> rightKeys = List.of(ref("id", INTEGER));
+    HashJoinOperator hashJoin = PhysicalPlanDSL.hashJoin(values(emptyList()),
+        values(emptyList()), JoinType.INNER, leftKeys, rightKeys);
+
+    HashJoinOperator protectedHashJoin =
+        (HashJoinOperator) executionProtector.protect(hashJoin);
+    assertEquals(hashJoin, protectedHashJoin);
+    assertEquals(1024L, protectedHashJoin.getMemoryBudget());
+  }
+
+  @Test
+  public void testProtectWithProfile() {
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    Expression condition = literal(ExprBooleanValue.of(true));
+    PhysicalPlan plan = PhysicalPlanDSL.limit(filter(values(emptyList()), condition), 10, 0);
+
+    OperatorProfile operator = new QueryProfile().addOperator("expected");
+    assertEquals(
+        new ProfilePlan(PhysicalPlanDSL.limit(
+            new ProfilePlan(filter(new ProfilePlan(values(emptyList()), operator), condition),
+                operator),
+            10, 0), operator),
+        executionProtector.protect(plan, profile));
+
+    List<?> operators = (List<?>) profile.toMap().get("operators");
+    Map<?, ?> limit = (Map<?, ?>) operators.get(0);
+    Map<?, ?> filter = (Map<?, ?>) ((List<?>) limit.get("children")).get(0);
+    Map<?, ?> values = (Map<?, ?>) ((List<?>) filter.get("children")).get(0);
+    assertEquals("LimitOperator", limit.get("name"));
+    assertEquals("FilterOperator", filter.get("name"));
+    assertEquals("ValuesOperator", values.get("name"));
+  }
+
   PhysicalPlan resourceMonitor(PhysicalPlan input) {
     return new ResourceMonitorPlan(input, resourceMonitor);
   }
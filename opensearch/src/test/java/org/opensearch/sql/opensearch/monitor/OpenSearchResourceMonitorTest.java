@@ -6,6 +6,7 @@
 
 package org.opensearch.sql.opensearch.monitor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -45,6 +46,16 @@ class OpenSearchResourceMonitorTest {
     assertTrue(resourceMonitor.isHealthy());
   }
 
+  @Test
+  void operatorMemoryBudget() {
+    when(settings.getSettingValue(Settings.Key.QUERY_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(100L));
+
+    OpenSearchResourceMonitor resourceMonitor =
+        new OpenSearchResourceMonitor(settings, memoryMonitor);
+    assertEquals(10L, resourceMonitor.getOperatorMemoryBudget());
+  }
+
   @Test
   void notHealthyFastFailure() {
     when(memoryMonitor.isMemoryHealthy(anyLong())).thenThrow(
@@ -0,0 +1,285 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.search.sort.SortOrder.DESC;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchPitRequestTest {
+
+  @Mock
+  private Function<SearchRequest, SearchResponse> searchAction;
+
+  @Mock
+  private Function<SearchScrollRequest, SearchResponse> scrollAction;
+
+  @Mock
+  private Consumer<String> cleanAction;
+
+  @Mock
+  private SearchResponse searchResponse;
+
+  @Mock
+  private SearchHits searchHits;
+
+  @Mock
+  private SearchHit searchHit;
+
+  @Mock
+  private FetchSourceContext fetchSourceContext;
+
+  @Mock
+  private OpenSearchExprValueFactory factory;
+
+  private final OpenSearchPitRequest request = new OpenSearchPitRequest(
+      new OpenSearchRequest.IndexName("test"), new SearchSourceBuilder(), factory, "pit123");
+
+  /**
+   * Documents on two shards, on which _doc starts over from 0 and age has ties, so that only
+   * the tiebreak sort on _id orders them totally.
+   */
+  private static final List<Map<String, Object>> DOCS_ON_TWO_SHARDS = List.of(
+      Map.of(DOC_FIELD_NAME, 0, METADATA_FIELD_ID, "a", "age", 30),
+      Map.of(DOC_FIELD_NAME, 1, METADATA_FIELD_ID, "b", "age", 20),
+      Map.of(DOC_FIELD_NAME, 2, METADATA_FIELD_ID, "c", "age", 30),
+      Map.of(DOC_FIELD_NAME, 0, METADATA_FIELD_ID, "d", "age", 20),
+      Map.of(DOC_FIELD_NAME, 1, METADATA_FIELD_ID, "e", "age", 30),
+      Map.of(DOC_FIELD_NAME, 2, METADATA_FIELD_ID, "f", "age", 20));
+
+  @Test
+  void sortByDocAndIdAddedIfNoSort() {
+    assertEquals(
+        new SearchSourceBuilder()
+            .sort(DOC_FIELD_NAME, ASC)
+            .sort(METADATA_FIELD_ID, ASC),
+        request.getSourceBuilder());
+  }
+
+  @Test
+  void tiebreakSortAddedAfterSortPushedDown() {
+    SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+        .sort(SortBuilders.scoreSort())
+        .sort("age", DESC);
+    OpenSearchPitRequest request = new OpenSearchPitRequest(
+        new OpenSearchRequest.IndexName("test"), sourceBuilder, factory, "pit123");
+    assertEquals(
+        new SearchSourceBuilder()
+            .sort(SortBuilders.scoreSort())
+            .sort("age", DESC)
+            .sort(METADATA_FIELD_ID, ASC),
+        request.getSourceBuilder());
+  }
+
+  @Test
+  void noTiebreakSortAddedIfSortById() {
+    SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+        .sort(METADATA_FIELD_ID, DESC)
+        .sort("age", ASC);
+    OpenSearchPitRequest request = new OpenSearchPitRequest(
+        new OpenSearchRequest.IndexName("test"), sourceBuilder, factory, "pit123");
+    assertEquals(
+        new SearchSourceBuilder()
+            .sort(METADATA_FIELD_ID, DESC)
+            .sort("age", ASC),
+        request.getSourceBuilder());
+  }
+
+  @Test
+  void pageThroughTiesOnDocAcrossShards() {
+    assertEquals(
+        List.of("a", "d", "b", "e", "c", "f"),
+        pageThrough(new SearchSourceBuilder(), 3));
+  }
+
+  @Test
+  void pageThroughTiesOnSortValueAcrossShards() {
+    assertEquals(
+        List.of("a", "c", "e", "b", "d", "f"),
+        pageThrough(new SearchSourceBuilder().sort("age", DESC), 2));
+  }
+
+  @Test
+  void searchRequestOnFirstPage() {
+    request.getSourceBuilder().from(10);
+
+    assertEquals(
+        new SearchRequest().source(
+            new SearchSourceBuilder()
+                .from(10)
+                .sort(DOC_FIELD_NAME, ASC)
+                .sort(METADATA_FIELD_ID, ASC)
+                .pointInTimeBuilder(new PointInTimeBuilder("pit123")
+                    .setKeepAlive(OpenSearchPitRequest.DEFAULT_PIT_KEEP_ALIVE))),
+        request.searchRequest());
+  }
+
+  @Test
+  void searchRequestAfterLastHit() {
+    request.setSearchAfter(new Object[] {1, 5});
+    request.getSourceBuilder().from(10);
+
+    assertEquals(
+        new SearchRequest().source(
+            new SearchSourceBuilder()
+                .from(0)
+                .sort(DOC_FIELD_NAME, ASC)
+                .sort(METADATA_FIELD_ID, ASC)
+                .pointInTimeBuilder(new PointInTimeBuilder("pit123")
+                    .setKeepAlive(OpenSearchPitRequest.DEFAULT_PIT_KEEP_ALIVE))
+                .searchAfter(new Object[] {1, 5})),
+        request.searchRequest());
+  }
+
+  @Test
+  void search() {
+    request.getSourceBuilder().fetchSource(new String[] {"name"}, new String[0]);
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+    when(searchHit.getSortValues()).thenReturn(new Object[] {1, 5});
+
+    OpenSearchResponse response = request.search(searchAction, scrollAction);
+    assertFalse(response.isEmpty());
+    assertArrayEquals(new Object[] {1, 5}, request.getSearchAfter());
+
+    when(searchHits.getHits()).thenReturn(new SearchHit[0]);
+    response = request.search(searchAction, scrollAction);
+    assertTrue(response.isEmpty());
+    assertArrayEquals(new Object[] {1, 5}, request.getSearchAfter());
+    verify(scrollAction, never()).apply(any());
+  }
+
+  @Test
+  void searchWithoutFetchSource() {
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[0]);
+
+    OpenSearchResponse response = request.search(searchAction, scrollAction);
+    assertTrue(response.isEmpty());
+    assertNull(request.getSearchAfter());
+  }
+
+  @Test
+  void searchWithoutIncludes() {
+    request.getSourceBuilder().fetchSource(fetchSourceContext);
+    when(fetchSourceContext.includes()).thenReturn(null);
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[0]);
+
+    OpenSearchResponse response = request.search(searchAction, scrollAction);
+    assertTrue(response.isEmpty());
+    assertNull(request.getSearchAfter());
+  }
+
+  @Test
+  void cleanResetSearchAfterOnly() {
+    request.setSearchAfter(new Object[] {1});
+    request.clean(cleanAction);
+
+    verify(cleanAction, never()).accept(any());
+    assertEquals("pit123", request.getPitId());
+    assertNull(request.getSearchAfter());
+  }
+
+  /**
+   * Page through the documents on two shards by point in time request, with a search action
+   * that merges the hits of both shards sorted and filtered by search after as OpenSearch does.
+   *
+   * @return ids of all documents returned in order
+   */
+  private List<String> pageThrough(SearchSourceBuilder sourceBuilder, int pageSize) {
+    OpenSearchPitRequest request = new OpenSearchPitRequest(
+        new OpenSearchRequest.IndexName("test"), sourceBuilder.size(pageSize), factory, "pit123");
+    List<String> ids = new ArrayList<>();
+    Function<SearchRequest, SearchResponse> searchShards = searchRequest -> {
+      SearchHit[] hits = searchShards(searchRequest.source());
+      Arrays.stream(hits).forEach(hit -> ids.add(hit.getId()));
+      SearchResponse response = mock(SearchResponse.class);
+      when(response.getHits()).thenReturn(new SearchHits(hits, null, 0.0F));
+      return response;
+    };
+
+    OpenSearchResponse response;
+    do {
+      response = request.search(searchShards, scrollAction);
+    } while (!response.isEmpty());
+    return ids;
+  }
+
+  private SearchHit[] searchShards(SearchSourceBuilder source) {
+    List<FieldSortBuilder> sorts = new ArrayList<>();
+    source.sorts().forEach(sort -> sorts.add((FieldSortBuilder) sort));
+    return DOCS_ON_TWO_SHARDS.stream()
+        .filter(doc -> source.searchAfter() == null
+            || compare(sortValues(doc, sorts), source.searchAfter(), sorts) > 0)
+        .sorted((left, right) -> compare(sortValues(left, sorts), sortValues(right, sorts), sorts))
+        .limit(source.size())
+        .map(doc -> {
+          SearchHit hit = new SearchHit((Integer) doc.get(DOC_FIELD_NAME),
+              (String) doc.get(METADATA_FIELD_ID), Map.of(), Map.of());
+          DocValueFormat[] formats = new DocValueFormat[sorts.size()];
+          Arrays.fill(formats, DocValueFormat.RAW);
+          hit.sortValues(sortValues(doc, sorts), formats);
+          return hit;
+        })
+        .toArray(SearchHit[]::new);
+  }
+
+  private Object[] sortValues(Map<String, Object> doc, List<FieldSortBuilder> sorts) {
+    return sorts.stream().map(sort -> doc.get(sort.getFieldName())).toArray();
+  }
+
+  @SuppressWarnings("unchecked")
+  private int compare(Object[] left, Object[] right, List<FieldSortBuilder> sorts) {
+    for (int i = 0; i < sorts.size(); i++) {
+      int result = ((Comparable<Object>) left[i]).compareTo(right[i]);
+      if (result != 0) {
+        return sorts.get(i).order() == ASC ? result : -result;
+      }
+    }
+    return 0;
+  }
+}
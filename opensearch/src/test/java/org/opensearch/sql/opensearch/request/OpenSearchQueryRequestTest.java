@@ -8,14 +8,19 @@ package org.opensearch.sql.opensearch.request;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
@@ -28,6 +33,10 @@ import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.sql.data.model.ExprValue;
@@ -152,4 +161,51 @@ public class OpenSearchQueryRequestTest {
                 .query(QueryBuilders.termQuery("name", "John"))),
         request.searchRequest());
   }
+
+  @Test
+  void search_compositeAggregationByAfterKey() {
+    CompositeAggregationBuilder composite = new CompositeAggregationBuilder("composite_buckets",
+        List.of(new TermsValuesSourceBuilder("name").field("name"))).size(2);
+    request.getSourceBuilder().aggregation(composite);
+    Aggregations aggregations = mock(Aggregations.class);
+    CompositeAggregation compositeAgg = mock(CompositeAggregation.class);
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getAggregations()).thenReturn(aggregations);
+    when(aggregations.get("composite_buckets")).thenReturn(compositeAgg);
+    doReturn(List.of(mock(CompositeAggregation.Bucket.class),
+        mock(CompositeAggregation.Bucket.class))).when(compositeAgg).getBuckets();
+    when(compositeAgg.afterKey()).thenReturn(Map.of("name", "John"));
+
+    // Full page returned so that next page is searched after the last bucket
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertFalse(request.isSearchDone());
+    assertEquals(Map.of("name", "John"), request.getAfterKey());
+
+    doReturn(List.of(mock(CompositeAggregation.Bucket.class)))
+        .when(compositeAgg).getBuckets();
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertEquals(
+        new CompositeAggregationBuilder("composite_buckets",
+            List.of(new TermsValuesSourceBuilder("name").field("name")))
+            .size(2)
+            .aggregateAfter(Map.of("name", "John")),
+        composite);
+    assertTrue(request.isSearchDone());
+    assertNull(request.getAfterKey());
+
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void search_compositeAggregationWithoutAggregationsInResponse() {
+    request.getSourceBuilder().aggregation(new CompositeAggregationBuilder("composite_buckets",
+        List.of(new TermsValuesSourceBuilder("name").field("name"))));
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.isSearchDone());
+  }
 }
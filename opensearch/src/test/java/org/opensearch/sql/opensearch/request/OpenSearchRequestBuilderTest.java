@@ -6,19 +6,27 @@
 
 package org.opensearch.sql.opensearch.request;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.index.query.QueryBuilders.nestedQuery;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.lucene.search.join.ScoreMode;
@@ -27,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.query.InnerHitBuilder;
 import org.opensearch.index.query.NestedQueryBuilder;
@@ -34,21 +43,28 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
+import org.opensearch.sql.opensearch.storage.split.OpenSearchSlice;
 import org.opensearch.sql.planner.logical.LogicalNested;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,6 +86,9 @@ public class OpenSearchRequestBuilderTest {
   @BeforeEach
   void setup() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
 
     requestBuilder = new OpenSearchRequestBuilder(
         "test", MAX_RESULT_WINDOW, settings, exprValueFactory);
@@ -111,6 +130,132 @@ public class OpenSearchRequestBuilderTest {
         requestBuilder.build());
   }
 
+  @Test
+  void buildPitRequestIfPointInTimeEnabled() {
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(true);
+    requestBuilder = new OpenSearchRequestBuilder(
+        "test", MAX_RESULT_WINDOW, settings, exprValueFactory);
+    Integer limit = 800;
+    Integer offset = 10;
+    requestBuilder.pushDownLimit(limit, offset);
+
+    assertEquals(
+        new OpenSearchPitRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder()
+                .from(offset)
+                .size(MAX_RESULT_WINDOW - offset)
+                .timeout(DEFAULT_QUERY_TIMEOUT),
+            exprValueFactory,
+            "pit123"),
+        requestBuilder.build("pit123"));
+  }
+
+  @Test
+  void buildPitRequestWithOwnSortList() {
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(true);
+    requestBuilder = new OpenSearchRequestBuilder(
+        "test", MAX_RESULT_WINDOW, settings, exprValueFactory);
+    requestBuilder.pushDownLimit(800, 10);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort("intA").order(ASC)));
+
+    OpenSearchRequest request = requestBuilder.build("pit123");
+    assertEquals(
+        List.of(
+            SortBuilders.fieldSort("intA").order(ASC),
+            SortBuilders.fieldSort("_id").order(ASC)),
+        request.getSourceBuilder().sorts());
+    assertEquals(
+        List.of(SortBuilders.fieldSort("intA").order(ASC)),
+        requestBuilder.getSourceBuilder().sorts());
+  }
+
+  @Test
+  void createPitRequest() {
+    CreatePitRequest createPitRequest = requestBuilder.createPitRequest();
+    assertArrayEquals(new String[] {"test"}, createPitRequest.indices());
+    assertEquals(OpenSearchPitRequest.DEFAULT_PIT_KEEP_ALIVE, createPitRequest.getKeepAlive());
+  }
+
+  @Test
+  void paginatedIfResultWindowExceeded() {
+    requestBuilder.pushDownLimit(MAX_RESULT_WINDOW, 0);
+    assertFalse(requestBuilder.isPaginated());
+
+    requestBuilder.pushDownLimit(MAX_RESULT_WINDOW, 1);
+    assertTrue(requestBuilder.isPaginated());
+  }
+
+  @Test
+  void buildSlicedRequest() {
+    requestBuilder.pushDownLimit(800, 0);
+
+    assertEquals(
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder()
+                .from(0)
+                .size(MAX_RESULT_WINDOW)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .slice(new SliceBuilder(1, 3)),
+            exprValueFactory),
+        requestBuilder.build(new OpenSearchSlice(1, 3), null));
+  }
+
+  @Test
+  void buildSlicedRequestWithOwnSortList() {
+    requestBuilder.pushDown(QueryBuilders.termQuery("intA", 1));
+    requestBuilder.pushDownLimit(800, 0);
+    requestBuilder.pushDownProjects(Set.of(new ReferenceExpression("intA", INTEGER)));
+    requestBuilder.pushDownHighlight("intA", Map.of());
+
+    OpenSearchRequest request = requestBuilder.build(new OpenSearchSlice(0, 2), null);
+    SearchSourceBuilder sliced = request.getSourceBuilder();
+    SearchSourceBuilder original = requestBuilder.getSourceBuilder();
+    assertEquals(original.query(), sliced.query());
+    assertEquals(original.fetchSource(), sliced.fetchSource());
+    assertEquals(original.highlighter(), sliced.highlighter());
+    assertEquals(original.sorts(), sliced.sorts());
+
+    sliced.sort("intA", ASC);
+    assertEquals(List.of(SortBuilders.fieldSort(DOC_FIELD_NAME).order(ASC)), original.sorts());
+  }
+
+  @Test
+  void sliceableIfPaginatedWithoutOrder() {
+    requestBuilder.pushDownLimit(800, 0);
+    assertTrue(requestBuilder.isSliceable());
+
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort(DOC_FIELD_NAME)));
+    assertTrue(requestBuilder.isSliceable());
+  }
+
+  @Test
+  void notSliceableIfNotPaginated() {
+    requestBuilder.pushDownLimit(100, 0);
+    assertFalse(requestBuilder.isSliceable());
+  }
+
+  @Test
+  void notSliceableWithOffset() {
+    requestBuilder.pushDownLimit(800, 10);
+    assertFalse(requestBuilder.isSliceable());
+  }
+
+  @Test
+  void notSliceableWithSort() {
+    requestBuilder.pushDownLimit(800, 0);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort("intA")));
+    assertFalse(requestBuilder.isSliceable());
+  }
+
+  @Test
+  void notSliceableWithAggregation() {
+    requestBuilder.pushDownLimit(800, 0);
+    requestBuilder.getSourceBuilder().aggregation(AggregationBuilders.max("max").field("intA"));
+    assertFalse(requestBuilder.isSliceable());
+  }
+
   @Test
   void testPushDownQuery() {
     QueryBuilder query = QueryBuilders.termQuery("intA", 1);
@@ -145,9 +290,26 @@ public class OpenSearchRequestBuilderTest {
             .aggregation(aggBuilder),
         requestBuilder.getSourceBuilder()
     );
+    // Bucket page size is capped by query size
+    assertEquals(DEFAULT_LIMIT, ((CompositeAggregationBuilder) aggBuilder).size());
     verify(exprValueFactory).setParser(responseParser);
   }
 
+  @Test
+  void testPushDownAggregationWithPageSize() {
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(50);
+    requestBuilder = new OpenSearchRequestBuilder(
+        "test", MAX_RESULT_WINDOW, settings, exprValueFactory);
+    CompositeAggregationBuilder aggBuilder = AggregationBuilders.composite(
+        "composite_buckets",
+        Collections.singletonList(new TermsValuesSourceBuilder("longA")));
+    requestBuilder.pushDownAggregation(
+        Pair.of(List.of(aggBuilder, AggregationBuilders.avg("AVG(intA)").field("intA")),
+            new SingleValueParser("AVG(intA)")));
+
+    assertEquals(50, aggBuilder.size());
+  }
+
   @Test
   void testPushDownQueryAndSort() {
     QueryBuilder query = QueryBuilders.termQuery("intA", 1);
@@ -224,6 +386,92 @@ public class OpenSearchRequestBuilderTest {
         requestBuilder.getSourceBuilder());
   }
 
+  @Test
+  void testPushDownTerms() {
+    assertTrue(requestBuilder.pushDownTerms(
+        DSL.ref("intA", INTEGER), List.of(ExprValueUtils.integerValue(1))));
+
+    assertEquals(
+        new SearchSourceBuilder()
+            .from(DEFAULT_OFFSET)
+            .size(DEFAULT_LIMIT)
+            .timeout(DEFAULT_QUERY_TIMEOUT)
+            .query(QueryBuilders.termsQuery("intA", List.of(1)))
+            .sort(DOC_FIELD_NAME, ASC),
+        requestBuilder.getSourceBuilder());
+  }
+
+  @Test
+  void testPushDownTermsOfTextAndTimestamp() {
+    ReferenceExpression text = DSL.ref("name", OpenSearchTextType.of(Map.of("keyword",
+        OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword))));
+    assertTrue(requestBuilder.pushDownTerms(
+        text, List.of(ExprValueUtils.stringValue("John"))));
+    assertTrue(requestBuilder.pushDownTerms(DSL.ref("time", TIMESTAMP),
+        List.of(new ExprTimestampValue("2023-01-01 00:00:00"))));
+
+    assertEquals(
+        QueryBuilders.boolQuery()
+            .filter(QueryBuilders.termsQuery("name.keyword", List.of("John")))
+            .filter(QueryBuilders.termsQuery("time", List.of(1672531200000L))),
+        requestBuilder.getSourceBuilder().query());
+  }
+
+  @Test
+  void testPushDownTermsOfKeywordWithoutIgnoreAbove() {
+    when(exprValueFactory.getFieldType("city"))
+        .thenReturn(Optional.of(OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword)));
+    assertTrue(requestBuilder.pushDownTerms(
+        DSL.ref("city", STRING), List.of(ExprValueUtils.stringValue("Seattle"))));
+    assertEquals(
+        QueryBuilders.termsQuery("city", List.of("Seattle")),
+        requestBuilder.getSourceBuilder().query());
+  }
+
+  @Test
+  void testNotPushDownTermsOfTextWithoutKeyword() {
+    List<ExprValue> values = List.of(ExprValueUtils.stringValue("John"));
+    assertFalse(requestBuilder.pushDownTerms(DSL.ref("name", OpenSearchTextType.of(Map.of("raw",
+        OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword)))), values));
+    assertFalse(requestBuilder.pushDownTerms(DSL.ref("name", OpenSearchTextType.of(Map.of(
+        "keyword", OpenSearchDataType.of(OpenSearchDataType.MappingType.Text)))), values));
+    assertNull(requestBuilder.getSourceBuilder().query());
+  }
+
+  @Test
+  void testNotPushDownTermsOfKeywordWithIgnoreAbove() {
+    OpenSearchDataType keyword = OpenSearchDataType.of(
+        OpenSearchDataType.MappingType.Keyword, Map.of(), Map.of(), 256);
+    List<ExprValue> values = List.of(ExprValueUtils.stringValue("John"));
+    assertFalse(requestBuilder.pushDownTerms(
+        DSL.ref("name", OpenSearchTextType.of(Map.of("keyword", keyword))), values));
+
+    when(exprValueFactory.getFieldType("city")).thenReturn(Optional.of(keyword));
+    assertFalse(requestBuilder.pushDownTerms(DSL.ref("city", STRING), values));
+    assertNull(requestBuilder.getSourceBuilder().query());
+  }
+
+  @Test
+  void testNotPushDownTermsAfterLimitOrAggregation() {
+    List<ExprValue> values = List.of(ExprValueUtils.integerValue(1));
+    requestBuilder.pushDownLimit(10, 0);
+    assertFalse(requestBuilder.pushDownTerms(DSL.ref("intA", INTEGER), values));
+
+    requestBuilder = new OpenSearchRequestBuilder(
+        "test", MAX_RESULT_WINDOW, settings, exprValueFactory);
+    requestBuilder.getSourceBuilder().aggregation(AggregationBuilders.max("max").field("intA"));
+    assertFalse(requestBuilder.pushDownTerms(DSL.ref("intA", INTEGER), values));
+    assertNull(requestBuilder.getSourceBuilder().query());
+  }
+
+  @Test
+  void testNotPushDownTermsOfObjectOrArray() {
+    List<ExprValue> values = List.of(ExprValueUtils.integerValue(1));
+    assertFalse(requestBuilder.pushDownTerms(DSL.ref("obj", STRUCT), values));
+    assertFalse(requestBuilder.pushDownTerms(DSL.ref("arr", ARRAY), values));
+    assertNull(requestBuilder.getSourceBuilder().query());
+  }
+
   @Test
   void testPushDownNested() {
     List<Map<String, ReferenceExpression>> args = List.of(
@@ -36,6 +36,7 @@ import org.opensearch.search.aggregations.bucket.terms.ParsedStringTerms;
 import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.ExtendedStatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
 import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.ParsedAvg;
@@ -43,6 +44,7 @@ import org.opensearch.search.aggregations.metrics.ParsedExtendedStats;
 import org.opensearch.search.aggregations.metrics.ParsedMax;
 import org.opensearch.search.aggregations.metrics.ParsedMin;
 import org.opensearch.search.aggregations.metrics.ParsedSum;
+import org.opensearch.search.aggregations.metrics.ParsedTDigestPercentiles;
 import org.opensearch.search.aggregations.metrics.ParsedTopHits;
 import org.opensearch.search.aggregations.metrics.ParsedValueCount;
 import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
@@ -77,6 +79,8 @@ public class AggregationResponseUtils {
               (p, c) -> ParsedFilter.fromXContent(p, (String) c))
           .put(TopHitsAggregationBuilder.NAME,
               (p, c) -> ParsedTopHits.fromXContent(p, (String) c))
+          .put(InternalTDigestPercentiles.NAME,
+              (p, c) -> ParsedTDigestPercentiles.fromXContent(p, (String) c))
           .build()
           .entrySet()
           .stream()
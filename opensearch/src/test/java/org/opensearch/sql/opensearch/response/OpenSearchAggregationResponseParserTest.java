@@ -27,6 +27,7 @@ import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.SinglePercentileParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.response.agg.StatsParser;
 import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
@@ -274,6 +275,31 @@ class OpenSearchAggregationResponseParserTest {
         contains(entry("esField", 93.71390409320287, "maxField", 360D)));
   }
 
+  @Test
+  void percentiles_aggregation_should_pass() {
+    String response = "{\n"
+        + "  \"composite#composite_buckets\": {\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"type\": \"a\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 2,\n"
+        + "        \"tdigest_percentiles#p95\": {\n"
+        + "          \"values\": {\n"
+        + "            \"95.0\": 120.5\n"
+        + "          }\n"
+        + "        }\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new CompositeAggregationParser(new SinglePercentileParser("p95", 95.0));
+    assertThat(parse(parser, response),
+        contains(entry("type", "a", "p95", 120.5)));
+  }
+
   @Test
   void top_hits_aggregation_should_pass() {
     String response = "{\n"
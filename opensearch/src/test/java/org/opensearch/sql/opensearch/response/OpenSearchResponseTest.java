@@ -9,16 +9,19 @@ package org.opensearch.sql.opensearch.response;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.Test;
@@ -124,6 +127,44 @@ class OpenSearchResponseTest {
     }
   }
 
+  @Test
+  void iterator_json_source() {
+    BytesArray source = new BytesArray(" {\"id1\": 1}");
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1},
+                new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    when(searchHit1.getSourceRef()).thenReturn(source);
+    when(factory.construct(source, Set.of("id1", "obj"))).thenReturn(exprTupleValue1);
+
+    for (ExprValue hit : new OpenSearchResponse(
+        searchResponse, factory, List.of("id1", "obj.field", "_id"))) {
+      assertSame(exprTupleValue1, hit);
+    }
+  }
+
+  @Test
+  void iterator_non_json_source() {
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1, searchHit2},
+                new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray(new byte[] {(byte) 0xbf}));
+    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\": 1}");
+    when(searchHit2.getSourceRef()).thenReturn(new BytesArray(" "));
+    when(searchHit2.getSourceAsString()).thenReturn("{\"id2\": 2}");
+    when(factory.construct("{\"id1\": 1}")).thenReturn(exprTupleValue1);
+    when(factory.construct("{\"id2\": 2}")).thenReturn(exprTupleValue2);
+
+    assertEquals(
+        Arrays.asList(exprTupleValue1, exprTupleValue2),
+        ImmutableList.copyOf(new OpenSearchResponse(searchResponse, factory, includes)));
+  }
+
   @Test
   void iterator_metafields() {
 
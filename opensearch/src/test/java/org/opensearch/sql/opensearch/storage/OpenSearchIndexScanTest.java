@@ -8,18 +8,27 @@ package org.opensearch.sql.opensearch.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,18 +41,25 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.exception.SemanticCheckException;
+import org.opensearch.sql.executor.CancellationToken;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchPitRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.split.OpenSearchSlice;
+import org.opensearch.sql.storage.split.Split;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchIndexScanTest {
@@ -61,6 +77,9 @@ class OpenSearchIndexScanTest {
   @BeforeEach
   void setup() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
   }
 
   @Test
@@ -84,6 +103,7 @@ class OpenSearchIndexScanTest {
     try (OpenSearchIndexScan indexScan =
              new OpenSearchIndexScan(client, settings, "employees", 10, exprValueFactory)) {
       indexScan.open();
+      assertEquals(1L, indexScan.getSearchCount());
 
       assertTrue(indexScan.hasNext());
       assertEquals(employee(1, "John", "IT"), indexScan.next());
@@ -175,6 +195,414 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void queryAllResultsInBatch() {
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT"), employee(4, "Bob", "HR")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertEquals(
+          List.of(employee(1, "John", "IT"), employee(2, "Smith", "HR"),
+              employee(3, "Allen", "IT")),
+          indexScan.nextBatch(3).toList());
+      assertEquals(List.of(employee(4, "Bob", "HR")), indexScan.nextBatch(3).toList());
+      assertTrue(indexScan.nextBatch(3).isEmpty());
+    }
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void querySomeResultsInBatch() {
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT"), employee(4, "Bob", "HR")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.getRequestBuilder().pushDownLimit(3, 0);
+      indexScan.open();
+
+      assertEquals(
+          List.of(employee(1, "John", "IT"), employee(2, "Smith", "HR"),
+              employee(3, "Allen", "IT")),
+          indexScan.nextBatch(10).toList());
+      assertTrue(indexScan.nextBatch(10).isEmpty());
+    }
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void prefetchNextBatchInBackground() {
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+    runAsyncImmediately();
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+      verify(client, times(2)).search(any());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(3, "Allen", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(3)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void closeAfterPrefetchCompleted() {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(false);
+    when(response.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    when(client.search(any()))
+        .thenReturn(response)
+        .thenReturn(mock(OpenSearchResponse.class));
+    runAsyncImmediately();
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+    }
+    verify(client, times(2)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void skipPrefetchNotStartedOnClose() {
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+    }
+    verify(client).runAsync(any());
+    verify(client, times(1)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void prefetchFailure() {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(false);
+    when(response.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    when(client.search(any()))
+        .thenReturn(response)
+        .thenThrow(new IllegalStateException("search failed"));
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 1, exprValueFactory)) {
+      indexScan.open();
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      IllegalStateException e = assertThrows(IllegalStateException.class, indexScan::hasNext);
+      assertEquals("search failed", e.getMessage());
+    }
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void noPrefetchForAggregationResponse() {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(false);
+    when(response.isAggregationResponse()).thenReturn(true);
+    when(response.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    when(client.search(any())).thenReturn(response);
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 10, exprValueFactory)) {
+      indexScan.open();
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+    }
+    verify(client, never()).runAsync(any());
+  }
+
+  @Test
+  void fetchAggregationPagesWhenConsumed() {
+    OpenSearchResponse page1 = mock(OpenSearchResponse.class);
+    when(page1.isEmpty()).thenReturn(false);
+    when(page1.isAggregationResponse()).thenReturn(true);
+    when(page1.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    OpenSearchResponse page2 = mock(OpenSearchResponse.class);
+    when(page2.isEmpty()).thenReturn(false);
+    when(page2.isAggregationResponse()).thenReturn(true);
+    when(page2.iterator()).thenReturn(List.of(employee(2, "Smith", "HR")).iterator());
+    OpenSearchResponse emptyPage = mock(OpenSearchResponse.class);
+    when(emptyPage.isEmpty()).thenReturn(true);
+    when(client.search(any())).thenReturn(page1, page2, emptyPage);
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 10, exprValueFactory)) {
+      indexScan.open();
+      verify(client, times(1)).search(any());
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(3)).search(any());
+    verify(client, never()).runAsync(any());
+  }
+
+  @Test
+  void interruptedWhileWaitingForPrefetch() throws InterruptedException {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(false);
+    when(response.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    CountDownLatch searching = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    OpenSearchResponse emptyResponse = mock(OpenSearchResponse.class);
+    when(client.search(any()))
+        .thenReturn(response)
+        .thenAnswer(invocation -> {
+          searching.countDown();
+          release.await();
+          return emptyResponse;
+        });
+    List<Thread> workers = new ArrayList<>();
+    doAnswer(invocation -> {
+      Thread worker = new Thread(invocation.<Runnable>getArgument(0));
+      workers.add(worker);
+      worker.start();
+      return null;
+    }).when(client).runAsync(any());
+
+    OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(client, settings, "employees", 1, exprValueFactory);
+    indexScan.open();
+    searching.await();
+    assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+    Thread.currentThread().interrupt();
+    IllegalStateException e = assertThrows(IllegalStateException.class, indexScan::hasNext);
+    assertEquals("Interrupted while waiting for next batch of scan", e.getMessage());
+    assertTrue(Thread.interrupted());
+
+    // Stop waiting for the search in progress on close if interrupted again
+    Thread.currentThread().interrupt();
+    indexScan.close();
+    assertTrue(Thread.interrupted());
+
+    release.countDown();
+    workers.get(0).join();
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void stopWaitingForSearchInFlightOnceCancelled() throws InterruptedException {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(false);
+    when(response.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    CountDownLatch searching = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(client.search(any()))
+        .thenReturn(response)
+        .thenAnswer(invocation -> {
+          searching.countDown();
+          release.await();
+          return mock(OpenSearchResponse.class);
+        });
+    List<Thread> workers = new ArrayList<>();
+    doAnswer(invocation -> {
+      Thread worker = new Thread(invocation.<Runnable>getArgument(0));
+      workers.add(worker);
+      worker.start();
+      return null;
+    }).when(client).runAsync(any());
+
+    CancellationToken token = new CancellationToken();
+    OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(client, settings, "employees", 1, exprValueFactory);
+    indexScan.setCancellationToken(token);
+    indexScan.open();
+    searching.await();
+    assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+    // Close waits for the search in flight until the query is cancelled by another thread
+    Thread canceller = new Thread(() -> token.cancel("Query cancelled"));
+    canceller.start();
+    indexScan.close();
+    canceller.join();
+    assertTrue(workers.get(0).isAlive());
+    verify(client).cleanup(any());
+
+    release.countDown();
+    workers.get(0).join();
+  }
+
+  @Test
+  void queryAllResultsWithSlices() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(2);
+    when(client.getIndexNumberOfShards("employees")).thenReturn(Map.of("employees", 5));
+    mockSliceResponse(Map.of(
+        0, List.of(
+            new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+            new ExprValue[]{employee(3, "Allen", "IT")}),
+        1, List.<ExprValue[]>of(
+            new ExprValue[]{employee(4, "Bob", "HR")})));
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(4, "Bob", "HR"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(3, "Allen", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(5)).runAsync(any());
+    verify(client, times(5)).search(any());
+    verify(client, times(2)).cleanup(any());
+  }
+
+  @Test
+  void slicesShareOnePointInTime() {
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(true);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(2);
+    when(client.getIndexNumberOfShards("employees")).thenReturn(Map.of("employees", 5));
+    when(client.createPit(any())).thenReturn("pit123");
+    mockSliceResponse(Map.of(
+        0, List.<ExprValue[]>of(new ExprValue[]{employee(1, "John", "IT")}),
+        1, List.<ExprValue[]>of(new ExprValue[]{employee(2, "Smith", "HR")})));
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client).createPit(any());
+    verify(client, times(4)).search(argThat(request ->
+        "pit123".equals(((OpenSearchPitRequest) request).getPitId())));
+    verify(client, times(2)).cleanup(any());
+    verify(client).deletePit("pit123");
+  }
+
+  @Test
+  void slicesCappedByNumberOfShards() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(4);
+    when(client.getIndexNumberOfShards("employees")).thenReturn(Map.of("employees", 1));
+    mockResponse();
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client).search(argThat(request -> request.getSourceBuilder().slice() == null));
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void noSlicesIfSortPushedDown() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(2);
+    mockResponse();
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.getRequestBuilder().pushDownSort(List.of(SortBuilders.fieldSort("name")));
+      indexScan.open();
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, never()).getIndexNumberOfShards(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void scanSliceAssignedBySplit() {
+    mockResponse();
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.add(mock(Split.class));
+      indexScan.add(new OpenSearchSlice(1, 3));
+      indexScan.open();
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client).search(argThat(
+        request -> new SliceBuilder(1, 3).equals(request.getSourceBuilder().slice())));
+    verify(client, never()).getIndexNumberOfShards(any());
+  }
+
+  @Test
+  void queryAllResultsWithPointInTime() {
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(true);
+    when(client.createPit(any())).thenReturn("pit123");
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(3, "Allen", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(3)).search(argThat(request ->
+        request instanceof OpenSearchPitRequest
+            && "pit123".equals(((OpenSearchPitRequest) request).getPitId())));
+    verify(client).createPit(any());
+    verify(client).cleanup(any());
+    verify(client).deletePit("pit123");
+  }
+
+  @Test
+  void noPointInTimeIfNotPaginated() {
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(true);
+    mockResponse();
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 500, exprValueFactory)) {
+      indexScan.open();
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, never()).createPit(any());
+    verify(client, never()).deletePit(any());
+  }
+
+  @Test
+  void closeWithoutOpen() {
+    new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory).close();
+    verify(client, never()).cleanup(any());
+  }
+
   @Test
   void pushDownFilters() {
     assertThat()
@@ -193,6 +621,16 @@ class OpenSearchIndexScanTest {
                 .filter(QueryBuilders.rangeQuery("balance").gte(10000)));
   }
 
+  @Test
+  void pushDownTermsFilter() {
+    OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(client, settings, "employees", 10, exprValueFactory);
+    assertTrue(indexScan.pushDownTermsFilter(
+        DSL.ref("name", STRING), Set.of(ExprValueUtils.stringValue("John"))));
+    assertEquals(QueryBuilders.termsQuery("name", List.of("John")),
+        indexScan.getRequestBuilder().getSourceBuilder().query());
+  }
+
   @Test
   void pushDownHighlight() {
     Map<String, Literal> args = new HashMap<>();
@@ -290,6 +728,13 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  private void runAsyncImmediately() {
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(client).runAsync(any());
+  }
+
   private void mockResponse(ExprValue[]... searchHitBatches) {
     when(client.search(any()))
         .thenAnswer(
@@ -314,6 +759,26 @@ class OpenSearchIndexScanTest {
             });
   }
 
+  private void mockSliceResponse(Map<Integer, List<ExprValue[]>> searchHitBatchesBySlice) {
+    Map<Integer, Integer> batchNums = new HashMap<>();
+    when(client.search(any()))
+        .thenAnswer(invocation -> {
+          OpenSearchRequest request = invocation.getArgument(0);
+          int sliceId = request.getSourceBuilder().slice().getId();
+          List<ExprValue[]> searchHitBatches = searchHitBatchesBySlice.get(sliceId);
+          int batchNum = batchNums.merge(sliceId, 1, Integer::sum) - 1;
+          OpenSearchResponse response = mock(OpenSearchResponse.class);
+          if (batchNum < searchHitBatches.size()) {
+            when(response.isEmpty()).thenReturn(false);
+            when(response.iterator())
+                .thenReturn(Arrays.asList(searchHitBatches.get(batchNum)).iterator());
+          } else {
+            when(response.isEmpty()).thenReturn(true);
+          }
+          return response;
+        });
+  }
+
   protected ExprValue employee(int docId, String name, String department) {
     SearchHit hit = new SearchHit(docId);
     hit.sourceRef(
@@ -201,6 +201,9 @@ class OpenSearchIndexTest {
   @Test
   void implementRelationOperatorOnly() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
 
     LogicalPlan plan = index.createScanBuilder();
@@ -213,6 +216,9 @@ class OpenSearchIndexTest {
   @Test
   void implementRelationOperatorWithOptimization() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
 
     LogicalPlan plan = index.createScanBuilder();
@@ -225,6 +231,9 @@ class OpenSearchIndexTest {
   @Test
   void implementOtherLogicalOperators() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_PAGE_SIZE)).thenReturn(1000);
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
 
     NamedExpression include = named("age", ref("age", INTEGER));
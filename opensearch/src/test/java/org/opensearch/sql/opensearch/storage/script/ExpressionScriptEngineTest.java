@@ -10,8 +10,11 @@ import static java.util.Collections.emptyMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +30,7 @@ import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
@@ -63,6 +67,19 @@ class ExpressionScriptEngineTest {
     assertEquals(new ExpressionFilterScriptFactory(expression), actualFactory);
   }
 
+  @Test
+  void can_reuse_script_factory_compiled_for_same_code() {
+    when(serializer.deserialize("test code")).thenReturn(expression);
+
+    Object filterFactory = scriptEngine.compile(
+        "test", "test code", FilterScript.CONTEXT, emptyMap());
+    assertSame(filterFactory,
+        scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap()));
+    assertEquals(new ExpressionAggregationScriptFactory(expression),
+        scriptEngine.compile("test", "test code", AggregationScript.CONTEXT, emptyMap()));
+    verify(serializer, times(2)).deserialize("test code");
+  }
+
   @Test
   void should_throw_exception_for_unsupported_script_context() {
     ScriptContext<?> unknownCtx = mock(ScriptContext.class);
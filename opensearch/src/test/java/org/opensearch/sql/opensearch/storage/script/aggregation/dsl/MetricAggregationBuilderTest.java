@@ -11,7 +11,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.common.utils.StringUtils.format;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.named;
@@ -37,9 +39,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.CountAggregator;
+import org.opensearch.sql.expression.aggregation.DistinctCountApproxAggregator;
 import org.opensearch.sql.expression.aggregation.MaxAggregator;
 import org.opensearch.sql.expression.aggregation.MinAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.aggregation.PercentileApproxAggregator;
 import org.opensearch.sql.expression.aggregation.SumAggregator;
 import org.opensearch.sql.expression.aggregation.TakeAggregator;
 import org.opensearch.sql.expression.function.FunctionName;
@@ -289,6 +293,77 @@ class MetricAggregationBuilderTest {
                 .distinct(true)))));
   }
 
+  @Test
+  void should_build_cardinality_aggregation_with_precision_threshold() {
+    assertEquals(format(
+        "{%n"
+            + "  \"distinct_count_approx(name)\" : {%n"
+            + "    \"cardinality\" : {%n"
+            + "      \"field\" : \"name\",%n"
+            + "      \"precision_threshold\" : 3000%n"
+            + "    }%n"
+            + "  }%n"
+            + "}"),
+        buildQuery(
+            Collections.singletonList(named("distinct_count_approx(name)",
+                new DistinctCountApproxAggregator(
+                    Collections.singletonList(ref("name", STRING)), LONG)))));
+
+    assertEquals(format(
+        "{%n"
+            + "  \"distinct_count_approx(name, 100)\" : {%n"
+            + "    \"cardinality\" : {%n"
+            + "      \"field\" : \"name\",%n"
+            + "      \"precision_threshold\" : 100%n"
+            + "    }%n"
+            + "  }%n"
+            + "}"),
+        buildQuery(
+            Collections.singletonList(named("distinct_count_approx(name, 100)",
+                new DistinctCountApproxAggregator(
+                    Arrays.asList(ref("name", STRING), literal(100)), LONG)))));
+  }
+
+  @Test
+  void should_build_percentiles_aggregation() {
+    assertEquals(format(
+        "{%n"
+            + "  \"percentile_approx(age, 95.0)\" : {%n"
+            + "    \"percentiles\" : {%n"
+            + "      \"field\" : \"age\",%n"
+            + "      \"percents\" : [ 95.0 ],%n"
+            + "      \"keyed\" : true,%n"
+            + "      \"tdigest\" : {%n"
+            + "        \"compression\" : 100.0%n"
+            + "      }%n"
+            + "    }%n"
+            + "  }%n"
+            + "}"),
+        buildQuery(
+            Collections.singletonList(named("percentile_approx(age, 95.0)",
+                new PercentileApproxAggregator(
+                    Arrays.asList(ref("age", INTEGER), literal(95.0)), DOUBLE)))));
+
+    assertEquals(format(
+        "{%n"
+            + "  \"percentile_approx(age, 99.9, 500.0)\" : {%n"
+            + "    \"percentiles\" : {%n"
+            + "      \"field\" : \"age\",%n"
+            + "      \"percents\" : [ 99.9 ],%n"
+            + "      \"keyed\" : true,%n"
+            + "      \"tdigest\" : {%n"
+            + "        \"compression\" : 500.0%n"
+            + "      }%n"
+            + "    }%n"
+            + "  }%n"
+            + "}"),
+        buildQuery(
+            Collections.singletonList(named("percentile_approx(age, 99.9, 500.0)",
+                new PercentileApproxAggregator(
+                    Arrays.asList(ref("age", INTEGER), literal(99.9), literal(500.0)),
+                    DOUBLE)))));
+  }
+
   @Test
   void should_build_top_hits_aggregation() {
     assertEquals(format(
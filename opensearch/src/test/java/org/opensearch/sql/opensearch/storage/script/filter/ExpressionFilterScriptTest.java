@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -40,9 +41,13 @@ import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 
@@ -75,6 +80,63 @@ class ExpressionFilterScriptTest {
         .shouldNotMatch();
   }
 
+  @Test
+  void can_reuse_script_across_documents() {
+    LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+    when(leafDocLookup.get("age"))
+        .thenReturn(new FakeScriptDocValues<>(30L))
+        .thenReturn(new FakeScriptDocValues<>(30L))
+        .thenReturn(new FakeScriptDocValues<>(10L));
+    when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+    when(leafLookup.doc()).thenReturn(leafDocLookup);
+
+    ExpressionFilterScript script = new ExpressionFilterScript(
+        DSL.greater(ref("age", INTEGER), literal(20)), lookup, context, emptyMap());
+    Assertions.assertTrue(script.execute());
+    Assertions.assertTrue(script.execute());
+    Assertions.assertFalse(script.execute());
+  }
+
+  @Test
+  void can_execute_expression_with_same_field_referenced_twice() {
+    assertThat()
+        .docValues("age", 30L)
+        .filterBy(
+            DSL.and(
+                DSL.greater(ref("age", INTEGER), literal(20)),
+                DSL.less(ref("age", INTEGER), literal(40))))
+        .shouldMatch();
+  }
+
+  @Test
+  void cannot_execute_expression_resolving_field_not_extracted() {
+    Expression expression = new Expression() {
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return valueEnv.resolve(ref("age", INTEGER));
+      }
+
+      @Override
+      public ExprType type() {
+        return BOOLEAN;
+      }
+
+      @Override
+      public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+        return visitor.visitNode(this, context);
+      }
+
+      @Override
+      public String toString() {
+        return "fake";
+      }
+    };
+    assertThrow(IllegalStateException.class,
+                "Field [age] is not resolved in expression script [fake]")
+        .docValues()
+        .filterBy(expression);
+  }
+
   @Test
   void can_execute_expression_with_integer_field() {
     assertThat()
@@ -8,10 +8,15 @@ package org.opensearch.sql.opensearch.storage.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.ref;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Base64;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -55,6 +60,23 @@ class DefaultExpressionSerializerTest {
     assertEquals(original, actual);
   }
 
+  @Test
+  public void can_serialize_to_versioned_code_smaller_than_plain_serialization() {
+    Expression expr = DSL.and(
+        DSL.equal(ref("name", STRING), literal("John")),
+        DSL.less(DSL.abs(literal(30.0)), literal(40.0)));
+    byte[] code = Base64.getDecoder().decode(serializer.serialize(expr));
+    assertEquals(DefaultExpressionSerializer.VERSION, code[0]);
+    assertTrue(code.length < plainSerialize(expr).length);
+  }
+
+  @Test
+  public void can_deserialize_code_without_version() {
+    Expression original = DSL.abs(literal(30.0));
+    String code = Base64.getEncoder().encodeToString(plainSerialize(original));
+    assertEquals(original, serializer.deserialize(code));
+  }
+
   @Test
   public void cannot_serialize_illegal_expression() {
     Expression illegalExpr = new Expression() {
@@ -82,4 +104,16 @@ class DefaultExpressionSerializerTest {
     assertThrows(IllegalStateException.class, () -> serializer.deserialize("hello world"));
   }
 
+  private byte[] plainSerialize(Expression expr) {
+    try {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+      objectOutput.writeObject(expr);
+      objectOutput.flush();
+      return output.toByteArray();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
 }
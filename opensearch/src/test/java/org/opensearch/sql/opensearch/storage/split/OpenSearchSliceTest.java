@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.split;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.search.slice.SliceBuilder;
+
+class OpenSearchSliceTest {
+
+  private final OpenSearchSlice slice = new OpenSearchSlice(1, 3);
+
+  @Test
+  void getSplitId() {
+    assertEquals("1/3", slice.getSplitId());
+  }
+
+  @Test
+  void toSliceBuilder() {
+    assertEquals(new SliceBuilder(1, 3), slice.toSliceBuilder());
+  }
+}
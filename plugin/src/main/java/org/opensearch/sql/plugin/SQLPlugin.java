@@ -26,6 +26,7 @@ import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Injector;
+import org.opensearch.common.inject.Module;
 import org.opensearch.common.inject.ModulesBuilder;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.settings.ClusterSettings;
@@ -34,6 +35,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
@@ -46,6 +48,7 @@ import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.script.ScriptService;
+import org.opensearch.sql.common.antlr.ParseTreeCache;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelper;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelperImpl;
@@ -65,9 +68,13 @@ import org.opensearch.sql.datasources.transport.TransportGetDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportUpdateDataSourceAction;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
+import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
+import org.opensearch.sql.monitor.QueryMetrics;
+import org.opensearch.sql.opensearch.client.IndexMetadataCache;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
@@ -79,9 +86,12 @@ import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
 import org.opensearch.sql.plugin.rest.RestPPLStatsAction;
 import org.opensearch.sql.plugin.rest.RestQuerySettingsAction;
 import org.opensearch.sql.plugin.transport.PPLQueryAction;
+import org.opensearch.sql.plugin.transport.TaskManagerHolder;
 import org.opensearch.sql.plugin.transport.TransportPPLQueryAction;
 import org.opensearch.sql.plugin.transport.TransportPPLQueryResponse;
+import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.prometheus.storage.PrometheusStorageFactory;
+import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.storage.DataSourceFactory;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
@@ -97,9 +107,17 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
    */
   private org.opensearch.sql.common.setting.Settings pluginSettings;
   private NodeClient client;
+  private IndexMetadataCache metadataCache;
   private DataSourceServiceImpl dataSourceService;
+  private PPLSyntaxParser pplSyntaxParser;
+  private SQLSyntaxParser sqlSyntaxParser;
   private Injector injector;
 
+  /**
+   * Task manager of the node injected by node injector, which SQL queries are registered to.
+   */
+  private final TaskManagerHolder taskManagerHolder = new TaskManagerHolder();
+
   public String name() {
     return "sql";
   }
@@ -122,16 +140,50 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
 
     LocalClusterState.state().setResolver(indexNameExpressionResolver);
     Metrics.getInstance().registerDefaultMetrics();
+    registerParseCacheMetrics();
+    registerQueryStageMetrics();
 
     return Arrays.asList(
         new RestPPLQueryAction(pluginSettings, settings),
-        new RestSqlAction(settings, injector),
+        new RestSqlAction(settings, injector, taskManagerHolder),
         new RestSqlStatsAction(settings, restController),
         new RestPPLStatsAction(settings, restController),
         new RestQuerySettingsAction(settings, restController),
         new RestDataSourceQueryAction());
   }
 
+  /**
+   * Warm up the syntax parsers in background so that first queries after node start are not
+   * slowed down by ANTLR building its DFA cache.
+   */
+  private void warmUpSyntaxParsers() {
+    try {
+      sqlSyntaxParser.warmUp();
+      pplSyntaxParser.warmUp();
+    } catch (Exception e) {
+      LOG.warn("Failed to warm up syntax parsers", e);
+    }
+  }
+
+  private void registerParseCacheMetrics() {
+    Metrics metrics = Metrics.getInstance();
+    ParseTreeCache sqlCache = sqlSyntaxParser.getCache();
+    metrics.registerMetric(
+        new GaugeMetric<>(MetricName.SQL_PARSE_CACHE_HIT.getName(), sqlCache::getHitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(MetricName.SQL_PARSE_CACHE_MISS.getName(), sqlCache::getMissCount));
+    ParseTreeCache pplCache = pplSyntaxParser.getCache();
+    metrics.registerMetric(
+        new GaugeMetric<>(MetricName.PPL_PARSE_CACHE_HIT.getName(), pplCache::getHitCount));
+    metrics.registerMetric(
+        new GaugeMetric<>(MetricName.PPL_PARSE_CACHE_MISS.getName(), pplCache::getMissCount));
+  }
+
+  private void registerQueryStageMetrics() {
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.QUERY_STAGE_LATENCY.getName(), QueryMetrics.getInstance()::snapshot));
+  }
+
   /**
    * Register action and handler so that transportClient can find proxy for action.
    */
@@ -151,6 +203,11 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
             DeleteDataSourceActionResponse::new), TransportDeleteDataSourceAction.class));
   }
 
+  @Override
+  public Collection<Module> createGuiceModules() {
+    return Collections.singletonList(b -> b.requestInjection(taskManagerHolder));
+  }
+
   @Override
   public Collection<Object> createComponents(
       Client client,
@@ -167,7 +224,14 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     this.clusterService = clusterService;
     this.pluginSettings = new OpenSearchSettings(clusterService.getClusterSettings());
     this.client = (NodeClient) client;
+    this.metadataCache = new IndexMetadataCache(
+        () -> clusterService.state().metadata().version(),
+        () -> threadPool.getThreadContext().getTransient(
+            ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT));
     this.dataSourceService = createDataSourceService();
+    this.pplSyntaxParser = new PPLSyntaxParser();
+    this.sqlSyntaxParser = new SQLSyntaxParser();
+    threadPool.generic().execute(this::warmUpSyntaxParsers);
     dataSourceService.createDataSource(defaultOpenSearchDataSourceMetadata());
     LocalClusterState.state().setClusterService(clusterService);
     LocalClusterState.state().setPluginSettings((OpenSearchSettings) pluginSettings);
@@ -176,12 +240,15 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     modules.add(new OpenSearchPluginModule());
     modules.add(b -> {
       b.bind(NodeClient.class).toInstance((NodeClient) client);
+      b.bind(IndexMetadataCache.class).toInstance(metadataCache);
       b.bind(org.opensearch.sql.common.setting.Settings.class).toInstance(pluginSettings);
       b.bind(DataSourceService.class).toInstance(dataSourceService);
+      b.bind(PPLSyntaxParser.class).toInstance(pplSyntaxParser);
+      b.bind(SQLSyntaxParser.class).toInstance(sqlSyntaxParser);
     });
 
     injector = modules.createInjector();
-    return ImmutableList.of(dataSourceService);
+    return ImmutableList.of(dataSourceService, pplSyntaxParser);
   }
 
   @Override
@@ -221,7 +288,7 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     return new DataSourceServiceImpl(
         new ImmutableSet.Builder<DataSourceFactory>()
             .add(new OpenSearchDataSourceFactory(
-                new OpenSearchNodeClient(this.client), pluginSettings))
+                new OpenSearchNodeClient(this.client, metadataCache), pluginSettings))
             .add(new PrometheusStorageFactory())
             .build(),
         dataSourceMetadataStorage,
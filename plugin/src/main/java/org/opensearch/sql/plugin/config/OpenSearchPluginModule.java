@@ -20,6 +20,7 @@ import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.opensearch.client.IndexMetadataCache;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
@@ -48,8 +49,9 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public OpenSearchClient openSearchClient(NodeClient nodeClient) {
-    return new OpenSearchNodeClient(nodeClient);
+  public OpenSearchClient openSearchClient(NodeClient nodeClient,
+                                           IndexMetadataCache metadataCache) {
+    return new OpenSearchNodeClient(nodeClient, metadataCache);
   }
 
   @Provides
@@ -74,18 +76,20 @@ public class OpenSearchPluginModule extends AbstractModule {
 
   @Provides
   @Singleton
-  public QueryManager queryManager(NodeClient nodeClient) {
-    return new OpenSearchQueryManager(nodeClient);
+  public QueryManager queryManager(NodeClient nodeClient, Settings settings) {
+    return new OpenSearchQueryManager(nodeClient, settings);
   }
 
   @Provides
-  public PPLService pplService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory);
+  public PPLService pplService(PPLSyntaxParser parser, QueryManager queryManager,
+                               QueryPlanFactory queryPlanFactory) {
+    return new PPLService(parser, queryManager, queryPlanFactory);
   }
 
   @Provides
-  public SQLService sqlService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new SQLService(new SQLSyntaxParser(), queryManager, queryPlanFactory);
+  public SQLService sqlService(SQLSyntaxParser parser, QueryManager queryManager,
+                               QueryPlanFactory queryPlanFactory) {
+    return new SQLService(parser, queryManager, queryPlanFactory);
   }
 
   /**
@@ -25,6 +25,7 @@ public class PPLQueryRequestFactory {
   private static final String QUERY_PARAMS_SANITIZE = "sanitize";
   private static final String DEFAULT_RESPONSE_FORMAT = "jdbc";
   private static final String QUERY_PARAMS_PRETTY = "pretty";
+  private static final String QUERY_PARAMS_PROFILE = "profile";
 
   /**
    * Build {@link PPLQueryRequest} from {@link RestRequest}.
@@ -73,6 +74,7 @@ public class PPLQueryRequestFactory {
     if (pretty) {
       pplRequest.style(JsonResponseFormatter.Style.PRETTY);
     }
+    pplRequest.profile(getProfileOption(restRequest.params()));
     return pplRequest;
   }
 
@@ -97,6 +99,10 @@ public class PPLQueryRequestFactory {
     return true;
   }
 
+  private static boolean getProfileOption(Map<String, String> requestParams) {
+    return Boolean.parseBoolean(requestParams.get(QUERY_PARAMS_PROFILE));
+  }
+
   private static boolean getPrettyOption(Map<String, String> requestParams) {
     if (requestParams.containsKey(QUERY_PARAMS_PRETTY)) {
       String prettyValue = requestParams.get(QUERY_PARAMS_PRETTY);
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.plugin.transport;
+
+import java.util.function.Supplier;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Holder of the task manager of the node, which is injected by node injector once it is created.
+ * SQL queries handled by REST action directly are registered as tasks by the task manager, the
+ * same as PPL queries by transport action.
+ */
+public class TaskManagerHolder implements Supplier<TaskManager> {
+
+  private volatile TaskManager taskManager;
+
+  @Inject
+  public void setTransportService(TransportService transportService) {
+    this.taskManager = transportService.getTaskManager();
+  }
+
+  /**
+   * Get task manager of the node.
+   *
+   * @return task manager or null if not injected yet
+   */
+  @Override
+  public TaskManager get() {
+    return taskManager;
+  }
+}
@@ -15,6 +15,7 @@ import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.inject.Injector;
 import org.opensearch.common.inject.ModulesBuilder;
@@ -23,20 +24,26 @@ import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.opensearch.executor.CancellableQueryTask;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.ppl.PPLService;
+import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.QueryResultSink;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 import org.opensearch.sql.protocol.response.format.RawResponseFormatter;
 import org.opensearch.sql.protocol.response.format.ResponseFormatter;
 import org.opensearch.sql.protocol.response.format.SimpleJsonResponseFormatter;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter;
 import org.opensearch.sql.protocol.response.format.VisualizationResponseFormatter;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -47,6 +54,8 @@ public class TransportPPLQueryAction
 
   private final Injector injector;
 
+  private final NodeClient client;
+
   /** Constructor of TransportPPLQueryAction. */
   @Inject
   public TransportPPLQueryAction(
@@ -54,7 +63,8 @@ public class TransportPPLQueryAction
       ActionFilters actionFilters,
       NodeClient client,
       ClusterService clusterService,
-      DataSourceServiceImpl dataSourceService) {
+      DataSourceServiceImpl dataSourceService,
+      PPLSyntaxParser pplSyntaxParser) {
     super(PPLQueryAction.NAME, transportService, actionFilters, TransportPPLQueryRequest::new);
 
     ModulesBuilder modules = new ModulesBuilder();
@@ -65,8 +75,10 @@ public class TransportPPLQueryAction
           b.bind(org.opensearch.sql.common.setting.Settings.class)
               .toInstance(new OpenSearchSettings(clusterService.getClusterSettings()));
           b.bind(DataSourceService.class).toInstance(dataSourceService);
+          b.bind(PPLSyntaxParser.class).toInstance(pplSyntaxParser);
         });
     this.injector = modules.createInjector();
+    this.client = client;
   }
 
   /**
@@ -90,7 +102,19 @@ public class TransportPPLQueryAction
     if (transformedRequest.isExplainRequest()) {
       pplService.explain(transformedRequest, createExplainResponseListener(listener));
     } else {
-      pplService.execute(transformedRequest, createListener(transformedRequest, listener));
+      ResponseListener<ExecutionEngine.QueryResponse> queryListener =
+          createListener(transformedRequest, listener);
+      if (task instanceof CancellableQueryTask) {
+        CancellableQueryTask queryTask = (CancellableQueryTask) task;
+        Optional<QueryId> queryId = queryTask.submitAsParent(
+            client.threadPool().getThreadContext(),
+            () -> pplService.execute(transformedRequest, queryListener));
+        QueryManager queryManager =
+            SecurityAccess.doPrivileged(() -> injector.getInstance(QueryManager.class));
+        queryId.ifPresent(id -> queryTask.setCancelAction(() -> queryManager.cancel(id)));
+      } else {
+        pplService.execute(transformedRequest, queryListener);
+      }
     }
   }
 
@@ -124,30 +148,44 @@ public class TransportPPLQueryAction
   private ResponseListener<ExecutionEngine.QueryResponse> createListener(
       PPLQueryRequest pplRequest, ActionListener<TransportPPLQueryResponse> listener) {
     Format format = format(pplRequest);
-    ResponseFormatter<QueryResult> formatter;
+    if (format.equals(Format.VIZ)) {
+      ResponseFormatter<QueryResult> formatter =
+          new VisualizationResponseFormatter(pplRequest.style());
+      return new ResponseListener<ExecutionEngine.QueryResponse>() {
+        @Override
+        public void onResponse(ExecutionEngine.QueryResponse response) {
+          String responseContent =
+              formatter.format(new QueryResult(
+                  response.getSchema(), response.getResults(), response.getProfile()));
+          listener.onResponse(new TransportPPLQueryResponse(responseContent));
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+          listener.onFailure(e);
+        }
+      };
+    }
+
+    StreamingResponseFormatter formatter;
     if (format.equals(Format.CSV)) {
       formatter = new CsvResponseFormatter(pplRequest.sanitize());
     } else if (format.equals(Format.RAW)) {
       formatter = new RawResponseFormatter();
-    } else if (format.equals(Format.VIZ)) {
-      formatter = new VisualizationResponseFormatter(pplRequest.style());
     } else {
       formatter = new SimpleJsonResponseFormatter(JsonResponseFormatter.Style.PRETTY);
     }
-
-    return new ResponseListener<ExecutionEngine.QueryResponse>() {
+    return new QueryResultSink(formatter, new ResponseListener<BytesReference>() {
       @Override
-      public void onResponse(ExecutionEngine.QueryResponse response) {
-        String responseContent =
-            formatter.format(new QueryResult(response.getSchema(), response.getResults()));
-        listener.onResponse(new TransportPPLQueryResponse(responseContent));
+      public void onResponse(BytesReference response) {
+        listener.onResponse(new TransportPPLQueryResponse(response));
       }
 
       @Override
       public void onFailure(Exception e) {
         listener.onFailure(e);
       }
-    };
+    });
   }
 
   private Format format(PPLQueryRequest pplRequest) {
@@ -9,6 +9,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -21,9 +22,12 @@ import org.opensearch.common.io.stream.InputStreamStreamInput;
 import org.opensearch.common.io.stream.OutputStreamStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.sql.opensearch.executor.CancellableQueryTask;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.protocol.response.format.Format;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
 
 @RequiredArgsConstructor
 public class TransportPPLQueryRequest extends ActionRequest {
@@ -45,6 +49,11 @@ public class TransportPPLQueryRequest extends ActionRequest {
   @Accessors(fluent = true)
   private JsonResponseFormatter.Style style = JsonResponseFormatter.Style.COMPACT;
 
+  @Setter
+  @Getter
+  @Accessors(fluent = true)
+  private boolean profile = false;
+
   /** Constructor of TransportPPLQueryRequest from PPLQueryRequest. */
   public TransportPPLQueryRequest(PPLQueryRequest pplQueryRequest) {
     pplQuery = pplQueryRequest.getRequest();
@@ -53,6 +62,7 @@ public class TransportPPLQueryRequest extends ActionRequest {
     format = pplQueryRequest.getFormat();
     sanitize = pplQueryRequest.sanitize();
     style = pplQueryRequest.style();
+    profile = pplQueryRequest.profile();
   }
 
   /** Constructor of TransportPPLQueryRequest from StreamInput. */
@@ -65,6 +75,7 @@ public class TransportPPLQueryRequest extends ActionRequest {
     path = in.readOptionalString();
     sanitize = in.readBoolean();
     style = in.readEnum(JsonResponseFormatter.Style.class);
+    profile = in.readBoolean();
   }
 
   /** Re-create the object from the actionRequest. */
@@ -95,6 +106,7 @@ public class TransportPPLQueryRequest extends ActionRequest {
     out.writeOptionalString(path);
     out.writeBoolean(sanitize);
     out.writeEnum(style);
+    out.writeBoolean(profile);
   }
 
   public String getRequest() {
@@ -121,6 +133,17 @@ public class TransportPPLQueryRequest extends ActionRequest {
     }
   }
 
+  @Override
+  public Task createTask(long id, String type, String action, TaskId parentTaskId,
+                         Map<String, String> headers) {
+    return new CancellableQueryTask(id, type, action, getDescription(), parentTaskId, headers);
+  }
+
+  @Override
+  public String getDescription() {
+    return "PPL query: " + pplQuery;
+  }
+
   @Override
   public ActionRequestValidationException validate() {
     return null;
@@ -131,6 +154,7 @@ public class TransportPPLQueryRequest extends ActionRequest {
     PPLQueryRequest pplQueryRequest = new PPLQueryRequest(pplQuery, jsonContent, path, format);
     pplQueryRequest.sanitize(sanitize);
     pplQueryRequest.style(style);
+    pplQueryRequest.profile(profile);
     return pplQueryRequest;
   }
 }
@@ -7,22 +7,38 @@ package org.opensearch.sql.plugin.transport;
 
 import java.io.IOException;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.action.ActionResponse;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 
-@RequiredArgsConstructor
 public class TransportPPLQueryResponse extends ActionResponse {
-  @Getter private final String result;
+  /**
+   * Formatted response content which is kept in bytes as written by formatter, so that it is not
+   * copied into a String when sent to REST channel on the same node.
+   */
+  @Getter private final BytesReference content;
+
+  public TransportPPLQueryResponse(String result) {
+    this(new BytesArray(result));
+  }
+
+  public TransportPPLQueryResponse(BytesReference content) {
+    this.content = content;
+  }
 
   public TransportPPLQueryResponse(StreamInput in) throws IOException {
     super(in);
-    result = in.readString();
+    content = new BytesArray(in.readString());
+  }
+
+  public String getResult() {
+    return content.utf8ToString();
   }
 
   @Override
   public void writeTo(StreamOutput out) throws IOException {
-    out.writeString(result);
+    out.writeString(getResult());
   }
 }
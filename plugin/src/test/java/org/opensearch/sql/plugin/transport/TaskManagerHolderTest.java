@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.plugin.transport;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.transport.TransportService;
+
+public class TaskManagerHolderTest {
+
+  @Test
+  public void testGetTaskManagerInjected() {
+    TaskManagerHolder holder = new TaskManagerHolder();
+    assertNull(holder.get());
+
+    TaskManager taskManager = mock(TaskManager.class);
+    TransportService transportService = mock(TransportService.class);
+    when(transportService.getTaskManager()).thenReturn(taskManager);
+    holder.setTransportService(transportService);
+    assertSame(taskManager, holder.get());
+  }
+}
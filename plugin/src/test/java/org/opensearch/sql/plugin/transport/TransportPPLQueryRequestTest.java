@@ -8,8 +8,10 @@ package org.opensearch.sql.plugin.transport;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.Map;
 import org.json.JSONObject;
 import org.junit.Rule;
 import org.junit.Test;
@@ -17,6 +19,10 @@ import org.junit.rules.ExpectedException;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.sql.opensearch.executor.CancellableQueryTask;
+import org.opensearch.sql.ppl.domain.PPLQueryRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
 
 public class TransportPPLQueryRequestTest {
 
@@ -28,6 +34,29 @@ public class TransportPPLQueryRequestTest {
     assertNull(request.validate());
   }
 
+  @Test
+  public void testProfileFromActionRequest() {
+    PPLQueryRequest pplRequest = new PPLQueryRequest("source=t a=1", null, null);
+    pplRequest.profile(true);
+    TransportPPLQueryRequest request = new TransportPPLQueryRequest(pplRequest);
+    ActionRequest actionRequest =
+        new ActionRequest() {
+          @Override
+          public ActionRequestValidationException validate() {
+            return null;
+          }
+
+          @Override
+          public void writeTo(StreamOutput out) throws IOException {
+            request.writeTo(out);
+          }
+        };
+    TransportPPLQueryRequest recreatedObject =
+        TransportPPLQueryRequest.fromActionRequest(actionRequest);
+    assertTrue(recreatedObject.profile());
+    assertTrue(recreatedObject.toPPLQueryRequest().profile());
+  }
+
   @Test
   public void testTransportPPLQueryRequestFromActionRequest() {
     TransportPPLQueryRequest request = new TransportPPLQueryRequest("source=t a=1", null, null);
@@ -98,4 +127,13 @@ public class TransportPPLQueryRequestTest {
     exceptionRule.expectMessage("failed to parse ActionRequest into TransportPPLQueryRequest");
     TransportPPLQueryRequest.fromActionRequest(actionRequest);
   }
+
+  @Test
+  public void testCreateCancellableTask() {
+    TransportPPLQueryRequest request = new TransportPPLQueryRequest("source=t a=1", null, null);
+    Task task = request.createTask(1L, "transport", PPLQueryAction.NAME, TaskId.EMPTY_TASK_ID,
+        Map.of());
+    assertTrue(task instanceof CancellableQueryTask);
+    assertEquals("PPL query: source=t a=1", task.getDescription());
+  }
 }
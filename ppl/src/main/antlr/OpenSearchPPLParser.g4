@@ -231,6 +231,8 @@ statsFunction
     | (DISTINCT_COUNT | DC) LT_PRTHS valueExpression RT_PRTHS       #distinctCountFunctionCall
     | percentileAggFunction                                         #percentileAggFunctionCall
     | takeAggFunction                                               #takeAggFunctionCall
+    | distinctCountApproxAggFunction                                #distinctCountApproxFunctionCall
+    | percentileApproxAggFunction                                   #percentileApproxFunctionCall
     ;
 
 statsFunctionName
@@ -249,10 +251,21 @@ takeAggFunction
     : TAKE LT_PRTHS fieldExpression (COMMA size=integerLiteral)? RT_PRTHS
     ;
 
+distinctCountApproxAggFunction
+    : (DISTINCT_COUNT_APPROX | ESTDC)
+        LT_PRTHS valueExpression (COMMA precisionThreshold=integerLiteral)? RT_PRTHS
+    ;
+
 percentileAggFunction
     : PERCENTILE LESS value=integerLiteral GREATER LT_PRTHS aggField=fieldExpression RT_PRTHS
     ;
 
+percentileApproxAggFunction
+    : (PERCENTILE | PERCENTILE_APPROX)
+        LT_PRTHS valueExpression COMMA percent=numericLiteral (COMMA compression=numericLiteral)?
+        RT_PRTHS
+    ;
+
 /** expressions */
 expression
     : logicalExpression
@@ -648,6 +661,11 @@ decimalLiteral
     : (PLUS | MINUS)? DECIMAL_LITERAL
     ;
 
+numericLiteral
+    : integerLiteral
+    | decimalLiteral
+    ;
+
 booleanLiteral
     : TRUE | FALSE
     ;
@@ -765,8 +783,8 @@ keywordsCanBeId
     | NUMBER_OF_TREES | SHINGLE_SIZE | SAMPLE_SIZE | OUTPUT_AFTER | TIME_DECAY | ANOMALY_RATE | CATEGORY_FIELD
     | TIME_FIELD | TIME_ZONE | TRAINING_DATA_SIZE | ANOMALY_SCORE_THRESHOLD
     // AGGREGATIONS
-    | AVG | COUNT | DISTINCT_COUNT | ESTDC | ESTDC_ERROR | MAX | MEAN | MEDIAN | MIN | MODE | RANGE | STDEV | STDEVP
-    | SUM | SUMSQ | VAR_SAMP | VAR_POP | STDDEV_SAMP | STDDEV_POP | PERCENTILE | TAKE | FIRST | LAST | LIST | VALUES
+    | AVG | COUNT | DISTINCT_COUNT | DISTINCT_COUNT_APPROX | ESTDC | ESTDC_ERROR | MAX | MEAN | MEDIAN | MIN | MODE | RANGE | STDEV | STDEVP
+    | SUM | SUMSQ | VAR_SAMP | VAR_POP | STDDEV_SAMP | STDDEV_POP | PERCENTILE | PERCENTILE_APPROX | TAKE | FIRST | LAST | LIST | VALUES
     | EARLIEST | EARLIEST_TIME | LATEST | LATEST_TIME | PER_DAY | PER_HOUR | PER_MINUTE | PER_SECOND | RATE | SPARKLINE
     | C | DC
     ;
@@ -17,9 +17,11 @@ import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.monitor.QueryStage;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.ppl.parser.AstBuilder;
@@ -47,12 +49,16 @@ public class PPLService {
    *
    * @param request  {@link PPLQueryRequest}
    * @param listener {@link ResponseListener}
+   * @return {@link QueryId} of the query submitted, or empty if failed to submit
    */
-  public void execute(PPLQueryRequest request, ResponseListener<QueryResponse> listener) {
+  public Optional<QueryId> execute(PPLQueryRequest request,
+                                   ResponseListener<QueryResponse> listener) {
     try {
-      queryManager.submit(plan(request, Optional.of(listener), Optional.empty()));
+      return Optional.of(
+          queryManager.submit(plan(request, Optional.of(listener), Optional.empty())));
     } catch (Exception e) {
       listener.onFailure(e);
+      return Optional.empty();
     }
   }
 
@@ -76,6 +82,7 @@ public class PPLService {
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
     // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
+    long start = System.nanoTime();
     ParseTree cst = parser.parse(request.getRequest());
     Statement statement =
         cst.accept(
@@ -85,11 +92,16 @@ public class PPLService {
                     .isExplain(request.isExplainRequest())
                     .build()));
 
+    long parseNanos = System.nanoTime() - start;
+
     LOG.info(
         "[{}] Incoming request {}",
         QueryContext.getRequestId(),
         anonymizer.anonymizeStatement(statement));
 
-    return queryExecutionFactory.create(statement, queryListener, explainListener);
+    AbstractPlan plan = queryExecutionFactory.create(statement, queryListener, explainListener);
+    plan.getProfile().setEnabled(request.profile());
+    plan.getProfile().record(QueryStage.PARSE, parseNanos);
+    return plan;
   }
 }
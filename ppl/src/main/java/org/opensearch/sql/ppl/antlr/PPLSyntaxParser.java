@@ -6,12 +6,15 @@
 
 package org.opensearch.sql.ppl.antlr;
 
+import java.util.List;
+import lombok.Getter;
 import org.antlr.v4.runtime.CommonTokenStream;
-import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
+import org.opensearch.sql.common.antlr.ParseTreeCache;
 import org.opensearch.sql.common.antlr.Parser;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.TwoStageParser;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLLexer;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
 
@@ -19,19 +22,55 @@ import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
  * PPL Syntax Parser.
  */
 public class PPLSyntaxParser implements Parser {
+
+  /**
+   * Representative queries parsed on warm up.
+   */
+  private static final List<String> WARM_UP_QUERIES = List.of(
+      "source=t a=1 b='x' | fields a, b",
+      "search source=t | where a > 1 and b = 'x' or not c < 2.5 | sort - a | head 10",
+      "source=t | eval d = abs(a) + b * 2, e = concat(c, 'x') | rename d as f",
+      "source=t | stats avg(a), count() as c by b, span(d, 1h) | where c > 10",
+      "source=t | dedup 2 a, b keepempty=true | top 5 a by b | rare c",
+      "source=t | where match(a, 'x') and like(b, 'y%') | parse c '(?<d>.*)'",
+      "describe t | fields TABLE_NAME, COLUMN_NAME",
+      "show datasources");
+
+  /**
+   * Cache of parse trees by query shape.
+   */
+  @Getter
+  private final ParseTreeCache cache;
+
+  public PPLSyntaxParser() {
+    this(new ParseTreeCache(ParseTreeCache.DEFAULT_MAX_SIZE));
+  }
+
+  public PPLSyntaxParser(ParseTreeCache cache) {
+    this.cache = cache;
+  }
+
   /**
    * Analyze the query syntax.
    */
   @Override
   public ParseTree parse(String query) {
-    OpenSearchPPLParser parser = createParser(createLexer(query));
-    parser.addErrorListener(new SyntaxAnalysisErrorListener());
-    return parser.root();
+    CommonTokenStream tokens = new CommonTokenStream(createLexer(query));
+    return cache.parse(tokens, () -> parse(tokens));
+  }
+
+  /**
+   * Parse representative queries to warm up the DFA cache shared by all parser instances,
+   * so that the queries after node start don't pay for building it. Parse tree cache is bypassed.
+   */
+  public void warmUp() {
+    WARM_UP_QUERIES.forEach(query -> parse(new CommonTokenStream(createLexer(query))));
   }
 
-  private OpenSearchPPLParser createParser(Lexer lexer) {
-    return new OpenSearchPPLParser(
-        new CommonTokenStream(lexer));
+  private ParseTree parse(CommonTokenStream tokens) {
+    OpenSearchPPLParser parser = new OpenSearchPPLParser(tokens);
+    parser.addErrorListener(new SyntaxAnalysisErrorListener());
+    return TwoStageParser.parse(parser, OpenSearchPPLParser::root);
   }
 
   private OpenSearchPPLLexer createLexer(String query) {
@@ -19,6 +19,7 @@ import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.ConvertedD
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.CountAllFunctionCallContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.DataTypeFunctionCallContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.DecimalLiteralContext;
+import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.DistinctCountApproxAggFunctionContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.DistinctCountFunctionCallContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.EvalClauseContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.EvalFunctionCallContext;
@@ -35,6 +36,7 @@ import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.LogicalXor
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.MultiFieldRelevanceFunctionContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.ParentheticValueExprContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.PercentileAggFunctionContext;
+import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.PercentileApproxAggFunctionContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.SingleFieldRelevanceFunctionContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.SortFieldContext;
 import static org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser.SpanClauseContext;
@@ -220,6 +222,32 @@ public class AstExpressionBuilder extends OpenSearchPPLParserBaseVisitor<Unresol
         builder.build());
   }
 
+  @Override
+  public UnresolvedExpression visitDistinctCountApproxFunctionCall(
+      OpenSearchPPLParser.DistinctCountApproxFunctionCallContext ctx) {
+    DistinctCountApproxAggFunctionContext function = ctx.distinctCountApproxAggFunction();
+    ImmutableList.Builder<UnresolvedExpression> builder = ImmutableList.builder();
+    if (function.precisionThreshold != null) {
+      builder.add(new UnresolvedArgument("precision_threshold",
+          visit(function.precisionThreshold)));
+    }
+    return new AggregateFunction("distinct_count_approx", visit(function.valueExpression()),
+        builder.build());
+  }
+
+  @Override
+  public UnresolvedExpression visitPercentileApproxFunctionCall(
+      OpenSearchPPLParser.PercentileApproxFunctionCallContext ctx) {
+    PercentileApproxAggFunctionContext function = ctx.percentileApproxAggFunction();
+    ImmutableList.Builder<UnresolvedExpression> builder = ImmutableList.builder();
+    builder.add(new UnresolvedArgument("percent", visit(function.percent)));
+    if (function.compression != null) {
+      builder.add(new UnresolvedArgument("compression", visit(function.compression)));
+    }
+    return new AggregateFunction("percentile_approx", visit(function.valueExpression()),
+        builder.build());
+  }
+
   /**
    * Eval function.
    */
@@ -64,32 +64,33 @@ public class PPLServiceTest {
   @Test
   public void testExecuteShouldPass() {
     doAnswer(invocation -> {
-      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      ResponseListener<QueryResponse> listener = invocation.getArgument(2);
       listener.onResponse(new QueryResponse(schema, Collections.emptyList()));
       return null;
-    }).when(queryService).execute(any(), any());
+    }).when(queryService).execute(any(), any(), any());
 
-    pplService.execute(new PPLQueryRequest("search source=t a=1", null, QUERY),
-        new ResponseListener<QueryResponse>() {
-          @Override
-          public void onResponse(QueryResponse pplQueryResponse) {
+    Assert.assertTrue(
+        pplService.execute(new PPLQueryRequest("search source=t a=1", null, QUERY),
+            new ResponseListener<QueryResponse>() {
+              @Override
+              public void onResponse(QueryResponse pplQueryResponse) {
 
-          }
+              }
 
-          @Override
-          public void onFailure(Exception e) {
-            Assert.fail();
-          }
-        });
+              @Override
+              public void onFailure(Exception e) {
+                Assert.fail();
+              }
+            }).isPresent());
   }
 
   @Test
   public void testExecuteCsvFormatShouldPass() {
     doAnswer(invocation -> {
-      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      ResponseListener<QueryResponse> listener = invocation.getArgument(2);
       listener.onResponse(new QueryResponse(schema, Collections.emptyList()));
       return null;
-    }).when(queryService).execute(any(), any());
+    }).when(queryService).execute(any(), any(), any());
 
     pplService.execute(new PPLQueryRequest("search source=t a=1", null, QUERY, "csv"),
         new ResponseListener<QueryResponse>() {
@@ -127,18 +128,19 @@ public class PPLServiceTest {
 
   @Test
   public void testExecuteWithIllegalQueryShouldBeCaughtByHandler() {
-    pplService.execute(new PPLQueryRequest("search", null, QUERY),
-        new ResponseListener<QueryResponse>() {
-          @Override
-          public void onResponse(QueryResponse pplQueryResponse) {
-            Assert.fail();
-          }
-
-          @Override
-          public void onFailure(Exception e) {
-
-          }
-        });
+    Assert.assertTrue(
+        pplService.execute(new PPLQueryRequest("search", null, QUERY),
+            new ResponseListener<QueryResponse>() {
+              @Override
+              public void onResponse(QueryResponse pplQueryResponse) {
+                Assert.fail();
+              }
+
+              @Override
+              public void onFailure(Exception e) {
+
+              }
+            }).isEmpty());
   }
 
   @Test
@@ -160,10 +162,10 @@ public class PPLServiceTest {
   @Test
   public void testPrometheusQuery() {
     doAnswer(invocation -> {
-      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      ResponseListener<QueryResponse> listener = invocation.getArgument(2);
       listener.onResponse(new QueryResponse(schema, Collections.emptyList()));
       return null;
-    }).when(queryService).execute(any(), any());
+    }).when(queryService).execute(any(), any(), any());
 
     pplService.execute(new PPLQueryRequest("source = prometheus.http_requests_total", null, QUERY),
         new ResponseListener<>() {
@@ -6,12 +6,15 @@
 
 package org.opensearch.sql.ppl.antlr;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.sql.ppl.parser.AstBuilder;
+import org.opensearch.sql.ppl.parser.AstExpressionBuilder;
 
 public class PPLSyntaxParserTest {
 
@@ -201,5 +204,39 @@ public class PPLSyntaxParserTest {
 
     new PPLSyntaxParser().parse("describe source=t");
   }
-}
 
+  @Test
+  public void testQueryOfSameShapeShouldParseFromCache() {
+    String query = "source=t a=1 | where b > 'x' | stats avg(c) by d";
+    String sameShape = "source=u e=2 | where f > 'y' | stats avg(g) by h";
+    PPLSyntaxParser parser = new PPLSyntaxParser();
+    parser.parse(query);
+    ParseTree tree = parser.parse(sameShape);
+
+    assertEquals(1, parser.getCache().getHitCount());
+    assertEquals(1, parser.getCache().getMissCount());
+    assertEquals(
+        new PPLSyntaxParser().parse(sameShape)
+            .accept(new AstBuilder(new AstExpressionBuilder(), sameShape)),
+        tree.accept(new AstBuilder(new AstExpressionBuilder(), sameShape)));
+  }
+
+  @Test
+  public void testQueryOfDifferentShapeShouldNotParseFromCache() {
+    PPLSyntaxParser parser = new PPLSyntaxParser();
+    parser.parse("source=t a=1");
+    parser.parse("source=t a=1 | fields a");
+
+    assertEquals(0, parser.getCache().getHitCount());
+    assertEquals(2, parser.getCache().getMissCount());
+  }
+
+  @Test
+  public void testWarmUpShouldBypassCache() {
+    PPLSyntaxParser parser = new PPLSyntaxParser();
+    parser.warmUp();
+
+    assertEquals(0, parser.getCache().getHitCount());
+    assertEquals(0, parser.getCache().getMissCount());
+  }
+}
@@ -539,6 +539,62 @@ public class AstExpressionBuilderTest extends AstBuilderTest {
   }
 
 
+  @Test
+  public void testDistinctCountApproxAggregation() {
+    assertEqual("source=t | stats distinct_count_approx(a)",
+        agg(
+            relation("t"),
+            exprList(alias("distinct_count_approx(a)",
+                aggregate("distinct_count_approx", field("a")))),
+            emptyList(),
+            emptyList(),
+            defaultStatsArgs()
+        ));
+  }
+
+  @Test
+  public void testEstimatedDistinctCountAggregationWithPrecisionThreshold() {
+    assertEqual("source=t | stats estdc(a, 100)",
+        agg(
+            relation("t"),
+            exprList(alias("estdc(a, 100)",
+                aggregate("distinct_count_approx", field("a"),
+                    unresolvedArg("precision_threshold", intLiteral(100))))),
+            emptyList(),
+            emptyList(),
+            defaultStatsArgs()
+        ));
+  }
+
+  @Test
+  public void testPercentileApproxAggregation() {
+    assertEqual("source=t | stats percentile_approx(a, 95)",
+        agg(
+            relation("t"),
+            exprList(alias("percentile_approx(a, 95)",
+                aggregate("percentile_approx", field("a"),
+                    unresolvedArg("percent", intLiteral(95))))),
+            emptyList(),
+            emptyList(),
+            defaultStatsArgs()
+        ));
+  }
+
+  @Test
+  public void testPercentileAggregationWithCompression() {
+    assertEqual("source=t | stats percentile(a, 99.9, 200)",
+        agg(
+            relation("t"),
+            exprList(alias("percentile(a, 99.9, 200)",
+                aggregate("percentile_approx", field("a"),
+                    unresolvedArg("percent", doubleLiteral(99.9)),
+                    unresolvedArg("compression", intLiteral(200))))),
+            emptyList(),
+            emptyList(),
+            defaultStatsArgs()
+        ));
+  }
+
   @Test
   public void testEvalFuncCallExpr() {
     assertEqual("source=t | eval f=abs(a)",
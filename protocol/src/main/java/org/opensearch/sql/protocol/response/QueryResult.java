@@ -16,6 +16,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
+import org.opensearch.sql.executor.QueryProfile;
 
 /**
  * Query response that encapsulates query results and isolate {@link ExprValue}
@@ -32,6 +33,26 @@ public class QueryResult implements Iterable<Object[]> {
    */
   private final Collection<ExprValue> exprValues;
 
+  /**
+   * Profile of the query in response, which is null if profiling is not enabled.
+   */
+  @Getter
+  private Map<String, Object> profile;
+
+  /**
+   * Constructor of QueryResult with the profile of query.
+   *
+   * @param schema     schema of results
+   * @param exprValues results
+   * @param profile    profile of the query, which is included only if enabled
+   */
+  public QueryResult(ExecutionEngine.Schema schema, Collection<ExprValue> exprValues,
+                     QueryProfile profile) {
+    this(schema, exprValues);
+    if (profile != null && profile.isEnabled()) {
+      this.profile = profile.toMap();
+    }
+  }
 
   /**
    * size of results.
@@ -48,6 +69,16 @@ public class QueryResult implements Iterable<Object[]> {
    *        note that column name could be original name or its alias if any.
    */
   public Map<String, String> columnNameTypes() {
+    return columnNameTypes(schema);
+  }
+
+  /**
+   * Parse column name from schema.
+   *
+   * @param schema schema of results
+   * @return mapping from column names to its expression type.
+   */
+  public static Map<String, String> columnNameTypes(ExecutionEngine.Schema schema) {
     Map<String, String> colNameTypes = new LinkedHashMap<>();
     schema.getColumns().forEach(column -> colNameTypes.put(
         getColumnName(column),
@@ -59,17 +90,25 @@ public class QueryResult implements Iterable<Object[]> {
   public Iterator<Object[]> iterator() {
     // Any chance to avoid copy for json response generation?
     return exprValues.stream()
-        .map(ExprValueUtils::getTupleValue)
-        .map(Map::values)
-        .map(this::convertExprValuesToValues)
+        .map(QueryResult::convertRow)
         .iterator();
   }
 
-  private String getColumnName(Column column) {
+  /**
+   * Convert a result row to its column values.
+   *
+   * @param row result row in tuple value
+   * @return column values
+   */
+  public static Object[] convertRow(ExprValue row) {
+    return convertExprValuesToValues(ExprValueUtils.getTupleValue(row).values());
+  }
+
+  private static String getColumnName(Column column) {
     return (column.getAlias() != null) ? column.getAlias() : column.getName();
   }
 
-  private Object[] convertExprValuesToValues(Collection<ExprValue> exprValues) {
+  private static Object[] convertExprValuesToValues(Collection<ExprValue> exprValues) {
     return exprValues
         .stream()
         .map(ExprValue::value)
@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response;
+
+import java.io.IOException;
+import java.util.List;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.QueryProfile;
+import org.opensearch.sql.executor.ResponseSink;
+import org.opensearch.sql.monitor.QueryMetrics;
+import org.opensearch.sql.monitor.QueryStage;
+import org.opensearch.sql.protocol.response.format.QueryResultWriter;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter;
+
+/**
+ * Response sink which formats query result batch by batch into paged bytes as it is produced,
+ * and calls back listener with the formatted response once complete. This avoids holding the
+ * result rows, their converted values and the response string in memory at the same time.
+ */
+public class QueryResultSink implements ResponseSink {
+
+  private final StreamingResponseFormatter formatter;
+
+  private final ResponseListener<BytesReference> listener;
+
+  private final BytesStreamOutput output = new BytesStreamOutput();
+
+  private QueryResultWriter writer;
+
+  /**
+   * Profile of the query, which is null if not given by execution engine.
+   */
+  private QueryProfile profile;
+
+  /**
+   * Total time in nanoseconds spent in formatting response.
+   */
+  private long formatNanos = 0L;
+
+  /**
+   * Constructor of QueryResultSink.
+   *
+   * @param formatter formatter of response
+   * @param listener listener of formatted response or failure
+   */
+  public QueryResultSink(StreamingResponseFormatter formatter,
+                         ResponseListener<BytesReference> listener) {
+    this.formatter = formatter;
+    this.listener = listener;
+  }
+
+  @Override
+  public void onSchema(Schema schema) {
+    write(() -> {
+      writer = formatter.writer(output);
+      writer.start(schema);
+    });
+  }
+
+  @Override
+  public void onBatch(List<ExprValue> batch) {
+    write(() -> writer.write(batch));
+  }
+
+  @Override
+  public void onProfile(QueryProfile profile) {
+    this.profile = profile;
+  }
+
+  /**
+   * Record the formatting latency and write the profile if enabled before finishing response.
+   */
+  @Override
+  public void onComplete() {
+    if (profile == null) {
+      QueryMetrics.getInstance().record(QueryStage.FORMAT, formatNanos);
+    } else {
+      profile.record(QueryStage.FORMAT, formatNanos);
+      if (profile.isEnabled()) {
+        writer.profile(profile.toMap());
+      }
+    }
+    write(writer::finish);
+    listener.onResponse(output.bytes());
+  }
+
+  @Override
+  public void onFailure(Exception e) {
+    listener.onFailure(e);
+  }
+
+  private void write(WriteAction action) {
+    long start = System.nanoTime();
+    try {
+      action.run();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write query response", e);
+    } finally {
+      formatNanos += System.nanoTime() - start;
+    }
+  }
+
+  @FunctionalInterface
+  private interface WriteAction {
+    void run() throws IOException;
+  }
+}
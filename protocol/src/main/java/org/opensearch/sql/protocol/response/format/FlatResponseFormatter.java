@@ -8,6 +8,12 @@ package org.opensearch.sql.protocol.response.format;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -15,10 +21,13 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 @RequiredArgsConstructor
-public abstract class FlatResponseFormatter implements ResponseFormatter<QueryResult> {
+public abstract class FlatResponseFormatter
+    implements ResponseFormatter<QueryResult>, StreamingResponseFormatter {
   private static String INLINE_SEPARATOR = ",";
   private static final String INTERLINE_SEPARATOR = System.lineSeparator();
   private static final Set<String> SENSITIVE_CHAR = ImmutableSet.of("=", "+", "-", "@");
@@ -41,6 +50,62 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
     return ErrorFormatter.prettyFormat(t);
   }
 
+  @Override
+  public QueryResultWriter writer(OutputStream output) {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    return new QueryResultWriter() {
+      @Override
+      public void start(Schema schema) throws IOException {
+        writer.write(formatLine(new ArrayList<>(QueryResult.columnNameTypes(schema).keySet())));
+      }
+
+      @Override
+      public void write(List<ExprValue> rows) throws IOException {
+        for (ExprValue row : rows) {
+          List<String> line = new ArrayList<>();
+          // replace null values with empty string
+          for (Object val : QueryResult.convertRow(row)) {
+            line.add(val == null ? "" : val.toString());
+          }
+          writer.write(INTERLINE_SEPARATOR);
+          writer.write(formatLine(line));
+        }
+      }
+
+      @Override
+      public void finish() throws IOException {
+        writer.flush();
+      }
+    };
+  }
+
+  /**
+   * Sanitize and quote cells in a header or data line and join them by separator.
+   */
+  private String formatLine(List<String> cells) {
+    return cells.stream()
+        .map(cell -> sanitize ? sanitizeCell(cell) : cell)
+        .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
+        .collect(Collectors.joining(INLINE_SEPARATOR));
+  }
+
+  private static String sanitizeCell(String cell) {
+    if (isStartWithSensitiveChar(cell)) {
+      return "'" + cell;
+    }
+    return cell;
+  }
+
+  private static String quoteIfRequired(String separator, String cell) {
+    final String quote = "\"";
+    return cell.contains(separator)
+            ? quote + cell.replaceAll("\"", "\"\"") + quote : cell;
+  }
+
+  private static boolean isStartWithSensitiveChar(String cell) {
+    return SENSITIVE_CHAR.stream().anyMatch(cell::startsWith);
+  }
+
   /**
    * Sanitize methods are migrated from legacy CSV result.
    * Sanitize both headers and data lines by:
@@ -94,7 +159,7 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
     private List<String> sanitizeHeaders(List<String> headers) {
       if (sanitize) {
         return headers.stream()
-                .map(this::sanitizeCell)
+                .map(FlatResponseFormatter::sanitizeCell)
                 .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
                 .collect(Collectors.toList());
       } else {
@@ -109,7 +174,7 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
       if (sanitize) {
         for (List<String> line : lines) {
           result.add(line.stream()
-                  .map(this::sanitizeCell)
+                  .map(FlatResponseFormatter::sanitizeCell)
                   .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
                   .collect(Collectors.toList()));
         }
@@ -122,23 +187,6 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
       }
       return result;
     }
-
-    private String sanitizeCell(String cell) {
-      if (isStartWithSensitiveChar(cell)) {
-        return "'" + cell;
-      }
-      return cell;
-    }
-
-    private String quoteIfRequired(String separator, String cell) {
-      final String quote = "\"";
-      return cell.contains(separator)
-              ? quote + cell.replaceAll("\"", "\"\"") + quote : cell;
-    }
-
-    private boolean isStartWithSensitiveChar(String cell) {
-      return SENSITIVE_CHAR.stream().anyMatch(cell::startsWith);
-    }
   }
 
 }
@@ -6,12 +6,17 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Singular;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.exception.QueryEngineException;
 import org.opensearch.sql.executor.ExecutionEngine.Schema;
@@ -24,7 +29,8 @@ import org.opensearch.sql.protocol.response.QueryResult;
  * avoid impact on client side. The only difference is a new "version" that indicates the response
  * was produced by new query engine.
  */
-public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
+public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult>
+    implements StreamingResponseFormatter {
 
   public JdbcResponseFormatter(Style style) {
     super(style);
@@ -41,11 +47,66 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     // Populate other fields
     json.total(response.size())
         .size(response.size())
-        .status(200);
+        .status(200)
+        .profile(response.getProfile());
 
     return json.build();
   }
 
+  @Override
+  public QueryResultWriter writer(OutputStream output) throws IOException {
+    JsonGenerator generator = createGenerator(output);
+    return new QueryResultWriter() {
+      private long size = 0L;
+      private Map<String, Object> profile;
+
+      @Override
+      public void start(Schema schema) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("schema");
+        for (Schema.Column col : schema.getColumns()) {
+          Column column = fetchColumn(col);
+          generator.writeStartObject();
+          generator.writeStringField("name", column.getName());
+          if (column.getAlias() != null) {
+            generator.writeStringField("alias", column.getAlias());
+          }
+          generator.writeStringField("type", column.getType());
+          generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("datarows");
+      }
+
+      @Override
+      public void write(List<ExprValue> rows) throws IOException {
+        for (ExprValue row : rows) {
+          writeRow(generator, row);
+        }
+        size += rows.size();
+      }
+
+      @Override
+      public void profile(Map<String, Object> profile) {
+        this.profile = profile;
+      }
+
+      @Override
+      public void finish() throws IOException {
+        generator.writeEndArray();
+        generator.writeNumberField("total", size);
+        generator.writeNumberField("size", size);
+        generator.writeNumberField("status", 200);
+        if (profile != null) {
+          generator.writeFieldName("profile");
+          writeValue(generator, profile);
+        }
+        generator.writeEndObject();
+        generator.flush();
+      }
+    };
+  }
+
   @Override
   public String format(Throwable t) {
     int status = getStatus(t);
@@ -95,6 +156,7 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     private final long total;
     private final long size;
     private final int status;
+    private final Map<String, Object> profile;
   }
 
   @RequiredArgsConstructor
@@ -12,9 +12,19 @@ import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyF
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyJsonify;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collection;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.protocol.response.QueryResult;
 
 /**
  * Abstract class for all JSON formatter.
@@ -31,6 +41,8 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
     PRETTY, COMPACT
   }
 
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
   /**
    * JSON format style.
    */
@@ -59,4 +71,113 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
     return AccessController.doPrivileged((PrivilegedAction<String>) () ->
         (style == PRETTY) ? prettyJsonify(jsonObject) : compactJsonify(jsonObject));
   }
+
+  /**
+   * Create JSON generator which writes to the output stream incrementally in the same style
+   * as {@link #jsonify(Object)}.
+   *
+   * @param output output stream
+   * @return JSON generator
+   */
+  protected JsonGenerator createGenerator(OutputStream output) throws IOException {
+    JsonGenerator generator = JSON_FACTORY.createGenerator(output);
+    if (style == PRETTY) {
+      generator.setPrettyPrinter(new GsonStylePrettyPrinter());
+    }
+    return generator;
+  }
+
+  /**
+   * Write a result row as an array of column values.
+   *
+   * @param generator JSON generator
+   * @param row result row
+   */
+  protected static void writeRow(JsonGenerator generator, ExprValue row) throws IOException {
+    generator.writeStartArray();
+    for (Object value : QueryResult.convertRow(row)) {
+      writeValue(generator, value);
+    }
+    generator.writeEndArray();
+  }
+
+  /**
+   * Write value of a result column which could be primitive, map for struct or collection
+   * for array.
+   *
+   * @param generator JSON generator
+   * @param value column value
+   */
+  protected static void writeValue(JsonGenerator generator, Object value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof Map) {
+      generator.writeStartObject();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        // null field is omitted as in Gson
+        if (entry.getValue() != null) {
+          generator.writeFieldName(String.valueOf(entry.getKey()));
+          writeValue(generator, entry.getValue());
+        }
+      }
+      generator.writeEndObject();
+    } else if (value instanceof Collection) {
+      generator.writeStartArray();
+      for (Object element : (Collection<?>) value) {
+        writeValue(generator, element);
+      }
+      generator.writeEndArray();
+    } else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    } else if (value instanceof Float) {
+      generator.writeNumber((Float) value);
+    } else if (value instanceof Double) {
+      generator.writeNumber((Double) value);
+    } else if (value instanceof Number) {
+      generator.writeNumber(((Number) value).longValue());
+    } else {
+      generator.writeString(value.toString());
+    }
+  }
+
+  /**
+   * Pretty printer which indents and separates the same way as Gson pretty printing,
+   * so that streamed response is identical to the one built by {@link #jsonify(Object)}.
+   */
+  private static class GsonStylePrettyPrinter extends DefaultPrettyPrinter {
+    private static final DefaultIndenter INDENTER = new DefaultIndenter("  ", "\n");
+
+    GsonStylePrettyPrinter() {
+      _objectIndenter = INDENTER;
+      _arrayIndenter = INDENTER;
+    }
+
+    @Override
+    public DefaultPrettyPrinter createInstance() {
+      return new GsonStylePrettyPrinter();
+    }
+
+    @Override
+    public void writeObjectFieldValueSeparator(JsonGenerator generator) throws IOException {
+      generator.writeRaw(": ");
+    }
+
+    @Override
+    public void writeEndObject(JsonGenerator generator, int nrOfEntries) throws IOException {
+      _nesting--;
+      if (nrOfEntries > 0) {
+        _objectIndenter.writeIndentation(generator, _nesting);
+      }
+      generator.writeRaw('}');
+    }
+
+    @Override
+    public void writeEndArray(JsonGenerator generator, int nrOfValues) throws IOException {
+      _nesting--;
+      if (nrOfValues > 0) {
+        _arrayIndenter.writeIndentation(generator, _nesting);
+      }
+      generator.writeRaw(']');
+    }
+  }
 }
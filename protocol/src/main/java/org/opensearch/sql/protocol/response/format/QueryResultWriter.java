@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+
+/**
+ * Writer which formats query result incrementally. It is created for a single response by
+ * {@link StreamingResponseFormatter} and called in the order of start, write for each batch of
+ * rows and finish.
+ */
+public interface QueryResultWriter {
+
+  /**
+   * Write the beginning of response with schema.
+   *
+   * @param schema schema of query result
+   */
+  void start(Schema schema) throws IOException;
+
+  /**
+   * Write a batch of result rows.
+   *
+   * @param rows result rows
+   */
+  void write(List<ExprValue> rows) throws IOException;
+
+  /**
+   * Set profile of the query to write at the end of response before {@link #finish()}. Ignored
+   * by default for the format which has no place for it.
+   *
+   * @param profile query profile
+   */
+  default void profile(Map<String, Object> profile) {
+  }
+
+  /**
+   * Write the end of response and flush.
+   */
+  void finish() throws IOException;
+}
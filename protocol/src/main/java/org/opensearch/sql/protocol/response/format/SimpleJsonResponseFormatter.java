@@ -6,11 +6,17 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Singular;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /**
@@ -33,7 +39,8 @@ import org.opensearch.sql.protocol.response.QueryResult;
  *  }
  * </pre>
  */
-public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResult> {
+public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResult>
+    implements StreamingResponseFormatter {
 
   public SimpleJsonResponseFormatter(Style style) {
     super(style);
@@ -44,7 +51,8 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
     JsonResponse.JsonResponseBuilder json = JsonResponse.builder();
 
     json.total(response.size())
-        .size(response.size());
+        .size(response.size())
+        .profile(response.getProfile());
 
     response.columnNameTypes().forEach((name, type) -> json.column(new Column(name, type)));
 
@@ -52,6 +60,55 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
     return json.build();
   }
 
+  @Override
+  public QueryResultWriter writer(OutputStream output) throws IOException {
+    JsonGenerator generator = createGenerator(output);
+    return new QueryResultWriter() {
+      private long size = 0L;
+      private Map<String, Object> profile;
+
+      @Override
+      public void start(Schema schema) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("schema");
+        for (Map.Entry<String, String> column : QueryResult.columnNameTypes(schema).entrySet()) {
+          generator.writeStartObject();
+          generator.writeStringField("name", column.getKey());
+          generator.writeStringField("type", column.getValue());
+          generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("datarows");
+      }
+
+      @Override
+      public void write(List<ExprValue> rows) throws IOException {
+        for (ExprValue row : rows) {
+          writeRow(generator, row);
+        }
+        size += rows.size();
+      }
+
+      @Override
+      public void profile(Map<String, Object> profile) {
+        this.profile = profile;
+      }
+
+      @Override
+      public void finish() throws IOException {
+        generator.writeEndArray();
+        generator.writeNumberField("total", size);
+        generator.writeNumberField("size", size);
+        if (profile != null) {
+          generator.writeFieldName("profile");
+          writeValue(generator, profile);
+        }
+        generator.writeEndObject();
+        generator.flush();
+      }
+    };
+  }
+
   private Object[][] fetchDataRows(QueryResult response) {
     Object[][] rows = new Object[response.size()][];
     int i = 0;
@@ -74,6 +131,7 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
 
     private long total;
     private long size;
+    private Map<String, Object> profile;
   }
 
   @RequiredArgsConstructor
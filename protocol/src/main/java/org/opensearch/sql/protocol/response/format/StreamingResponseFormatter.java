@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Response formatter which can write query result to output stream batch by batch instead of
+ * formatting the whole result into a string.
+ */
+public interface StreamingResponseFormatter {
+
+  /**
+   * Create writer for a single response.
+   *
+   * @param output output stream which formatted response is written to
+   * @return query result writer
+   */
+  QueryResultWriter writer(OutputStream output) throws IOException;
+}
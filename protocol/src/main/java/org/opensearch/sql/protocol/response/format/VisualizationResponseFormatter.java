@@ -65,6 +65,7 @@ public class VisualizationResponseFormatter extends JsonResponseFormatter<QueryR
         .metadata(constructMetadata(response))
         .size(response.size())
         .status(200)
+        .profile(response.getProfile())
         .build();
   }
 
@@ -144,6 +145,7 @@ public class VisualizationResponseFormatter extends JsonResponseFormatter<QueryR
     private final Metadata metadata;
     private final long size;
     private final int status;
+    private final Map<String, Object> profile;
   }
 
   @RequiredArgsConstructor
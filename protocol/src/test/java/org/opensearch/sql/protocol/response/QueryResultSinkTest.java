@@ -0,0 +1,160 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.common.utils.StringUtils.format;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.COMPACT;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryProfile;
+import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
+import org.opensearch.sql.protocol.response.format.QueryResultWriter;
+import org.opensearch.sql.protocol.response.format.SimpleJsonResponseFormatter;
+import org.opensearch.sql.protocol.response.format.StreamingResponseFormatter;
+
+@ExtendWith(MockitoExtension.class)
+class QueryResultSinkTest {
+
+  private final ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+      new ExecutionEngine.Schema.Column("name", null, STRING),
+      new ExecutionEngine.Schema.Column("age", null, INTEGER)));
+
+  @Mock
+  private StreamingResponseFormatter formatter;
+
+  @Mock
+  private QueryResultWriter writer;
+
+  @Mock
+  private ResponseListener<BytesReference> listener;
+
+  @Test
+  void write_batches_and_respond_on_complete() {
+    AtomicReference<String> response = new AtomicReference<>();
+    QueryResultSink sink = new QueryResultSink(new CsvResponseFormatter(),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(BytesReference bytes) {
+            response.set(bytes.utf8ToString());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+          }
+        });
+
+    sink.onSchema(schema);
+    sink.onBatch(Collections.singletonList(
+        tupleValue(ImmutableMap.of("name", "John", "age", 20))));
+    sink.onBatch(Collections.singletonList(
+        tupleValue(ImmutableMap.of("name", "Smith", "age", 30))));
+    sink.onComplete();
+    assertEquals(format("name,age%nJohn,20%nSmith,30"), response.get());
+  }
+
+  @Test
+  void write_profile_if_enabled() {
+    AtomicReference<String> response = new AtomicReference<>();
+    QueryResultSink sink = new QueryResultSink(new SimpleJsonResponseFormatter(COMPACT),
+        responseListener(response));
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+
+    sink.onSchema(schema);
+    sink.onProfile(profile);
+    sink.onComplete();
+    assertTrue(response.get().contains("\"profile\":{\"stages\":{\"format_ms\":"));
+  }
+
+  @Test
+  void skip_profile_if_disabled_or_unsupported() {
+    AtomicReference<String> response = new AtomicReference<>();
+    QueryResultSink sink = new QueryResultSink(new SimpleJsonResponseFormatter(COMPACT),
+        responseListener(response));
+    sink.onSchema(schema);
+    sink.onProfile(new QueryProfile());
+    sink.onComplete();
+    assertFalse(response.get().contains("profile"));
+
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    sink = new QueryResultSink(new CsvResponseFormatter(), responseListener(response));
+    sink.onSchema(schema);
+    sink.onProfile(profile);
+    sink.onComplete();
+    assertEquals("name,age", response.get());
+  }
+
+  @Test
+  void fail_to_start() throws IOException {
+    when(formatter.writer(any())).thenThrow(new IOException("error"));
+    QueryResultSink sink = new QueryResultSink(formatter, listener);
+    IllegalStateException e = assertThrows(IllegalStateException.class,
+        () -> sink.onSchema(schema));
+    assertEquals("Failed to write query response", e.getMessage());
+  }
+
+  @Test
+  void fail_to_write_batch() throws IOException {
+    when(formatter.writer(any())).thenReturn(writer);
+    doThrow(new IOException("error")).when(writer).write(any());
+    QueryResultSink sink = new QueryResultSink(formatter, listener);
+    sink.onSchema(schema);
+    assertThrows(IllegalStateException.class, () -> sink.onBatch(Collections.emptyList()));
+  }
+
+  @Test
+  void fail_to_finish() throws IOException {
+    when(formatter.writer(any())).thenReturn(writer);
+    doThrow(new IOException("error")).when(writer).finish();
+    QueryResultSink sink = new QueryResultSink(formatter, listener);
+    sink.onSchema(schema);
+    assertThrows(IllegalStateException.class, sink::onComplete);
+  }
+
+  @Test
+  void delegate_failure() {
+    QueryResultSink sink = new QueryResultSink(formatter, listener);
+    Exception e = new IllegalStateException("error");
+    sink.onFailure(e);
+    verify(listener).onFailure(e);
+  }
+
+  private ResponseListener<BytesReference> responseListener(AtomicReference<String> response) {
+    return new ResponseListener<>() {
+      @Override
+      public void onResponse(BytesReference bytes) {
+        response.set(bytes.utf8ToString());
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+      }
+    };
+  }
+}
@@ -8,6 +8,7 @@ package org.opensearch.sql.protocol.response;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -19,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryProfile;
 
 class QueryResultTest {
 
@@ -115,4 +117,19 @@ class QueryResultTest {
     }
   }
 
+  @Test
+  void profileIfEnabled() {
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    QueryResult response = new QueryResult(schema, Collections.emptyList(), profile);
+    assertEquals(profile.toMap(), response.getProfile());
+  }
+
+  @Test
+  void noProfileIfDisabledOrAbsent() {
+    assertNull(new QueryResult(schema, Collections.emptyList()).getProfile());
+    assertNull(new QueryResult(schema, Collections.emptyList(), null).getProfile());
+    assertNull(new QueryResult(schema, Collections.emptyList(), new QueryProfile()).getProfile());
+  }
+
 }
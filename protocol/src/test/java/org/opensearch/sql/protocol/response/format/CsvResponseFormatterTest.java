@@ -17,9 +17,14 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.protocol.response.QueryResult;
 
@@ -42,6 +47,28 @@ public class CsvResponseFormatterTest {
     assertEquals(format(expected), formatter.format(response));
   }
 
+  @Test
+  void streamResponseSameAsFormat() throws IOException {
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+        new ExecutionEngine.Schema.Column("=name", null, STRING),
+        new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    List<ExprValue> rows = Arrays.asList(
+        tupleValue(ImmutableMap.of("=name", "John,Doe", "age", 20)),
+        ExprTupleValue.fromExprValueMap(
+            ImmutableMap.of("=name", stringValue("@Smith"), "age", LITERAL_NULL)));
+    QueryResult response = new QueryResult(schema, rows);
+
+    for (CsvResponseFormatter formatter :
+        Arrays.asList(new CsvResponseFormatter(true), new CsvResponseFormatter(false))) {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      QueryResultWriter writer = formatter.writer(output);
+      writer.start(schema);
+      writer.write(rows);
+      writer.finish();
+      assertEquals(formatter.format(response), output.toString(StandardCharsets.UTF_8));
+    }
+  }
+
   @Test
   void sanitizeHeaders() {
     ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
@@ -18,11 +18,16 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.executor.ExecutionEngine.Schema;
 import static org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.COMPACT;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -30,7 +35,9 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.OpenSearchException;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.SemanticCheckException;
+import org.opensearch.sql.executor.QueryProfile;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.protocol.response.QueryResult;
@@ -105,6 +112,64 @@ class JdbcResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void stream_response_same_as_format() throws IOException {
+    Schema schema = new Schema(ImmutableList.of(
+        new Column("name", "n", STRING),
+        new Column("age", null, INTEGER),
+        new Column("location", "location", STRUCT)));
+    List<ExprValue> rows = Arrays.asList(
+        tupleValue(ImmutableMap.of(
+            "name", "John", "age", 20, "location", ImmutableMap.of("x", "1", "y", "2"))),
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+            "name", stringValue("Allen"), "age", LITERAL_NULL, "location", LITERAL_MISSING)),
+        tupleValue(ImmutableMap.of(
+            "name", "Smith", "age", 30, "location", ImmutableMap.of("x", "3", "y", "4"))));
+    QueryResult response = new QueryResult(schema, rows);
+
+    for (JdbcResponseFormatter formatter :
+        Arrays.asList(new JdbcResponseFormatter(COMPACT), new JdbcResponseFormatter(PRETTY))) {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      QueryResultWriter writer = formatter.writer(output);
+      writer.start(schema);
+      writer.write(rows.subList(0, 2));
+      writer.write(rows.subList(2, 3));
+      writer.finish();
+      assertEquals(formatter.format(response), output.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void stream_response_with_profile() throws IOException {
+    Schema schema = new Schema(ImmutableList.of(new Column("name", null, STRING)));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    QueryResultWriter writer = new JdbcResponseFormatter(COMPACT).writer(output);
+    writer.start(schema);
+    writer.write(List.of(tupleValue(ImmutableMap.of("name", "John"))));
+    writer.profile(Map.of("stages", Map.of("parse_ms", 1.5)));
+    writer.finish();
+    assertEquals(
+        "{\"schema\":[{\"name\":\"name\",\"type\":\"keyword\"}],\"datarows\":[[\"John\"]],"
+            + "\"total\":1,\"size\":1,\"status\":200,"
+            + "\"profile\":{\"stages\":{\"parse_ms\":1.5}}}",
+        output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void format_response_with_profile() {
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    QueryResult response = new QueryResult(
+        new Schema(ImmutableList.of(new Column("name", null, STRING))),
+        List.of(tupleValue(ImmutableMap.of("name", "John"))),
+        profile);
+    assertEquals(
+        "{\"schema\":[{\"name\":\"name\",\"type\":\"keyword\"}],\"datarows\":[[\"John\"]],"
+            + "\"total\":1,\"size\":1,\"status\":200,"
+            + "\"profile\":{\"stages\":{},\"operators\":[]}}",
+        formatter.format(response));
+  }
+
   @Test
   void format_client_error_response_due_to_syntax_exception() {
     assertJsonEquals(
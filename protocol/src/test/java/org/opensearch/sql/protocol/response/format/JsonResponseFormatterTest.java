@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.COMPACT;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonResponseFormatterTest {
+
+  @Test
+  void write_values_of_all_types() throws IOException {
+    Map<String, Object> struct = new LinkedHashMap<>();
+    struct.put("name", "John");
+    struct.put("address", null);
+
+    assertEquals(
+        "[null,{\"name\":\"John\"},[1,2],true,1.5,2.5,3,4,\"str\",\"PT1H\"]",
+        write(COMPACT, Arrays.asList(
+            null, struct, Arrays.asList(1, 2), true, 1.5f, 2.5d, 3, 4L, "str",
+            Duration.ofHours(1))));
+  }
+
+  @Test
+  void write_empty_object_and_array_pretty() throws IOException {
+    assertEquals(
+        "[\n"
+            + "  {},\n"
+            + "  [],\n"
+            + "  {\n"
+            + "    \"key\": [\n"
+            + "      1\n"
+            + "    ]\n"
+            + "  }\n"
+            + "]",
+        write(PRETTY, Arrays.asList(
+            new HashMap<>(), Collections.emptyList(),
+            ImmutableMap.of("key", Collections.singletonList(1)))));
+  }
+
+  @Test
+  void write_same_as_jsonify_pretty() throws IOException {
+    Object value = ImmutableMap.of(
+        "schema", Arrays.asList(ImmutableMap.of("name", "age", "type", "integer")),
+        "datarows", Arrays.asList(Arrays.asList(20), Arrays.asList(30)),
+        "empty", Collections.emptyList());
+    JsonResponseFormatter<Object> formatter = formatter(PRETTY);
+    assertEquals(formatter.jsonify(value), write(PRETTY, value));
+  }
+
+  private String write(JsonResponseFormatter.Style style, Object value) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    JsonGenerator generator = formatter(style).createGenerator(output);
+    JsonResponseFormatter.writeValue(generator, value);
+    generator.flush();
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private JsonResponseFormatter<Object> formatter(JsonResponseFormatter.Style style) {
+    return new JsonResponseFormatter<>(style) {
+      @Override
+      protected Object buildJsonObject(Object response) {
+        return response;
+      }
+    };
+  }
+}
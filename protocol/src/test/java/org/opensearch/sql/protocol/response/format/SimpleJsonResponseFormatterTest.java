@@ -17,10 +17,17 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryProfile;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 class SimpleJsonResponseFormatterTest {
@@ -45,6 +52,54 @@ class SimpleJsonResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void streamResponseSameAsFormat() throws IOException {
+    List<ExprValue> rows = Arrays.asList(
+        tupleValue(ImmutableMap.of("firstname", "John", "age", 20)),
+        tupleValue(ImmutableMap.of("firstname", "Smith", "age", 30)));
+    QueryResult response = new QueryResult(schema, rows);
+
+    for (SimpleJsonResponseFormatter formatter : Arrays.asList(
+        new SimpleJsonResponseFormatter(COMPACT), new SimpleJsonResponseFormatter(PRETTY))) {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      QueryResultWriter writer = formatter.writer(output);
+      writer.start(schema);
+      writer.write(rows.subList(0, 1));
+      writer.write(rows.subList(1, 2));
+      writer.finish();
+      assertEquals(formatter.format(response), output.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void streamResponseWithProfile() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    QueryResultWriter writer = new SimpleJsonResponseFormatter(COMPACT).writer(output);
+    writer.start(schema);
+    writer.write(List.of(tupleValue(ImmutableMap.of("firstname", "John", "age", 20))));
+    writer.profile(Map.of("operators", List.of()));
+    writer.finish();
+    assertEquals(
+        "{\"schema\":[{\"name\":\"firstname\",\"type\":\"string\"},"
+            + "{\"name\":\"age\",\"type\":\"integer\"}],\"datarows\":[[\"John\",20]],"
+            + "\"total\":1,\"size\":1,\"profile\":{\"operators\":[]}}",
+        output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void formatResponseWithProfile() {
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    QueryResult response = new QueryResult(
+        schema, List.of(tupleValue(ImmutableMap.of("firstname", "John", "age", 20))), profile);
+    SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(COMPACT);
+    assertEquals(
+        "{\"schema\":[{\"name\":\"firstname\",\"type\":\"string\"},"
+            + "{\"name\":\"age\",\"type\":\"integer\"}],\"datarows\":[[\"John\",20]],"
+            + "\"total\":1,\"size\":1,\"profile\":{\"stages\":{},\"operators\":[]}}",
+        formatter.format(response));
+  }
+
   @Test
   void formatResponsePretty() {
     QueryResult response =
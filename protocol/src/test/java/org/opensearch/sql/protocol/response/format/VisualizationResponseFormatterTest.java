@@ -20,6 +20,7 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.QueryProfile;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 public class VisualizationResponseFormatterTest {
@@ -76,6 +77,29 @@ public class VisualizationResponseFormatterTest {
     );
   }
 
+  @Test
+  void formatResponseWithProfile() {
+    QueryProfile profile = new QueryProfile();
+    profile.setEnabled(true);
+    QueryResult response = new QueryResult(
+        new ExecutionEngine.Schema(ImmutableList.of(
+            new ExecutionEngine.Schema.Column("name", "name", STRING))),
+        ImmutableList.of(tupleValue(ImmutableMap.of("name", "John"))),
+        profile);
+
+    assertJsonEquals(
+        "{\"data\":{"
+            + "\"name\":[\"John\"]},"
+            + "\"metadata\":{"
+            + "\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"keyword\"}]},"
+            + "\"size\":1,"
+            + "\"status\":200,"
+            + "\"profile\":{\"stages\":{},\"operators\":[]}"
+            + "}",
+        formatter.format(response));
+  }
+
   @Test
   void clientErrorSyntaxException() {
     assertJsonEquals(
@@ -127,6 +127,8 @@ STD:                                'STD';
 STDDEV:                             'STDDEV';
 STDDEV_POP:                         'STDDEV_POP';
 STDDEV_SAMP:                        'STDDEV_SAMP';
+DISTINCT_COUNT_APPROX:              'DISTINCT_COUNT_APPROX';
+PERCENTILE_APPROX:                  'PERCENTILE_APPROX';
 
 
 // Common function Keywords
@@ -287,6 +289,14 @@ DENSE_RANK:                         'DENSE_RANK';
 RANK:                               'RANK';
 ROW_NUMBER:                         'ROW_NUMBER';
 
+// Window frame keywords
+CURRENT:                            'CURRENT';
+FOLLOWING:                          'FOLLOWING';
+PRECEDING:                          'PRECEDING';
+ROW:                                'ROW';
+ROWS:                               'ROWS';
+UNBOUNDED:                          'UNBOUNDED';
+
 // OD SQL special functions
 DATE_HISTOGRAM:                     'DATE_HISTOGRAM';
 DAY_OF_MONTH:                       'DAY_OF_MONTH';
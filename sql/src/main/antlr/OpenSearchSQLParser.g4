@@ -164,7 +164,18 @@ windowFunction
     ;
 
 overClause
-    : OVER LR_BRACKET partitionByClause? orderByClause? RR_BRACKET
+    : OVER LR_BRACKET partitionByClause? orderByClause? frameClause? RR_BRACKET
+    ;
+
+frameClause
+    : frameUnits=(ROWS | RANGE) frameStart=frameBound
+    | frameUnits=(ROWS | RANGE) BETWEEN frameStart=frameBound AND frameEnd=frameBound
+    ;
+
+frameBound
+    : UNBOUNDED boundType=(PRECEDING | FOLLOWING)
+    | CURRENT ROW
+    | offset=decimalLiteral boundType=(PRECEDING | FOLLOWING)
     ;
 
 partitionByClause
@@ -484,6 +495,12 @@ aggregateFunction
                                                                     #regularAggregateFunctionCall
     | COUNT LR_BRACKET STAR RR_BRACKET                              #countStarFunctionCall
     | COUNT LR_BRACKET DISTINCT functionArg RR_BRACKET              #distinctCountFunctionCall
+    | DISTINCT_COUNT_APPROX
+        LR_BRACKET functionArg (COMMA precisionThreshold=decimalLiteral)? RR_BRACKET
+                                                                    #distinctCountApproxFunctionCall
+    | PERCENTILE_APPROX
+        LR_BRACKET functionArg COMMA percent=constant (COMMA compression=constant)? RR_BRACKET
+                                                                    #percentileApproxFunctionCall
     ;
 
 filterClause
@@ -831,7 +848,8 @@ ident
 keywordsCanBeId
     : FULL
     | FIELD | D | T | TS // OD SQL and ODBC special
-    | COUNT | SUM | AVG | MAX | MIN
+    | COUNT | SUM | AVG | MAX | MIN | DISTINCT_COUNT_APPROX | PERCENTILE_APPROX
     | FIRST | LAST
+    | CURRENT | ROW | ROWS | PRECEDING | FOLLOWING | UNBOUNDED // Window frame keywords
     | TYPE // TODO: Type is keyword required by relevancy function. Remove this when relevancy functions moved out
     ;
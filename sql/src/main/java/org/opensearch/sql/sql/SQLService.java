@@ -13,9 +13,11 @@ import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
+import org.opensearch.sql.monitor.QueryStage;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 import org.opensearch.sql.sql.parser.AstBuilder;
@@ -38,12 +40,16 @@ public class SQLService {
    *
    * @param request {@link SQLQueryRequest}
    * @param listener callback listener
+   * @return {@link QueryId} of the query submitted, or empty if failed to submit
    */
-  public void execute(SQLQueryRequest request, ResponseListener<QueryResponse> listener) {
+  public Optional<QueryId> execute(SQLQueryRequest request,
+                                   ResponseListener<QueryResponse> listener) {
     try {
-      queryManager.submit(plan(request, Optional.of(listener), Optional.empty()));
+      return Optional.of(
+          queryManager.submit(plan(request, Optional.of(listener), Optional.empty())));
     } catch (Exception e) {
       listener.onFailure(e);
+      return Optional.empty();
     }
   }
 
@@ -66,6 +72,7 @@ public class SQLService {
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
     // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
+    long start = System.nanoTime();
     ParseTree cst = parser.parse(request.getQuery());
     Statement statement =
         cst.accept(
@@ -74,7 +81,11 @@ public class SQLService {
                 AstStatementBuilder.StatementBuilderContext.builder()
                     .isExplain(request.isExplainRequest())
                     .build()));
+    long parseNanos = System.nanoTime() - start;
 
-    return queryExecutionFactory.create(statement, queryListener, explainListener);
+    AbstractPlan plan = queryExecutionFactory.create(statement, queryListener, explainListener);
+    plan.getProfile().setEnabled(request.profile());
+    plan.getProfile().record(QueryStage.PARSE, parseNanos);
+    return plan;
   }
 }
@@ -6,11 +6,15 @@
 
 package org.opensearch.sql.sql.antlr;
 
+import java.util.List;
+import lombok.Getter;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
+import org.opensearch.sql.common.antlr.ParseTreeCache;
 import org.opensearch.sql.common.antlr.Parser;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.TwoStageParser;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLLexer;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 
@@ -20,16 +24,61 @@ import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 public class SQLSyntaxParser implements Parser {
 
   /**
-   * Parse a SQL query by ANTLR parser.
+   * Representative queries parsed on warm up.
+   */
+  private static final List<String> WARM_UP_QUERIES = List.of(
+      "SELECT a, b AS c FROM t WHERE a > 1 AND b = 'x' OR NOT c < 2.5 ORDER BY a DESC LIMIT 10",
+      "SELECT ABS(a) + b * 2, CONCAT(c, 'x'), CAST(d AS INT) FROM t AS u WHERE e IS NOT NULL",
+      "SELECT b, AVG(a), COUNT(*) AS c FROM t GROUP BY b HAVING COUNT(*) > 10 ORDER BY c",
+      "SELECT * FROM t WHERE a IN (1, 2) AND b LIKE 'x%' AND c BETWEEN 1 AND 10",
+      "SELECT CASE a WHEN 1 THEN 'x' ELSE 'y' END, DATE_FORMAT(d, '%Y') FROM t",
+      "SELECT ROW_NUMBER() OVER (PARTITION BY a ORDER BY b) FROM t",
+      "SELECT a FROM t WHERE MATCH(a, 'x') AND MATCH_PHRASE(b, 'y z')",
+      "SHOW TABLES LIKE 't%'",
+      "DESCRIBE TABLES LIKE 't' COLUMNS LIKE 'a%'");
+
+  /**
+   * Cache of parse trees by query shape.
+   */
+  @Getter
+  private final ParseTreeCache cache;
+
+  public SQLSyntaxParser() {
+    this(new ParseTreeCache(ParseTreeCache.DEFAULT_MAX_SIZE));
+  }
+
+  public SQLSyntaxParser(ParseTreeCache cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * Parse a SQL query by ANTLR parser, or copy the parse tree cached of the same query shape.
    * @param query   a SQL query
    * @return        parse tree root
    */
   @Override
   public ParseTree parse(String query) {
-    OpenSearchSQLLexer lexer = new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query));
-    OpenSearchSQLParser parser = new OpenSearchSQLParser(new CommonTokenStream(lexer));
+    CommonTokenStream tokens = createTokenStream(query);
+    return cache.parse(tokens, () -> parse(tokens));
+  }
+
+  /**
+   * Parse representative queries to warm up the DFA cache shared by all parser instances,
+   * so that the queries after node start don't pay for building it. Parse tree cache is bypassed.
+   */
+  public void warmUp() {
+    WARM_UP_QUERIES.forEach(query -> parse(createTokenStream(query)));
+  }
+
+  private ParseTree parse(CommonTokenStream tokens) {
+    OpenSearchSQLParser parser = new OpenSearchSQLParser(tokens);
     parser.addErrorListener(new SyntaxAnalysisErrorListener());
-    return parser.root();
+    return TwoStageParser.parse(parser, OpenSearchSQLParser::root);
+  }
+
+  private CommonTokenStream createTokenStream(String query) {
+    return new CommonTokenStream(
+        new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query)));
   }
 
 }
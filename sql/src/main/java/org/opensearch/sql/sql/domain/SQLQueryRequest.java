@@ -33,6 +33,7 @@ public class SQLQueryRequest {
       "query", "fetch_size", "parameters");
   private static final String QUERY_PARAMS_FORMAT = "format";
   private static final String QUERY_PARAMS_SANITIZE = "sanitize";
+  private static final String QUERY_PARAMS_PROFILE = "profile";
 
   /**
    * JSON payload in REST request.
@@ -64,6 +65,13 @@ public class SQLQueryRequest {
   @Accessors(fluent = true)
   private boolean sanitize = true;
 
+  /**
+   * Whether to profile the query and return the profile in response.
+   */
+  @Getter
+  @Accessors(fluent = true)
+  private boolean profile = false;
+
   /**
    * Constructor of SQLQueryRequest that passes request params.
    */
@@ -75,6 +83,7 @@ public class SQLQueryRequest {
     this.params = params;
     this.format = getFormat(params);
     this.sanitize = shouldSanitize(params);
+    this.profile = Boolean.parseBoolean(params.get(QUERY_PARAMS_PROFILE));
   }
 
   /**
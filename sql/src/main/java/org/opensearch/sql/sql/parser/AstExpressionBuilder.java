@@ -29,6 +29,7 @@ import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.ConvertedD
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.CountStarFunctionCallContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.DataTypeFunctionCallContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.DateLiteralContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.DistinctCountApproxFunctionCallContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.DistinctCountFunctionCallContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.ExtractFunctionCallContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FilterClauseContext;
@@ -45,6 +46,7 @@ import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.NoFieldRel
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.NotExpressionContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.NullLiteralContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.OverClauseContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.PercentileApproxFunctionCallContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.PositionFunctionContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.QualifiedNameContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.RegexpPredicateContext;
@@ -66,6 +68,7 @@ import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.TimestampF
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.TimestampLiteralContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.WindowFunctionClauseContext;
 import static org.opensearch.sql.sql.parser.ParserUtils.createSortOption;
+import static org.opensearch.sql.sql.parser.ParserUtils.createWindowFrame;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -98,6 +101,7 @@ import org.opensearch.sql.ast.expression.ScoreFunction;
 import org.opensearch.sql.ast.expression.UnresolvedArgument;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
 import org.opensearch.sql.ast.expression.When;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
 import org.opensearch.sql.ast.expression.WindowFunction;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.common.utils.StringUtils;
@@ -242,7 +246,12 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
                                createSortOption(item), visit(item.expression())))
                            .collect(Collectors.toList());
     }
-    return new WindowFunction(visit(ctx.function), partitionByList, sortList);
+
+    WindowFrameSpec frame = null;
+    if (overClause.frameClause() != null) {
+      frame = createWindowFrame(overClause.frameClause());
+    }
+    return new WindowFunction(visit(ctx.function), partitionByList, sortList, frame);
   }
 
   @Override
@@ -266,6 +275,34 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
         true);
   }
 
+  @Override
+  public UnresolvedExpression visitDistinctCountApproxFunctionCall(
+      DistinctCountApproxFunctionCallContext ctx) {
+    List<UnresolvedExpression> args = Collections.emptyList();
+    if (ctx.precisionThreshold != null) {
+      args = Collections.singletonList(new UnresolvedArgument("precision_threshold",
+          AstDSL.intLiteral(Integer.parseInt(ctx.precisionThreshold.getText()))));
+    }
+    return new AggregateFunction(
+        "distinct_count_approx",
+        visitFunctionArg(ctx.functionArg()),
+        args);
+  }
+
+  @Override
+  public UnresolvedExpression visitPercentileApproxFunctionCall(
+      PercentileApproxFunctionCallContext ctx) {
+    ImmutableList.Builder<UnresolvedExpression> args = ImmutableList.builder();
+    args.add(new UnresolvedArgument("percent", visit(ctx.percent)));
+    if (ctx.compression != null) {
+      args.add(new UnresolvedArgument("compression", visit(ctx.compression)));
+    }
+    return new AggregateFunction(
+        "percentile_approx",
+        visitFunctionArg(ctx.functionArg()),
+        args.build());
+  }
+
   @Override
   public UnresolvedExpression visitCountStarFunctionCall(CountStarFunctionCallContext ctx) {
     return new AggregateFunction("COUNT", AllFields.of());
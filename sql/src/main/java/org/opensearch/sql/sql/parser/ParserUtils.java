@@ -9,12 +9,17 @@ package org.opensearch.sql.sql.parser;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder;
 import static org.opensearch.sql.ast.tree.Sort.SortOption;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameBoundContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameClauseContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.OrderByElementContext;
 
 import lombok.experimental.UtilityClass;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType;
 
 /**
  * Parser Utils Class.
@@ -63,4 +68,29 @@ public class ParserUtils {
     }
   }
 
+  /**
+   * Create window frame from syntax tree node. Frame end is current row if omitted.
+   */
+  public static WindowFrameSpec createWindowFrame(FrameClauseContext ctx) {
+    FrameType type = FrameType.valueOf(ctx.frameUnits.getText().toUpperCase());
+    FrameBound start = createFrameBound(ctx.frameStart);
+    FrameBound end = (ctx.frameEnd == null) ? FrameBound.CURRENT_ROW
+        : createFrameBound(ctx.frameEnd);
+    return new WindowFrameSpec(type, start, end);
+  }
+
+  private static FrameBound createFrameBound(FrameBoundContext ctx) {
+    if (ctx.CURRENT() != null) {
+      return FrameBound.CURRENT_ROW;
+    }
+
+    boolean preceding = (ctx.PRECEDING() != null);
+    if (ctx.UNBOUNDED() != null) {
+      return preceding ? FrameBound.UNBOUNDED_PRECEDING : FrameBound.UNBOUNDED_FOLLOWING;
+    }
+
+    long offset = Long.parseLong(ctx.offset.getText());
+    return preceding ? FrameBound.preceding(offset) : FrameBound.following(offset);
+  }
+
 }
@@ -7,6 +7,7 @@
 package org.opensearch.sql.sql;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -63,12 +64,12 @@ class SQLServiceTest {
   @Test
   public void canExecuteSqlQuery() {
     doAnswer(invocation -> {
-      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      ResponseListener<QueryResponse> listener = invocation.getArgument(2);
       listener.onResponse(new QueryResponse(schema, Collections.emptyList()));
       return null;
-    }).when(queryService).execute(any(), any());
+    }).when(queryService).execute(any(), any(), any());
 
-    sqlService.execute(
+    assertTrue(sqlService.execute(
         new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "jdbc"),
         new ResponseListener<QueryResponse>() {
           @Override
@@ -80,16 +81,16 @@ class SQLServiceTest {
           public void onFailure(Exception e) {
             fail(e);
           }
-        });
+        }).isPresent());
   }
 
   @Test
   public void canExecuteCsvFormatRequest() {
     doAnswer(invocation -> {
-      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      ResponseListener<QueryResponse> listener = invocation.getArgument(2);
       listener.onResponse(new QueryResponse(schema, Collections.emptyList()));
       return null;
-    }).when(queryService).execute(any(), any());
+    }).when(queryService).execute(any(), any(), any());
 
     sqlService.execute(
         new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "csv"),
@@ -130,7 +131,7 @@ class SQLServiceTest {
 
   @Test
   public void canCaptureErrorDuringExecution() {
-    sqlService.execute(
+    assertTrue(sqlService.execute(
         new SQLQueryRequest(new JSONObject(), "SELECT", QUERY, ""),
         new ResponseListener<QueryResponse>() {
           @Override
@@ -142,7 +143,7 @@ class SQLServiceTest {
           public void onFailure(Exception e) {
             assertNotNull(e);
           }
-        });
+        }).isEmpty());
   }
 
   @Test
@@ -7,6 +7,7 @@
 package org.opensearch.sql.sql.antlr;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -19,12 +20,14 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Random;
 import java.util.stream.Stream;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.sql.parser.AstBuilder;
 
 class SQLSyntaxParserTest {
 
@@ -45,6 +48,42 @@ class SQLSyntaxParserTest {
     assertNotNull(parser.parse("SELECT (1 + 2) * 3 AS expr"));
   }
 
+  @Test
+  public void canParseQueryOfSameShapeFromCache() {
+    String query = "SELECT name, age FROM accounts WHERE age > 30 AND name = 'bob'";
+    String sameShape = "SELECT city, balance FROM banks WHERE balance > 1000 AND city = 'NY'";
+    SQLSyntaxParser cachedParser = new SQLSyntaxParser();
+    cachedParser.parse(query);
+    ParseTree tree = cachedParser.parse(sameShape);
+
+    assertEquals(1, cachedParser.getCache().getHitCount());
+    assertEquals(1, cachedParser.getCache().getMissCount());
+    assertEquals(
+        new SQLSyntaxParser().parse(sameShape).accept(new AstBuilder(sameShape)),
+        tree.accept(new AstBuilder(sameShape)));
+  }
+
+  @Test
+  public void canParseQueryOfDifferentShapeWithoutCache() {
+    SQLSyntaxParser cachedParser = new SQLSyntaxParser();
+    cachedParser.parse("SELECT name FROM accounts");
+    cachedParser.parse("SELECT name FROM accounts LIMIT 10");
+    assertThrows(SyntaxCheckException.class, () -> cachedParser.parse("SELECT name FROM"));
+    assertThrows(SyntaxCheckException.class, () -> cachedParser.parse("SELECT age FROM"));
+
+    assertEquals(0, cachedParser.getCache().getHitCount());
+    assertEquals(4, cachedParser.getCache().getMissCount());
+  }
+
+  @Test
+  public void canWarmUpWithoutCache() {
+    SQLSyntaxParser cachedParser = new SQLSyntaxParser();
+    cachedParser.warmUp();
+
+    assertEquals(0, cachedParser.getCache().getHitCount());
+    assertEquals(0, cachedParser.getCache().getMissCount());
+  }
+
   @Test
   public void canParseSelectFields() {
     assertNotNull(parser.parse("SELECT name, age FROM accounts"));
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.sql.antlr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.xpath.XPath;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
+import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.common.antlr.TwoStageParser;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLLexer;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
+
+class TwoStageParserTest {
+
+  /**
+   * Filtered aggregation can't be predicted without full context, so SLL fails on it.
+   */
+  private static final String SLL_FAILED_QUERY =
+      "SELECT AVG(age) FILTER(WHERE age > 20) FROM test";
+
+  @Test
+  public void canParseInSllModeOnly() {
+    OpenSearchSQLParser parser = createParser("SELECT name FROM test WHERE age > 20");
+    ParseTree tree = TwoStageParser.parse(parser, OpenSearchSQLParser::root);
+
+    assertEquals(PredictionMode.SLL, parser.getInterpreter().getPredictionMode());
+    assertEquals(List.of("age>20"), findAll(tree, "//whereClause/expression", parser));
+  }
+
+  @Test
+  public void canParseInLlModeIfSllFailed() {
+    OpenSearchSQLParser sllParser = createParser(SLL_FAILED_QUERY);
+    sllParser.removeErrorListeners();
+    sllParser.setErrorHandler(new BailErrorStrategy());
+    sllParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    assertThrows(ParseCancellationException.class, sllParser::root);
+
+    OpenSearchSQLParser parser = createParser(SLL_FAILED_QUERY);
+    ParseTree tree = TwoStageParser.parse(parser, OpenSearchSQLParser::root);
+
+    assertEquals(PredictionMode.LL, parser.getInterpreter().getPredictionMode());
+    assertEquals(List.of("AVG(age)"), findAll(tree, "//aggregateFunction", parser));
+    assertEquals(List.of("age>20"), findAll(tree, "//filterClause/expression", parser));
+    assertEquals(List.of("test"), findAll(tree, "//fromClause/relation", parser));
+  }
+
+  @Test
+  public void reportSyntaxErrorInLlMode() {
+    OpenSearchSQLParser parser = createParser("SELECT * FROM test WHERE");
+
+    assertThrows(SyntaxCheckException.class,
+        () -> TwoStageParser.parse(parser, OpenSearchSQLParser::root));
+    assertEquals(PredictionMode.LL, parser.getInterpreter().getPredictionMode());
+  }
+
+  private OpenSearchSQLParser createParser(String query) {
+    OpenSearchSQLParser parser = new OpenSearchSQLParser(new CommonTokenStream(
+        new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query))));
+    parser.addErrorListener(new SyntaxAnalysisErrorListener());
+    return parser;
+  }
+
+  private List<String> findAll(ParseTree tree, String xpath, OpenSearchSQLParser parser) {
+    return XPath.findAll(tree, xpath, parser).stream()
+        .map(ParseTree::getText)
+        .collect(Collectors.toList());
+  }
+}
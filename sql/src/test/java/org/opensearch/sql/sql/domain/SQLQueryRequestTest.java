@@ -122,6 +122,15 @@ public class SQLQueryRequestTest {
     assertFalse(csvRequest.sanitize());
   }
 
+  @Test
+  public void shouldProfileIfSetTrue() {
+    SQLQueryRequest request = SQLQueryRequestBuilder.request("SELECT 1")
+        .params(ImmutableMap.of("profile", "true")).build();
+    assertTrue(request.profile());
+    assertFalse(
+        SQLQueryRequestBuilder.request("SELECT 1").params(ImmutableMap.of()).build().profile());
+  }
+
   @Test
   public void shouldNotSupportOtherFormat() {
     SQLQueryRequest csvRequest =
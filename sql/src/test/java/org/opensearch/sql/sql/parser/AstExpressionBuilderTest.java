@@ -29,6 +29,8 @@ import static org.opensearch.sql.ast.dsl.AstDSL.timestampLiteral;
 import static org.opensearch.sql.ast.dsl.AstDSL.unresolvedArg;
 import static org.opensearch.sql.ast.dsl.AstDSL.when;
 import static org.opensearch.sql.ast.dsl.AstDSL.window;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType.RANGE;
+import static org.opensearch.sql.ast.expression.WindowFrameSpec.FrameType.ROWS;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_LAST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
@@ -45,6 +47,8 @@ import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.ast.expression.RelevanceFieldList;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
@@ -425,6 +429,43 @@ class AstExpressionBuilderTest {
         buildExprAst("AVG(age) OVER (PARTITION BY state ORDER BY age)"));
   }
 
+  @Test
+  public void canBuildAggregateWindowFunctionWithFrame() {
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(ImmutablePair.of(
+                new SortOption(null, null), qualifiedName("age"))),
+            new WindowFrameSpec(ROWS, FrameBound.preceding(2), FrameBound.following(1))),
+        buildExprAst("SUM(age) OVER (ORDER BY age ROWS BETWEEN 2 PRECEDING AND 1 FOLLOWING)"));
+
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(ImmutablePair.of(
+                new SortOption(null, null), qualifiedName("age"))),
+            new WindowFrameSpec(RANGE, FrameBound.UNBOUNDED_PRECEDING, FrameBound.CURRENT_ROW)),
+        buildExprAst("SUM(age) OVER (ORDER BY age RANGE UNBOUNDED PRECEDING)"));
+
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(),
+            new WindowFrameSpec(
+                ROWS, FrameBound.CURRENT_ROW, FrameBound.UNBOUNDED_FOLLOWING)),
+        buildExprAst("SUM(age) OVER (ROWS BETWEEN CURRENT ROW AND UNBOUNDED FOLLOWING)"));
+  }
+
+  @Test
+  public void canBuildWindowFrameKeywordsAsIdentifier() {
+    assertEquals(
+        function("+", qualifiedName("rows"), qualifiedName("current")),
+        buildExprAst("rows + current"));
+  }
+
   @Test
   public void canBuildCaseConditionStatement() {
     assertEquals(
@@ -538,6 +579,30 @@ class AstExpressionBuilderTest {
     );
   }
 
+  @Test
+  public void distinctCountApprox() {
+    assertEquals(
+        aggregate("distinct_count_approx", qualifiedName("name")),
+        buildExprAst("distinct_count_approx(name)"));
+    assertEquals(
+        aggregate("distinct_count_approx", qualifiedName("name"),
+            unresolvedArg("precision_threshold", intLiteral(100))),
+        buildExprAst("distinct_count_approx(name, 100)"));
+  }
+
+  @Test
+  public void percentileApprox() {
+    assertEquals(
+        aggregate("percentile_approx", qualifiedName("age"),
+            unresolvedArg("percent", intLiteral(95))),
+        buildExprAst("percentile_approx(age, 95)"));
+    assertEquals(
+        aggregate("percentile_approx", qualifiedName("age"),
+            unresolvedArg("percent", doubleLiteral(99.9)),
+            unresolvedArg("compression", intLiteral(200))),
+        buildExprAst("percentile_approx(age, 99.9, 200)"));
+  }
+
   @Test
   public void filteredDistinctCount() {
     assertEquals(